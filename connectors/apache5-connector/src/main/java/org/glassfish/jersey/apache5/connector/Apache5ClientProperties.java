@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -180,6 +180,44 @@ public final class Apache5ClientProperties {
      */
     public static final String USE_SYSTEM_PROPERTIES = "jersey.config.apache5.client.useSystemProperties";
 
+    /**
+     * A value of {@code true} makes the connector execute asynchronous requests (invoked using {@code async()} or
+     * {@code rx()}) by a non-blocking {@link org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient} instead of
+     * the classic {@link org.apache.hc.client5.http.classic.HttpClient}. No thread is then blocked waiting for the response,
+     * the response entity is streamed to the application as it arrives.
+     * <p/>
+     * The asynchronous client is configured using the same properties as the classic one and
+     * {@link Apache5HttpClientBuilderConfigurator#configure(org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder)}
+     * is used to further customize it. Synchronous requests are always executed by the classic client.
+     * <p>
+     * This property may only be set prior to constructing Apache connector using {@link Apache5ConnectorProvider}.
+     * <p/>
+     * The value MUST be an instance of {@link java.lang.Boolean}.
+     * <p/>
+     * The default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 2.46
+     */
+    public static final String ASYNC_CLIENT = "jersey.config.apache5.client.asyncClient";
+
+    /**
+     * Connection Manager which will be used to create {@link org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient}
+     * when {@link #ASYNC_CLIENT} is enabled.
+     * <p/>
+     * The value MUST be an instance of {@link org.apache.hc.client5.http.nio.AsyncClientConnectionManager}.
+     * <p/>
+     * If the property is absent a default
+     * {@link org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager} will be used.
+     * {@link #CONNECTION_MANAGER_SHARED} applies to this connection manager as well.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 2.46
+     */
+    public static final String ASYNC_CONNECTION_MANAGER = "jersey.config.apache5.client.asyncConnectionManager";
+
     /**
      * Get the value of the specified property.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,6 +27,7 @@ import java.io.OutputStream;
 import java.net.Socket;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -34,7 +35,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -67,6 +70,8 @@ import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.cookie.StandardCookieSpec;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.auth.BasicAuthCache;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.auth.BasicScheme;
@@ -76,23 +81,38 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ConnectionReuseStrategy;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.config.Http1Config;
 import org.apache.hc.core5.http.config.Registry;
 import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.http.impl.DefaultContentLengthStrategy;
 import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.reactor.ssl.SSLBufferMode;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.TextUtils;
 import org.apache.hc.core5.util.Timeout;
@@ -105,6 +125,7 @@ import org.glassfish.jersey.client.innate.ClientProxy;
 import org.glassfish.jersey.client.innate.http.SSLParamConfigurator;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.innate.VirtualThreadUtil;
 import org.glassfish.jersey.innate.io.InputStreamWrapper;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.message.internal.HeaderUtils;
@@ -118,6 +139,8 @@ import org.glassfish.jersey.message.internal.Statuses;
  * <p/>
  * The following properties are only supported at construction of this class:
  * <ul>
+ * <li>{@link Apache5ClientProperties#ASYNC_CLIENT}</li>
+ * <li>{@link Apache5ClientProperties#ASYNC_CONNECTION_MANAGER}</li>
  * <li>{@link Apache5ClientProperties#CONNECTION_CLOSING_STRATEGY}</li>
  * <li>{@link Apache5ClientProperties#CONNECTION_MANAGER}</li>
  * <li>{@link Apache5ClientProperties#CONNECTION_MANAGER_SHARED}</li>
@@ -172,6 +195,13 @@ import org.glassfish.jersey.message.internal.Statuses;
  * connection-based resources.
  * </p>
  * <p>
+ * When {@link Apache5ClientProperties#ASYNC_CLIENT} is enabled, asynchronous requests are executed by a
+ * {@link org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient}. The response is delivered as soon as its headers
+ * arrive and the entity is streamed with flow control, a chunked request entity is written by a connector thread.
+ * {@link Apache5ClientProperties#CONNECTION_CLOSING_STRATEGY} does not apply to such responses, closing a partially read
+ * entity stream aborts the exchange.
+ * </p>
+ * <p>
  * The following methods are currently supported: HEAD, GET, POST, PUT, DELETE, OPTIONS, PATCH and TRACE.
  * </p>
  *
@@ -198,6 +228,8 @@ class Apache5Connector implements Connector {
     private final CookieStore cookieStore;
     private final boolean preemptiveBasicAuth;
     private final RequestConfig requestConfig;
+    private final CloseableHttpAsyncClient asyncClient;
+    private final ExecutorService asyncExecutor;
 
     /**
      * Create the new Apache HTTP Client connector.
@@ -354,6 +386,119 @@ class Apache5Connector implements Connector {
         }
 
         this.client = configuredBuilder.build();
+
+        if (PropertiesHelper.isProperty(config.getProperties(), Apache5ClientProperties.ASYNC_CLIENT)) {
+            final HttpAsyncClientBuilder asyncClientBuilder = HttpAsyncClientBuilder.create();
+
+            if (useSystemProperties) {
+                asyncClientBuilder.useSystemProperties();
+            }
+
+            asyncClientBuilder.setConnectionManager(getAsyncConnectionManager(client, config, sslContext, useSystemProperties));
+            asyncClientBuilder.setConnectionManagerShared(
+                    PropertiesHelper.getValue(
+                            config.getProperties(),
+                            Apache5ClientProperties.CONNECTION_MANAGER_SHARED,
+                            false,
+                            null
+                    )
+            );
+            asyncClientBuilder.setHttp1Config(Http1Config.custom().setChunkSizeHint(ClientProperties.getValue(
+                    config.getProperties(), ClientProperties.CHUNKED_ENCODING_SIZE, ClientProperties.DEFAULT_CHUNK_SIZE,
+                    Integer.class)).build());
+            if (keepAliveStrategy != null) {
+                asyncClientBuilder.setKeepAliveStrategy((ConnectionKeepAliveStrategy) keepAliveStrategy);
+            }
+            if (reuseStrategy != null) {
+                asyncClientBuilder.setConnectionReuseStrategy((ConnectionReuseStrategy) reuseStrategy);
+            }
+            if (credentialsProvider instanceof CredentialsProvider) {
+                asyncClientBuilder.setDefaultCredentialsProvider((CredentialsProvider) credentialsProvider);
+            }
+            if (retryHandler instanceof HttpRequestRetryStrategy) {
+                asyncClientBuilder.setRetryStrategy((HttpRequestRetryStrategy) retryHandler);
+            }
+            proxy.ifPresent(clientProxy -> {
+                final URI u = clientProxy.uri();
+                if (clientProxy.userName() != null && clientProxy.password() != null) {
+                    final CredentialsStore credsProvider = new BasicCredentialsProvider();
+                    credsProvider.setCredentials(
+                            new AuthScope(u.getHost(), u.getPort()),
+                            new UsernamePasswordCredentials(clientProxy.userName(), clientProxy.password().toCharArray())
+                    );
+                    asyncClientBuilder.setDefaultCredentialsProvider(credsProvider);
+                }
+                asyncClientBuilder.setProxy(new HttpHost(u.getScheme(), u.getHost(), u.getPort()));
+            });
+            if (cookieStore != null) {
+                asyncClientBuilder.setDefaultCookieStore(cookieStore);
+            }
+            asyncClientBuilder.setDefaultRequestConfig(requestConfig);
+
+            HttpAsyncClientBuilder configuredAsyncBuilder = asyncClientBuilder;
+            for (Object configurator : contracts) {
+                final HttpAsyncClientBuilder configured =
+                        ((Apache5HttpClientBuilderConfigurator) configurator).configure(configuredAsyncBuilder);
+                configuredAsyncBuilder = configured != null ? configured : configuredAsyncBuilder;
+            }
+
+            this.asyncClient = configuredAsyncBuilder.build();
+            this.asyncClient.start();
+            this.asyncExecutor = VirtualThreadUtil.withConfig(config).newCachedThreadPool();
+        } else {
+            this.asyncClient = null;
+            this.asyncExecutor = null;
+        }
+    }
+
+    private AsyncClientConnectionManager getAsyncConnectionManager(final Client client,
+                                                                   final Configuration config,
+                                                                   final SSLContext sslContext,
+                                                                   final boolean useSystemProperties) {
+        final Object cmObject = config.getProperties().get(Apache5ClientProperties.ASYNC_CONNECTION_MANAGER);
+
+        // Connection manager from configuration.
+        if (cmObject != null) {
+            if (cmObject instanceof AsyncClientConnectionManager) {
+                return (AsyncClientConnectionManager) cmObject;
+            } else {
+                LOGGER.log(
+                        Level.WARNING,
+                        LocalizationMessages.IGNORING_VALUE_OF_PROPERTY(
+                                Apache5ClientProperties.ASYNC_CONNECTION_MANAGER,
+                                cmObject.getClass().getName(),
+                                AsyncClientConnectionManager.class.getName())
+                );
+            }
+        }
+
+        final String[] supportedProtocols = useSystemProperties ? split(
+                System.getProperty("https.protocols")) : null;
+        final String[] supportedCipherSuites = useSystemProperties ? split(
+                System.getProperty("https.cipherSuites")) : null;
+
+        final SSLContext tlsContext;
+        if (sslContext != null) {
+            tlsContext = sslContext;
+        } else {
+            tlsContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+
+        final PoolingAsyncClientConnectionManagerBuilder builder = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(new DefaultClientTlsStrategy(tlsContext, supportedProtocols, supportedCipherSuites,
+                        SSLBufferMode.STATIC, client.getHostnameVerifier()));
+
+        if (useSystemProperties) {
+            String s = System.getProperty("http.keepAlive", "true");
+            if ("true".equalsIgnoreCase(s)) {
+                s = System.getProperty("http.maxConnections", "5");
+                final int max = Integer.parseInt(s);
+                builder.setMaxConnPerRoute(max);
+                builder.setMaxConnTotal(2 * max);
+            }
+        }
+
+        return builder.build();
     }
 
     private HttpClientConnectionManager getConnectionManager(final Client client,
@@ -472,65 +617,14 @@ class Apache5Connector implements Connector {
 
         try {
             final CloseableHttpResponse response;
-            final HttpClientContext context = HttpClientContext.create();
             final HttpHost httpHost = getHost(request);
+            final HttpClientContext context = createHttpClientContext(clientRequest, httpHost);
 
-            // If a request-specific CredentialsProvider exists, use it instead of the default one
-            CredentialsProvider credentialsProvider =
-                    clientRequest.resolveProperty(Apache5ClientProperties.CREDENTIALS_PROVIDER, CredentialsProvider.class);
-            if (credentialsProvider != null) {
-                context.setCredentialsProvider(credentialsProvider);
-            }
-
-            if (preemptiveBasicAuth) {
-                final AuthCache authCache = new BasicAuthCache();
-                final BasicScheme basicScheme = new BasicScheme();
-                final AuthScope authScope = new AuthScope(httpHost);
-                basicScheme.initPreemptive(credentialsProvider.getCredentials(authScope, context));
-                context.resetAuthExchange(httpHost, basicScheme);
-                authCache.put(httpHost, basicScheme); // must be after initPreemptive
-                context.setAuthCache(authCache);
-            }
-
-            context.setAttribute(JERSEY_REQUEST_ATTR_NAME, clientRequest);
             response = client.execute(httpHost, request, context);
             HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(),
                     this.getClass().getName(), clientRequest.getConfiguration());
 
-            final Response.StatusType status = response.getReasonPhrase() == null
-                    ? Statuses.from(response.getCode())
-                    : Statuses.from(response.getCode(), response.getReasonPhrase());
-
-            final ClientResponse responseContext = new ClientResponse(status, clientRequest);
-            final List<URI> redirectLocations = context.getRedirectLocations().getAll();
-            if (redirectLocations != null && !redirectLocations.isEmpty()) {
-                responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
-            }
-
-            final Header[] respHeaders = response.getHeaders();
-            final MultivaluedMap<String, String> headers = responseContext.getHeaders();
-            for (final Header header : respHeaders) {
-                final String headerName = header.getName();
-                List<String> list = headers.get(headerName);
-                if (list == null) {
-                    list = new ArrayList<>();
-                }
-                list.add(header.getValue());
-                headers.put(headerName, list);
-            }
-
-            final HttpEntity entity = response.getEntity();
-
-            if (entity != null) {
-                if (headers.get(HttpHeaders.CONTENT_LENGTH) == null && entity.getContentLength() >= 0) {
-                    headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(entity.getContentLength()));
-                }
-
-                final String contentEncoding = entity.getContentEncoding();
-                if (headers.get(HttpHeaders.CONTENT_ENCODING) == null && contentEncoding != null && !contentEncoding.isEmpty()) {
-                    headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding);
-                }
-            }
+            final ClientResponse responseContext = toClientResponse(clientRequest, response, response.getEntity(), context);
 
             try {
                 final ConnectionClosingMechanism closingMechanism = new ConnectionClosingMechanism(clientRequest, request);
@@ -548,6 +642,9 @@ class Apache5Connector implements Connector {
     @Override
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
         try {
+            if (asyncClient != null) {
+                return executeAsync(request, callback);
+            }
             ClientResponse response = apply(request);
             callback.response(response);
             return CompletableFuture.completedFuture(response);
@@ -559,6 +656,114 @@ class Apache5Connector implements Connector {
         }
     }
 
+    private Future<?> executeAsync(final ClientRequest clientRequest, final AsyncConnectorCallback callback)
+            throws IOException, URISyntaxException {
+        final HttpUriRequestBase request = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
+        request.setConfig(getRequestConfig(clientRequest));
+        // a buffered entity is serialized first, so that the headers set by the writers and interceptors are sent
+        final AsyncEntityProducer entityProducer = getAsyncEntityProducer(clientRequest);
+        final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(clientRequest, request);
+
+        final HttpHost httpHost = getHost(request);
+        final HttpClientContext context = createHttpClientContext(clientRequest, httpHost);
+        HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(),
+                this.getClass().getName(), clientRequest.getConfiguration());
+
+        final AsyncResponseStreamConsumer consumer = new AsyncResponseStreamConsumer(clientRequest, context, callback);
+        final Future<ClientResponse> exchange = asyncClient.execute(
+                httpHost, new BasicRequestProducer(request, entityProducer), consumer, null, context, consumer);
+        consumer.setExchange(exchange);
+        return exchange;
+    }
+
+    private AsyncEntityProducer getAsyncEntityProducer(final ClientRequest clientRequest) throws IOException {
+        if (clientRequest.getEntity() == null) {
+            return null;
+        }
+
+        // Content type and encoding are sent as the Jersey request headers.
+        if (clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
+                RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED) {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+            clientRequest.setStreamProvider(contentLength -> buffer);
+            clientRequest.writeEntity();
+            return new BasicAsyncEntityProducer(buffer.toByteArray(), null);
+        }
+
+        // The entity is written by a connector thread and flushed by the I/O reactor as the connection permits.
+        return new AbstractClassicEntityProducer(ReaderWriter.BUFFER_SIZE, null, asyncExecutor) {
+            @Override
+            protected void produceData(final ContentType contentType, final OutputStream outputStream) throws IOException {
+                clientRequest.setStreamProvider(contentLength -> outputStream);
+                clientRequest.writeEntity();
+            }
+        };
+    }
+
+    private HttpClientContext createHttpClientContext(final ClientRequest clientRequest, final HttpHost httpHost) {
+        final HttpClientContext context = HttpClientContext.create();
+
+        // If a request-specific CredentialsProvider exists, use it instead of the default one
+        CredentialsProvider credentialsProvider =
+                clientRequest.resolveProperty(Apache5ClientProperties.CREDENTIALS_PROVIDER, CredentialsProvider.class);
+        if (credentialsProvider != null) {
+            context.setCredentialsProvider(credentialsProvider);
+        }
+
+        if (preemptiveBasicAuth) {
+            final AuthCache authCache = new BasicAuthCache();
+            final BasicScheme basicScheme = new BasicScheme();
+            final AuthScope authScope = new AuthScope(httpHost);
+            basicScheme.initPreemptive(credentialsProvider.getCredentials(authScope, context));
+            context.resetAuthExchange(httpHost, basicScheme);
+            authCache.put(httpHost, basicScheme); // must be after initPreemptive
+            context.setAuthCache(authCache);
+        }
+
+        context.setAttribute(JERSEY_REQUEST_ATTR_NAME, clientRequest);
+        return context;
+    }
+
+    private static ClientResponse toClientResponse(final ClientRequest clientRequest,
+                                                   final HttpResponse response,
+                                                   final EntityDetails entity,
+                                                   final HttpClientContext context) {
+        final Response.StatusType status = response.getReasonPhrase() == null
+                ? Statuses.from(response.getCode())
+                : Statuses.from(response.getCode(), response.getReasonPhrase());
+
+        final ClientResponse responseContext = new ClientResponse(status, clientRequest);
+        final List<URI> redirectLocations = context.getRedirectLocations().getAll();
+        if (redirectLocations != null && !redirectLocations.isEmpty()) {
+            responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
+        }
+
+        final Header[] respHeaders = response.getHeaders();
+        final MultivaluedMap<String, String> headers = responseContext.getHeaders();
+        for (final Header header : respHeaders) {
+            final String headerName = header.getName();
+            List<String> list = headers.get(headerName);
+            if (list == null) {
+                list = new ArrayList<>();
+            }
+            list.add(header.getValue());
+            headers.put(headerName, list);
+        }
+
+        if (entity != null) {
+            if (headers.get(HttpHeaders.CONTENT_LENGTH) == null && entity.getContentLength() >= 0) {
+                headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(entity.getContentLength()));
+            }
+
+            final String contentEncoding = entity.getContentEncoding();
+            if (headers.get(HttpHeaders.CONTENT_ENCODING) == null && contentEncoding != null && !contentEncoding.isEmpty()) {
+                headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            }
+        }
+
+        return responseContext;
+    }
+
     @Override
     public String getName() {
         return "Apache HttpClient " + release;
@@ -568,6 +773,10 @@ class Apache5Connector implements Connector {
     public void close() {
         try {
             client.close();
+            if (asyncClient != null) {
+                asyncClient.close();
+                asyncExecutor.shutdown();
+            }
         } catch (final IOException e) {
             throw new ProcessingException(LocalizationMessages.FAILED_TO_STOP_CLIENT(), e);
         }
@@ -578,6 +787,18 @@ class Apache5Connector implements Connector {
     }
 
     private HttpUriRequest getUriHttpRequest(final ClientRequest clientRequest) {
+        final Boolean bufferingEnabled = clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
+                RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
+        final HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
+
+        HttpUriRequestBase httpUriRequestBase = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
+        httpUriRequestBase.setConfig(getRequestConfig(clientRequest));
+        httpUriRequestBase.setEntity(entity);
+
+        return httpUriRequestBase;
+    }
+
+    private RequestConfig getRequestConfig(final ClientRequest clientRequest) {
         final RequestConfig.Builder requestConfigBuilder = RequestConfig.copy(requestConfig);
 
         final int connectTimeout = clientRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, -1);
@@ -594,15 +815,7 @@ class Apache5Connector implements Connector {
                 clientRequest.resolveProperty(ClientProperties.FOLLOW_REDIRECTS, requestConfig.isRedirectsEnabled());
         requestConfigBuilder.setRedirectsEnabled(redirectsEnabled);
 
-        final Boolean bufferingEnabled = clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
-                RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
-        final HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
-
-        HttpUriRequestBase httpUriRequestBase = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
-        httpUriRequestBase.setConfig(requestConfigBuilder.build());
-        httpUriRequestBase.setEntity(entity);
-
-        return httpUriRequestBase;
+        return requestConfigBuilder.build();
     }
 
     private HttpEntity getHttpEntity(final ClientRequest clientRequest, final boolean bufferingEnabled) {
@@ -895,6 +1108,157 @@ class Apache5Connector implements Connector {
         }
     }
 
+    /**
+     * Consumes the response of an asynchronous exchange. The response is handed over to Jersey as soon as the status line
+     * and headers arrive, the entity is then read from a bounded buffer that the I/O reactor fills only as fast as it is
+     * consumed. The Apache exchange is completed once the whole entity has been received, so that closing the entity
+     * stream early can still abort the exchange.
+     */
+    private final class AsyncResponseStreamConsumer implements AsyncResponseConsumer<ClientResponse>,
+            FutureCallback<ClientResponse> {
+
+        private final ClientRequest clientRequest;
+        private final HttpClientContext context;
+        private final AsyncConnectorCallback callback;
+        private final SharedInputBuffer buffer = new SharedInputBuffer(ReaderWriter.BUFFER_SIZE);
+        private final AtomicBoolean delivered = new AtomicBoolean();
+
+        private volatile FutureCallback<ClientResponse> resultCallback;
+        private volatile ClientResponse response;
+        private volatile Exception failure;
+        private volatile Future<?> exchange;
+        private volatile boolean closed;
+
+        private AsyncResponseStreamConsumer(final ClientRequest clientRequest,
+                                            final HttpClientContext context,
+                                            final AsyncConnectorCallback callback) {
+            this.clientRequest = clientRequest;
+            this.context = context;
+            this.callback = callback;
+        }
+
+        private void setExchange(final Future<?> exchange) {
+            this.exchange = exchange;
+            if (closed) {
+                exchange.cancel(true);
+            }
+        }
+
+        @Override
+        public void consumeResponse(final HttpResponse httpResponse,
+                                    final EntityDetails entityDetails,
+                                    final HttpContext httpContext,
+                                    final FutureCallback<ClientResponse> resultCallback) {
+            final ClientResponse responseContext = toClientResponse(clientRequest, httpResponse, entityDetails, context);
+            this.response = responseContext;
+            if (entityDetails == null) {
+                responseContext.setEntityStream(new ByteArrayInputStream(new byte[0]));
+                resultCallback.completed(responseContext);
+            } else {
+                this.resultCallback = resultCallback;
+                responseContext.setEntityStream(new BufferedInputStream(
+                        new CancellableInputStream(new EntityInputStream(), clientRequest::isCancelled),
+                        ReaderWriter.BUFFER_SIZE));
+            }
+
+            // Response processing may read the entity, it must not run on the I/O reactor thread.
+            if (delivered.compareAndSet(false, true)) {
+                asyncExecutor.execute(() -> callback.response(responseContext));
+            }
+        }
+
+        @Override
+        public void informationResponse(final HttpResponse httpResponse, final HttpContext httpContext) {
+        }
+
+        @Override
+        public void updateCapacity(final CapacityChannel capacityChannel) throws IOException {
+            buffer.updateCapacity(capacityChannel);
+        }
+
+        @Override
+        public void consume(final ByteBuffer src) {
+            buffer.fill(src);
+        }
+
+        @Override
+        public void streamEnd(final List<? extends Header> trailers) {
+            buffer.markEndStream();
+            final FutureCallback<ClientResponse> resultCallback = this.resultCallback;
+            if (resultCallback != null) {
+                resultCallback.completed(response);
+            }
+        }
+
+        /**
+         * Invoked both when the response consumer fails and when the exchange fails before a response has been received.
+         */
+        @Override
+        public void failed(final Exception cause) {
+            failure = cause;
+            buffer.abort();
+            if (delivered.compareAndSet(false, true)) {
+                asyncExecutor.execute(() -> callback.failure(cause));
+            }
+        }
+
+        @Override
+        public void completed(final ClientResponse result) {
+        }
+
+        @Override
+        public void cancelled() {
+            failed(new CancellationException());
+        }
+
+        @Override
+        public void releaseResources() {
+        }
+
+        private final class EntityInputStream extends InputStream {
+
+            @Override
+            public int read() throws IOException {
+                return checkFailure(buffer.read());
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                if (len == 0) {
+                    return 0;
+                }
+                return checkFailure(buffer.read(b, off, len));
+            }
+
+            @Override
+            public int available() {
+                return buffer.length();
+            }
+
+            @Override
+            public void close() {
+                if (!closed) {
+                    closed = true;
+                    if (!buffer.isEndStream()) {
+                        // The rest of the entity is not going to be read, the connection cannot be reused.
+                        final Future<?> exchange = AsyncResponseStreamConsumer.this.exchange;
+                        if (exchange != null) {
+                            exchange.cancel(true);
+                        }
+                        buffer.abort();
+                    }
+                }
+            }
+
+            private int checkFailure(final int result) throws IOException {
+                if (result == -1 && failure != null && !closed) {
+                    throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+                }
+                return result;
+            }
+        }
+    }
+
     private static class CancellableInputStream extends InputStreamWrapper {
         private final InputStream in;
         private final Supplier<Boolean> isCancelled;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.apache5.connector;
 
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.glassfish.jersey.spi.Contract;
 
@@ -33,4 +34,18 @@ public interface Apache5HttpClientBuilderConfigurator {
      * {@code httpClientBuilder} is used by {@link Apache5ConnectorProvider} instead.
      */
     HttpClientBuilder configure(HttpClientBuilder httpClientBuilder);
+
+    /**
+     * A callback method to configure the {@link org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder} used to create
+     * the asynchronous client when {@link Apache5ClientProperties#ASYNC_CLIENT} is enabled. The default implementation
+     * returns the builder unchanged.
+     * @param httpAsyncClientBuilder {@link org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder} object to be further
+     * configured
+     * @return the configured {@link org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder}. If {@code null} is returned
+     * the {@code httpAsyncClientBuilder} is used by {@link Apache5ConnectorProvider} instead.
+     * @since 2.46
+     */
+    default HttpAsyncClientBuilder configure(HttpAsyncClientBuilder httpAsyncClientBuilder) {
+        return httpAsyncClientBuilder;
+    }
 }
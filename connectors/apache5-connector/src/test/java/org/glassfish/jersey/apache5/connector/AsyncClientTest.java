@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.apache5.connector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.WriterInterceptor;
+
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of asynchronous requests executed by the asynchronous Apache HTTP client.
+ */
+public class AsyncClientTest extends JerseyTest {
+
+    private static final int LARGE_ENTITY_SIZE = 4 * 1024 * 1024;
+
+    private static final AtomicInteger ASYNC_BUILDER_CONFIGURED = new AtomicInteger();
+
+    @Path("test")
+    public static class Resource {
+
+        @GET
+        public String get() {
+            return "GET";
+        }
+
+        @POST
+        public String post(final InputStream entity) throws IOException {
+            return String.valueOf(count(entity));
+        }
+
+        @POST
+        @Path("headers")
+        public String headers(@HeaderParam("X-Intercepted") final String intercepted,
+                              @HeaderParam("Content-Length") final String contentLength,
+                              final String entity) {
+            return intercepted + ":" + contentLength + ":" + entity;
+        }
+
+        @GET
+        @Path("empty")
+        public Response empty() {
+            return Response.noContent().build();
+        }
+
+        @GET
+        @Path("large")
+        public StreamingOutput large() {
+            return AsyncClientTest::writeLarge;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(Resource.class);
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.connectorProvider(new Apache5ConnectorProvider());
+        config.property(Apache5ClientProperties.ASYNC_CLIENT, true);
+        config.register(new Apache5HttpClientBuilderConfigurator() {
+            @Override
+            public HttpClientBuilder configure(final HttpClientBuilder httpClientBuilder) {
+                return httpClientBuilder;
+            }
+
+            @Override
+            public HttpAsyncClientBuilder configure(final HttpAsyncClientBuilder httpAsyncClientBuilder) {
+                ASYNC_BUILDER_CONFIGURED.incrementAndGet();
+                return httpAsyncClientBuilder;
+            }
+        });
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        final List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            responses.add(target("test").request().async().get(String.class));
+        }
+        for (final Future<String> response : responses) {
+            assertEquals("GET", response.get(10, TimeUnit.SECONDS));
+        }
+        assertTrue(ASYNC_BUILDER_CONFIGURED.get() > 0);
+    }
+
+    @Test
+    public void testNoContent() throws Exception {
+        final Response response = target("test/empty").request().async().get().get(10, TimeUnit.SECONDS);
+        assertEquals(204, response.getStatus());
+        assertEquals("", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testChunkedEntity() throws Exception {
+        assertEquals(String.valueOf(LARGE_ENTITY_SIZE), target("test").request().async()
+                .post(Entity.entity((StreamingOutput) AsyncClientTest::writeLarge, "application/octet-stream"), String.class)
+                .get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBufferedEntity() throws Exception {
+        assertEquals("5", target("test")
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED)
+                .request().async().post(Entity.text("hello"), String.class)
+                .get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBufferedEntityInterceptorHeaders() throws Exception {
+        final WriterInterceptor interceptor = context -> {
+            context.getHeaders().putSingle("X-Intercepted", "yes");
+            context.proceed();
+        };
+        assertEquals("yes:5:hello", target("test/headers")
+                .register(interceptor)
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED)
+                .request().async().post(Entity.text("hello"), String.class)
+                .get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testStreamedResponse() throws Exception {
+        try (InputStream entity = target("test/large").request().async().get(InputStream.class).get(10, TimeUnit.SECONDS)) {
+            assertEquals(LARGE_ENTITY_SIZE, count(entity));
+        }
+
+        // close a partially read entity, the exchange is aborted and the client remains usable
+        final InputStream entity = target("test/large").request().async().get(InputStream.class).get(10, TimeUnit.SECONDS);
+        assertEquals(1024, entity.read(new byte[1024], 0, 1024));
+        entity.close();
+
+        assertEquals("GET", target("test").request().async().get(String.class).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCallbackFailure() throws Exception {
+        final ClientConfig config = new ClientConfig()
+                .connectorProvider(new Apache5ConnectorProvider())
+                .property(Apache5ClientProperties.ASYNC_CLIENT, true)
+                .property(ClientProperties.CONNECT_TIMEOUT, 1000);
+        final Client client = ClientBuilder.newClient(config);
+        try {
+            final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+            final Future<String> response = client.target("http://localhost:1/").request().async()
+                    .get(new InvocationCallback<String>() {
+                        @Override
+                        public void completed(final String response) {
+                            failure.complete(null);
+                        }
+
+                        @Override
+                        public void failed(final Throwable throwable) {
+                            failure.complete(throwable);
+                        }
+                    });
+
+            assertInstanceOf(ProcessingException.class, failure.get(10, TimeUnit.SECONDS));
+            final ExecutionException exception = assertThrows(ExecutionException.class, () -> response.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ProcessingException.class, exception.getCause());
+        } finally {
+            client.close();
+        }
+    }
+
+    private static void writeLarge(final OutputStream output) throws IOException {
+        final byte[] chunk = new byte[8192];
+        for (int i = 0; i < LARGE_ENTITY_SIZE / chunk.length; i++) {
+            output.write(chunk);
+        }
+    }
+
+    private static long count(final InputStream stream) throws IOException {
+        final byte[] buffer = new byte[8192];
+        long count = 0;
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            count += read;
+        }
+        return count;
+    }
+}
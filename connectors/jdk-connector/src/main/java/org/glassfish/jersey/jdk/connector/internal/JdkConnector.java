@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -236,6 +236,10 @@ public class JdkConnector implements Connector {
         return responseContext;
     }
 
+    ConnectorConfiguration getConnectorConfiguration() {
+        return connectorConfiguration;
+    }
+
     @Override
     public String getName() {
         return "JDK connector";
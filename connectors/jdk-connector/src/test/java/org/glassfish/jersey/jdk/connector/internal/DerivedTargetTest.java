@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import javax.ws.rs.client.ClientBuilder;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.JerseyClient;
+import org.glassfish.jersey.client.JerseyWebTarget;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+/**
+ * Tests that properties read when the connector is created take effect when set on a derived web target.
+ */
+public class DerivedTargetTest {
+
+    @Test
+    public void testConnectTimeoutOnDerivedTarget() {
+        final JerseyClient client = (JerseyClient) ClientBuilder.newClient(
+                new ClientConfig().connectorProvider(new JdkConnectorProvider()));
+        try {
+            final JerseyWebTarget target = client.target("http://localhost:8080").preInitialize();
+            final JdkConnector connector = (JdkConnector) target.getConfiguration().getConnector();
+
+            final JerseyWebTarget derived = target.property(ClientProperties.CONNECT_TIMEOUT, 500).preInitialize();
+            final JdkConnector derivedConnector = (JdkConnector) derived.getConfiguration().getConnector();
+
+            assertNotSame(connector, derivedConnector);
+            assertEquals(500, derivedConnector.getConnectorConfiguration().getConnectTimeout());
+            assertEquals(0, connector.getConnectorConfiguration().getConnectTimeout());
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration options specific to the connector provided by {@link JavaNetHttpConnectorProvider}.
+ *
+ * @since 2.46
+ */
+@PropertiesClass
+public final class JavaNetHttpClientProperties {
+
+    /**
+     * HTTP protocol version requested by the connector.
+     * <p>
+     * The value MUST be an instance of {@link java.net.http.HttpClient.Version} or its name. With
+     * {@link java.net.http.HttpClient.Version#HTTP_2}, {@code HTTP/2} is negotiated with the server and
+     * {@code HTTP/1.1} is used if the server does not support it.
+     * </p>
+     * <p>
+     * The default value is {@link java.net.http.HttpClient.Version#HTTP_1_1}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String HTTP_VERSION = "jersey.config.jnh.client.httpVersion";
+
+    private JavaNetHttpClientProperties() {
+        // prevents instantiation
+    }
+}
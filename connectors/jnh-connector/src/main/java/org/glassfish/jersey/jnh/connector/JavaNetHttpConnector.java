@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.client.innate.ClientProxy;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.innate.VirtualThreadUtil;
+import org.glassfish.jersey.internal.util.collection.LazyValue;
+import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.internal.util.collection.Values;
+import org.glassfish.jersey.message.internal.Statuses;
+
+/**
+ * Connector based on {@link HttpClient}. Response entities are streamed directly from the {@code HttpClient} body
+ * stream, request entities are either buffered and sent from the buffer or, with
+ * {@link RequestEntityProcessing#CHUNKED chunked} processing, streamed while they are written.
+ *
+ * @see JavaNetHttpConnectorProvider
+ */
+final class JavaNetHttpConnector implements Connector {
+
+    private static final Logger LOGGER = Logger.getLogger(JavaNetHttpConnector.class.getName());
+
+    /**
+     * Headers {@link HttpClient} sets on its own and refuses to be set by the application.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "expect", "host", "upgrade"));
+
+    private final HttpClient httpClient;
+    private final LazyValue<HttpClient> alternateClient;
+    private final boolean followRedirects;
+    private final ExecutorService executor;
+
+    /**
+     * Create the connector.
+     *
+     * @param client JAX-RS client the connector is created for.
+     * @param config client runtime configuration.
+     */
+    JavaNetHttpConnector(final Client client, final Configuration config) {
+        this.executor = VirtualThreadUtil.withConfig(config).newCachedThreadPool();
+
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+                .executor(executor)
+                .version(httpVersion(config))
+                .sslContext(client.getSslContext());
+
+        final int connectTimeout = ClientProperties.getValue(config.getProperties(), ClientProperties.CONNECT_TIMEOUT, 0);
+        if (connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+
+        final Optional<ClientProxy> proxy = ClientProxy.proxyFromConfiguration(config);
+        proxy.ifPresent(clientProxy -> {
+            final URI uri = clientProxy.uri();
+            builder.proxy(ProxySelector.of(new InetSocketAddress(uri.getHost(), uri.getPort() == -1 ? 8080 : uri.getPort())));
+            if (clientProxy.userName() != null) {
+                final PasswordAuthentication authentication = new PasswordAuthentication(clientProxy.userName(),
+                        clientProxy.password() == null ? new char[0] : clientProxy.password().toCharArray());
+                builder.authenticator(new Authenticator() {
+                    @Override
+                    protected PasswordAuthentication getPasswordAuthentication() {
+                        return getRequestorType() == RequestorType.PROXY ? authentication : null;
+                    }
+                });
+            }
+        });
+
+        this.followRedirects = ClientProperties.getValue(config.getProperties(), ClientProperties.FOLLOW_REDIRECTS, true);
+        this.httpClient = builder.followRedirects(redirect(followRedirects)).build();
+        // the redirect policy is fixed per HttpClient, requests overriding the policy use another client
+        this.alternateClient = Values.lazy((Value<HttpClient>) () -> builder.followRedirects(redirect(!followRedirects)).build());
+    }
+
+    private static HttpClient.Redirect redirect(final boolean follow) {
+        return follow ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER;
+    }
+
+    private static HttpClient.Version httpVersion(final Configuration config) {
+        final Object version = config.getProperty(JavaNetHttpClientProperties.HTTP_VERSION);
+        if (version == null) {
+            return HttpClient.Version.HTTP_1_1;
+        }
+        if (version instanceof HttpClient.Version) {
+            return (HttpClient.Version) version;
+        }
+        try {
+            return HttpClient.Version.valueOf(version.toString().trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new ProcessingException(LocalizationMessages.HTTP_VERSION_INVALID(version,
+                    JavaNetHttpClientProperties.HTTP_VERSION), e);
+        }
+    }
+
+    /**
+     * Get the underlying {@code HttpClient}.
+     *
+     * @return HTTP client.
+     */
+    HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        try {
+            return toClientResponse(request, send(request).get());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (final ExecutionException e) {
+            throw processingException(e.getCause());
+        }
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        final CompletableFuture<HttpResponse<InputStream>> response;
+        try {
+            response = send(request);
+        } catch (final ProcessingException e) {
+            callback.failure(e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return response.handle((httpResponse, failure) -> {
+            if (failure != null) {
+                callback.failure(processingException(failure));
+            } else {
+                try {
+                    callback.response(toClientResponse(request, httpResponse));
+                } catch (final Throwable t) {
+                    callback.failure(t);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Send the request, the request entity is written by the calling thread.
+     */
+    private CompletableFuture<HttpResponse<InputStream>> send(final ClientRequest request) {
+        if (!request.hasEntity()) {
+            return sendAsync(request, HttpRequest.BodyPublishers.noBody());
+        }
+
+        final RequestEntityProcessing entityProcessing = request.resolveProperty(
+                ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.class);
+        if (entityProcessing == RequestEntityProcessing.CHUNKED) {
+            return stream(request);
+        }
+
+        final Buffer buffer = new Buffer();
+        request.setStreamProvider(contentLength -> buffer);
+        try {
+            request.writeEntity();
+        } catch (final IOException e) {
+            throw new ProcessingException(e);
+        }
+        return sendAsync(request, buffer.publisher());
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> stream(final ClientRequest request) {
+        final int chunkSize = request.resolveProperty(ClientProperties.CHUNKED_ENCODING_SIZE,
+                ClientProperties.DEFAULT_CHUNK_SIZE);
+        final OutputStreamPublisher publisher = new OutputStreamPublisher(chunkSize);
+        final AtomicReference<CompletableFuture<HttpResponse<InputStream>>> response = new AtomicReference<>();
+
+        request.setStreamProvider(contentLength -> {
+            // headers are committed, the request can be sent
+            final CompletableFuture<HttpResponse<InputStream>> future = sendAsync(request, contentLength > 0
+                    ? HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength)
+                    : HttpRequest.BodyPublishers.fromPublisher(publisher));
+            future.whenComplete((httpResponse, failure) -> publisher.abort(failure));
+            response.set(future);
+            return publisher.getOutputStream();
+        });
+
+        try {
+            request.writeEntity();
+        } catch (final IOException e) {
+            final CompletableFuture<HttpResponse<InputStream>> future = response.get();
+            if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+                // the server responded before the whole entity has been sent
+                return future;
+            }
+            publisher.fail(e);
+            throw new ProcessingException(e);
+        }
+        return response.get();
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> sendAsync(final ClientRequest request,
+                                                                   final HttpRequest.BodyPublisher body) {
+        final HttpRequest.Builder builder;
+        try {
+            builder = HttpRequest.newBuilder(request.getUri()).method(request.getMethod(), body);
+
+            final int readTimeout = request.resolveProperty(ClientProperties.READ_TIMEOUT, 0);
+            if (readTimeout > 0) {
+                builder.timeout(Duration.ofMillis(readTimeout));
+            }
+
+            for (final Map.Entry<String, List<String>> header : request.getStringHeaders().entrySet()) {
+                final String name = header.getKey();
+                if (RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.fine(LocalizationMessages.RESTRICTED_HEADER_IGNORED(name));
+                    }
+                    continue;
+                }
+                for (final String value : header.getValue()) {
+                    builder.header(name, value);
+                }
+            }
+        } catch (final IllegalArgumentException e) {
+            throw new ProcessingException(e);
+        }
+
+        final HttpClient client = request.resolveProperty(ClientProperties.FOLLOW_REDIRECTS, followRedirects) == followRedirects
+                ? httpClient
+                : alternateClient.get();
+        return client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    private static ClientResponse toClientResponse(final ClientRequest request, final HttpResponse<InputStream> httpResponse) {
+        final ClientResponse response = new ClientResponse(Statuses.from(httpResponse.statusCode()), request,
+                httpResponse.uri());
+        for (final Map.Entry<String, List<String>> header : httpResponse.headers().map().entrySet()) {
+            // skip HTTP/2 pseudo headers
+            if (!header.getKey().startsWith(":")) {
+                response.getHeaders().addAll(header.getKey(), header.getValue());
+            }
+        }
+        response.setEntityStream(httpResponse.body());
+        return response;
+    }
+
+    private static ProcessingException processingException(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return cause instanceof ProcessingException ? (ProcessingException) cause : new ProcessingException(cause);
+    }
+
+    @Override
+    public String getName() {
+        return "Java HttpClient " + Runtime.version().feature();
+    }
+
+    @Override
+    public void close() {
+        // HttpClient is closeable only since JDK 21, before that both clients are released once the executor they
+        // share is shut down
+        close(httpClient);
+        if (alternateClient.isInitialized()) {
+            close(alternateClient.get());
+        }
+        executor.shutdown();
+    }
+
+    private static void close(final HttpClient client) {
+        if (client instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) client).close();
+            } catch (final Exception e) {
+                throw new ProcessingException(e);
+            }
+        }
+    }
+
+    /**
+     * Request entity buffer published without copying its content.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        private HttpRequest.BodyPublisher publisher() {
+            return count == 0
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(buf, 0, count);
+        }
+    }
+}
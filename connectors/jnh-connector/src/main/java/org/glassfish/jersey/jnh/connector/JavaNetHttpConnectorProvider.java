@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+/**
+ * Connector provider for Jersey {@link Connector connectors} utilizing {@link java.net.http.HttpClient} to send
+ * the requests. The connector supports both synchronous and asynchronous requests, reuses pooled connections and
+ * can use {@code HTTP/2}, see {@link JavaNetHttpClientProperties#HTTP_VERSION}.
+ * <p>
+ * The connector honors the following {@link org.glassfish.jersey.client.ClientProperties}:
+ * </p>
+ * <ul>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#CONNECT_TIMEOUT}, taken from the client configuration,</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#READ_TIMEOUT}, the time to wait for the response headers,</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#FOLLOW_REDIRECTS},</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_URI},
+ * {@link org.glassfish.jersey.client.ClientProperties#PROXY_USERNAME} and
+ * {@link org.glassfish.jersey.client.ClientProperties#PROXY_PASSWORD},</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#REQUEST_ENTITY_PROCESSING}, request entities are buffered
+ * unless {@link org.glassfish.jersey.client.RequestEntityProcessing#CHUNKED} processing is set, in which case they are
+ * streamed as they are written,</li>
+ * <li>{@link org.glassfish.jersey.CommonProperties#USE_VIRTUAL_THREADS} and
+ * {@link org.glassfish.jersey.CommonProperties#THREAD_FACTORY} for the threads of the {@code HttpClient}.</li>
+ * </ul>
+ * <p>
+ * The {@link javax.net.ssl.SSLContext} of the client is used for {@code https} requests. Hostname verifiers are not
+ * supported by {@code HttpClient}, the endpoint identification of the JDK is used instead.
+ * </p>
+ *
+ * @since 2.46
+ */
+public class JavaNetHttpConnectorProvider implements ConnectorProvider {
+
+    @Override
+    public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+        return new JavaNetHttpConnector(client, runtimeConfig);
+    }
+}
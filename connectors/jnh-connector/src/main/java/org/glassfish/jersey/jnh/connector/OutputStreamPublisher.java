@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+/**
+ * Body publisher fed by an {@link OutputStream}. Data written to the stream are handed over to the subscriber as soon
+ * as it signals demand, the writing thread is blocked until then. The body can be subscribed only once.
+ */
+final class OutputStreamPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final Object lock = new Object();
+    private final OutputStream stream;
+
+    private Flow.Subscriber<? super ByteBuffer> subscriber;
+    private long demand;
+    private boolean cancelled;
+    private Throwable failure;
+
+    /**
+     * Create new publisher.
+     *
+     * @param bufferSize size of the published chunks.
+     */
+    OutputStreamPublisher(final int bufferSize) {
+        this.stream = new BufferedOutputStream(new Sink(), bufferSize);
+    }
+
+    /**
+     * Get the stream the body is written to.
+     *
+     * @return body stream.
+     */
+    OutputStream getOutputStream() {
+        return stream;
+    }
+
+    /**
+     * Stop waiting for the subscriber, subsequent writes fail.
+     *
+     * @param cause reason of the abort, e.g. failure of the request.
+     */
+    void abort(final Throwable cause) {
+        synchronized (lock) {
+            failure = cause;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Signal the subscriber that the body could not be written.
+     *
+     * @param cause reason of the failure.
+     */
+    void fail(final Throwable cause) {
+        final Flow.Subscriber<? super ByteBuffer> s;
+        synchronized (lock) {
+            s = subscriber;
+            cancelled = true;
+            lock.notifyAll();
+        }
+        if (s != null) {
+            s.onError(cause);
+        }
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        final boolean replayed;
+        synchronized (lock) {
+            replayed = this.subscriber != null;
+            if (!replayed) {
+                this.subscriber = subscriber;
+            }
+        }
+
+        if (replayed) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(LocalizationMessages.REQUEST_ENTITY_REPLAYED()));
+            return;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(final long n) {
+                synchronized (lock) {
+                    demand = n <= 0 || demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    lock.notifyAll();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                synchronized (lock) {
+                    cancelled = true;
+                    lock.notifyAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * Wait for the subscriber to be ready.
+     *
+     * @param item {@code true} if an item is to be published, {@code false} if the body is to be completed.
+     */
+    private Flow.Subscriber<? super ByteBuffer> await(final boolean item) throws IOException {
+        synchronized (lock) {
+            try {
+                while (!cancelled && failure == null && (subscriber == null || item && demand == 0)) {
+                    lock.wait();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            if (cancelled || failure != null) {
+                throw new IOException(LocalizationMessages.REQUEST_ENTITY_CANCELLED(), failure);
+            }
+            if (item) {
+                demand--;
+            }
+            return subscriber;
+        }
+    }
+
+    private class Sink extends OutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            // the caller owns the array, the chunk is copied once
+            final ByteBuffer chunk = ByteBuffer.allocate(len);
+            chunk.put(b, off, len).flip();
+            await(true).onNext(chunk);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                await(false).onComplete();
+            }
+        }
+    }
+}
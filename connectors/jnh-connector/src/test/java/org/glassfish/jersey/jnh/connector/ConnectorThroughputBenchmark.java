@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.HttpUrlConnectorProvider;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput comparison of the {@code java.net.http} connector with the {@code HttpURLConnection} and JDK NIO
+ * connectors. Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.glassfish.jersey.jnh.connector.ConnectorThroughputBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 8, time = 1, timeUnit = TimeUnit.SECONDS)
+@Threads(16)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConnectorThroughputBenchmark {
+
+    private static final URI BASE_URI = URI.create("http://localhost:9998/");
+    private static final String ENTITY = new String(new char[4096]).replace('\0', 'x');
+
+    @Path("echo")
+    public static class EchoResource {
+
+        @GET
+        public String get() {
+            return "hello";
+        }
+
+        @POST
+        public String post(final String entity) {
+            return entity;
+        }
+    }
+
+    @Param({"jnh", "jdk", "url"})
+    private String connector;
+
+    private HttpServer server;
+    private Client client;
+    private WebTarget target;
+
+    @Setup
+    public void start() {
+        server = GrizzlyHttpServerFactory.createHttpServer(BASE_URI, new ResourceConfig(EchoResource.class));
+        client = ClientBuilder.newClient(new ClientConfig().connectorProvider(connectorProvider(connector)));
+        target = client.target(BASE_URI).path("echo");
+    }
+
+    @TearDown
+    public void shutdown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    private static ConnectorProvider connectorProvider(final String name) {
+        switch (name) {
+            case "jnh":
+                return new JavaNetHttpConnectorProvider();
+            case "jdk":
+                return new JdkConnectorProvider();
+            default:
+                return new HttpUrlConnectorProvider();
+        }
+    }
+
+    @Benchmark
+    public String get() {
+        return target.request().get(String.class);
+    }
+
+    @Benchmark
+    public String post() {
+        return target.request().post(Entity.text(ENTITY), String.class);
+    }
+
+    @Benchmark
+    public String asyncGet() throws Exception {
+        return target.request().async().get(String.class).get();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                .include(ConnectorThroughputBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HEAD;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the connector provided by {@link JavaNetHttpConnectorProvider}.
+ */
+public class JavaNetHttpConnectorTest extends JerseyTest {
+
+    private static final int LARGE_ENTITY_SIZE = 4 * 1024 * 1024;
+
+    @Path("test")
+    public static class TestResource {
+
+        @GET
+        public String get(@HeaderParam("X-Test") final String header) {
+            return "GET " + header;
+        }
+
+        @HEAD
+        public Response head() {
+            return Response.ok().header("X-Test", "head").build();
+        }
+
+        @POST
+        public Response post(final InputStream entity, @HeaderParam("Transfer-Encoding") final String transferEncoding)
+                throws IOException {
+            long count = 0;
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = entity.read(buffer)) != -1) {
+                count += read;
+            }
+            return Response.ok(String.valueOf(count)).header("X-Transfer-Encoding", transferEncoding).build();
+        }
+
+        @GET
+        @Path("large")
+        public StreamingOutput large() {
+            return output -> write(output, LARGE_ENTITY_SIZE);
+        }
+
+        @GET
+        @Path("slow")
+        public String slow() throws InterruptedException {
+            Thread.sleep(2000);
+            return "slow";
+        }
+
+        @GET
+        @Path("redirect")
+        public Response redirect() {
+            return Response.seeOther(URI.create("test")).build();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(TestResource.class);
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.connectorProvider(new JavaNetHttpConnectorProvider());
+    }
+
+    private static void write(final OutputStream output, final int size) throws IOException {
+        final byte[] chunk = new byte[1000];
+        for (int written = 0; written < size; written += chunk.length) {
+            output.write(chunk, 0, Math.min(chunk.length, size - written));
+        }
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals("GET value", target("test").request().header("X-Test", "value").get(String.class));
+    }
+
+    @Test
+    public void testHead() {
+        final Response response = target("test").request().head();
+        assertEquals(200, response.getStatus());
+        assertEquals("head", response.getHeaderString("X-Test"));
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        final Future<String> response = target("test").request().header("X-Test", "async").async().get(String.class);
+        assertEquals("GET async", response.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLargeResponse() throws IOException {
+        try (InputStream entity = target("test/large").request().get(InputStream.class)) {
+            long count = 0;
+            while (entity.read() != -1) {
+                count++;
+            }
+            assertEquals(LARGE_ENTITY_SIZE, count);
+        }
+    }
+
+    @Test
+    public void testBufferedPost() {
+        final Response response = target("test").request().post(Entity.text("entity"));
+        assertEquals("6", response.readEntity(String.class));
+        assertNull(response.getHeaderString("X-Transfer-Encoding"));
+    }
+
+    @Test
+    public void testChunkedPost() throws Exception {
+        final StreamingOutput entity = output -> write(output, LARGE_ENTITY_SIZE);
+
+        final Response response = target("test")
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+                .request().post(Entity.text(entity));
+        assertEquals(String.valueOf(LARGE_ENTITY_SIZE), response.readEntity(String.class));
+        assertEquals("chunked", response.getHeaderString("X-Transfer-Encoding"));
+
+        final Future<String> async = target("test")
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+                .request().async().post(Entity.text(entity), String.class);
+        assertEquals(String.valueOf(LARGE_ENTITY_SIZE), async.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testReadTimeout() {
+        final ProcessingException e = assertThrows(ProcessingException.class,
+                () -> target("test/slow").property(ClientProperties.READ_TIMEOUT, 500).request().get(String.class));
+        assertInstanceOf(HttpTimeoutException.class, e.getCause());
+    }
+
+    @Test
+    public void testRedirect() {
+        assertEquals("GET null", target("test/redirect").request().get(String.class));
+
+        final Response response = client().property(ClientProperties.FOLLOW_REDIRECTS, false)
+                .target(getBaseUri()).path("test/redirect").request().get();
+        assertEquals(303, response.getStatus());
+    }
+
+    @Test
+    public void testHttp2Fallback() {
+        assertEquals("GET h2", client().property(JavaNetHttpClientProperties.HTTP_VERSION, HttpClient.Version.HTTP_2)
+                .target(getBaseUri()).path("test").request().header("X-Test", "h2").get(String.class));
+    }
+
+    @Test
+    public void testProxyWithoutPort() {
+        final ClientConfig config = new ClientConfig().property(ClientProperties.PROXY_URI, "http://localhost");
+        new JavaNetHttpConnector(ClientBuilder.newClient(), config).close();
+    }
+}
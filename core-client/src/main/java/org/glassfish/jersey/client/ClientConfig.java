@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -20,9 +20,11 @@ package org.glassfish.jersey.client;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
@@ -106,7 +108,32 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
          */
         private static final StateChangeStrategy COPY_ON_CHANGE = State::copy;
 
+        /**
+         * Properties that are resolved from the request configuration during each request processing by the client
+         * runtime and by every connector, and that can therefore be changed without bootstrapping a new client runtime.
+         * Any other property, including properties of 3rd party features or connectors, may be consumed while
+         * bootstrapping the runtime or creating the connector (e.g. {@link ClientProperties#CONNECT_TIMEOUT} is read
+         * by several connectors when they are created). Only changes of these properties are therefore served by
+         * a derived runtime, a change of any other property bootstraps a new one.
+         */
+        private static final Set<String> REQUEST_PROPERTIES = new HashSet<>(Arrays.asList(
+                ClientProperties.USE_ENCODING,
+                ClientProperties.IGNORE_EXCEPTION_RESPONSE,
+                ClientProperties.REQUEST_ENTITY_PROCESSING,
+                ClientProperties.EXPECT_100_CONTINUE,
+                ClientProperties.EXPECT_100_CONTINUE_THRESHOLD_SIZE,
+                ClientProperties.QUERY_PARAM_STYLE,
+                ClientProperties.SUPPRESS_HTTP_COMPLIANCE_VALIDATION));
+
         private volatile StateChangeStrategy strategy;
+        /**
+         * The state this state has been copied from within the same client, used to derive the runtime.
+         */
+        private volatile State parent;
+        /**
+         * Whether providers, connector or executors have been changed since this state has been copied.
+         */
+        private volatile boolean providersChanged;
         private final CommonConfig commonConfig;
         private final JerseyClient client;
         private volatile ConnectorProvider connectorProvider;
@@ -159,6 +186,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         private State(final JerseyClient client, final State original) {
             this.strategy = IDENTITY;
             this.client = client;
+            this.parent = client == original.client ? original : null;
             this.commonConfig = new CommonConfig(original.commonConfig);
             this.connectorProvider = original.connectorProvider;
             this.executorService = original.executorService;
@@ -207,6 +235,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
 
         public State loadFrom(final Configuration config) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.loadFrom(config);
             return state;
         }
@@ -214,6 +243,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         @Override
         public State register(final Class<?> providerClass) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.register(providerClass);
             return state;
         }
@@ -221,6 +251,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         @Override
         public State register(final Object provider) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.register(provider);
             return state;
         }
@@ -228,6 +259,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         @Override
         public State register(final Class<?> providerClass, final int bindingPriority) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.register(providerClass, bindingPriority);
             return state;
         }
@@ -235,6 +267,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         @Override
         public State register(final Class<?> providerClass, final Class<?>... contracts) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.register(providerClass, contracts);
             return state;
         }
@@ -242,6 +275,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         @Override
         public State register(final Class<?> providerClass, final Map<Class<?>, Integer> contracts) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.register(providerClass, contracts);
             return state;
         }
@@ -249,6 +283,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         @Override
         public State register(final Object provider, final int bindingPriority) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.register(provider, bindingPriority);
             return state;
         }
@@ -256,6 +291,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         @Override
         public State register(final Object provider, final Class<?>... contracts) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.register(provider, contracts);
             return state;
         }
@@ -263,6 +299,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
         @Override
         public State register(final Object provider, final Map<Class<?>, Integer> contracts) {
             final State state = strategy.onChange(this);
+            state.providersChanged = true;
             state.commonConfig.register(provider, contracts);
             return state;
         }
@@ -273,6 +310,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
             }
             final State state = strategy.onChange(this);
             state.connectorProvider = provider;
+            state.providersChanged = true;
             return state;
         }
 
@@ -282,6 +320,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
             }
             final State state = strategy.onChange(this);
             state.executorService = executorService;
+            state.providersChanged = true;
             return state;
         }
 
@@ -291,6 +330,7 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
             }
             final State state = strategy.onChange(this);
             state.scheduledExecutorService = scheduledExecutorService;
+            state.providersChanged = true;
             return state;
         }
 
@@ -410,6 +450,17 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
 
             final State runtimeCfgState = this.copy();
             runtimeCfgState.markAsShared();
+            runtimeCfgState.parent = null;
+
+            final State parentState = parent;
+            parent = null;
+            if (parentState != null && !providersChanged && parentState.runtime.isInitialized()) {
+                final ClientRuntime parentRuntime = parentState.runtime.get();
+                if (hasOnlyRequestPropertyChanges(parentRuntime.getConfig())) {
+                    // Property-only change of a configuration with a bootstrapped runtime, no need to bootstrap again.
+                    return new ClientRuntime(new ClientConfig(runtimeCfgState), parentRuntime);
+                }
+            }
 
             final InjectionManager injectionManager = findInjectionManager();
             injectionManager.register(new ClientBinder(runtimeCfgState.getProperties()));
@@ -472,6 +523,25 @@ public class ClientConfig implements Configurable<ClientConfig>, ExtendedConfig
             return crt;
         }
 
+        /**
+         * Check whether the properties of this state differ from the properties of the given runtime
+         * configuration only in properties that are not consumed when bootstrapping the runtime.
+         */
+        private boolean hasOnlyRequestPropertyChanges(final ClientConfig runtimeConfig) {
+            final Map<String, Object> properties = getProperties();
+            final Map<String, Object> runtimeProperties = runtimeConfig.getProperties();
+
+            final Set<String> names = new HashSet<>(properties.keySet());
+            names.addAll(runtimeProperties.keySet());
+            for (final String name : names) {
+                if (!REQUEST_PROPERTIES.contains(name)
+                        && !Objects.equals(properties.get(name), runtimeProperties.get(name))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         private final InjectionManager findInjectionManager() {
             try {
                 return Injections.createInjectionManager(RuntimeType.CLIENT);
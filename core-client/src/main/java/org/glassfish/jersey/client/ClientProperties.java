@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -529,6 +529,122 @@ public final class ClientProperties {
      */
     public static final String SSL_CONTEXT_SUPPLIER = "jersey.config.client.ssl.context.supplier";
 
+    /**
+     * If {@code true}, identical {@code GET} and {@code HEAD} requests that are in flight at the same time are coalesced
+     * into a single request sent by the connector. Requests are identical if they have the same method, URI and values
+     * of the headers listed in {@link #REQUEST_COALESCING_HEADERS}. All coalesced requests receive a response with
+     * a buffered copy of the entity. Only responses with a known {@code Content-Length} not larger than
+     * {@link #REQUEST_COALESCING_MAX_ENTITY_SIZE} and with a non-streaming media type are shared, requests attached to
+     * any other response are sent on their own. Requests with request-specific properties are never coalesced.
+     * <p>
+     * The value MUST be an instance convertible to {@link java.lang.Boolean}.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.46
+     * @see org.glassfish.jersey.client.http.RequestCoalescingFeature
+     */
+    public static final String REQUEST_COALESCING = "jersey.config.client.request.coalescing";
+
+    /**
+     * Comma separated list of request header names whose values have to be equal for requests to be coalesced, see
+     * {@link #REQUEST_COALESCING}.
+     * <p>
+     * The value MUST be an instance of {@link String}.
+     * </p>
+     * <p>
+     * The default value is {@value #DEFAULT_REQUEST_COALESCING_HEADERS}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.46
+     */
+    public static final String REQUEST_COALESCING_HEADERS = "jersey.config.client.request.coalescing.headers";
+
+    /**
+     * Default value of the {@link #REQUEST_COALESCING_HEADERS} property.
+     *
+     * @since 2.46
+     */
+    public static final String DEFAULT_REQUEST_COALESCING_HEADERS = "Accept,Accept-Encoding,Accept-Language,Authorization,Cookie";
+
+    /**
+     * Maximum size in bytes of a response entity that is buffered and shared by coalesced requests, see
+     * {@link #REQUEST_COALESCING}. Requests attached to a request whose response declares a larger
+     * {@code Content-Length} are sent on their own.
+     * <p>
+     * The value MUST be an instance convertible to {@link java.lang.Integer}.
+     * </p>
+     * <p>
+     * The default value is {@value #DEFAULT_REQUEST_COALESCING_MAX_ENTITY_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.46
+     */
+    public static final String REQUEST_COALESCING_MAX_ENTITY_SIZE = "jersey.config.client.request.coalescing.maxEntitySize";
+
+    /**
+     * Default value of the {@link #REQUEST_COALESCING_MAX_ENTITY_SIZE} property.
+     *
+     * @since 2.46
+     */
+    public static final int DEFAULT_REQUEST_COALESCING_MAX_ENTITY_SIZE = 1024 * 1024;
+
+    /**
+     * {@link RetryPolicy} used to retry and hedge requests. Requests are neither retried nor hedged unless a policy
+     * is set.
+     * <p>
+     * The value MUST be an instance of {@link RetryPolicy}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.46
+     * @see org.glassfish.jersey.client.http.RetryFeature
+     */
+    public static final String RETRY_POLICY = "jersey.config.client.retry.policy";
+
+    /**
+     * {@link ConcurrencyLimiter} limiting the number of concurrent requests per destination. Requests are not limited
+     * unless a limiter is set.
+     * <p>
+     * The value MUST be an instance of {@link ConcurrencyLimiter}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.46
+     * @see org.glassfish.jersey.client.http.ConcurrencyLimitFeature
+     */
+    public static final String CONCURRENCY_LIMITER = "jersey.config.client.concurrency.limiter";
+
+    /**
+     * {@link LoadBalancer} spreading requests to its service URI over a set of endpoints. Requests are not balanced
+     * unless a load balancer is set.
+     * <p>
+     * The value MUST be an instance of {@link LoadBalancer}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.46
+     * @see org.glassfish.jersey.client.http.LoadBalancingFeature
+     */
+    public static final String LOAD_BALANCER = "jersey.config.client.load.balancer";
+
     private ClientProperties() {
         // prevents instantiation
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -67,6 +67,10 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
     private final Stage<ClientResponse> responseProcessingRoot;
 
     private final Connector connector;
+    /**
+     * Connector the requests are sent with, coalesces, retries and limits requests if enabled.
+     */
+    private final Connector requestConnector;
     private final ClientConfig config;
 
     private final RequestScope requestScope;
@@ -78,6 +82,10 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final ManagedObjectsFinalizer managedObjectsFinalizer;
     private final InjectionManager injectionManager;
+    /**
+     * The runtime owning the injection manager and connector, {@code this} unless this is a derived runtime.
+     */
+    private final ClientRuntime owner;
 
     private final InvocationInterceptorStages.PreInvocationInterceptorStage preInvocationInterceptorStage;
     private final InvocationInterceptorStages.PostInvocationInterceptorStage postInvocationInterceptorStage;
@@ -128,8 +136,14 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
                 config.getScheduledExecutorService() == null
                         ? injectionManager.getInstance(ScheduledExecutorService.class, ClientBackgroundSchedulerLiteral.INSTANCE)
                         : config.getScheduledExecutorService());
+        final Connector limitedConnector = ConcurrencyLimitingConnector.wrap(connector, config, asyncRequestExecutor,
+                backgroundScheduler, Providers.getAllProviders(injectionManager, ConcurrencyLimitListener.class));
+        this.requestConnector = CoalescingConnector.wrap(
+                RetryingConnector.wrap(LoadBalancingConnector.wrap(limitedConnector, config), config,
+                        asyncRequestExecutor, backgroundScheduler), config, asyncRequestExecutor);
 
         this.injectionManager = injectionManager;
+        this.owner = this;
         this.lifecycleListeners = Providers.getAllProviders(injectionManager, ClientLifecycleListener.class);
 
         for (final ClientLifecycleListener listener : lifecycleListeners) {
@@ -141,6 +155,34 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
         }
     }
 
+    /**
+     * Create new client request processing runtime derived from an existing runtime. The derived runtime uses
+     * the given configuration but shares the providers, processing stages and connector of the original runtime.
+     * It is used when a configuration with an initialized runtime is modified in properties only.
+     *
+     * @param config configuration of the derived runtime.
+     * @param parent runtime the new runtime is derived from.
+     */
+    ClientRuntime(final ClientConfig config, final ClientRuntime parent) {
+        final ClientRuntime owner = parent.owner;
+
+        this.config = config;
+        this.owner = owner;
+        this.requestProcessingRoot = owner.requestProcessingRoot;
+        this.responseProcessingRoot = owner.responseProcessingRoot;
+        this.connector = owner.connector;
+        this.requestConnector = owner.requestConnector;
+        this.requestScope = owner.requestScope;
+        this.asyncRequestExecutor = owner.asyncRequestExecutor;
+        this.backgroundScheduler = owner.backgroundScheduler;
+        this.lifecycleListeners = Collections.emptyList();
+        this.managedObjectsFinalizer = owner.managedObjectsFinalizer;
+        this.injectionManager = owner.injectionManager;
+        this.preInvocationInterceptorStage = owner.preInvocationInterceptorStage;
+        this.postInvocationInterceptorStage = owner.postInvocationInterceptorStage;
+        this.invocationBuilderListenerStage = owner.invocationBuilderListenerStage;
+    }
+
     /**
      * Prepare a {@code Runnable} to be used to submit a {@link ClientRequest client request} for asynchronous processing.
      * <p>
@@ -182,7 +224,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
                     }
                 };
 
-                connector.apply(processedRequest, connectorCallback);
+                requestConnector.apply(processedRequest, connectorCallback);
             } catch (final Throwable throwable) {
                 processFailure(request, throwable, callback);
             }
@@ -297,7 +339,8 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
             preInvocationInterceptorStage.beforeRequest(request);
 
             try {
-                response = connector.apply(addUserAgent(Stages.process(request, requestProcessingRoot), connector.getName()));
+                response = requestConnector.apply(
+                        addUserAgent(Stages.process(request, requestProcessingRoot), connector.getName()));
             } catch (final AbortException aborted) {
                 response = aborted.getAbortResponse();
             }
@@ -357,6 +400,10 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
     }
 
     private void close() {
+        if (owner != this) {
+            // Resources are owned and released by the original runtime.
+            return;
+        }
         if (closed.compareAndSet(false, true)) {
             try {
                 for (final ClientLifecycleListener listener : lifecycleListeners) {
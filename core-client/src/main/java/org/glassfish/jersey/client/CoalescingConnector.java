@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.internal.util.collection.Value;
+
+/**
+ * Connector decorator coalescing identical {@code GET} and {@code HEAD} requests that are in flight at the same time
+ * into a single request sent by the decorated connector ("single flight").
+ * <p>
+ * The first request of a kind is sent as usual. Requests arriving while it is in flight attach to it instead of being
+ * sent. Once the response arrives, its entity is buffered and all the attached requests receive their own response
+ * with a replayable copy of the entity, as does the original request. If no request attached, the response is passed
+ * on untouched. Requests arriving after the response has been received are sent on their own.
+ * </p>
+ * <p>
+ * Only responses with a known and bounded {@code Content-Length} and a non-streaming media type are buffered. If the
+ * response cannot be buffered, it is passed on untouched and the attached requests are sent on their own. Requests
+ * with request-specific properties are never coalesced, since the properties may change how the request is sent.
+ * </p>
+ *
+ * @see ClientProperties#REQUEST_COALESCING
+ */
+final class CoalescingConnector implements Connector {
+
+    /**
+     * Media types of responses whose entity is streamed and must not be buffered.
+     */
+    private static final Set<String> STREAMING_MEDIA_TYPES = new HashSet<>(Arrays.asList(
+            "text/event-stream", "application/x-ndjson", "application/stream+json", "multipart/x-mixed-replace"));
+
+    private final Connector connector;
+    private final String[] headers;
+    private final long maxEntitySize;
+    private final Value<ExecutorService> executor;
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private CoalescingConnector(final Connector connector,
+                                final String[] headers,
+                                final long maxEntitySize,
+                                final Value<ExecutorService> executor) {
+        this.connector = connector;
+        this.headers = headers;
+        this.maxEntitySize = maxEntitySize;
+        this.executor = executor;
+    }
+
+    /**
+     * Decorate the connector if request coalescing is enabled in the configuration.
+     *
+     * @param connector     connector to be decorated.
+     * @param configuration client runtime configuration.
+     * @param executor      executor used to buffer the responses of asynchronous requests.
+     * @return decorated connector or the connector itself if coalescing is not enabled.
+     */
+    static Connector wrap(final Connector connector, final ClientConfig configuration, final Value<ExecutorService> executor) {
+        if (!ClientProperties.getValue(configuration.getProperties(),
+                ClientProperties.REQUEST_COALESCING, false, Boolean.class)) {
+            return connector;
+        }
+        final String headers = ClientProperties.getValue(configuration.getProperties(),
+                ClientProperties.REQUEST_COALESCING_HEADERS, ClientProperties.DEFAULT_REQUEST_COALESCING_HEADERS);
+        final List<String> names = new ArrayList<>();
+        for (final String name : headers.split(",")) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        final int maxEntitySize = ClientProperties.getValue(configuration.getProperties(),
+                ClientProperties.REQUEST_COALESCING_MAX_ENTITY_SIZE,
+                ClientProperties.DEFAULT_REQUEST_COALESCING_MAX_ENTITY_SIZE, Integer.class);
+        return new CoalescingConnector(connector, names.toArray(new String[0]), maxEntitySize, executor);
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        final String key = key(request);
+        if (key == null) {
+            return connector.apply(request);
+        }
+
+        final Flight flight = new Flight(key);
+        final Flight inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            final CompletableFuture<ClientResponse> follower = inFlight.follow(request);
+            if (follower == null) {
+                return connector.apply(request);
+            }
+            final ClientResponse response = await(request, follower);
+            // null if the response of the flight could not be shared
+            return response != null ? response : connector.apply(request);
+        }
+
+        final ClientResponse response;
+        try {
+            response = connector.apply(request);
+        } catch (final RuntimeException | Error e) {
+            flight.fail(e);
+            throw e;
+        }
+        final List<Follower> attached = flight.land(response);
+        return attached.isEmpty() ? response : share(response, attached);
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        final String key = key(request);
+        if (key == null) {
+            return connector.apply(request, callback);
+        }
+
+        final Flight flight = new Flight(key);
+        final Flight inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            final CompletableFuture<ClientResponse> follower = inFlight.follow(request);
+            if (follower == null) {
+                return connector.apply(request, callback);
+            }
+            follower.whenComplete((response, failure) -> {
+                if (failure != null) {
+                    callback.failure(failure instanceof CompletionException ? failure.getCause() : failure);
+                } else if (response != null) {
+                    callback.response(response);
+                } else {
+                    // the response of the flight could not be shared
+                    connector.apply(request, callback);
+                }
+            });
+            return follower;
+        }
+
+        try {
+            return connector.apply(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    final List<Follower> attached = flight.land(response);
+                    if (attached.isEmpty()) {
+                        callback.response(response);
+                        return;
+                    }
+                    // do not block the thread of the connector while reading the entity
+                    try {
+                        executor.get().execute(() -> {
+                            final ClientResponse shared;
+                            try {
+                                shared = share(response, attached);
+                            } catch (final ProcessingException e) {
+                                callback.failure(e);
+                                return;
+                            }
+                            callback.response(shared);
+                        });
+                    } catch (final RejectedExecutionException e) {
+                        response.close();
+                        final ProcessingException failure = new ProcessingException(e.getMessage(), e);
+                        attached.forEach(follower -> follower.response.completeExceptionally(failure));
+                        callback.failure(failure);
+                    }
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    flight.fail(failure);
+                    callback.failure(failure);
+                }
+            });
+        } catch (final RuntimeException | Error e) {
+            flight.fail(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return connector.getName();
+    }
+
+    @Override
+    public void close() {
+        connector.close();
+    }
+
+    /**
+     * Get the key identifying requests that can be coalesced.
+     *
+     * @return request key or {@code null} if the request must not be coalesced.
+     */
+    private String key(final ClientRequest request) {
+        final String method = request.getMethod();
+        if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method) || request.hasEntity()
+                || !request.getPropertyNames().isEmpty()) {
+            return null;
+        }
+
+        final StringBuilder key = new StringBuilder(method).append(' ').append(request.getUri());
+        for (final String header : headers) {
+            final String value = request.getHeaderString(header);
+            // header values cannot contain line breaks
+            key.append('\n').append(value == null ? "" : value);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Wait for the response of a flight the request is attached to, at most for the read timeout of the request.
+     *
+     * @return response or {@code null} if the response of the flight could not be shared.
+     */
+    private static ClientResponse await(final ClientRequest request, final CompletableFuture<ClientResponse> follower) {
+        final int readTimeout = request.resolveProperty(ClientProperties.READ_TIMEOUT, 0);
+        try {
+            return readTimeout > 0 ? follower.get(readTimeout, TimeUnit.MILLISECONDS) : follower.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (final ExecutionException e) {
+            throw processingException(e.getCause());
+        } catch (final TimeoutException e) {
+            follower.cancel(false);
+            throw new ProcessingException(new SocketTimeoutException("Read timed out"));
+        }
+    }
+
+    /**
+     * Check whether the response entity can be buffered and shared by the coalesced requests.
+     */
+    private boolean isShareable(final ClientResponse response) {
+        final int status = response.getStatus();
+        if (HttpMethod.HEAD.equals(response.getRequestContext().getMethod())
+                || status == Response.Status.NO_CONTENT.getStatusCode()
+                || status == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            return true;
+        }
+        try {
+            final long length = response.getLengthLong();
+            if (length < 0 || length > maxEntitySize) {
+                return false;
+            }
+            final MediaType mediaType = response.getMediaType();
+            return mediaType == null || !STREAMING_MEDIA_TYPES.contains(
+                    (mediaType.getType() + '/' + mediaType.getSubtype()).toLowerCase(Locale.ROOT));
+        } catch (final ProcessingException | IllegalArgumentException e) {
+            // invalid Content-Length or Content-Type
+            return false;
+        }
+    }
+
+    /**
+     * Buffer the response entity and complete the attached requests with a copy of the response.
+     *
+     * @return the response with a buffered entity.
+     */
+    private static ClientResponse share(final ClientResponse response, final List<Follower> attached) {
+        final byte[] entity;
+        try {
+            entity = read(response);
+        } catch (final IOException e) {
+            final ProcessingException failure = new ProcessingException(e.getMessage(), e);
+            attached.forEach(follower -> follower.response.completeExceptionally(failure));
+            throw failure;
+        }
+
+        response.setEntityStream(new ByteArrayInputStream(entity));
+        for (final Follower follower : attached) {
+            follower.response.complete(copy(response, follower.request, entity));
+        }
+        return response;
+    }
+
+    private static byte[] read(final ClientResponse response) throws IOException {
+        final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+        try (InputStream stream = response.getEntityStream()) {
+            if (stream != null) {
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    entity.write(buffer, 0, read);
+                }
+            }
+        }
+        return entity.toByteArray();
+    }
+
+    private static ProcessingException processingException(final Throwable failure) {
+        return failure instanceof ProcessingException
+                ? (ProcessingException) failure
+                : new ProcessingException(failure.getMessage(), failure);
+    }
+
+    private static ClientResponse copy(final ClientResponse response, final ClientRequest request, final byte[] entity) {
+        final ClientResponse copy = new ClientResponse(response.getStatusInfo(), request, response.getResolvedRequestUri());
+        copy.headers(response.getHeaders());
+        copy.setEntityStream(new ByteArrayInputStream(entity));
+        return copy;
+    }
+
+    /**
+     * A request in flight together with the requests attached to it.
+     */
+    private final class Flight {
+
+        private final String key;
+        private List<Follower> followers = new ArrayList<>();
+
+        private Flight(final String key) {
+            this.key = key;
+        }
+
+        /**
+         * Attach a request to this flight.
+         *
+         * @return future response of the request or {@code null} if the flight has already landed.
+         */
+        private synchronized CompletableFuture<ClientResponse> follow(final ClientRequest request) {
+            if (followers == null) {
+                return null;
+            }
+            final Follower follower = new Follower(request);
+            followers.add(follower);
+            return follower.response;
+        }
+
+        /**
+         * Stop accepting followers.
+         *
+         * @return requests attached to this flight.
+         */
+        private List<Follower> close() {
+            flights.remove(key, this);
+            synchronized (this) {
+                final List<Follower> attached = followers;
+                followers = null;
+                return attached;
+            }
+        }
+
+        /**
+         * Stop accepting followers once the response has been received.
+         *
+         * @return requests the response has to be shared with; empty if there are none or if the response
+         * cannot be shared, in which case the attached requests have been released to be sent on their own.
+         */
+        private List<Follower> land(final ClientResponse response) {
+            final List<Follower> attached = close();
+            if (attached.isEmpty() || isShareable(response)) {
+                return attached;
+            }
+            for (final Follower follower : attached) {
+                follower.response.complete(null);
+            }
+            return Collections.emptyList();
+        }
+
+        private void fail(final Throwable failure) {
+            for (final Follower follower : close()) {
+                follower.response.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * A request attached to a request in flight.
+     */
+    private static final class Follower {
+
+        private final ClientRequest request;
+        private final CompletableFuture<ClientResponse> response = new CompletableFuture<>();
+
+        private Follower(final ClientRequest request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import javax.ws.rs.ConstrainedTo;
+import javax.ws.rs.RuntimeType;
+
+import org.glassfish.jersey.spi.Contract;
+
+/**
+ * Listener notified about the decisions of the client {@link ConcurrencyLimiter}. Listeners are registered as
+ * providers in the client configuration.
+ *
+ * @since 2.46
+ */
+@Contract
+@ConstrainedTo(RuntimeType.CLIENT)
+public interface ConcurrencyLimitListener {
+
+    /**
+     * Invoked when the concurrency limit of a destination changes.
+     *
+     * @param destination request destination, i.e. scheme, host and port of the request URI.
+     * @param limit       new concurrency limit.
+     */
+    public void onLimitChanged(String destination, int limit);
+
+    /**
+     * Invoked when a request is rejected because the concurrency limit of its destination has been reached.
+     *
+     * @param destination request destination, i.e. scheme, host and port of the request URI.
+     */
+    public void onRejected(String destination);
+}
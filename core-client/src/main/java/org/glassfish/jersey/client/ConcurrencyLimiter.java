@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+
+/**
+ * Adaptive limit of concurrent requests per destination (scheme, host and port of the request URI), enabled by
+ * setting the {@link ClientProperties#CONCURRENCY_LIMITER} property or by registering
+ * {@link org.glassfish.jersey.client.http.ConcurrencyLimitFeature}.
+ * <p>
+ * The limit of each destination is adjusted using additive increase, multiplicative decrease (AIMD): a response
+ * received while the destination is at least half utilized increases the limit by one per limit's worth of
+ * responses, a dropped request decreases the limit by the backoff ratio. A request is considered dropped if it fails
+ * with a {@link ProcessingException}, receives a {@code 429} or {@code 503} response or, if configured, if its round
+ * trip time exceeds the latency threshold.
+ * </p>
+ * <p>
+ * Requests exceeding the limit are either rejected right away with a {@link ProcessingException} or wait in
+ * a bounded queue until a permit is released or the queue timeout elapses. Limit changes and rejections are reported
+ * to the registered {@link ConcurrencyLimitListener}s.
+ * </p>
+ * <p>
+ * The state of the destinations is held by the limiter instance, a limiter shared by several clients limits their
+ * requests together.
+ * </p>
+ *
+ * @since 2.46
+ */
+public final class ConcurrencyLimiter {
+
+    private static final Logger LOGGER = Logger.getLogger(ConcurrencyLimiter.class.getName());
+
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThreshold;
+    private final int queueSize;
+    private final long queueTimeout;
+
+    private final ConcurrentHashMap<String, Destination> destinations = new ConcurrentHashMap<>();
+    private final AtomicLong rejections = new AtomicLong();
+
+    private ConcurrencyLimiter(final Builder builder) {
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyThreshold = builder.latencyThreshold;
+        this.queueSize = builder.queueSize;
+        this.queueTimeout = builder.queueTimeout;
+    }
+
+    /**
+     * Create new limiter builder.
+     *
+     * @return limiter builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get current concurrency limit of a destination.
+     *
+     * @param destination request destination, e.g. {@code https://example.com:443}.
+     * @return concurrency limit.
+     */
+    public int getLimit(final String destination) {
+        final Destination state = destinations.get(destination);
+        if (state == null) {
+            return initialLimit;
+        }
+        synchronized (state) {
+            return (int) state.limit;
+        }
+    }
+
+    /**
+     * Get number of requests to a destination currently in flight.
+     *
+     * @param destination request destination, e.g. {@code https://example.com:443}.
+     * @return number of requests in flight.
+     */
+    public int getInFlight(final String destination) {
+        final Destination state = destinations.get(destination);
+        if (state == null) {
+            return 0;
+        }
+        synchronized (state) {
+            return state.inFlight;
+        }
+    }
+
+    /**
+     * Get total number of rejected requests.
+     *
+     * @return number of rejected requests.
+     */
+    public long getRejections() {
+        return rejections.get();
+    }
+
+    /**
+     * Acquire a permit to send a request to the destination.
+     *
+     * @return future completed once the permit is acquired or completed exceptionally if the request is rejected.
+     */
+    CompletableFuture<Void> acquire(final String destination,
+                                    final ScheduledExecutorService scheduler,
+                                    final Iterable<ConcurrencyLimitListener> listeners) {
+        final Destination state = destinations.computeIfAbsent(destination, name -> new Destination());
+        synchronized (state) {
+            if (state.inFlight < (int) state.limit) {
+                state.inFlight++;
+                return ACQUIRED;
+            }
+            if (state.queue.size() < queueSize) {
+                final Waiter waiter = new Waiter();
+                state.queue.add(waiter);
+                waiter.timeout = scheduler.schedule(() -> {
+                    // a waiter which already got a permit or has been cancelled is not in the queue or is done
+                    final boolean pending;
+                    synchronized (state) {
+                        pending = state.queue.remove(waiter) && !waiter.isDone();
+                    }
+                    if (pending) {
+                        rejected(destination, listeners);
+                        waiter.completeExceptionally(limitExceeded(destination));
+                    }
+                }, queueTimeout, TimeUnit.MILLISECONDS);
+                return waiter;
+            }
+        }
+
+        rejected(destination, listeners);
+        final CompletableFuture<Void> rejected = new CompletableFuture<>();
+        rejected.completeExceptionally(limitExceeded(destination));
+        return rejected;
+    }
+
+    /**
+     * Release a permit and adjust the destination limit.
+     *
+     * @param rtt     request round trip time in nanoseconds.
+     * @param dropped {@code true} if the request failed or has been rejected by the server.
+     */
+    void release(final String destination,
+                 final long rtt,
+                 final boolean dropped,
+                 final Iterable<ConcurrencyLimitListener> listeners) {
+        final Destination state = destinations.get(destination);
+        final int oldLimit;
+        final int newLimit;
+        synchronized (state) {
+            oldLimit = (int) state.limit;
+            if (dropped || latencyThreshold > 0 && rtt > latencyThreshold) {
+                state.limit = Math.max(minLimit, state.limit * backoffRatio);
+            } else if (state.inFlight * 2 >= state.limit) {
+                state.limit = Math.min(maxLimit, state.limit + 1 / state.limit);
+            }
+            state.inFlight--;
+
+            Waiter waiter;
+            while (state.inFlight < (int) state.limit && (waiter = state.queue.poll()) != null) {
+                if (waiter.complete(null)) {
+                    state.inFlight++;
+                    waiter.timeout.cancel(false);
+                }
+            }
+            newLimit = (int) state.limit;
+        }
+
+        if (newLimit != oldLimit) {
+            for (final ConcurrencyLimitListener listener : listeners) {
+                try {
+                    listener.onLimitChanged(destination, newLimit);
+                } catch (final Throwable t) {
+                    LOGGER.log(Level.WARNING, LocalizationMessages.ERROR_LISTENER_LIMIT(listener.getClass().getName()), t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check whether a response status signals an overloaded server.
+     */
+    boolean isDropped(final int status) {
+        return status == 429 || status == 503;
+    }
+
+    private void rejected(final String destination, final Iterable<ConcurrencyLimitListener> listeners) {
+        rejections.incrementAndGet();
+        for (final ConcurrencyLimitListener listener : listeners) {
+            try {
+                listener.onRejected(destination);
+            } catch (final Throwable t) {
+                LOGGER.log(Level.WARNING, LocalizationMessages.ERROR_LISTENER_LIMIT(listener.getClass().getName()), t);
+            }
+        }
+    }
+
+    private static ProcessingException limitExceeded(final String destination) {
+        return new ProcessingException(LocalizationMessages.CONCURRENCY_LIMIT_EXCEEDED(destination));
+    }
+
+    /**
+     * Limiter state of a destination.
+     */
+    private final class Destination {
+
+        private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+        private double limit = initialLimit;
+        private int inFlight;
+    }
+
+    /**
+     * Request waiting in the queue of a destination for a permit.
+     */
+    private static final class Waiter extends CompletableFuture<Void> {
+
+        // guarded by the destination lock, set before the waiter can be polled from the queue
+        private ScheduledFuture<?> timeout;
+    }
+
+    /**
+     * Builder of {@link ConcurrencyLimiter}.
+     */
+    public static final class Builder {
+
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 1000;
+        private double backoffRatio = 0.9;
+        private long latencyThreshold;
+        private int queueSize;
+        private long queueTimeout;
+
+        private Builder() {
+        }
+
+        /**
+         * Set initial concurrency limit of a destination, {@code 20} by default.
+         *
+         * @param initialLimit initial limit.
+         * @return updated builder.
+         */
+        public Builder initialLimit(final int initialLimit) {
+            if (initialLimit < 1) {
+                throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("initialLimit"));
+            }
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Set bounds of the concurrency limit, {@code 1} to {@code 1000} by default.
+         *
+         * @param min minimum limit.
+         * @param max maximum limit.
+         * @return updated builder.
+         */
+        public Builder limits(final int min, final int max) {
+            if (min < 1) {
+                throw new IllegalArgumentException(LocalizationMessages.INPUT_PARAMETER_OUT_OF_RANGE("min", 1, max, min));
+            }
+            if (max < min) {
+                throw new IllegalArgumentException(
+                        LocalizationMessages.INPUT_PARAMETER_OUT_OF_RANGE("max", min, Integer.MAX_VALUE, max));
+            }
+            this.minLimit = min;
+            this.maxLimit = max;
+            return this;
+        }
+
+        /**
+         * Set ratio the limit is multiplied by when a request is dropped, {@code 0.9} by default.
+         *
+         * @param backoffRatio backoff ratio between {@code 0.5} and {@code 1}.
+         * @return updated builder.
+         */
+        public Builder backoffRatio(final double backoffRatio) {
+            if (backoffRatio < 0.5 || backoffRatio > 1) {
+                throw new IllegalArgumentException(
+                        LocalizationMessages.INPUT_PARAMETER_OUT_OF_RANGE("backoffRatio", 0.5, 1, backoffRatio));
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Set round trip time above which a request is considered dropped. Not set by default.
+         *
+         * @param threshold latency threshold.
+         * @param unit      time unit of the threshold.
+         * @return updated builder.
+         */
+        public Builder latencyThreshold(final long threshold, final TimeUnit unit) {
+            this.latencyThreshold = unit.toNanos(threshold);
+            return this;
+        }
+
+        /**
+         * Let requests exceeding the limit wait for a permit instead of rejecting them right away. By default requests
+         * are rejected right away.
+         *
+         * @param size    maximum number of waiting requests per destination.
+         * @param timeout maximum time a request waits for a permit.
+         * @param unit    time unit of the timeout.
+         * @return updated builder.
+         */
+        public Builder queue(final int size, final long timeout, final TimeUnit unit) {
+            if (size < 0 || timeout < 0) {
+                throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("queue"));
+            }
+            this.queueSize = size;
+            this.queueTimeout = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Build the limiter.
+         *
+         * @return new concurrency limiter.
+         */
+        public ConcurrencyLimiter build() {
+            return new ConcurrencyLimiter(this);
+        }
+    }
+}
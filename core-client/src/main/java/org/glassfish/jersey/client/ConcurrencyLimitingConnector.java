@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.internal.util.collection.Value;
+
+/**
+ * Connector decorator limiting the number of concurrent requests per destination using a {@link ConcurrencyLimiter}.
+ * A permit is held from the moment the request is handed over to the connector until the response (or failure) is
+ * received.
+ *
+ * @see ClientProperties#CONCURRENCY_LIMITER
+ */
+final class ConcurrencyLimitingConnector implements Connector {
+
+    private final Connector connector;
+    private final ConcurrencyLimiter limiter;
+    private final Value<ExecutorService> executor;
+    private final Value<ScheduledExecutorService> scheduler;
+    private final Iterable<ConcurrencyLimitListener> listeners;
+
+    private ConcurrencyLimitingConnector(final Connector connector,
+                                         final ConcurrencyLimiter limiter,
+                                         final Value<ExecutorService> executor,
+                                         final Value<ScheduledExecutorService> scheduler,
+                                         final Iterable<ConcurrencyLimitListener> listeners) {
+        this.connector = connector;
+        this.limiter = limiter;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Decorate the connector if a concurrency limiter is set in the configuration.
+     *
+     * @param connector     connector to be decorated.
+     * @param configuration client runtime configuration.
+     * @param executor      executor sending requests that waited for a permit.
+     * @param scheduler     scheduler of queue timeouts.
+     * @param listeners     listeners notified about limit changes and rejections.
+     * @return decorated connector or the connector itself if no limiter is set.
+     */
+    static Connector wrap(final Connector connector,
+                          final ClientConfig configuration,
+                          final Value<ExecutorService> executor,
+                          final Value<ScheduledExecutorService> scheduler,
+                          final Iterable<ConcurrencyLimitListener> listeners) {
+        final ConcurrencyLimiter limiter = ClientProperties.getValue(configuration.getProperties(),
+                ClientProperties.CONCURRENCY_LIMITER, ConcurrencyLimiter.class);
+        return limiter == null ? connector : new ConcurrencyLimitingConnector(connector, limiter, executor, scheduler, listeners);
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        final String destination = destination(request.getUri());
+        final CompletableFuture<Void> permit = limiter.acquire(destination, scheduler.get(), listeners);
+        try {
+            permit.get();
+        } catch (final InterruptedException e) {
+            if (!permit.cancel(false)) {
+                // the permit has been granted meanwhile
+                limiter.release(destination, 0, false, listeners);
+            }
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (final ExecutionException e) {
+            throw (ProcessingException) e.getCause();
+        }
+
+        final long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            final ClientResponse response = connector.apply(request);
+            dropped = limiter.isDropped(response.getStatus());
+            return response;
+        } finally {
+            limiter.release(destination, System.nanoTime() - start, dropped, listeners);
+        }
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        final String destination = destination(request.getUri());
+        final CompletableFuture<Void> permit = limiter.acquire(destination, scheduler.get(), listeners);
+        if (permit.isDone() && !permit.isCompletedExceptionally()) {
+            return send(destination, request, callback);
+        }
+
+        // do not send the request from the thread releasing the permit
+        permit.whenCompleteAsync((acquired, failure) -> {
+            if (failure == null) {
+                send(destination, request, callback);
+            } else {
+                callback.failure(failure);
+            }
+        }, executor.get());
+        return permit;
+    }
+
+    private Future<?> send(final String destination, final ClientRequest request, final AsyncConnectorCallback callback) {
+        final long start = System.nanoTime();
+        final AtomicBoolean released = new AtomicBoolean();
+        try {
+            return connector.apply(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    if (released.compareAndSet(false, true)) {
+                        limiter.release(destination, System.nanoTime() - start, limiter.isDropped(response.getStatus()),
+                                listeners);
+                    }
+                    callback.response(response);
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    if (released.compareAndSet(false, true)) {
+                        limiter.release(destination, System.nanoTime() - start, true, listeners);
+                    }
+                    callback.failure(failure);
+                }
+            });
+        } catch (final RuntimeException | Error e) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(destination, System.nanoTime() - start, true, listeners);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return connector.getName();
+    }
+
+    @Override
+    public void close() {
+        connector.close();
+    }
+
+    private static String destination(final URI uri) {
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        return uri.getScheme() + "://" + uri.getHost() + ":" + port;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of response entity streams closed by connectors of a {@link HttpUrlConnectorProvider}, see
+ * {@link HttpUrlConnectorProvider#getConnectionStatistics()}.
+ * <p>
+ * {@code HttpURLConnection} returns a connection to its keep-alive cache only once the response entity has been
+ * read to its end, connections of responses closed with unread content are discarded. The ratio of
+ * {@link #getReusable() reusable} responses is therefore a good approximation of the connection reuse, see also
+ * {@link HttpUrlConnectorProvider#DRAIN_THRESHOLD}.
+ * </p>
+ *
+ * @since 2.46
+ */
+public final class HttpUrlConnectionStatistics {
+
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder drained = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder drainedBytes = new LongAdder();
+
+    HttpUrlConnectionStatistics() {
+    }
+
+    /**
+     * Record a closed response entity stream.
+     *
+     * @param reusable {@code true} if the entity has been read to its end.
+     * @param drained  number of bytes read and discarded on close.
+     */
+    void closed(final boolean reusable, final long drained) {
+        if (!reusable) {
+            discarded.increment();
+        } else if (drained > 0) {
+            this.drained.increment();
+        } else {
+            consumed.increment();
+        }
+        drainedBytes.add(drained);
+    }
+
+    /**
+     * Get the number of closed response entity streams.
+     *
+     * @return number of closed responses.
+     */
+    public long getResponses() {
+        return consumed.sum() + drained.sum() + discarded.sum();
+    }
+
+    /**
+     * Get the number of responses whose entity has been read to its end by the application.
+     *
+     * @return number of consumed responses.
+     */
+    public long getConsumed() {
+        return consumed.sum();
+    }
+
+    /**
+     * Get the number of responses whose unread entity has been drained on close.
+     *
+     * @return number of drained responses.
+     */
+    public long getDrained() {
+        return drained.sum();
+    }
+
+    /**
+     * Get the number of responses closed with more unread content than the drain threshold. Connections of such
+     * responses are not reused.
+     *
+     * @return number of discarded responses.
+     */
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+
+    /**
+     * Get the number of responses whose connection could be returned to the keep-alive cache, i.e. responses
+     * either consumed or drained.
+     *
+     * @return number of reusable responses.
+     */
+    public long getReusable() {
+        return consumed.sum() + drained.sum();
+    }
+
+    /**
+     * Get the total number of bytes read and discarded while draining responses.
+     *
+     * @return number of drained bytes.
+     */
+    public long getDrainedBytes() {
+        return drainedBytes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "HttpUrlConnectionStatistics{consumed=" + getConsumed() + ", drained=" + getDrained()
+                + ", discarded=" + getDiscarded() + ", drainedBytes=" + getDrainedBytes() + '}';
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,6 +50,12 @@ import org.glassfish.jersey.client.spi.ConnectorProvider;
  * workaround can be enabled via {@link #useFixedLengthStreaming()} method or via
  * {@link #USE_FIXED_LENGTH_STREAMING} Jersey client configuration property.
  * </p>
+ * <p>
+ * {@code HttpURLConnection} keeps idle connections in its keep-alive cache only if the response entity
+ * has been read to its end. Enabling {@link #DRAIN_THRESHOLD draining} of small unread response entities lets
+ * the connections be reused even if the application closes the response early, the achieved reuse can be
+ * observed via {@link #getConnectionStatistics()}.
+ * </p>
  *
  * @author Marek Potociar
  */
@@ -69,9 +75,15 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
      * </p>
      * <p>
      * Note that the content length value defined in the request header must exactly match
-     * the real size of the entity. If the {@link javax.ws.rs.core.HttpHeaders#CONTENT_LENGTH} header
-     * is explicitly specified in a request, this property will be ignored and the
-     * request entity will be still buffered by the underlying @{code HttpURLConnection} infrastructure.
+     * the real size of the entity.
+     * </p>
+     * <p>
+     * Since 2.46, when the content length is not known in advance and the entity is not sent using the chunked
+     * transfer coding, the entity is buffered by Jersey up to the size given by
+     * {@link org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER} and, if it fits into the buffer,
+     * sent in the fixed-length streaming mode with the buffered length rather than buffered by the
+     * {@code HttpURLConnection} once again. Note that {@code HttpURLConnection} can neither follow redirects nor retry
+     * authentication of requests sent in a streaming mode.
      * </p>
      * <p>
      * This property also overrides the behaviour enabled by the
@@ -113,6 +125,28 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
      */
     public static final String SET_METHOD_WORKAROUND =
             "jersey.config.client.httpUrlConnection.setMethodWorkaround";
+
+    /**
+     * Maximum number of bytes of an unread response entity that are read and discarded when the entity stream
+     * is closed. {@code HttpURLConnection} returns a connection to its keep-alive cache only if the response entity
+     * has been read to its end, draining small responses closed early by the application avoids a new TCP (and TLS)
+     * handshake for the next request. Responses with more unread content than the threshold are closed without
+     * draining and their connection is discarded.
+     * <p>
+     * The value MUST be an instance of {@link java.lang.Integer}, the property can also be set per request.
+     * </p>
+     * <p>
+     * The default value is {@code 0}, i.e. unread entities are not drained.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.46
+     * @see #getConnectionStatistics()
+     */
+    public static final String DRAIN_THRESHOLD = "jersey.config.client.httpUrlConnector.drainThreshold";
+
     /**
      * Default connection factory to be used.
      */
@@ -124,6 +158,8 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
     private int chunkSize;
     private boolean useFixedLengthStreaming;
     private boolean useSetMethodWorkaround;
+    private int drainThreshold;
+    private final HttpUrlConnectionStatistics statistics = new HttpUrlConnectionStatistics();
 
     /**
      * Create new {@link java.net.HttpURLConnection}-based Jersey client connector provider.
@@ -133,6 +169,7 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
         this.chunkSize = ClientProperties.DEFAULT_CHUNK_SIZE;
         this.useFixedLengthStreaming = false;
         this.useSetMethodWorkaround = false;
+        this.drainThreshold = 0;
     }
 
     /**
@@ -206,6 +243,38 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
         return this;
     }
 
+    /**
+     * Set the maximum number of bytes of an unread response entity drained when the entity stream is closed.
+     * See {@link #DRAIN_THRESHOLD} property documentation for more details.
+     * <p>
+     * Note that this programmatically set value can be overridden by
+     * setting the {@code DRAIN_THRESHOLD} property specified in the Jersey client instance configuration
+     * or in the request properties.
+     * </p>
+     *
+     * @param drainThreshold maximum number of drained bytes, {@code 0} to disable draining.
+     * @return updated connector provider instance.
+     * @throws java.lang.IllegalArgumentException in case the specified threshold is negative.
+     * @since 2.46
+     */
+    public HttpUrlConnectorProvider drainThreshold(final int drainThreshold) {
+        if (drainThreshold < 0) {
+            throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("drainThreshold"));
+        }
+        this.drainThreshold = drainThreshold;
+        return this;
+    }
+
+    /**
+     * Get statistics of the response entity streams closed by the connectors provided by this provider.
+     *
+     * @return connection reuse statistics.
+     * @since 2.46
+     */
+    public HttpUrlConnectionStatistics getConnectionStatistics() {
+        return statistics;
+    }
+
     @Override
     public Connector getConnector(final Client client, final Configuration config) {
         final Map<String, Object> properties = config.getProperties();
@@ -248,7 +317,9 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
                 connectionFactory,
                 chunkSize,
                 fixLengthStreaming,
-                setMethodWorkaround);
+                setMethodWorkaround,
+                drainThreshold,
+                statistics::closed);
     }
 
     /**
@@ -338,6 +409,9 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
         if (useFixedLengthStreaming != that.useFixedLengthStreaming) {
             return false;
         }
+        if (drainThreshold != that.drainThreshold) {
+            return false;
+        }
 
         return connectionFactory.equals(that.connectionFactory);
     }
@@ -347,6 +421,7 @@ public class HttpUrlConnectorProvider implements ConnectorProvider {
         int result = connectionFactory.hashCode();
         result = 31 * result + chunkSize;
         result = 31 * result + (useFixedLengthStreaming ? 1 : 0);
+        result = 31 * result + drainThreshold;
         return result;
     }
 }
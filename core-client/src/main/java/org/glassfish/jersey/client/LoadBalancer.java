@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.UriBuilder;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+
+/**
+ * Client side load balancer spreading the requests to a logical service URI over a set of endpoints, enabled by
+ * setting the {@link ClientProperties#LOAD_BALANCER} property or by registering
+ * {@link org.glassfish.jersey.client.http.LoadBalancingFeature}.
+ * <p>
+ * Requests whose URI has the scheme, host and port of the service URI are sent to one of the endpoints chosen by
+ * the {@link Strategy strategy}; the path of the service URI is replaced by the path of the endpoint URI. Requests
+ * to other URIs are not affected. Since requests are sent directly to the endpoints, the connector keeps a warm
+ * connection pool per endpoint.
+ * </p>
+ * <pre>
+ * LoadBalancer balancer = LoadBalancer.builder(URI.create("http://orders"))
+ *         .endpoint(URI.create("http://10.0.0.1:8080"))
+ *         .endpoint(URI.create("http://10.0.0.2:8080"))
+ *         .strategy(LoadBalancer.Strategy.POWER_OF_TWO_CHOICES)
+ *         .build();
+ * client.register(new LoadBalancingFeature(balancer)).target("http://orders/api").request().get();
+ * </pre>
+ * <p>
+ * Endpoints are ejected for the ejection time after a number of consecutive request failures (i.e. a failed
+ * connection attempt or another I/O error) or once their exponentially weighted rate of {@code 5xx} responses exceeds
+ * the threshold. Read timeouts and failures not caused by I/O, such as entity processing errors, do not count. If all
+ * endpoints are ejected, all of them are used.
+ * </p>
+ *
+ * @since 2.46
+ */
+public final class LoadBalancer {
+
+    /**
+     * Endpoint selection strategy.
+     */
+    public enum Strategy {
+        /**
+         * Healthy endpoints are used in turn.
+         */
+        ROUND_ROBIN,
+        /**
+         * The healthy endpoint with the least outstanding requests is used.
+         */
+        LEAST_OUTSTANDING,
+        /**
+         * Two random healthy endpoints are picked and the one with less outstanding requests is used.
+         */
+        POWER_OF_TWO_CHOICES
+    }
+
+    private static final double ERROR_RATE_WEIGHT = 0.1;
+    private static final int MIN_ERROR_RATE_SAMPLES = 10;
+
+    private final URI service;
+    private final List<Endpoint> endpoints;
+    private final Strategy strategy;
+    private final int maxFailures;
+    private final double maxErrorRate;
+    private final long ejectionTime;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private LoadBalancer(final Builder builder) {
+        this.service = builder.service;
+        final List<Endpoint> endpoints = new ArrayList<>();
+        for (final URI uri : builder.endpoints) {
+            endpoints.add(new Endpoint(uri));
+        }
+        this.endpoints = Collections.unmodifiableList(endpoints);
+        this.strategy = builder.strategy;
+        this.maxFailures = builder.maxFailures;
+        this.maxErrorRate = builder.maxErrorRate;
+        this.ejectionTime = builder.ejectionTime;
+    }
+
+    /**
+     * Create new load balancer builder.
+     *
+     * @param service logical service URI requests to which are balanced.
+     * @return load balancer builder.
+     */
+    public static Builder builder(final URI service) {
+        return new Builder(service);
+    }
+
+    /**
+     * Get logical service URI.
+     *
+     * @return service URI.
+     */
+    public URI getService() {
+        return service;
+    }
+
+    /**
+     * Get URIs of all endpoints.
+     *
+     * @return endpoint URIs.
+     */
+    public List<URI> getEndpoints() {
+        final List<URI> uris = new ArrayList<>();
+        for (final Endpoint endpoint : endpoints) {
+            uris.add(endpoint.uri);
+        }
+        return uris;
+    }
+
+    /**
+     * Get URIs of the endpoints that are not ejected.
+     *
+     * @return healthy endpoint URIs.
+     */
+    public List<URI> getHealthyEndpoints() {
+        final long now = System.nanoTime();
+        final List<URI> uris = new ArrayList<>();
+        for (final Endpoint endpoint : endpoints) {
+            if (endpoint.isHealthy(now)) {
+                uris.add(endpoint.uri);
+            }
+        }
+        return uris;
+    }
+
+    /**
+     * Check whether requests to the URI are balanced by this load balancer.
+     */
+    boolean matches(final URI uri) {
+        return port(service) == port(uri)
+                && service.getScheme().equalsIgnoreCase(uri.getScheme())
+                && service.getHost().equalsIgnoreCase(uri.getHost());
+    }
+
+    /**
+     * Select an endpoint for a request.
+     */
+    Endpoint select() {
+        final long now = System.nanoTime();
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        for (final Endpoint endpoint : endpoints) {
+            if (endpoint.isHealthy(now)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // panic mode, better try an ejected endpoint than fail
+            candidates = endpoints;
+        }
+
+        final int size = candidates.size();
+        switch (strategy) {
+            case LEAST_OUTSTANDING:
+                final int offset = next.getAndIncrement() & Integer.MAX_VALUE;
+                Endpoint least = null;
+                for (int i = 0; i < size; i++) {
+                    final Endpoint endpoint = candidates.get((offset + i) % size);
+                    if (least == null || endpoint.outstanding.get() < least.outstanding.get()) {
+                        least = endpoint;
+                    }
+                }
+                return least;
+            case POWER_OF_TWO_CHOICES:
+                if (size == 1) {
+                    return candidates.get(0);
+                }
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                final int first = random.nextInt(size);
+                final int second = (first + 1 + random.nextInt(size - 1)) % size;
+                final Endpoint a = candidates.get(first);
+                final Endpoint b = candidates.get(second);
+                return a.outstanding.get() <= b.outstanding.get() ? a : b;
+            default:
+                return candidates.get((next.getAndIncrement() & Integer.MAX_VALUE) % size);
+        }
+    }
+
+    /**
+     * Get the URI a request to the service URI is sent to when the given endpoint is selected.
+     */
+    URI rewrite(final URI uri, final Endpoint endpoint) {
+        String path = uri.getRawPath();
+        final String servicePath = service.getRawPath();
+        if (servicePath != null && !servicePath.isEmpty() && path != null && path.startsWith(servicePath)) {
+            path = path.substring(servicePath.length());
+        }
+        String endpointPath = endpoint.uri.getRawPath() == null ? "" : endpoint.uri.getRawPath();
+        if (endpointPath.endsWith("/") && path != null && path.startsWith("/")) {
+            endpointPath = endpointPath.substring(0, endpointPath.length() - 1);
+        }
+        return UriBuilder.fromUri(uri)
+                .scheme(endpoint.uri.getScheme())
+                .host(endpoint.uri.getHost())
+                .port(endpoint.uri.getPort())
+                .replacePath(endpointPath + (path == null ? "" : path))
+                .build();
+    }
+
+    /**
+     * Record the response status received from an endpoint.
+     */
+    void completed(final Endpoint endpoint, final int status) {
+        endpoint.record(status >= 500, false);
+    }
+
+    /**
+     * Record a failure of a request sent to an endpoint. Only connection and I/O failures count.
+     */
+    void failed(final Endpoint endpoint, final Throwable failure) {
+        if (isConnectionFailure(failure)) {
+            endpoint.record(true, true);
+        }
+    }
+
+    private static boolean isConnectionFailure(final Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof InterruptedIOException) {
+                // timeouts, only a connect timeout tells anything about the endpoint
+                return cause.getClass().getSimpleName().contains("Connect");
+            }
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int port(final URI uri) {
+        final int port = uri.getPort();
+        if (port != -1) {
+            return port;
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    /**
+     * Balanced endpoint and its health.
+     */
+    final class Endpoint {
+
+        private final URI uri;
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        private int failures;
+        private int samples;
+        private double errorRate;
+        private volatile long ejectedUntil;
+
+        private Endpoint(final URI uri) {
+            this.uri = uri;
+        }
+
+        void start() {
+            outstanding.incrementAndGet();
+        }
+
+        void end() {
+            outstanding.decrementAndGet();
+        }
+
+        private boolean isHealthy(final long now) {
+            final long until = ejectedUntil;
+            return until == 0 || now - until >= 0;
+        }
+
+        private synchronized void record(final boolean error, final boolean failure) {
+            failures = failure ? failures + 1 : 0;
+            errorRate = errorRate * (1 - ERROR_RATE_WEIGHT) + (error ? ERROR_RATE_WEIGHT : 0);
+            samples++;
+
+            if (failures >= maxFailures || samples >= MIN_ERROR_RATE_SAMPLES && errorRate > maxErrorRate) {
+                ejectedUntil = System.nanoTime() + ejectionTime;
+                // start over once re-admitted
+                failures = 0;
+                samples = 0;
+                errorRate = 0;
+            }
+        }
+    }
+
+    /**
+     * Builder of {@link LoadBalancer}.
+     */
+    public static final class Builder {
+
+        private final URI service;
+        private final List<URI> endpoints = new ArrayList<>();
+        private Strategy strategy = Strategy.ROUND_ROBIN;
+        private int maxFailures = 3;
+        private double maxErrorRate = 0.5;
+        private long ejectionTime = TimeUnit.SECONDS.toNanos(30);
+
+        private Builder(final URI service) {
+            this.service = service;
+        }
+
+        /**
+         * Add an endpoint.
+         *
+         * @param endpoint endpoint URI, with or without a path.
+         * @return updated builder.
+         */
+        public Builder endpoint(final URI endpoint) {
+            endpoints.add(endpoint);
+            return this;
+        }
+
+        /**
+         * Set endpoint selection strategy, {@link Strategy#ROUND_ROBIN} by default.
+         *
+         * @param strategy selection strategy.
+         * @return updated builder.
+         */
+        public Builder strategy(final Strategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        /**
+         * Set conditions of ejecting an endpoint. By default an endpoint is ejected for {@code 30} seconds after
+         * {@code 3} consecutive failures or once its {@code 5xx} response rate exceeds {@code 0.5}.
+         *
+         * @param maxFailures  number of consecutive request failures ejecting an endpoint.
+         * @param maxErrorRate rate of {@code 5xx} responses and failures ejecting an endpoint, between {@code 0} and
+         *                     {@code 1}.
+         * @param time         time an endpoint stays ejected.
+         * @param unit         time unit of the ejection time.
+         * @return updated builder.
+         */
+        public Builder ejection(final int maxFailures, final double maxErrorRate, final long time, final TimeUnit unit) {
+            if (maxFailures < 1 || maxErrorRate < 0 || time < 0) {
+                throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("ejection"));
+            }
+            this.maxFailures = maxFailures;
+            this.maxErrorRate = maxErrorRate;
+            this.ejectionTime = unit.toNanos(time);
+            return this;
+        }
+
+        /**
+         * Build the load balancer.
+         *
+         * @return new load balancer.
+         * @throws IllegalStateException if no endpoint has been added.
+         */
+        public LoadBalancer build() {
+            if (endpoints.isEmpty()) {
+                throw new IllegalStateException(LocalizationMessages.LOAD_BALANCER_NO_ENDPOINTS(service));
+            }
+            return new LoadBalancer(this);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.net.URI;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+
+/**
+ * Connector decorator sending requests to the service URI of a {@link LoadBalancer} to one of its endpoints.
+ * The request URI is rewritten right before the request is handed over to the connector, so a retried request
+ * selects an endpoint again.
+ *
+ * @see ClientProperties#LOAD_BALANCER
+ */
+final class LoadBalancingConnector implements Connector {
+
+    private final Connector connector;
+    private final LoadBalancer balancer;
+
+    private LoadBalancingConnector(final Connector connector, final LoadBalancer balancer) {
+        this.connector = connector;
+        this.balancer = balancer;
+    }
+
+    /**
+     * Decorate the connector if a load balancer is set in the configuration.
+     *
+     * @param connector     connector to be decorated.
+     * @param configuration client runtime configuration.
+     * @return decorated connector or the connector itself if no load balancer is set.
+     */
+    static Connector wrap(final Connector connector, final ClientConfig configuration) {
+        final LoadBalancer balancer = ClientProperties.getValue(configuration.getProperties(),
+                ClientProperties.LOAD_BALANCER, LoadBalancer.class);
+        return balancer == null ? connector : new LoadBalancingConnector(connector, balancer);
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        final URI uri = request.getUri();
+        if (!balancer.matches(uri)) {
+            return connector.apply(request);
+        }
+
+        final LoadBalancer.Endpoint endpoint = balancer.select();
+        request.setUri(balancer.rewrite(uri, endpoint));
+        endpoint.start();
+        try {
+            final ClientResponse response = connector.apply(request);
+            balancer.completed(endpoint, response.getStatus());
+            return response;
+        } catch (final ProcessingException e) {
+            balancer.failed(endpoint, e);
+            throw e;
+        } finally {
+            endpoint.end();
+        }
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        final URI uri = request.getUri();
+        if (!balancer.matches(uri)) {
+            return connector.apply(request, callback);
+        }
+
+        final LoadBalancer.Endpoint endpoint = balancer.select();
+        request.setUri(balancer.rewrite(uri, endpoint));
+        endpoint.start();
+        final AtomicBoolean done = new AtomicBoolean();
+        try {
+            return connector.apply(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    if (done.compareAndSet(false, true)) {
+                        endpoint.end();
+                        balancer.completed(endpoint, response.getStatus());
+                    }
+                    callback.response(response);
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    if (done.compareAndSet(false, true)) {
+                        endpoint.end();
+                        balancer.failed(endpoint, failure);
+                    }
+                    callback.failure(failure);
+                }
+            });
+        } catch (final RuntimeException | Error e) {
+            if (done.compareAndSet(false, true)) {
+                endpoint.end();
+                balancer.failed(endpoint, e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return connector.getName();
+    }
+
+    @Override
+    public void close() {
+        connector.close();
+    }
+}
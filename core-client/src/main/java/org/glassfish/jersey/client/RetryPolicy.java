@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+
+/**
+ * Policy of retrying and hedging client requests, enabled by setting the {@link ClientProperties#RETRY_POLICY} property
+ * or by registering {@link org.glassfish.jersey.client.http.RetryFeature}.
+ * <p>
+ * Requests using idempotent methods are retried with exponential backoff and full jitter if they fail with
+ * a {@link ProcessingException} or receive a response with one of the retryable status codes. If hedging is enabled,
+ * a duplicate (hedged) request is sent when no response has arrived after a fixed delay or after a percentile of
+ * the observed response latencies. The first acceptable response wins and the remaining attempts are cancelled.
+ * </p>
+ * <p>
+ * Retries and hedged requests are limited by a retry budget: every request earns a fraction of a token, every
+ * retry or hedged request spends a whole token, so that retries cannot multiply the load of an overloaded server.
+ * The budget and the {@link #getMetrics() metrics} are held by the policy instance, which should therefore not be
+ * shared by unrelated clients.
+ * </p>
+ * <pre>
+ * RetryPolicy policy = RetryPolicy.builder()
+ *         .maxRetries(2)
+ *         .backoff(50, 1000, TimeUnit.MILLISECONDS)
+ *         .hedgeAtPercentile(95, 100, TimeUnit.MILLISECONDS)
+ *         .build();
+ * Client client = ClientBuilder.newClient().register(new RetryFeature(policy));
+ * </pre>
+ *
+ * @since 2.46
+ */
+public final class RetryPolicy {
+
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(Arrays.asList(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE, "TRACE"));
+
+    private static final int LATENCY_SAMPLES = 1024;
+    private static final int MIN_LATENCY_SAMPLES = 32;
+    private static final int TOKEN = 1000;
+
+    private final int maxRetries;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final Set<Integer> retryStatuses;
+    private final long hedgeDelay;
+    private final double hedgePercentile;
+    private final int maxHedges;
+    private final long budgetDeposit;
+    private final long budgetCapacity;
+
+    private final AtomicLong budget;
+    private final Metrics metrics = new Metrics();
+
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private volatile long percentileDelay = -1;
+
+    private RetryPolicy(final Builder builder) {
+        this.maxRetries = builder.maxRetries;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.retryStatuses = new HashSet<>(builder.retryStatuses);
+        this.hedgeDelay = builder.hedgeDelay;
+        this.hedgePercentile = builder.hedgePercentile;
+        this.maxHedges = builder.maxHedges;
+        this.budgetDeposit = Math.round(builder.budgetRatio * TOKEN);
+        this.budgetCapacity = builder.budgetTokens * (long) TOKEN;
+        this.budget = new AtomicLong(budgetCapacity);
+    }
+
+    /**
+     * Create new policy builder.
+     *
+     * @return policy builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get metrics of the requests executed with this policy.
+     *
+     * @return retry and hedging metrics.
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Check whether a request can be retried or hedged according to this policy.
+     */
+    boolean appliesTo(final ClientRequest request) {
+        if (!IDEMPOTENT_METHODS.contains(request.getMethod())) {
+            return false;
+        }
+        // streams cannot be sent repeatedly
+        final Object entity = request.getEntity();
+        return !(entity instanceof InputStream || entity instanceof Reader);
+    }
+
+    boolean isHedging() {
+        return maxHedges > 0;
+    }
+
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    int getMaxHedges() {
+        return maxHedges;
+    }
+
+    boolean isRetryable(final int status) {
+        return retryStatuses.contains(status);
+    }
+
+    boolean isRetryable(final Throwable failure) {
+        return failure instanceof ProcessingException;
+    }
+
+    /**
+     * Get delay of the next retry in milliseconds.
+     *
+     * @param retry number of the retry starting from {@code 1}.
+     */
+    long backoff(final int retry) {
+        final long ceiling = Math.min(maxBackoff, initialBackoff << Math.min(retry - 1, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Get delay of a hedged request in milliseconds.
+     */
+    long hedgeDelay() {
+        final long delay = percentileDelay;
+        return delay < 0 ? hedgeDelay : delay;
+    }
+
+    /**
+     * Record latency of a request attempt in milliseconds.
+     */
+    void recordLatency(final long latency) {
+        if (hedgePercentile <= 0) {
+            return;
+        }
+        synchronized (latencies) {
+            latencies[latencyCount++ % LATENCY_SAMPLES] = latency;
+            // recompute the percentile periodically, not on every request
+            if (latencyCount >= MIN_LATENCY_SAMPLES && latencyCount % MIN_LATENCY_SAMPLES == 0) {
+                final long[] sorted = Arrays.copyOf(latencies, Math.min(latencyCount, LATENCY_SAMPLES));
+                Arrays.sort(sorted);
+                final int index = (int) Math.ceil(hedgePercentile / 100 * sorted.length) - 1;
+                percentileDelay = sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+            }
+            if (latencyCount == 2 * LATENCY_SAMPLES) {
+                latencyCount = LATENCY_SAMPLES;
+            }
+        }
+    }
+
+    /**
+     * Deposit the retry budget share of a request.
+     */
+    void deposit() {
+        if (budget.get() < budgetCapacity) {
+            budget.updateAndGet(tokens -> Math.min(budgetCapacity, tokens + budgetDeposit));
+        }
+    }
+
+    /**
+     * Try to withdraw a token from the retry budget.
+     *
+     * @return {@code true} if the budget allows another retry or hedged request.
+     */
+    boolean withdraw() {
+        long tokens;
+        do {
+            tokens = budget.get();
+            if (tokens < TOKEN) {
+                metrics.budgetExhausted.incrementAndGet();
+                return false;
+            }
+        } while (!budget.compareAndSet(tokens, tokens - TOKEN));
+        return true;
+    }
+
+    /**
+     * Metrics of requests executed with a {@link RetryPolicy}.
+     */
+    public static final class Metrics {
+
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong hedgesFired = new AtomicLong();
+        private final AtomicLong hedgesWon = new AtomicLong();
+        private final AtomicLong budgetExhausted = new AtomicLong();
+
+        private Metrics() {
+        }
+
+        /**
+         * Get number of retried request attempts.
+         *
+         * @return number of retries.
+         */
+        public long getRetries() {
+            return retries.get();
+        }
+
+        /**
+         * Get number of hedged requests sent.
+         *
+         * @return number of hedged requests.
+         */
+        public long getHedgesFired() {
+            return hedgesFired.get();
+        }
+
+        /**
+         * Get number of hedged requests that provided the response.
+         *
+         * @return number of winning hedged requests.
+         */
+        public long getHedgesWon() {
+            return hedgesWon.get();
+        }
+
+        /**
+         * Get number of retries and hedged requests not sent because the retry budget was exhausted.
+         *
+         * @return number of requests denied by the retry budget.
+         */
+        public long getBudgetExhausted() {
+            return budgetExhausted.get();
+        }
+
+        void retried() {
+            retries.incrementAndGet();
+        }
+
+        void hedgeFired() {
+            hedgesFired.incrementAndGet();
+        }
+
+        void hedgeWon() {
+            hedgesWon.incrementAndGet();
+        }
+    }
+
+    /**
+     * Builder of {@link RetryPolicy}.
+     */
+    public static final class Builder {
+
+        private int maxRetries = 2;
+        private long initialBackoff = 50;
+        private long maxBackoff = 1000;
+        private Set<Integer> retryStatuses = new HashSet<>(Arrays.asList(502, 503, 504));
+        private long hedgeDelay;
+        private double hedgePercentile;
+        private int maxHedges;
+        private double budgetRatio = 0.1;
+        private int budgetTokens = 10;
+
+        private Builder() {
+        }
+
+        /**
+         * Set maximum number of retries of a request, {@code 2} by default.
+         *
+         * @param maxRetries maximum number of retries, {@code 0} disables retries.
+         * @return updated builder.
+         */
+        public Builder maxRetries(final int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("maxRetries"));
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Set exponential backoff of retries, {@code 50} to {@code 1000} milliseconds by default. The delay of a retry is
+         * chosen randomly between zero and the exponentially growing ceiling (full jitter).
+         *
+         * @param initial delay ceiling of the first retry.
+         * @param max     maximum delay ceiling.
+         * @param unit    time unit of the delays.
+         * @return updated builder.
+         */
+        public Builder backoff(final long initial, final long max, final TimeUnit unit) {
+            if (initial < 0 || max < 0) {
+                throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("backoff"));
+            }
+            this.initialBackoff = unit.toMillis(initial);
+            this.maxBackoff = Math.max(initialBackoff, unit.toMillis(max));
+            return this;
+        }
+
+        /**
+         * Set response status codes causing a retry, {@code 502}, {@code 503} and {@code 504} by default.
+         *
+         * @param statuses retryable status codes.
+         * @return updated builder.
+         */
+        public Builder retryOn(final int... statuses) {
+            this.retryStatuses = new HashSet<>();
+            for (final int status : statuses) {
+                retryStatuses.add(status);
+            }
+            return this;
+        }
+
+        /**
+         * Send a hedged request if no response arrives within the given delay.
+         *
+         * @param delay delay of the hedged request.
+         * @param unit  time unit of the delay.
+         * @return updated builder.
+         */
+        public Builder hedgeAfter(final long delay, final TimeUnit unit) {
+            return hedgeAtPercentile(0, delay, unit);
+        }
+
+        /**
+         * Send a hedged request if no response arrives within the given percentile of the observed latencies of
+         * request attempts. Until enough latencies are observed, the initial delay is used.
+         *
+         * @param percentile   latency percentile, e.g. {@code 95}.
+         * @param initialDelay delay of hedged requests used until enough latencies are observed.
+         * @param unit         time unit of the delay.
+         * @return updated builder.
+         */
+        public Builder hedgeAtPercentile(final double percentile, final long initialDelay, final TimeUnit unit) {
+            if (percentile < 0 || percentile > 100 || initialDelay < 0) {
+                throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("hedge"));
+            }
+            this.hedgePercentile = percentile;
+            this.hedgeDelay = unit.toMillis(initialDelay);
+            if (maxHedges == 0) {
+                maxHedges = 1;
+            }
+            return this;
+        }
+
+        /**
+         * Set maximum number of hedged requests sent for a request, {@code 1} once hedging is enabled.
+         *
+         * @param maxHedges maximum number of hedged requests, {@code 0} disables hedging.
+         * @return updated builder.
+         */
+        public Builder maxHedges(final int maxHedges) {
+            if (maxHedges < 0) {
+                throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("maxHedges"));
+            }
+            this.maxHedges = maxHedges;
+            return this;
+        }
+
+        /**
+         * Set retry budget. Each request earns {@code ratio} tokens, each retry or hedged request spends one token.
+         * The budget holds at most {@code maxTokens} tokens and starts full. By default each request earns
+         * {@code 0.1} tokens and the budget holds {@code 10} tokens.
+         *
+         * @param ratio     tokens earned by a request.
+         * @param maxTokens budget capacity.
+         * @return updated builder.
+         */
+        public Builder retryBudget(final double ratio, final int maxTokens) {
+            if (ratio < 0 || maxTokens < 0) {
+                throw new IllegalArgumentException(LocalizationMessages.NEGATIVE_INPUT_PARAMETER("retryBudget"));
+            }
+            this.budgetRatio = ratio;
+            this.budgetTokens = maxTokens;
+            return this;
+        }
+
+        /**
+         * Build the policy.
+         *
+         * @return new retry policy.
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.internal.util.collection.Value;
+
+/**
+ * Connector decorator retrying and hedging requests according to a {@link RetryPolicy}.
+ * <p>
+ * Without hedging, synchronous requests are retried on the calling thread. With hedging, all request attempts are
+ * sent from the client asynchronous executor using the asynchronous connector contract, so that the response of
+ * a hedged request can be returned while the original attempt is still blocked in the connector.
+ * </p>
+ *
+ * @see ClientProperties#RETRY_POLICY
+ */
+final class RetryingConnector implements Connector {
+
+    private final Connector connector;
+    private final RetryPolicy policy;
+    private final Value<ExecutorService> executor;
+    private final Value<ScheduledExecutorService> scheduler;
+
+    private RetryingConnector(final Connector connector,
+                              final RetryPolicy policy,
+                              final Value<ExecutorService> executor,
+                              final Value<ScheduledExecutorService> scheduler) {
+        this.connector = connector;
+        this.policy = policy;
+        this.executor = executor;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Decorate the connector if a retry policy is set in the configuration.
+     *
+     * @param connector     connector to be decorated.
+     * @param configuration client runtime configuration.
+     * @param executor      executor sending request attempts.
+     * @param scheduler     scheduler of delayed request attempts.
+     * @return decorated connector or the connector itself if no retry policy is set.
+     */
+    static Connector wrap(final Connector connector,
+                          final ClientConfig configuration,
+                          final Value<ExecutorService> executor,
+                          final Value<ScheduledExecutorService> scheduler) {
+        final RetryPolicy policy = ClientProperties.getValue(configuration.getProperties(),
+                ClientProperties.RETRY_POLICY, RetryPolicy.class);
+        return policy == null ? connector : new RetryingConnector(connector, policy, executor, scheduler);
+    }
+
+    @Override
+    public ClientResponse apply(final ClientRequest request) {
+        if (!policy.appliesTo(request)) {
+            return connector.apply(request);
+        }
+        policy.deposit();
+
+        if (policy.isHedging()) {
+            final CompletableFuture<ClientResponse> result = new CompletableFuture<>();
+            new Execution(request, new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                    result.complete(response);
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                    result.completeExceptionally(failure);
+                }
+            }).start();
+            try {
+                return result.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException(e);
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof ProcessingException
+                        ? (ProcessingException) e.getCause()
+                        : new ProcessingException(e.getCause());
+            }
+        }
+
+        final ClientRequest template = new ClientRequest(request);
+        ClientRequest attempt = request;
+        int retries = 0;
+        while (true) {
+            ClientResponse response = null;
+            ProcessingException failure = null;
+            try {
+                response = connector.apply(attempt);
+            } catch (final ProcessingException e) {
+                failure = e;
+            }
+
+            final boolean retryable = response != null
+                    ? policy.isRetryable(response.getStatus())
+                    : policy.isRetryable(failure);
+            if (!retryable || retries >= policy.getMaxRetries() || !policy.withdraw()) {
+                return outcome(response, failure);
+            }
+
+            try {
+                Thread.sleep(policy.backoff(++retries));
+            } catch (final InterruptedException e) {
+                // stop retrying and hand over the outcome of the last attempt
+                Thread.currentThread().interrupt();
+                return outcome(response, failure);
+            }
+            discard(response);
+            policy.getMetrics().retried();
+            attempt = new ClientRequest(template);
+        }
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        if (!policy.appliesTo(request)) {
+            return connector.apply(request, callback);
+        }
+        policy.deposit();
+        return new Execution(request, callback).start();
+    }
+
+    @Override
+    public String getName() {
+        return connector.getName();
+    }
+
+    @Override
+    public void close() {
+        connector.close();
+    }
+
+    private static ClientResponse outcome(final ClientResponse response, final ProcessingException failure) {
+        if (failure != null) {
+            throw failure;
+        }
+        return response;
+    }
+
+    private static void discard(final ClientResponse response) {
+        if (response != null) {
+            try {
+                response.close();
+            } catch (final ProcessingException e) {
+                // response is not needed
+            }
+        }
+    }
+
+    /**
+     * Execution of a request consisting of one or more attempts.
+     */
+    private final class Execution {
+
+        private final ClientRequest template;
+        private final ClientRequest request;
+        private final AsyncConnectorCallback callback;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final List<Attempt> attempts = new ArrayList<>();
+
+        private int retries;
+        private int hedges;
+        private int running;
+        private boolean done;
+        private ScheduledFuture<?> hedgeTimer;
+        private ClientResponse lastResponse;
+        private Throwable lastFailure;
+
+        private Execution(final ClientRequest request, final AsyncConnectorCallback callback) {
+            this.template = new ClientRequest(request);
+            this.request = request;
+            this.callback = callback;
+        }
+
+        private Future<?> start() {
+            if (policy.isHedging()) {
+                scheduleHedge();
+                launch(request, false, true);
+            } else {
+                launch(request, false, false);
+            }
+            return future;
+        }
+
+        private void launch(final ClientRequest attemptRequest, final boolean hedge, final boolean dispatch) {
+            final Attempt attempt = new Attempt(hedge);
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                running++;
+                attempts.add(attempt);
+            }
+
+            final Runnable send = () -> {
+                try {
+                    attempt.setFuture(connector.apply(attemptRequest, attempt));
+                } catch (final Throwable t) {
+                    attempt.failure(t);
+                }
+            };
+            if (dispatch) {
+                executor.get().execute(send);
+            } else {
+                send.run();
+            }
+        }
+
+        private synchronized void scheduleHedge() {
+            if (!done && hedges < policy.getMaxHedges()) {
+                hedgeTimer = scheduler.get().schedule(this::hedge, policy.hedgeDelay(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (done || !policy.withdraw()) {
+                    return;
+                }
+                hedges++;
+            }
+            policy.getMetrics().hedgeFired();
+            launch(new ClientRequest(template), true, true);
+            scheduleHedge();
+        }
+
+        private void completed(final Attempt attempt, final ClientResponse response, final Throwable failure) {
+            if (response != null) {
+                policy.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - attempt.start));
+            }
+
+            final ClientResponse deliverResponse;
+            final Throwable deliverFailure;
+            final List<Attempt> losers;
+            synchronized (this) {
+                running--;
+                if (done) {
+                    discard(response);
+                    return;
+                }
+
+                final boolean retryable = response != null
+                        ? policy.isRetryable(response.getStatus())
+                        : policy.isRetryable(failure);
+                if (retryable) {
+                    // keep the latest outcome in case there is nothing left to try
+                    discard(lastResponse);
+                    lastResponse = response;
+                    lastFailure = failure;
+                    if (running > 0) {
+                        return;
+                    }
+                    if (retries < policy.getMaxRetries() && policy.withdraw()) {
+                        retries++;
+                        policy.getMetrics().retried();
+                        scheduler.get().schedule(() -> launch(new ClientRequest(template), false, true),
+                                policy.backoff(retries), TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                    deliverResponse = lastResponse;
+                    deliverFailure = lastFailure;
+                } else {
+                    deliverResponse = response;
+                    deliverFailure = failure;
+                    discard(lastResponse);
+                    if (attempt.hedge && response != null) {
+                        policy.getMetrics().hedgeWon();
+                    }
+                }
+
+                done = true;
+                lastResponse = null;
+                if (hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+                losers = new ArrayList<>(attempts);
+                losers.remove(attempt);
+            }
+
+            for (final Attempt loser : losers) {
+                loser.cancel();
+            }
+            if (deliverResponse != null) {
+                callback.response(deliverResponse);
+                future.complete(null);
+            } else {
+                callback.failure(deliverFailure);
+                future.completeExceptionally(deliverFailure);
+            }
+        }
+
+        /**
+         * A single request attempt.
+         */
+        private final class Attempt implements AsyncConnectorCallback {
+
+            private final boolean hedge;
+            private final long start = System.nanoTime();
+            private Future<?> connectorFuture;
+            private boolean cancelled;
+            private boolean completed;
+
+            private Attempt(final boolean hedge) {
+                this.hedge = hedge;
+            }
+
+            private void setFuture(final Future<?> connectorFuture) {
+                final boolean cancel;
+                synchronized (this) {
+                    this.connectorFuture = connectorFuture;
+                    cancel = cancelled && !completed;
+                }
+                if (cancel && connectorFuture != null) {
+                    connectorFuture.cancel(true);
+                }
+            }
+
+            private void cancel() {
+                final Future<?> cancel;
+                synchronized (this) {
+                    cancelled = true;
+                    cancel = completed ? null : connectorFuture;
+                }
+                if (cancel != null) {
+                    cancel.cancel(true);
+                }
+            }
+
+            private boolean complete() {
+                synchronized (this) {
+                    if (completed) {
+                        return false;
+                    }
+                    completed = true;
+                    return true;
+                }
+            }
+
+            @Override
+            public void response(final ClientResponse response) {
+                if (complete()) {
+                    completed(this, response, null);
+                } else {
+                    discard(response);
+                }
+            }
+
+            @Override
+            public void failure(final Throwable failure) {
+                if (complete()) {
+                    completed(this, null, failure);
+                }
+            }
+        }
+    }
+}
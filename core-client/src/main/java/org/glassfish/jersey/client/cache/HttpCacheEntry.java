@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An immutable HTTP response stored in a {@link HttpCacheStore}. The entry holds the response status, headers and the
+ * raw (not decoded) entity bytes together with the values of the request headers the response varies on and the times
+ * the response was requested and received, which are needed to calculate the age of the response.
+ *
+ * @since 2.46
+ */
+public final class HttpCacheEntry {
+
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final Map<String, String> varyHeaders;
+    private final long requestTime;
+    private final long responseTime;
+    private final ByteBuffer entity;
+
+    /**
+     * Create new cache entry.
+     *
+     * @param status       response status code.
+     * @param headers      response headers.
+     * @param varyHeaders  values of the request headers listed in the {@code Vary} response header keyed by lower-case
+     *                     header name, a {@code null} value denotes a header not present in the request.
+     * @param requestTime  time in milliseconds the request was sent.
+     * @param responseTime time in milliseconds the response was received.
+     * @param entity       response entity bytes, the buffer is not copied and must not be modified afterwards.
+     */
+    public HttpCacheEntry(final int status,
+                          final Map<String, List<String>> headers,
+                          final Map<String, String> varyHeaders,
+                          final long requestTime,
+                          final long responseTime,
+                          final ByteBuffer entity) {
+        this.status = status;
+        final Map<String, List<String>> copy = new LinkedHashMap<>();
+        for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+            copy.put(header.getKey(), Collections.unmodifiableList(new ArrayList<>(header.getValue())));
+        }
+        this.headers = Collections.unmodifiableMap(copy);
+        this.varyHeaders = Collections.unmodifiableMap(new HashMap<>(varyHeaders));
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+        this.entity = entity.asReadOnlyBuffer();
+    }
+
+    /**
+     * Get response status code.
+     *
+     * @return status code.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Get immutable map of response headers.
+     *
+     * @return response headers.
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the first value of a response header.
+     *
+     * @param name header name, case insensitive.
+     * @return first header value or {@code null} if the header is not present.
+     */
+    public String getHeader(final String name) {
+        for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get all values of a response header joined by a comma.
+     *
+     * @param name header name, case insensitive.
+     * @return header values or {@code null} if the header is not present.
+     */
+    String getHeaderString(final String name) {
+        StringBuilder result = null;
+        for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                for (final String value : header.getValue()) {
+                    result = result == null ? new StringBuilder(value) : result.append(',').append(value);
+                }
+            }
+        }
+        return result == null ? null : result.toString();
+    }
+
+    /**
+     * Get values of the request headers the response varies on keyed by lower-case header name.
+     *
+     * @return request header values.
+     */
+    public Map<String, String> getVaryHeaders() {
+        return varyHeaders;
+    }
+
+    /**
+     * Get time in milliseconds the request was sent.
+     *
+     * @return request time.
+     */
+    public long getRequestTime() {
+        return requestTime;
+    }
+
+    /**
+     * Get time in milliseconds the response was received.
+     *
+     * @return response time.
+     */
+    public long getResponseTime() {
+        return responseTime;
+    }
+
+    /**
+     * Get read-only view of the entity bytes.
+     *
+     * @return entity bytes.
+     */
+    public ByteBuffer getEntity() {
+        return entity.duplicate();
+    }
+
+    /**
+     * Get new stream reading the entity bytes.
+     *
+     * @return entity stream.
+     */
+    public InputStream getEntityStream() {
+        final ByteBuffer buffer = getEntity();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                final int count = Math.min(len, buffer.remaining());
+                buffer.get(b, off, count);
+                return count;
+            }
+
+            @Override
+            public long skip(final long n) {
+                final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+                buffer.position(buffer.position() + count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return buffer.remaining();
+            }
+        };
+    }
+
+    /**
+     * Get approximate number of bytes occupied by this entry.
+     *
+     * @return entry size.
+     */
+    public long size() {
+        long size = entity.remaining();
+        for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (final String value : header.getValue()) {
+                size += header.getKey().length() + value.length();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Check whether the response stored in this entry has been selected by a request with the given header values.
+     *
+     * @param requestHeaders function returning request header value for a header name or {@code null} if not present.
+     * @return {@code true} if the stored response can be used for the request.
+     */
+    boolean matches(final Function<String, String> requestHeaders) {
+        for (final Map.Entry<String, String> vary : varyHeaders.entrySet()) {
+            final String value = requestHeaders.apply(vary.getKey());
+            if (value == null ? vary.getValue() != null : !value.equals(vary.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create an entry updated with headers of a {@code 304 Not Modified} response received when the entry was validated.
+     *
+     * @param notModifiedHeaders headers of the {@code 304} response.
+     * @param requestTime        time the validation request was sent.
+     * @param responseTime       time the validation response was received.
+     * @return updated entry.
+     */
+    HttpCacheEntry update(final Map<String, List<String>> notModifiedHeaders, final long requestTime, final long responseTime) {
+        final Map<String, List<String>> updated = new LinkedHashMap<>(headers);
+        for (final Map.Entry<String, List<String>> header : notModifiedHeaders.entrySet()) {
+            final String name = header.getKey();
+            if (name == null || "content-length".equals(name.toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            updated.keySet().removeIf(name::equalsIgnoreCase);
+            updated.put(name, header.getValue());
+        }
+        return new HttpCacheEntry(status, updated, varyHeaders, requestTime, responseTime, entity);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+
+/**
+ * Feature enabling a private HTTP response cache on the client side. Responses to {@code GET} requests are stored
+ * in a {@link HttpCacheStore} and served from it according to the caching rules of
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>: fresh responses are returned without contacting the
+ * server, stale responses are revalidated using the {@code ETag} and {@code Last-Modified} validators.
+ * <pre>
+ * Client client = ClientBuilder.newClient()
+ *         .register(new HttpCacheFeature(new InMemoryHttpCacheStore(64 * 1024 * 1024)));
+ * </pre>
+ * All requests of a client share the store of the registered feature instance. The same store instance may also be
+ * shared by several clients.
+ *
+ * @since 2.46
+ */
+public class HttpCacheFeature implements Feature {
+
+    /**
+     * Default maximum size of the in-memory store used when no store is specified, {@value} bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Default maximum size of a cached response entity, {@value} bytes. Larger responses are not cached.
+     */
+    public static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+    private final HttpCacheStore store;
+    private final int maxEntrySize;
+
+    /**
+     * Create new feature caching responses in an {@link InMemoryHttpCacheStore} of the {@link #DEFAULT_MAX_SIZE default}
+     * size.
+     */
+    public HttpCacheFeature() {
+        this(new InMemoryHttpCacheStore(DEFAULT_MAX_SIZE));
+    }
+
+    /**
+     * Create new feature caching responses in the given store.
+     *
+     * @param store cache store.
+     */
+    public HttpCacheFeature(final HttpCacheStore store) {
+        this(store, DEFAULT_MAX_ENTRY_SIZE);
+    }
+
+    /**
+     * Create new feature caching responses in the given store.
+     *
+     * @param store        cache store.
+     * @param maxEntrySize maximum size of a cached response entity in bytes.
+     */
+    public HttpCacheFeature(final HttpCacheStore store, final int maxEntrySize) {
+        if (maxEntrySize <= 0) {
+            throw new IllegalArgumentException(LocalizationMessages.HTTP_CACHE_SIZE_INVALID(maxEntrySize));
+        }
+        this.store = store;
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    /**
+     * Get the store used by this feature.
+     *
+     * @return cache store.
+     */
+    public HttpCacheStore getStore() {
+        return store;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        context.register(new HttpCacheFilter(store, maxEntrySize));
+        return true;
+    }
+}
@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Priority;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.message.internal.HttpDateFormat;
+
+/**
+ * Client filter implementing a private HTTP cache as specified by
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+ * <p>
+ * {@code GET} requests are answered from the {@link HttpCacheStore store} without reaching the network as long as the
+ * stored response is fresh. A stale response is revalidated with a conditional request ({@code If-None-Match} and/or
+ * {@code If-Modified-Since}) and served from the store if the server answers {@code 304 Not Modified}. Responses are
+ * stored as they are read by the application, i.e. the entity is never buffered ahead of the application. Successful
+ * requests using unsafe methods invalidate the entry stored for the request URI.
+ * </p>
+ * <p>
+ * Requests carrying their own conditional or {@code Range} headers bypass the cache.
+ * </p>
+ * <p>
+ * The filter runs after user filters of the default priority, so that it sees the request as it is going to be sent
+ * and the response as it has been received.
+ * </p>
+ */
+@Priority(Priorities.USER + 1000)
+final class HttpCacheFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    private static final String REQUEST_TIME_PROPERTY = HttpCacheFilter.class.getName() + ".requestTime";
+    private static final String ENTRY_PROPERTY = HttpCacheFilter.class.getName() + ".entry";
+    private static final String CACHED_PROPERTY = HttpCacheFilter.class.getName() + ".cached";
+
+    private static final List<String> BYPASS_HEADERS = Arrays.asList(
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_UNMODIFIED_SINCE, "If-Range", "Range");
+
+    private static final Set<String> SAFE_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, "TRACE")));
+
+    /**
+     * Status codes defined as heuristically cacheable, RFC 9110, section 15.1. Partial content is not cached.
+     */
+    private static final Set<Integer> HEURISTICALLY_CACHEABLE = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501)));
+
+    private final HttpCacheStore store;
+    private final int maxEntrySize;
+
+    /**
+     * Create new cache filter.
+     *
+     * @param store        cache store.
+     * @param maxEntrySize maximum size of a cached entity in bytes.
+     */
+    HttpCacheFilter(final HttpCacheStore store, final int maxEntrySize) {
+        this.store = store;
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    @Override
+    public void filter(final ClientRequestContext request) {
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return;
+        }
+        for (final String header : BYPASS_HEADERS) {
+            if (request.getHeaders().containsKey(header)) {
+                return;
+            }
+        }
+
+        final CacheControl requestCacheControl = cacheControl(request.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        if (requestCacheControl != null && requestCacheControl.isNoStore()) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        request.setProperty(REQUEST_TIME_PROPERTY, now);
+
+        final HttpCacheEntry entry = store.get(key(request.getUri()));
+        final boolean onlyIfCached = requestCacheControl != null
+                && requestCacheControl.getCacheExtension().containsKey("only-if-cached");
+        if (entry == null || !entry.matches(request::getHeaderString)) {
+            if (onlyIfCached) {
+                request.abortWith(Response.status(Response.Status.GATEWAY_TIMEOUT).build());
+            }
+            return;
+        }
+
+        final CacheControl responseCacheControl = cacheControl(entry.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        final long age = currentAge(entry, now);
+        if (!noCache(request, requestCacheControl)
+                && (responseCacheControl == null || !responseCacheControl.isNoCache())
+                && isFresh(requestCacheControl, responseCacheControl, freshnessLifetime(entry, responseCacheControl), age)) {
+            request.setProperty(ENTRY_PROPERTY, entry);
+            request.setProperty(CACHED_PROPERTY, true);
+            request.abortWith(toResponse(entry, age));
+            return;
+        }
+
+        if (onlyIfCached) {
+            request.abortWith(Response.status(Response.Status.GATEWAY_TIMEOUT).build());
+            return;
+        }
+
+        final String etag = entry.getHeader(HttpHeaders.ETAG);
+        final String lastModified = entry.getHeader(HttpHeaders.LAST_MODIFIED);
+        if (etag != null) {
+            request.getHeaders().putSingle(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        if (lastModified != null) {
+            request.getHeaders().putSingle(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+        if (etag != null || lastModified != null) {
+            request.setProperty(ENTRY_PROPERTY, entry);
+        }
+    }
+
+    @Override
+    public void filter(final ClientRequestContext request, final ClientResponseContext response) throws IOException {
+        final String key = key(request.getUri());
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            // RFC 9111, section 4.4
+            if (!SAFE_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+                store.remove(key);
+            }
+            return;
+        }
+
+        final Object requestTime = request.getProperty(REQUEST_TIME_PROPERTY);
+        if (requestTime == null) {
+            // cache bypassed
+            return;
+        }
+
+        final HttpCacheEntry entry = (HttpCacheEntry) request.getProperty(ENTRY_PROPERTY);
+        if (request.getProperty(CACHED_PROPERTY) != null) {
+            response.setEntityStream(entry.getEntityStream());
+            return;
+        }
+
+        final long responseTime = System.currentTimeMillis();
+        if (entry != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            final HttpCacheEntry updated = entry.update(response.getHeaders(), (Long) requestTime, responseTime);
+            store.put(key, updated);
+
+            final InputStream notModifiedStream = response.getEntityStream();
+            if (notModifiedStream != null) {
+                notModifiedStream.close();
+            }
+            response.setStatus(updated.getStatus());
+            response.getHeaders().clear();
+            for (final Map.Entry<String, List<String>> header : updated.getHeaders().entrySet()) {
+                response.getHeaders().addAll(header.getKey(), header.getValue());
+            }
+            response.setEntityStream(updated.getEntityStream());
+            return;
+        }
+
+        final CacheControl cacheControl = cacheControl(response.getHeaders().get(HttpHeaders.CACHE_CONTROL));
+        if (!isStorable(response, cacheControl)) {
+            if (entry != null && response.getStatus() < 500) {
+                store.remove(key);
+            }
+            return;
+        }
+
+        final Map<String, String> varyHeaders = new HashMap<>();
+        final List<String> vary = response.getHeaders().get(HttpHeaders.VARY);
+        if (vary != null) {
+            for (final String values : vary) {
+                for (final String name : values.split(",")) {
+                    final String field = name.trim().toLowerCase(Locale.ROOT);
+                    if (!field.isEmpty()) {
+                        varyHeaders.put(field, request.getHeaderString(field));
+                    }
+                }
+            }
+        }
+
+        final boolean hasEntity = response.hasEntity();
+        final CachingInputStream stream = new CachingInputStream(
+                response.getEntityStream(), key, response, varyHeaders, (Long) requestTime, responseTime);
+        if (hasEntity) {
+            response.setEntityStream(stream);
+        } else {
+            stream.store(new byte[0]);
+        }
+    }
+
+    private boolean isStorable(final ClientResponseContext response, final CacheControl cacheControl) {
+        if (cacheControl != null && cacheControl.isNoStore()) {
+            return false;
+        }
+        final MultivaluedMap<String, String> headers = response.getHeaders();
+        final List<String> vary = headers.get(HttpHeaders.VARY);
+        if (vary != null && vary.stream().anyMatch(value -> value.contains("*"))) {
+            return false;
+        }
+        if (response.getLength() > maxEntrySize) {
+            return false;
+        }
+
+        final boolean explicitFreshness = cacheControl != null && cacheControl.getMaxAge() >= 0
+                || headers.containsKey(HttpHeaders.EXPIRES);
+        if (!explicitFreshness && !HEURISTICALLY_CACHEABLE.contains(response.getStatus())) {
+            return false;
+        }
+        // Without a validator a response that is stale right away is of no use.
+        return cacheControl != null && cacheControl.getMaxAge() > 0
+                || headers.containsKey(HttpHeaders.EXPIRES)
+                || headers.containsKey(HttpHeaders.ETAG)
+                || headers.containsKey(HttpHeaders.LAST_MODIFIED);
+    }
+
+    private static boolean noCache(final ClientRequestContext request, final CacheControl requestCacheControl) {
+        if (requestCacheControl != null) {
+            return requestCacheControl.isNoCache();
+        }
+        final String pragma = request.getHeaderString("Pragma");
+        return pragma != null && pragma.toLowerCase(Locale.ROOT).contains("no-cache");
+    }
+
+    /**
+     * Check freshness of a stored response, RFC 9111, sections 4.2 and 5.2.1.
+     */
+    private static boolean isFresh(final CacheControl requestCacheControl,
+                                   final CacheControl responseCacheControl,
+                                   final long lifetime,
+                                   final long age) {
+        if (requestCacheControl != null) {
+            if (requestCacheControl.getMaxAge() >= 0 && age > requestCacheControl.getMaxAge() * 1000L) {
+                return false;
+            }
+            final Map<String, String> extensions = requestCacheControl.getCacheExtension();
+            if (extensions.containsKey("min-fresh") && lifetime - age < seconds(extensions.get("min-fresh")) * 1000L) {
+                return false;
+            }
+            if (lifetime <= age && extensions.containsKey("max-stale")
+                    && (responseCacheControl == null || !responseCacheControl.isMustRevalidate())) {
+                final String maxStale = extensions.get("max-stale");
+                return maxStale == null || age - lifetime <= seconds(maxStale) * 1000L;
+            }
+        }
+        return lifetime > age;
+    }
+
+    /**
+     * Calculate freshness lifetime of a stored response in milliseconds, RFC 9111, section 4.2.1.
+     */
+    private static long freshnessLifetime(final HttpCacheEntry entry, final CacheControl cacheControl) {
+        if (cacheControl != null && cacheControl.getMaxAge() >= 0) {
+            return cacheControl.getMaxAge() * 1000L;
+        }
+
+        final long date = date(entry.getHeader(HttpHeaders.DATE), entry.getResponseTime());
+        final String expires = entry.getHeader(HttpHeaders.EXPIRES);
+        if (expires != null) {
+            // invalid dates, e.g. "0", represent a time in the past
+            return Math.max(0, date(expires, 0) - date);
+        }
+
+        final String lastModified = entry.getHeader(HttpHeaders.LAST_MODIFIED);
+        if (lastModified != null && HEURISTICALLY_CACHEABLE.contains(entry.getStatus())) {
+            // RFC 9111, section 4.2.2
+            return Math.max(0, (date - date(lastModified, date)) / 10);
+        }
+        return 0;
+    }
+
+    /**
+     * Calculate current age of a stored response in milliseconds, RFC 9111, section 4.2.3.
+     */
+    private static long currentAge(final HttpCacheEntry entry, final long now) {
+        final long apparentAge = Math.max(0, entry.getResponseTime() - date(entry.getHeader(HttpHeaders.DATE),
+                entry.getResponseTime()));
+        final String age = entry.getHeader("Age");
+        final long ageValue = age == null ? 0 : seconds(age) * 1000L;
+        final long correctedAgeValue = ageValue + entry.getResponseTime() - entry.getRequestTime();
+        return Math.max(apparentAge, correctedAgeValue) + now - entry.getResponseTime();
+    }
+
+    private static Response toResponse(final HttpCacheEntry entry, final long age) {
+        final Response.ResponseBuilder builder = Response.status(entry.getStatus());
+        for (final Map.Entry<String, List<String>> header : entry.getHeaders().entrySet()) {
+            if ("age".equalsIgnoreCase(header.getKey())) {
+                continue;
+            }
+            for (final String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        return builder.header("Age", age / 1000).build();
+    }
+
+    private static String key(final URI uri) {
+        return uri.toString();
+    }
+
+    private static CacheControl cacheControl(final List<String> values) {
+        return values == null || values.isEmpty() ? null : cacheControl(String.join(",", values));
+    }
+
+    private static CacheControl cacheControl(final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return CacheControl.valueOf(value);
+        } catch (final IllegalArgumentException e) {
+            // treat an invalid header as uncacheable
+            final CacheControl noStore = new CacheControl();
+            noStore.setNoStore(true);
+            return noStore;
+        }
+    }
+
+    private static long date(final String value, final long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return HttpDateFormat.readDate(value).getTime();
+        } catch (final ParseException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long seconds(final String value) {
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Entity stream copying the entity as it is read by the application. The response is stored once the whole entity
+     * has been read, unless it turns out to be larger than the maximum entry size.
+     */
+    private final class CachingInputStream extends FilterInputStream {
+
+        private final String key;
+        private final int status;
+        private final Map<String, List<String>> headers;
+        private final Map<String, String> varyHeaders;
+        private final long requestTime;
+        private final long responseTime;
+
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private CachingInputStream(final InputStream in,
+                                   final String key,
+                                   final ClientResponseContext response,
+                                   final Map<String, String> varyHeaders,
+                                   final long requestTime,
+                                   final long responseTime) {
+            super(in);
+            this.key = key;
+            this.status = response.getStatus();
+            this.headers = new LinkedHashMap<>();
+            for (final Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+                headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+            this.varyHeaders = varyHeaders;
+            this.requestTime = requestTime;
+            this.responseTime = responseTime;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b == -1) {
+                complete();
+            } else if (buffer != null) {
+                buffer.write(b);
+                checkSize();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read == -1) {
+                complete();
+            } else if (buffer != null) {
+                buffer.write(b, off, read);
+                checkSize();
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            buffer = null;
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(final int readlimit) {
+            // not supported
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                // Entity readers do not necessarily read up to the end of stream.
+                final byte[] remaining = new byte[8192];
+                while (buffer != null && read(remaining, 0, remaining.length) != -1) {
+                    // buffer the rest of the entity
+                }
+            } finally {
+                buffer = null;
+                super.close();
+            }
+        }
+
+        private void checkSize() {
+            if (buffer.size() > maxEntrySize) {
+                buffer = null;
+            }
+        }
+
+        private void complete() {
+            if (buffer != null) {
+                store(buffer.toByteArray());
+                buffer = null;
+            }
+        }
+
+        private void store(final byte[] bytes) {
+            store.put(key, new HttpCacheEntry(status, headers, varyHeaders, requestTime, responseTime, ByteBuffer.wrap(bytes)));
+        }
+    }
+}
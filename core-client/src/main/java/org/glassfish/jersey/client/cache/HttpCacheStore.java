@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+/**
+ * Storage of cached HTTP responses used by {@link HttpCacheFeature}. Entries are keyed by the request URI.
+ * <p>
+ * A store may be shared by all requests of a client as well as by several clients, implementations are therefore
+ * required to be thread-safe.
+ * </p>
+ *
+ * @since 2.46
+ * @see InMemoryHttpCacheStore
+ * @see MappedFileHttpCacheStore
+ */
+public interface HttpCacheStore {
+
+    /**
+     * Get the entry stored for the given key.
+     *
+     * @param key cache key.
+     * @return stored entry or {@code null} if there is no entry for the key.
+     */
+    HttpCacheEntry get(String key);
+
+    /**
+     * Store an entry, replacing any previous entry stored for the same key. A store may decide not to keep the entry,
+     * e.g. because the entry is larger than the store capacity.
+     *
+     * @param key   cache key.
+     * @param entry entry to be stored.
+     */
+    void put(String key, HttpCacheEntry entry);
+
+    /**
+     * Remove the entry stored for the given key, if any.
+     *
+     * @param key cache key.
+     */
+    void remove(String key);
+
+    /**
+     * Remove all stored entries.
+     */
+    void clear();
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+
+/**
+ * {@link HttpCacheStore} keeping entries on the heap. Once the total {@link HttpCacheEntry#size() size} of the stored
+ * entries exceeds the configured maximum, the least recently used entries are evicted.
+ *
+ * @since 2.46
+ */
+public class InMemoryHttpCacheStore implements HttpCacheStore {
+
+    private final long maxSize;
+    private final LinkedHashMap<String, HttpCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Create new in-memory store.
+     *
+     * @param maxSize maximum total size of the stored entries in bytes.
+     */
+    public InMemoryHttpCacheStore(final long maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(LocalizationMessages.HTTP_CACHE_SIZE_INVALID(maxSize));
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public synchronized HttpCacheEntry get(final String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(final String key, final HttpCacheEntry entry) {
+        final long entrySize = entry.size();
+        if (entrySize > maxSize) {
+            remove(key);
+            return;
+        }
+
+        final HttpCacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            size -= previous.size();
+        }
+        size += entrySize;
+
+        final Iterator<Map.Entry<String, HttpCacheEntry>> eldest = entries.entrySet().iterator();
+        while (size > maxSize) {
+            size -= eldest.next().getValue().size();
+            eldest.remove();
+        }
+    }
+
+    @Override
+    public synchronized void remove(final String key) {
+        final HttpCacheEntry removed = entries.remove(key);
+        if (removed != null) {
+            size -= removed.size();
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * Get total size of the stored entries in bytes.
+     *
+     * @return size of the stored entries.
+     */
+    public synchronized long size() {
+        return size;
+    }
+}
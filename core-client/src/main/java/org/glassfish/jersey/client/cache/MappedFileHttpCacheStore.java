@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.client.internal.LocalizationMessages;
+
+/**
+ * {@link HttpCacheStore} keeping entries in files of a directory. Stored entries are read through memory-mapped
+ * files, so cached entities are served from the operating system page cache without being copied to the heap.
+ * <p>
+ * Entries already present in the directory are picked up when the store is created, which allows the cache to
+ * survive an application restart. Once the total size of the stored files exceeds the configured maximum, the least
+ * recently used entries are deleted. The directory should not be shared by several store instances.
+ * </p>
+ * <p>
+ * I/O errors are not propagated, an entry that cannot be written or read is treated as not being cached.
+ * </p>
+ *
+ * @since 2.46
+ */
+public class MappedFileHttpCacheStore implements HttpCacheStore {
+
+    private static final Logger LOGGER = Logger.getLogger(MappedFileHttpCacheStore.class.getName());
+
+    private static final int MAGIC = 0x4A484331;
+    private static final String SUFFIX = ".entry";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final long maxSize;
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Create new store keeping entries in the given directory.
+     *
+     * @param directory directory of the entry files, created if it does not exist.
+     * @param maxSize   maximum total size of the entry files in bytes.
+     * @throws IOException in case the directory cannot be created or read.
+     */
+    public MappedFileHttpCacheStore(final Path directory, final long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(LocalizationMessages.HTTP_CACHE_SIZE_INVALID(maxSize));
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxSize = maxSize;
+
+        final List<Path> existing = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            stream.forEach(existing::add);
+        }
+        // Left over by writes interrupted by a crash.
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + TEMP_SUFFIX)) {
+            stream.forEach(MappedFileHttpCacheStore::delete);
+        }
+        // Recently modified files are the most recently used ones.
+        existing.sort(Comparator.comparingLong(MappedFileHttpCacheStore::lastModified));
+        for (final Path file : existing) {
+            final String name = file.getFileName().toString();
+            add(name.substring(0, name.length() - SUFFIX.length()), Files.size(file));
+        }
+    }
+
+    @Override
+    public HttpCacheEntry get(final String key) {
+        final String name = name(key);
+        synchronized (this) {
+            if (files.get(name) == null) {
+                return null;
+            }
+        }
+
+        final Path file = file(name);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final HttpCacheEntry entry = read(key, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            if (entry != null) {
+                return entry;
+            }
+        } catch (final IOException | RuntimeException ex) {
+            LOGGER.log(Level.FINE, LocalizationMessages.HTTP_CACHE_STORE_IO_ERROR(file), ex);
+        }
+        remove(key);
+        return null;
+    }
+
+    @Override
+    public void put(final String key, final HttpCacheEntry entry) {
+        final String name = name(key);
+        Path temp = null;
+        try {
+            final ByteBuffer header = ByteBuffer.wrap(header(key, entry));
+            final ByteBuffer entity = entry.getEntity();
+            final long fileSize = header.remaining() + entity.remaining();
+            if (fileSize > maxSize) {
+                remove(key);
+                return;
+            }
+
+            temp = Files.createTempFile(directory, name, TEMP_SUFFIX);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining() || entity.hasRemaining()) {
+                    channel.write(new ByteBuffer[] {header, entity});
+                }
+            }
+
+            synchronized (this) {
+                Files.move(temp, file(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                add(name, fileSize);
+            }
+        } catch (final IOException | RuntimeException ex) {
+            LOGGER.log(Level.FINE, LocalizationMessages.HTTP_CACHE_STORE_IO_ERROR(temp != null ? temp : file(name)), ex);
+            if (temp != null) {
+                delete(temp);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void remove(final String key) {
+        final String name = name(key);
+        final Long removed = files.remove(name);
+        if (removed != null) {
+            size -= removed;
+            delete(file(name));
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        for (final String name : files.keySet()) {
+            delete(file(name));
+        }
+        files.clear();
+        size = 0;
+    }
+
+    /**
+     * Get total size of the stored entry files in bytes.
+     *
+     * @return size of the stored entries.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    private void add(final String name, final long fileSize) {
+        final Long previous = files.put(name, fileSize);
+        if (previous != null) {
+            size -= previous;
+        }
+        size += fileSize;
+
+        final Iterator<Map.Entry<String, Long>> eldest = files.entrySet().iterator();
+        while (size > maxSize) {
+            final Map.Entry<String, Long> evicted = eldest.next();
+            size -= evicted.getValue();
+            eldest.remove();
+            delete(file(evicted.getKey()));
+        }
+    }
+
+    private Path file(final String name) {
+        return directory.resolve(name + SUFFIX);
+    }
+
+    private static byte[] header(final String key, final HttpCacheEntry entry) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        writeString(out, key);
+        out.writeInt(entry.getStatus());
+        out.writeLong(entry.getRequestTime());
+        out.writeLong(entry.getResponseTime());
+
+        out.writeInt(entry.getHeaders().size());
+        for (final Map.Entry<String, List<String>> header : entry.getHeaders().entrySet()) {
+            writeString(out, header.getKey());
+            out.writeInt(header.getValue().size());
+            for (final String value : header.getValue()) {
+                writeString(out, value);
+            }
+        }
+
+        out.writeInt(entry.getVaryHeaders().size());
+        for (final Map.Entry<String, String> vary : entry.getVaryHeaders().entrySet()) {
+            writeString(out, vary.getKey());
+            writeString(out, vary.getValue());
+        }
+
+        out.writeInt(entry.getEntity().remaining());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static HttpCacheEntry read(final String key, final ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC || !key.equals(readString(buffer))) {
+                return null;
+            }
+            final int status = buffer.getInt();
+            final long requestTime = buffer.getLong();
+            final long responseTime = buffer.getLong();
+
+            final Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                final String name = readString(buffer);
+                final List<String> values = new ArrayList<>();
+                for (int j = buffer.getInt(); j > 0; j--) {
+                    values.add(readString(buffer));
+                }
+                headers.put(name, values);
+            }
+
+            final Map<String, String> varyHeaders = new HashMap<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                varyHeaders.put(readString(buffer), readString(buffer));
+            }
+
+            final int length = buffer.getInt();
+            if (length != buffer.remaining()) {
+                return null;
+            }
+            return new HttpCacheEntry(status, headers, varyHeaders, requestTime, responseTime, buffer.slice());
+        } catch (final BufferUnderflowException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String name(final String key) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            final char[] name = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                name[2 * i] = HEX[(digest[i] >> 4) & 0x0F];
+                name[2 * i + 1] = HEX[digest[i] & 0x0F];
+            }
+            return new String(name);
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every Java platform.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (final IOException e) {
+            return 0;
+        }
+    }
+
+    private static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ex) {
+            LOGGER.log(Level.FINE, LocalizationMessages.HTTP_CACHE_STORE_IO_ERROR(file), ex);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.http;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ConcurrencyLimiter;
+
+/**
+ * Feature limiting the number of concurrent requests per destination with the given {@link ConcurrencyLimiter}, see
+ * {@link ClientProperties#CONCURRENCY_LIMITER}. Register {@link org.glassfish.jersey.client.ConcurrencyLimitListener}
+ * providers to observe limit changes and rejected requests.
+ *
+ * @since 2.46
+ */
+public class ConcurrencyLimitFeature implements Feature {
+
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * Create concurrency limit feature with the given limiter.
+     *
+     * @param limiter concurrency limiter.
+     */
+    public ConcurrencyLimitFeature(final ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        if (context.getConfiguration().getProperty(ClientProperties.CONCURRENCY_LIMITER) == null) {
+            context.property(ClientProperties.CONCURRENCY_LIMITER, limiter);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.http;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.LoadBalancer;
+
+/**
+ * Feature spreading requests to the service URI of the given {@link LoadBalancer} over its endpoints, see
+ * {@link ClientProperties#LOAD_BALANCER}.
+ *
+ * @since 2.46
+ */
+public class LoadBalancingFeature implements Feature {
+
+    private final LoadBalancer balancer;
+
+    /**
+     * Create load balancing feature with the given load balancer.
+     *
+     * @param balancer load balancer.
+     */
+    public LoadBalancingFeature(final LoadBalancer balancer) {
+        this.balancer = balancer;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        if (context.getConfiguration().getProperty(ClientProperties.LOAD_BALANCER) == null) {
+            context.property(ClientProperties.LOAD_BALANCER, balancer);
+        }
+        return true;
+    }
+}
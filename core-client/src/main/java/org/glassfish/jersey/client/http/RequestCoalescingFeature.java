@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.http;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.client.ClientProperties;
+
+/**
+ * Feature enabling coalescing of identical in-flight {@code GET} and {@code HEAD} requests, see
+ * {@link ClientProperties#REQUEST_COALESCING}. When many threads request the same resource at the same time, only
+ * one request is sent and all the requests receive a response with a buffered copy of its entity.
+ * <p>
+ * Requests are only coalesced if they have the same values of the headers listed in
+ * {@link ClientProperties#REQUEST_COALESCING_HEADERS}, which by default include the content negotiation headers as
+ * well as {@code Authorization} and {@code Cookie}. Per-request properties, such as timeouts, are not taken into
+ * account.
+ * </p>
+ *
+ * @since 2.46
+ */
+public class RequestCoalescingFeature implements Feature {
+
+    private final String headers;
+
+    private RequestCoalescingFeature(final String headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Create request coalescing feature using the {@link ClientProperties#DEFAULT_REQUEST_COALESCING_HEADERS default}
+     * headers.
+     *
+     * @return request coalescing feature.
+     */
+    public static RequestCoalescingFeature basic() {
+        return new RequestCoalescingFeature(null);
+    }
+
+    /**
+     * Create request coalescing feature with custom list of headers whose values have to be equal for requests to be
+     * coalesced.
+     *
+     * @param headers names of request headers.
+     * @return request coalescing feature.
+     */
+    public static RequestCoalescingFeature withHeaders(final String... headers) {
+        return new RequestCoalescingFeature(String.join(",", headers));
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        context.property(ClientProperties.REQUEST_COALESCING, true);
+        if (headers != null
+                && context.getConfiguration().getProperty(ClientProperties.REQUEST_COALESCING_HEADERS) == null) {
+            context.property(ClientProperties.REQUEST_COALESCING_HEADERS, headers);
+        }
+        return true;
+    }
+}
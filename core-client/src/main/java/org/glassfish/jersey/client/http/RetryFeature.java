@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.http;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RetryPolicy;
+
+/**
+ * Feature enabling retries and hedging of client requests according to the given {@link RetryPolicy}, see
+ * {@link ClientProperties#RETRY_POLICY}. Retries and hedged requests are sent through the asynchronous
+ * {@link org.glassfish.jersey.client.spi.Connector} contract and therefore work with every connector.
+ *
+ * @since 2.46
+ */
+public class RetryFeature implements Feature {
+
+    private final RetryPolicy policy;
+
+    /**
+     * Create retry feature with the given policy.
+     *
+     * @param policy retry policy.
+     */
+    public RetryFeature(final RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        if (context.getConfiguration().getProperty(ClientProperties.RETRY_POLICY) == null) {
+            context.property(ClientProperties.RETRY_POLICY, policy);
+        }
+        return true;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,6 +37,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
@@ -66,7 +67,6 @@ import org.glassfish.jersey.client.innate.http.SSLParamConfigurator;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
-import org.glassfish.jersey.internal.util.collection.LRU;
 import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.UnsafeValue;
 import org.glassfish.jersey.internal.util.collection.Value;
@@ -115,12 +115,14 @@ public class HttpUrlConnector implements Connector {
     private final boolean fixLengthStreaming;
     private final boolean setMethodWorkaround;
     private final boolean isRestrictedHeaderPropertySet;
+    private final int drainThreshold;
+    private final EntityStreamListener entityStreamListener;
     private Value<SSLSocketFactory> sslSocketFactory;
 
     // SSLContext#getSocketFactory not idempotent
     // JDK KeepAliveCache keeps connections per Factory
-    // SSLContext set per request blows that -> keep factory in LRU
-    private final LRU<SSLContext, SSLSocketFactory> sslSocketFactoryCache = LRU.create();
+    // SSLContext set per request blows that -> keep the factory as long as the context is in use
+    private final Map<SSLContext, SSLSocketFactory> sslSocketFactoryCache = new WeakHashMap<>();
 
     private final ConnectorExtension<HttpURLConnection, IOException> connectorExtension
             = new HttpUrlExpect100ContinueConnectorExtension();
@@ -143,11 +145,40 @@ public class HttpUrlConnector implements Connector {
             final int chunkSize,
             final boolean fixLengthStreaming,
             final boolean setMethodWorkaround) {
+        this(client, connectionFactory, chunkSize, fixLengthStreaming, setMethodWorkaround, 0, null);
+    }
+
+    /**
+     * Create new {@code HttpUrlConnector} instance.
+     *
+     * @param client               JAX-RS client instance for which the connector is being created.
+     * @param connectionFactory    {@link javax.net.ssl.HttpsURLConnection} factory to be used when creating connections.
+     * @param chunkSize            chunk size to use when using HTTP chunked transfer coding.
+     * @param fixLengthStreaming   specify if the the {@link java.net.HttpURLConnection#setFixedLengthStreamingMode(int)
+     *                             fixed-length streaming mode} on the underlying HTTP URL connection instances should be
+     *                             used when sending requests.
+     * @param setMethodWorkaround  specify if the reflection workaround should be used to set HTTP URL connection method
+     *                             name. See {@link HttpUrlConnectorProvider#SET_METHOD_WORKAROUND} for details.
+     * @param drainThreshold       maximum number of bytes of an unread response entity drained when the entity stream is
+     *                             closed. See {@link HttpUrlConnectorProvider#DRAIN_THRESHOLD} for details.
+     * @param entityStreamListener listener notified when a response entity stream is closed, may be {@code null}.
+     * @since 2.46
+     */
+    public HttpUrlConnector(
+            final Client client,
+            final HttpUrlConnectorProvider.ConnectionFactory connectionFactory,
+            final int chunkSize,
+            final boolean fixLengthStreaming,
+            final boolean setMethodWorkaround,
+            final int drainThreshold,
+            final EntityStreamListener entityStreamListener) {
 
         this.connectionFactory = connectionFactory;
         this.chunkSize = chunkSize;
         this.fixLengthStreaming = fixLengthStreaming;
         this.setMethodWorkaround = setMethodWorkaround;
+        this.drainThreshold = drainThreshold;
+        this.entityStreamListener = entityStreamListener;
 
         this.sslSocketFactory = Values.lazy(new Value<SSLSocketFactory>() {
             @Override
@@ -169,7 +200,24 @@ public class HttpUrlConnector implements Connector {
         );
     }
 
-    private static InputStream getInputStream(final HttpURLConnection uc, final ClientRequest clientRequest) throws IOException {
+    /**
+     * Listener notified when a response entity stream is closed.
+     *
+     * @since 2.46
+     */
+    public interface EntityStreamListener {
+
+        /**
+         * Invoked when a response entity stream is closed.
+         *
+         * @param reusable {@code true} if the entity has been read to its end, so the connection can be reused.
+         * @param drained  number of unread bytes read and discarded when the stream was closed.
+         */
+        void closed(boolean reusable, long drained);
+    }
+
+    private InputStream getInputStream(final HttpURLConnection uc, final ClientRequest clientRequest) throws IOException {
+        final int drainThreshold = clientRequest.resolveProperty(HttpUrlConnectorProvider.DRAIN_THRESHOLD, this.drainThreshold);
         return new InputStream() {
             private final UnsafeValue<InputStream, IOException> in = Values.lazy(new UnsafeValue<InputStream, IOException>() {
                 @Override
@@ -184,6 +232,7 @@ public class HttpUrlConnector implements Connector {
             });
 
             private volatile boolean closed = false;
+            private boolean eof = false;
 
             /**
              * The motivation for this method is to straighten up a behaviour of {@link sun.net.www.http.KeepAliveStream} which
@@ -214,6 +263,7 @@ public class HttpUrlConnector implements Connector {
             public int read() throws IOException {
                 int result = in.get().read();
                 throwIOExceptionIfClosed();
+                eof |= result == -1;
                 return result;
             }
 
@@ -221,6 +271,7 @@ public class HttpUrlConnector implements Connector {
             public int read(byte[] b) throws IOException {
                 int result = in.get().read(b);
                 throwIOExceptionIfClosed();
+                eof |= result == -1;
                 return result;
             }
 
@@ -228,6 +279,7 @@ public class HttpUrlConnector implements Connector {
             public int read(byte[] b, int off, int len) throws IOException {
                 int result = in.get().read(b, off, len);
                 throwIOExceptionIfClosed();
+                eof |= result == -1;
                 return result;
             }
 
@@ -247,11 +299,45 @@ public class HttpUrlConnector implements Connector {
 
             @Override
             public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                long drained = 0;
                 try {
-                    in.get().close();
+                    final InputStream stream = in.get();
+                    if (!eof && drainThreshold > 0 && !clientRequest.isCancelled()) {
+                        drained = drain(stream);
+                    }
+                    stream.close();
                 } finally {
                     closed = true;
+                    if (entityStreamListener != null) {
+                        entityStreamListener.closed(eof, drained);
+                    }
+                }
+            }
+
+            /**
+             * Read and discard the rest of the entity unless it is longer than the threshold, so that the connection
+             * can be returned to the keep-alive cache.
+             */
+            private long drain(final InputStream stream) {
+                final byte[] buffer = new byte[Math.min(drainThreshold + 1, 8192)];
+                long drained = 0;
+                try {
+                    // read one byte over the threshold to find out if the end has been reached
+                    while (drained <= drainThreshold) {
+                        final int read = stream.read(buffer, 0, (int) Math.min(buffer.length, drainThreshold + 1 - drained));
+                        if (read == -1) {
+                            eof = true;
+                            break;
+                        }
+                        drained += read;
+                    }
+                } catch (IOException e) {
+                    LOGGER.log(Level.FINE, LocalizationMessages.HTTPURLCONNECTION_DRAIN_FAILED(), e);
                 }
+                return drained;
             }
 
             @Override
@@ -363,12 +449,9 @@ public class HttpUrlConnector implements Connector {
                 @Override
                 public SSLSocketFactory get() {
                     SSLContext sslContext = supplier.get();
-                    SSLSocketFactory factory = sslSocketFactoryCache.getIfPresent(sslContext);
-                    if (factory == null) {
-                        factory = sslContext.getSocketFactory();
-                        sslSocketFactoryCache.put(sslContext, factory);
+                    synchronized (sslSocketFactoryCache) {
+                        return sslSocketFactoryCache.computeIfAbsent(sslContext, SSLContext::getSocketFactory);
                     }
-                    return factory;
                 }
             });
         }
@@ -433,8 +516,18 @@ public class HttpUrlConnector implements Connector {
 
                 processExtensions(request, uc);
 
+                final boolean streaming = entityProcessing != RequestEntityProcessing.BUFFERED
+                        && (fixLengthStreaming && length > 0 || entityProcessing == RequestEntityProcessing.CHUNKED);
+                if (fixLengthStreaming && !streaming) {
+                    // buffer small entities to learn their length
+                    request.enableBuffering();
+                }
                 request.setStreamProvider(contentLength -> {
                     setOutboundHeaders(request.getStringHeaders(), uc);
+                    if (fixLengthStreaming && !streaming && contentLength > 0) {
+                        // the length of the buffered entity is known, do not let HttpURLConnection buffer it again
+                        uc.setFixedLengthStreamingMode(contentLength);
+                    }
                     return uc.getOutputStream();
                 });
                 request.writeEntity();
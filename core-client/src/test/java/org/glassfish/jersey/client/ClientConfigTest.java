@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,7 @@ import javax.ws.rs.ext.Provider;
 import javax.net.ssl.SSLContext;
 
 import org.glassfish.jersey.internal.util.collection.UnsafeValue;
+import org.glassfish.jersey.uri.JerseyQueryParamStyle;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
@@ -39,6 +40,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -142,6 +144,63 @@ public class ClientConfigTest {
 
     }
 
+    @Test
+    public void testPropertyOnlyChangeDerivesRuntime() {
+        final JerseyClient client = new JerseyClient(new ClientConfig().property(ClientProperties.USE_ENCODING, "gzip"),
+                (UnsafeValue<SSLContext, IllegalStateException>) null, null);
+        final ClientRuntime runtime = client.getConfiguration().getRuntime();
+
+        final JerseyWebTarget target = client.target("http://localhost").property(ClientProperties.USE_ENCODING, "deflate")
+                .property(ClientProperties.IGNORE_EXCEPTION_RESPONSE, true);
+        final ClientRuntime derivedRuntime = target.getConfiguration().getRuntime();
+
+        assertNotSame(runtime, derivedRuntime);
+        assertSame(runtime.getInjectionManager(), derivedRuntime.getInjectionManager());
+        assertSame(runtime.getConnector(), derivedRuntime.getConnector());
+        assertEquals("gzip", runtime.getConfig().getProperty(ClientProperties.USE_ENCODING));
+        assertEquals("deflate", derivedRuntime.getConfig().getProperty(ClientProperties.USE_ENCODING));
+        assertEquals(true, derivedRuntime.getConfig().getProperty(ClientProperties.IGNORE_EXCEPTION_RESPONSE));
+
+        // derived runtime of a derived runtime
+        final ClientRuntime nestedRuntime = target.path("nested")
+                .property(ClientProperties.QUERY_PARAM_STYLE, JerseyQueryParamStyle.COMMA_SEPARATED)
+                .getConfiguration().getRuntime();
+        assertSame(runtime.getInjectionManager(), nestedRuntime.getInjectionManager());
+        assertEquals("deflate", nestedRuntime.getConfig().getProperty(ClientProperties.USE_ENCODING));
+        assertEquals(JerseyQueryParamStyle.COMMA_SEPARATED,
+                nestedRuntime.getConfig().getProperty(ClientProperties.QUERY_PARAM_STYLE));
+
+        client.close();
+    }
+
+    @Test
+    public void testBootstrapChangeInitializesRuntime() {
+        final JerseyClient client = new JerseyClient(new ClientConfig(),
+                (UnsafeValue<SSLContext, IllegalStateException>) null, null);
+        final ClientRuntime runtime = client.getConfiguration().getRuntime();
+
+        final ClientRuntime propertyRuntime = client.target("http://localhost")
+                .property(ClientProperties.FEATURE_AUTO_DISCOVERY_DISABLE, true).getConfiguration().getRuntime();
+        assertNotSame(runtime.getInjectionManager(), propertyRuntime.getInjectionManager());
+
+        // properties read by connectors when they are created
+        final ClientRuntime timeoutRuntime = client.target("http://localhost")
+                .property(ClientProperties.CONNECT_TIMEOUT, 500).getConfiguration().getRuntime();
+        assertNotSame(runtime.getConnector(), timeoutRuntime.getConnector());
+
+        // unknown properties may be read by 3rd party features or connectors
+        final ClientRuntime customRuntime = client.target("http://localhost")
+                .property("custom.property", "value").getConfiguration().getRuntime();
+        assertNotSame(runtime.getInjectionManager(), customRuntime.getInjectionManager());
+
+        final ClientRuntime providerRuntime = client.target("http://localhost")
+                .register(MyProvider.class).getConfiguration().getRuntime();
+        assertNotSame(runtime.getInjectionManager(), providerRuntime.getInjectionManager());
+        assertTrue(providerRuntime.getConfig().isRegistered(MyProvider.class));
+
+        client.close();
+    }
+
     public static class EmptyFeature implements Feature {
 
         @Override
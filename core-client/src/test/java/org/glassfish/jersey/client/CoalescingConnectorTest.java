@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.http.RequestCoalescingFeature;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CoalescingConnector}.
+ */
+public class CoalescingConnectorTest {
+
+    private static final int FOLLOWERS = 4;
+
+    /**
+     * Connector blocking requests until released.
+     */
+    private static class BlockingConnector implements Connector, ConnectorProvider {
+
+        private final AtomicInteger requests = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean fail;
+        private volatile String mediaType = MediaType.TEXT_PLAIN;
+        private volatile boolean contentLength = true;
+        private volatile Thread callbackThread;
+        private volatile Thread readThread;
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            requests.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                throw new ProcessingException(e);
+            }
+            if (fail) {
+                throw new ProcessingException("failed");
+            }
+            final byte[] entity = "body".getBytes(StandardCharsets.UTF_8);
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.header("X-Request", request.getUri().getPath());
+            response.header(HttpHeaders.CONTENT_TYPE, mediaType);
+            if (contentLength) {
+                response.header(HttpHeaders.CONTENT_LENGTH, entity.length);
+            }
+            response.setEntityStream(new ByteArrayInputStream(entity) {
+                @Override
+                public synchronized int read(final byte[] b, final int off, final int len) {
+                    readThread = Thread.currentThread();
+                    return super.read(b, off, len);
+                }
+            });
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    final ClientResponse response = apply(request);
+                    callbackThread = Thread.currentThread();
+                    callback.response(response);
+                } catch (final ProcessingException e) {
+                    callback.failure(e);
+                }
+            });
+        }
+
+        @Override
+        public String getName() {
+            return "blocking";
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+    }
+
+    private static WebTarget target(final BlockingConnector connector) {
+        return target(connector, new ClientConfig());
+    }
+
+    private static WebTarget target(final BlockingConnector connector, final ClientConfig config) {
+        return ClientBuilder.newClient(config
+                .connectorProvider(connector)
+                .register(RequestCoalescingFeature.basic()))
+                .target("http://localhost/resource");
+    }
+
+    @Test
+    public void testCoalescing() throws Exception {
+        final BlockingConnector connector = new BlockingConnector();
+        final WebTarget target = target(connector);
+
+        final Future<String> leader = target.request().async().get(String.class);
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+
+        final List<CompletableFuture<Response>> followers = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            final CompletableFuture<Response> follower = new CompletableFuture<>();
+            final Thread thread = new Thread(() -> follower.complete(target.request().get()));
+            followers.add(follower);
+            threads.add(thread);
+            thread.start();
+        }
+        awaitBlocked(threads);
+        connector.release.countDown();
+
+        assertEquals("body", leader.get(10, TimeUnit.SECONDS));
+        for (final CompletableFuture<Response> follower : followers) {
+            final Response response = follower.get(10, TimeUnit.SECONDS);
+            assertEquals(200, response.getStatus());
+            assertEquals("/resource", response.getHeaderString("X-Request"));
+            assertEquals("body", response.readEntity(String.class));
+        }
+        assertEquals(1, connector.requests.get());
+
+        // flight landed, requests are sent on their own again
+        assertEquals("body", target.request().get(String.class));
+        assertEquals(2, connector.requests.get());
+    }
+
+    @Test
+    public void testAsyncLeaderBuffersOffCallbackThread() throws Exception {
+        final BlockingConnector connector = new BlockingConnector();
+        final WebTarget target = target(connector);
+
+        final Future<String> leader = target.request().async().get(String.class);
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+        final CompletableFuture<Response> follower = new CompletableFuture<>();
+        final Thread thread = new Thread(() -> follower.complete(target.request().get()));
+        thread.start();
+        awaitBlocked(Collections.singletonList(thread));
+        connector.release.countDown();
+
+        assertEquals("body", leader.get(10, TimeUnit.SECONDS));
+        assertEquals("body", follower.get(10, TimeUnit.SECONDS).readEntity(String.class));
+        assertEquals(1, connector.requests.get());
+        assertNotSame(connector.callbackThread, connector.readThread);
+    }
+
+    @Test
+    public void testStreamingResponseNotShared() throws Exception {
+        final BlockingConnector connector = new BlockingConnector();
+        connector.mediaType = "text/event-stream";
+        connector.contentLength = false;
+        assertFollowersSentOnTheirOwn(connector);
+    }
+
+    @Test
+    public void testOversizedResponseNotShared() throws Exception {
+        final BlockingConnector connector = new BlockingConnector();
+        final WebTarget target = target(connector, new ClientConfig()
+                .property(ClientProperties.REQUEST_COALESCING_MAX_ENTITY_SIZE, 2));
+        assertFollowersSentOnTheirOwn(connector, target);
+    }
+
+    private static void assertFollowersSentOnTheirOwn(final BlockingConnector connector) throws Exception {
+        assertFollowersSentOnTheirOwn(connector, target(connector));
+    }
+
+    private static void assertFollowersSentOnTheirOwn(final BlockingConnector connector, final WebTarget target)
+            throws Exception {
+        final Future<String> leader = target.request().async().get(String.class);
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+
+        final List<CompletableFuture<String>> followers = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            final CompletableFuture<String> follower = new CompletableFuture<>();
+            final Thread thread = new Thread(() -> follower.complete(target.request().get(String.class)));
+            followers.add(follower);
+            threads.add(thread);
+            thread.start();
+        }
+        awaitBlocked(threads);
+        connector.release.countDown();
+
+        assertEquals("body", leader.get(10, TimeUnit.SECONDS));
+        for (final CompletableFuture<String> follower : followers) {
+            assertEquals("body", follower.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1 + FOLLOWERS, connector.requests.get());
+    }
+
+    @Test
+    public void testRequestPropertiesNotCoalesced() throws Exception {
+        final BlockingConnector connector = new BlockingConnector();
+        final WebTarget target = target(connector);
+
+        final Future<String> leader = target.request().async().get(String.class);
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+        final Future<String> other = target.request().property("credentials", "other").async().get(String.class);
+
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (connector.requests.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, connector.requests.get());
+        connector.release.countDown();
+
+        assertEquals("body", leader.get(10, TimeUnit.SECONDS));
+        assertEquals("body", other.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFollowerReadTimeout() throws Exception {
+        final BlockingConnector connector = new BlockingConnector();
+        final WebTarget target = target(connector, new ClientConfig().property(ClientProperties.READ_TIMEOUT, 200));
+
+        final Future<String> leader = target.request().async().get(String.class);
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+
+        final ProcessingException failure = assertThrows(ProcessingException.class, () -> target.request().get());
+        assertTrue(failure.getCause() instanceof SocketTimeoutException);
+        assertEquals(1, connector.requests.get());
+
+        connector.release.countDown();
+        assertEquals("body", leader.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailurePropagated() throws Exception {
+        final BlockingConnector connector = new BlockingConnector();
+        connector.fail = true;
+        final WebTarget target = target(connector);
+
+        final CompletableFuture<Throwable> leader = new CompletableFuture<>();
+        final Thread leaderThread = new Thread(() -> leader.complete(
+                assertThrows(ProcessingException.class, () -> target.request().get())));
+        leaderThread.start();
+        assertTrue(connector.entered.await(10, TimeUnit.SECONDS));
+
+        final Future<Response> follower = target.request().async().get();
+        // the async follower is attached from an executor thread, give it time to do so
+        Thread.sleep(200);
+        connector.release.countDown();
+
+        assertEquals("failed", leader.get(10, TimeUnit.SECONDS).getMessage());
+        final Exception failure = assertThrows(Exception.class, () -> follower.get(10, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof ProcessingException);
+    }
+
+    private static void awaitBlocked(final List<Thread> threads) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        for (final Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.http.ConcurrencyLimitFeature;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ConcurrencyLimitingConnector}.
+ */
+public class ConcurrencyLimitingConnectorTest {
+
+    private static final String DESTINATION = "http://localhost:80";
+
+    /**
+     * Connector holding requests until released.
+     */
+    private static class GatedConnector implements Connector, ConnectorProvider {
+
+        private final Semaphore entered = new Semaphore(0);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile int status = 200;
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            entered.release();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                throw new ProcessingException(e);
+            }
+            final ClientResponse response = new ClientResponse(Response.Status.fromStatusCode(status), request);
+            response.setEntityStream(new ByteArrayInputStream(new byte[0]));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            return CompletableFuture.runAsync(() -> callback.response(apply(request)));
+        }
+
+        @Override
+        public String getName() {
+            return "gated";
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+    }
+
+    /**
+     * Listener recording the events.
+     */
+    public static class RecordingListener implements ConcurrencyLimitListener {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onLimitChanged(final String destination, final int limit) {
+            events.add(destination + " limit " + limit);
+        }
+
+        @Override
+        public void onRejected(final String destination) {
+            events.add(destination + " rejected");
+        }
+    }
+
+    private static WebTarget target(final GatedConnector connector,
+                                    final ConcurrencyLimiter limiter,
+                                    final RecordingListener listener) {
+        return ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(connector)
+                .register(new ConcurrencyLimitFeature(limiter))
+                .register(listener))
+                .target("http://localhost/resource");
+    }
+
+    @Test
+    public void testRejection() throws Exception {
+        final GatedConnector connector = new GatedConnector();
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(2).build();
+        final RecordingListener listener = new RecordingListener();
+        final WebTarget target = target(connector, limiter, listener);
+
+        final Future<Response> first = target.request().async().get();
+        final Future<Response> second = target.request().async().get();
+        assertTrue(connector.entered.tryAcquire(2, 10, TimeUnit.SECONDS));
+        assertEquals(2, limiter.getInFlight(DESTINATION));
+
+        assertThrows(ProcessingException.class, () -> target.request().get());
+        assertEquals(1, limiter.getRejections());
+        assertEquals(DESTINATION + " rejected", listener.events.get(0));
+
+        connector.release.countDown();
+        assertEquals(200, first.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, second.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(0, limiter.getInFlight(DESTINATION));
+    }
+
+    @Test
+    public void testQueue() throws Exception {
+        final GatedConnector connector = new GatedConnector();
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).queue(1, 10, TimeUnit.SECONDS).build();
+        final WebTarget target = target(connector, limiter, new RecordingListener());
+
+        final Future<Response> first = target.request().async().get();
+        assertTrue(connector.entered.tryAcquire(1, 10, TimeUnit.SECONDS));
+        final Future<Response> queued = target.request().async().get();
+        assertFalse(connector.entered.tryAcquire(1, 100, TimeUnit.MILLISECONDS));
+
+        connector.release.countDown();
+        assertEquals(200, first.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, queued.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(0, limiter.getRejections());
+    }
+
+    @Test
+    public void testGrantedWaiterNotRejectedAfterQueueTimeout() throws Exception {
+        final GatedConnector connector = new GatedConnector();
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+                .initialLimit(1)
+                .queue(1, 200, TimeUnit.MILLISECONDS)
+                .build();
+        final RecordingListener listener = new RecordingListener();
+        final WebTarget target = target(connector, limiter, listener);
+
+        final Future<Response> first = target.request().async().get();
+        assertTrue(connector.entered.tryAcquire(1, 10, TimeUnit.SECONDS));
+        final Future<Response> queued = target.request().async().get();
+
+        connector.release.countDown();
+        assertEquals(200, first.get(10, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, queued.get(10, TimeUnit.SECONDS).getStatus());
+
+        // let the queue timeout of the granted waiter elapse
+        Thread.sleep(400);
+        assertEquals(0, limiter.getRejections());
+        assertFalse(listener.events.contains(DESTINATION + " rejected"), listener.events.toString());
+    }
+
+    @Test
+    public void testQueueTimeout() throws Exception {
+        final GatedConnector connector = new GatedConnector();
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+                .initialLimit(1)
+                .queue(1, 100, TimeUnit.MILLISECONDS)
+                .build();
+        final RecordingListener listener = new RecordingListener();
+        final WebTarget target = target(connector, limiter, listener);
+
+        final Future<Response> first = target.request().async().get();
+        assertTrue(connector.entered.tryAcquire(1, 10, TimeUnit.SECONDS));
+        final Future<Response> queued = target.request().async().get();
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> queued.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof ProcessingException, e.toString());
+        assertEquals(1, limiter.getRejections());
+        assertEquals(DESTINATION + " rejected", listener.events.get(0));
+
+        connector.release.countDown();
+        assertEquals(200, first.get(10, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    public void testBuilderRanges() {
+        final IllegalArgumentException limits = assertThrows(IllegalArgumentException.class,
+                () -> ConcurrencyLimiter.builder().limits(10, 5));
+        assertTrue(limits.getMessage().contains("max"), limits.getMessage());
+        final IllegalArgumentException ratio = assertThrows(IllegalArgumentException.class,
+                () -> ConcurrencyLimiter.builder().backoffRatio(1.5));
+        assertTrue(ratio.getMessage().contains("backoffRatio"), ratio.getMessage());
+        assertFalse(ratio.getMessage().contains("negative"), ratio.getMessage());
+    }
+
+    @Test
+    public void testLimitDecreasedOnOverload() {
+        final GatedConnector connector = new GatedConnector();
+        connector.status = 503;
+        connector.release.countDown();
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(10).backoffRatio(0.5).build();
+        final RecordingListener listener = new RecordingListener();
+        final WebTarget target = target(connector, limiter, listener);
+
+        assertEquals(503, target.request().get().getStatus());
+        assertEquals(5, limiter.getLimit(DESTINATION));
+        assertEquals(DESTINATION + " limit 5", listener.events.get(0));
+
+        connector.status = 200;
+        for (int i = 0; i < 20; i++) {
+            target.request().get().close();
+        }
+        // the destination has not been utilized enough to increase the limit
+        assertEquals(5, limiter.getLimit(DESTINATION));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,8 @@
 
 package org.glassfish.jersey.client;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -27,6 +29,7 @@ import java.net.URL;
 import java.security.Permission;
 import java.security.Principal;
 import java.security.cert.Certificate;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -772,6 +775,115 @@ public class HttpUrlConnectorTest {
         return result;
     }
 
+    /**
+     * Connection returning a response entity of the given size without connecting anywhere.
+     */
+    private static class StubConnection extends HttpURLConnection {
+
+        private final ByteArrayInputStream responseEntity;
+        private final ByteArrayOutputStream requestEntity = new ByteArrayOutputStream();
+        private long fixedContentLength = -1;
+
+        private StubConnection(final URL url, final int entitySize) {
+            super(url);
+            this.responseEntity = new ByteArrayInputStream(new byte[entitySize]);
+        }
+
+        @Override
+        public void connect() {
+            connected = true;
+        }
+
+        @Override
+        public int getResponseCode() {
+            return 200;
+        }
+
+        @Override
+        public String getResponseMessage() {
+            return "OK";
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaderFields() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return responseEntity;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return requestEntity;
+        }
+
+        @Override
+        public void setFixedLengthStreamingMode(final int contentLength) {
+            fixedContentLength = contentLength;
+        }
+
+        @Override
+        public void setFixedLengthStreamingMode(final long contentLength) {
+            fixedContentLength = contentLength;
+        }
+
+        @Override
+        public void disconnect() {
+        }
+
+        @Override
+        public boolean usingProxy() {
+            return false;
+        }
+    }
+
+    @Test
+    public void testDrainUnreadEntity() {
+        final StubConnection[] connections = new StubConnection[3];
+        final int[] sizes = {50, 500, 50};
+        final int[] index = {0};
+        final HttpUrlConnectorProvider provider = new HttpUrlConnectorProvider()
+                .drainThreshold(100)
+                .connectionFactory(url -> connections[index[0]] = new StubConnection(url, sizes[index[0]++]));
+        final WebTarget target = ClientBuilder.newClient(new ClientConfig().connectorProvider(provider))
+                .target("http://localhost:8080");
+
+        // small unread entity is drained
+        target.request().get().close();
+        assertEquals(0, connections[0].responseEntity.available());
+
+        // large unread entity is not, draining stops one byte over the threshold
+        target.request().get().close();
+        assertEquals(399, connections[1].responseEntity.available());
+
+        // entity read by the application
+        assertEquals(50, target.request().get(byte[].class).length);
+
+        final HttpUrlConnectionStatistics statistics = provider.getConnectionStatistics();
+        assertEquals(3, statistics.getResponses());
+        assertEquals(1, statistics.getDrained());
+        assertEquals(1, statistics.getDiscarded());
+        assertEquals(1, statistics.getConsumed());
+        assertEquals(2, statistics.getReusable());
+        assertEquals(151, statistics.getDrainedBytes());
+    }
+
+    @Test
+    public void testFixedLengthStreamingOfBufferedEntity() {
+        final StubConnection[] connection = new StubConnection[1];
+        final HttpUrlConnectorProvider provider = new HttpUrlConnectorProvider()
+                .useFixedLengthStreaming()
+                .connectionFactory(url -> connection[0] = new StubConnection(url, 0));
+        final Response response = ClientBuilder.newClient(new ClientConfig().connectorProvider(provider))
+                .target("http://localhost:8080").request().post(Entity.text("hello"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(5, connection[0].fixedContentLength);
+        assertEquals("hello", connection[0].requestEntity.toString());
+    }
+
     private WebTarget createNonRoutableTarget() {
         Client client = ClientBuilder.newClient();
         client.property(ClientProperties.CONNECT_TIMEOUT, TimeoutBASE);
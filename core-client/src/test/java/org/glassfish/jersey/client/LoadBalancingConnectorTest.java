@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.http.LoadBalancingFeature;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link LoadBalancingConnector}.
+ */
+public class LoadBalancingConnectorTest {
+
+    private static final URI FIRST = URI.create("http://first:8080/");
+    private static final URI SECOND = URI.create("http://second:8080/base");
+
+    /**
+     * Connector recording request URIs, failing to connect to the hosts that are down and timing out requests to
+     * the slow hosts.
+     */
+    private static class RecordingConnector implements Connector, ConnectorProvider {
+
+        private final List<URI> uris = new CopyOnWriteArrayList<>();
+        private final Set<String> down = ConcurrentHashMap.newKeySet();
+        private final Set<String> slow = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            uris.add(request.getUri());
+            if (down.contains(request.getUri().getHost())) {
+                throw new ProcessingException(new ConnectException("Connection refused"));
+            }
+            if (slow.contains(request.getUri().getHost())) {
+                throw new ProcessingException(new SocketTimeoutException("Read timed out"));
+            }
+            final ClientResponse response = new ClientResponse(Response.Status.OK, request);
+            response.setEntityStream(new ByteArrayInputStream(request.getUri().getHost().getBytes()));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    callback.response(apply(request));
+                } catch (final ProcessingException e) {
+                    callback.failure(e);
+                }
+            });
+        }
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+    }
+
+    private static Client client(final RecordingConnector connector, final LoadBalancer balancer) {
+        return ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(connector)
+                .register(new LoadBalancingFeature(balancer)));
+    }
+
+    private static LoadBalancer.Builder builder() {
+        return LoadBalancer.builder(URI.create("http://orders/api"))
+                .endpoint(FIRST)
+                .endpoint(SECOND);
+    }
+
+    @Test
+    public void testRoundRobin() throws Exception {
+        final RecordingConnector connector = new RecordingConnector();
+        final Client client = client(connector, builder().build());
+
+        assertEquals("first", client.target("http://orders/api/items").queryParam("q", "1").request().get(String.class));
+        assertEquals("second", client.target("http://orders/api/items").request().async().get(String.class)
+                .get(10, TimeUnit.SECONDS));
+        assertEquals("first", client.target("http://orders/api").request().get(String.class));
+        assertEquals("other", new String(client.target("http://other/api").request().get(byte[].class)));
+
+        assertEquals(Arrays.asList(
+                URI.create("http://first:8080/items?q=1"),
+                URI.create("http://second:8080/base/items"),
+                URI.create("http://first:8080/"),
+                URI.create("http://other/api")), connector.uris);
+    }
+
+    @Test
+    public void testEjection() {
+        final RecordingConnector connector = new RecordingConnector();
+        connector.down.add("second");
+        final LoadBalancer balancer = builder().ejection(2, 0.5, 1, TimeUnit.MINUTES).build();
+        final Client client = client(connector, balancer);
+
+        for (int i = 0; i < 4; i++) {
+            try {
+                client.target("http://orders/api").request().get(String.class);
+            } catch (final ProcessingException e) {
+                // the second endpoint is down
+            }
+        }
+        assertEquals(Collections.singletonList(FIRST), balancer.getHealthyEndpoints());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("first", client.target("http://orders/api").request().get(String.class));
+        }
+    }
+
+    @Test
+    public void testReadTimeoutNotEjected() {
+        final RecordingConnector connector = new RecordingConnector();
+        connector.slow.add("second");
+        final LoadBalancer balancer = builder().ejection(1, 0.5, 1, TimeUnit.MINUTES).build();
+        final Client client = client(connector, balancer);
+
+        for (int i = 0; i < 4; i++) {
+            try {
+                client.target("http://orders/api").request().get(String.class);
+            } catch (final ProcessingException e) {
+                // the second endpoint times out
+            }
+        }
+        assertEquals(Arrays.asList(FIRST, SECOND), balancer.getHealthyEndpoints());
+    }
+
+    @Test
+    public void testDefaultPort() {
+        final RecordingConnector connector = new RecordingConnector();
+        final Client client = client(connector, LoadBalancer.builder(URI.create("https://orders:443/api"))
+                .endpoint(FIRST)
+                .build());
+
+        assertEquals("first", client.target("https://orders/api").request().get(String.class));
+        assertEquals("first", client.target("https://orders:443/api").request().get(String.class));
+        assertEquals("orders", client.target("http://orders/api").request().get(String.class));
+    }
+
+    @Test
+    public void testPanicMode() {
+        final RecordingConnector connector = new RecordingConnector();
+        connector.down.add("first");
+        connector.down.add("second");
+        final LoadBalancer balancer = builder().ejection(1, 0.5, 1, TimeUnit.MINUTES).build();
+        final Client client = client(connector, balancer);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ProcessingException.class, () -> client.target("http://orders/api").request().get(String.class));
+        }
+        assertEquals(Collections.emptyList(), balancer.getHealthyEndpoints());
+        assertEquals(4, connector.uris.size());
+    }
+
+    @Test
+    public void testPowerOfTwoChoices() {
+        final RecordingConnector connector = new RecordingConnector();
+        final Client client = client(connector, builder().strategy(LoadBalancer.Strategy.POWER_OF_TWO_CHOICES).build());
+
+        for (int i = 0; i < 10; i++) {
+            client.target("http://orders/api").request().get(String.class);
+        }
+        assertEquals(10, connector.uris.size());
+    }
+
+    @Test
+    public void testNoEndpoints() {
+        assertThrows(IllegalStateException.class, () -> LoadBalancer.builder(URI.create("http://orders")).build());
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.http.RetryFeature;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link RetryingConnector}.
+ */
+public class RetryingConnectorTest {
+
+    /**
+     * Connector answering the n-th request (counted from zero) with the given function.
+     */
+    private static class ScriptedConnector implements Connector, ConnectorProvider {
+
+        private final AtomicInteger requests = new AtomicInteger();
+        private final IntFunction<Object> script;
+
+        private ScriptedConnector(final IntFunction<Object> script) {
+            this.script = script;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            final Object outcome = script.apply(requests.getAndIncrement());
+            if (outcome instanceof ProcessingException) {
+                throw (ProcessingException) outcome;
+            }
+            final ClientResponse response = new ClientResponse(Response.Status.fromStatusCode((Integer) outcome), request);
+            response.setEntityStream(new ByteArrayInputStream(String.valueOf(outcome).getBytes(StandardCharsets.UTF_8)));
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            // blocking, like the default connector
+            try {
+                callback.response(apply(request));
+            } catch (final ProcessingException e) {
+                callback.failure(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public String getName() {
+            return "scripted";
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+    }
+
+    private static WebTarget target(final ScriptedConnector connector, final RetryPolicy policy) {
+        return ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(connector)
+                .register(new RetryFeature(policy)))
+                .target("http://localhost/resource");
+    }
+
+    private static RetryPolicy.Builder policy() {
+        return RetryPolicy.builder().backoff(1, 5, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testRetry() throws Exception {
+        final ScriptedConnector connector = new ScriptedConnector(
+                i -> i == 0 ? 503 : i == 1 ? new ProcessingException("connect") : 200);
+        final RetryPolicy policy = policy().build();
+        final WebTarget target = target(connector, policy);
+
+        assertEquals("200", target.request().get(String.class));
+        assertEquals(3, connector.requests.get());
+        assertEquals(2, policy.getMetrics().getRetries());
+
+        connector.requests.set(0);
+        assertEquals("200", target.request().async().get(String.class).get(10, TimeUnit.SECONDS));
+        assertEquals(3, connector.requests.get());
+        assertEquals(4, policy.getMetrics().getRetries());
+    }
+
+    @Test
+    public void testRetriesExhausted() {
+        final ScriptedConnector connector = new ScriptedConnector(i -> 503);
+        final WebTarget target = target(connector, policy().maxRetries(1).build());
+
+        assertEquals(503, target.request().get().getStatus());
+        assertEquals(2, connector.requests.get());
+    }
+
+    @Test
+    public void testInterruptedBackoff() {
+        final ScriptedConnector connector = new ScriptedConnector(i -> {
+            Thread.currentThread().interrupt();
+            return 503;
+        });
+        final RetryPolicy policy = policy().build();
+        final WebTarget target = target(connector, policy);
+
+        try {
+            assertEquals(503, target.request().get().getStatus());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(1, connector.requests.get());
+        assertEquals(0, policy.getMetrics().getRetries());
+    }
+
+    @Test
+    public void testNonIdempotentNotRetried() {
+        final ScriptedConnector connector = new ScriptedConnector(i -> 503);
+        final WebTarget target = target(connector, policy().build());
+
+        assertEquals(503, target.request().post(Entity.text("x")).getStatus());
+        assertEquals(1, connector.requests.get());
+    }
+
+    @Test
+    public void testRetryBudget() {
+        final ScriptedConnector connector = new ScriptedConnector(i -> 503);
+        final RetryPolicy policy = policy().retryBudget(0, 1).build();
+        final WebTarget target = target(connector, policy);
+
+        target.request().get().close();
+        target.request().get().close();
+        assertEquals(3, connector.requests.get());
+        assertEquals(1, policy.getMetrics().getRetries());
+        assertTrue(policy.getMetrics().getBudgetExhausted() >= 1);
+    }
+
+    @Test
+    public void testHedging() throws Exception {
+        final ScriptedConnector connector = new ScriptedConnector(i -> {
+            if (i == 0) {
+                try {
+                    Thread.sleep(5000);
+                } catch (final InterruptedException e) {
+                    // cancelled loser
+                }
+                return 504;
+            }
+            return 200;
+        });
+        final RetryPolicy policy = policy().hedgeAfter(50, TimeUnit.MILLISECONDS).build();
+        final WebTarget target = target(connector, policy);
+
+        final long start = System.nanoTime();
+        assertEquals("200", target.request().get(String.class));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 4000);
+        assertEquals(1, policy.getMetrics().getHedgesFired());
+        assertEquals(1, policy.getMetrics().getHedgesWon());
+    }
+}
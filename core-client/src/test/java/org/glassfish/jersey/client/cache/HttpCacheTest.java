@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link HttpCacheFeature}.
+ */
+public class HttpCacheTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Connector answering requests with a given function and recording the requests that reached it.
+     */
+    private static class TestConnector implements Connector, ConnectorProvider {
+
+        private final Function<ClientRequest, ClientResponse> responses;
+        private final List<ClientRequest> requests = Collections.synchronizedList(new ArrayList<>());
+
+        private TestConnector(final Function<ClientRequest, ClientResponse> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public ClientResponse apply(final ClientRequest request) {
+            requests.add(request);
+            return responses.apply(request);
+        }
+
+        @Override
+        public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+            callback.response(apply(request));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+            return this;
+        }
+    }
+
+    private static ClientResponse response(final ClientRequest request, final Response.Status status,
+                                           final String entity, final String... headers) {
+        final ClientResponse response = new ClientResponse(status, request);
+        for (int i = 0; i < headers.length; i += 2) {
+            response.header(headers[i], headers[i + 1]);
+        }
+        response.setEntityStream(new ByteArrayInputStream(entity.getBytes(StandardCharsets.UTF_8)));
+        return response;
+    }
+
+    private static Client client(final TestConnector connector, final HttpCacheStore store) {
+        return ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(connector)
+                .register(new HttpCacheFeature(store)));
+    }
+
+    @Test
+    public void testFreshResponseServedFromCache() {
+        final TestConnector connector = new TestConnector(request -> response(request, Response.Status.OK,
+                "cached", HttpHeaders.CACHE_CONTROL, "max-age=60"));
+        final Client client = client(connector, new InMemoryHttpCacheStore(1024));
+
+        assertEquals("cached", client.target("http://localhost/fresh").request().get(String.class));
+        final Response response = client.target("http://localhost/fresh").request().get();
+        assertEquals(200, response.getStatus());
+        assertEquals("cached", response.readEntity(String.class));
+        assertEquals("0", response.getHeaderString("Age"));
+        assertEquals(1, connector.requests.size());
+
+        // request directives
+        client.target("http://localhost/fresh").request().header(HttpHeaders.CACHE_CONTROL, "no-cache").get().close();
+        client.target("http://localhost/fresh").request().header(HttpHeaders.CACHE_CONTROL, "min-fresh=120").get().close();
+        assertEquals(3, connector.requests.size());
+    }
+
+    @Test
+    public void testRevalidation() {
+        final TestConnector connector = new TestConnector(request -> {
+            if ("\"v1\"".equals(request.getHeaderString(HttpHeaders.IF_NONE_MATCH))) {
+                return response(request, Response.Status.NOT_MODIFIED, "", HttpHeaders.ETAG, "\"v1\"", "X-Revalidated", "true");
+            }
+            return response(request, Response.Status.OK, "body", HttpHeaders.ETAG, "\"v1\"",
+                    HttpHeaders.CACHE_CONTROL, "no-cache");
+        });
+        final Client client = client(connector, new InMemoryHttpCacheStore(1024));
+
+        assertEquals("body", client.target("http://localhost/etag").request().get(String.class));
+        final Response response = client.target("http://localhost/etag").request().get();
+        assertEquals(200, response.getStatus());
+        assertEquals("body", response.readEntity(String.class));
+        assertEquals("true", response.getHeaderString("X-Revalidated"));
+
+        assertEquals(2, connector.requests.size());
+        assertNull(connector.requests.get(0).getHeaderString(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("\"v1\"", connector.requests.get(1).getHeaderString(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    public void testNotStored() {
+        final TestConnector connector = new TestConnector(request -> "/no-store".equals(request.getUri().getPath())
+                ? response(request, Response.Status.OK, "x", HttpHeaders.CACHE_CONTROL, "no-store, max-age=60")
+                : response(request, Response.Status.OK, "x", HttpHeaders.CACHE_CONTROL, "max-age=60",
+                        HttpHeaders.VARY, "Accept-Language"));
+        final Client client = client(connector, new InMemoryHttpCacheStore(1024));
+
+        client.target("http://localhost/no-store").request().get(String.class);
+        client.target("http://localhost/no-store").request().get(String.class);
+        assertEquals(2, connector.requests.size());
+
+        client.target("http://localhost/vary").request().acceptLanguage("en").get(String.class);
+        client.target("http://localhost/vary").request().acceptLanguage("en").get(String.class);
+        client.target("http://localhost/vary").request().acceptLanguage("de").get(String.class);
+        assertEquals(4, connector.requests.size());
+    }
+
+    @Test
+    public void testUnsafeMethodInvalidates() {
+        final TestConnector connector = new TestConnector(request -> response(request, Response.Status.OK,
+                "x", HttpHeaders.CACHE_CONTROL, "max-age=60"));
+        final InMemoryHttpCacheStore store = new InMemoryHttpCacheStore(1024);
+        final Client client = client(connector, store);
+
+        client.target("http://localhost/resource").request().get(String.class);
+        assertNotNull(store.get("http://localhost/resource"));
+
+        client.target("http://localhost/resource").request().post(Entity.text("update")).close();
+        assertNull(store.get("http://localhost/resource"));
+    }
+
+    @Test
+    public void testInMemoryEviction() {
+        final InMemoryHttpCacheStore store = new InMemoryHttpCacheStore(250);
+        store.put("a", entry(100));
+        store.put("b", entry(100));
+        store.get("a");
+        store.put("c", entry(100));
+
+        assertNotNull(store.get("a"));
+        assertNull(store.get("b"));
+        assertNotNull(store.get("c"));
+        assertEquals(200, store.size());
+
+        store.put("d", entry(300));
+        assertNull(store.get("d"));
+    }
+
+    @Test
+    public void testMappedFileStore() throws Exception {
+        final MappedFileHttpCacheStore store = new MappedFileHttpCacheStore(directory, 1024);
+        final HttpCacheEntry entry = new HttpCacheEntry(200,
+                Collections.singletonMap(HttpHeaders.ETAG, Collections.singletonList("\"1\"")),
+                Collections.singletonMap("accept", null), 1, 2, ByteBuffer.wrap("content".getBytes(StandardCharsets.UTF_8)));
+        store.put("http://localhost/a", entry);
+
+        final HttpCacheEntry reloaded = new MappedFileHttpCacheStore(directory, 1024).get("http://localhost/a");
+        assertNotNull(reloaded);
+        assertEquals(200, reloaded.getStatus());
+        assertEquals("\"1\"", reloaded.getHeader("etag"));
+        assertEquals(Collections.singletonMap("accept", null), reloaded.getVaryHeaders());
+        assertEquals(2, reloaded.getResponseTime());
+        assertEquals("content", StandardCharsets.UTF_8.decode(reloaded.getEntity()).toString());
+
+        store.put("http://localhost/b", entry(600));
+        store.put("http://localhost/c", entry(600));
+        assertNull(store.get("http://localhost/a"));
+        assertNull(store.get("http://localhost/b"));
+        assertNotNull(store.get("http://localhost/c"));
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertNull(new MappedFileHttpCacheStore(directory, 1024).get("http://localhost/c"));
+    }
+
+    private static HttpCacheEntry entry(final int size) {
+        return new HttpCacheEntry(200, Collections.emptyMap(), Collections.emptyMap(), 0, 0, ByteBuffer.allocate(size));
+    }
+}
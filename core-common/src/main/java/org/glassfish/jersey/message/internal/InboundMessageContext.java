@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.function.Function;
+import java.util.stream.BaseStream;
 
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.Configuration;
@@ -674,7 +675,8 @@ public abstract class InboundMessageContext extends MessageHeaderMethods {
                     entityContent.hasContent() ? getReaderInterceptors() : Collections.<ReaderInterceptor>emptyList(),
                     translateNce);
 
-            shouldClose = shouldClose && !(t instanceof Closeable) && !(t instanceof Source);
+            // lazily consumed entities (e.g. Stream<T> read element by element) own the entity stream
+            shouldClose = shouldClose && !(t instanceof Closeable) && !(t instanceof BaseStream) && !(t instanceof Source);
 
             return t;
         } catch (IOException ex) {
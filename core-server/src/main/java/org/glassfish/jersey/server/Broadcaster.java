@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,8 +18,16 @@ package org.glassfish.jersey.server;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,6 +35,14 @@ import org.glassfish.jersey.server.internal.LocalizationMessages;
 
 /**
  * Used for broadcasting response chunks to multiple {@link ChunkedOutput} instances.
+ * <p>
+ * By default, chunks are written to the registered chunked outputs one by one by the thread calling
+ * {@link #broadcast(Object)}. A broadcaster created with an {@link Executor} writes the chunks to the registered chunked
+ * outputs in parallel instead: {@code broadcast} only hands the chunk over to each of the chunked outputs and returns,
+ * the chunks are written by the executor threads in the order in which they were broadcast. The number of chunks
+ * pending for a single chunked output can be bounded, a {@link SlowConsumerPolicy} then decides what happens to chunked
+ * outputs that do not keep up with the broadcast chunks.
+ * </p>
  *
  * @param <T> broadcast type.
  * @author Pavel Bucek
@@ -40,6 +56,90 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
     private final ConcurrentLinkedQueue<ChunkedOutput<T>> chunkedOutputs =
             new ConcurrentLinkedQueue<ChunkedOutput<T>>();
 
+    // parallel broadcasting mode; the executor is null in the (default) sequential mode
+    private final Executor executor;
+    private final int maxPendingChunks;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final ConcurrentHashMap<ChunkedOutput<T>, Delivery> deliveries = new ConcurrentHashMap<>();
+
+    private final LongAdder broadcastCount = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder disconnectedCount = new LongAdder();
+    private final LongAdder pendingCount = new LongAdder();
+    private final Statistics statistics = new BroadcasterStatistics();
+
+    /**
+     * Policy applied to a registered {@link ChunkedOutput} that has the maximal number of broadcast chunks pending
+     * when a new chunk is broadcast in the parallel broadcasting mode.
+     *
+     * @since 2.46
+     */
+    public enum SlowConsumerPolicy {
+        /**
+         * Keep buffering the chunks for the chunked output, the maximal number of pending chunks is not enforced.
+         */
+        BUFFER,
+        /**
+         * Drop the broadcast chunk for the chunked output.
+         */
+        DROP,
+        /**
+         * Close the chunked output.
+         */
+        DISCONNECT
+    }
+
+    /**
+     * Broadcasting statistics.
+     *
+     * @since 2.46
+     */
+    public interface Statistics {
+
+        /**
+         * Get the number of chunks broadcast so far.
+         *
+         * @return number of broadcast chunks.
+         */
+        long getBroadcastCount();
+
+        /**
+         * Get the number of chunks written to the registered chunked outputs so far.
+         *
+         * @return number of delivered chunks.
+         */
+        long getDeliveredCount();
+
+        /**
+         * Get the number of chunks dropped for chunked outputs that did not keep up with the broadcast chunks.
+         *
+         * @return number of dropped chunks.
+         */
+        long getDroppedCount();
+
+        /**
+         * Get the number of chunked outputs closed because they did not keep up with the broadcast chunks.
+         *
+         * @return number of disconnected chunked outputs.
+         */
+        long getDisconnectedCount();
+
+        /**
+         * Get the number of broadcast chunks not yet written to the registered chunked outputs.
+         *
+         * @return current number of pending chunks in all the chunked outputs.
+         */
+        long getPendingCount();
+
+        /**
+         * Get the highest number of broadcast chunks not yet written to a single registered chunked output.
+         *
+         * @return current lag of the slowest chunked output.
+         */
+        long getMaxLag();
+    }
+
     /**
      * Creates a new instance.
      * If this constructor is called by a subclass, it assumes the the reason for the subclass to exist is to implement
@@ -61,6 +161,42 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @see #Broadcaster()
      */
     protected Broadcaster(final Class<? extends Broadcaster> subclass) {
+        this(subclass, null, 0, SlowConsumerPolicy.BUFFER);
+    }
+
+    /**
+     * Creates a new instance broadcasting chunks to the registered chunked outputs in parallel.
+     *
+     * @param executor           executor used to write the chunks to the registered chunked outputs.
+     * @param maxPendingChunks   maximal number of chunks pending for a single chunked output before
+     *                           the {@code slowConsumerPolicy} is applied, not bounded if not positive.
+     * @param slowConsumerPolicy policy applied to the chunked outputs that have {@code maxPendingChunks} chunks pending.
+     * @see #Broadcaster()
+     * @since 2.46
+     */
+    public Broadcaster(final Executor executor, final int maxPendingChunks, final SlowConsumerPolicy slowConsumerPolicy) {
+        this(Broadcaster.class, executor, maxPendingChunks, slowConsumerPolicy);
+    }
+
+    /**
+     * Can be used by subclasses to create a broadcaster writing the chunks to the registered chunked outputs in parallel.
+     *
+     * @param subclass           subclass of Broadcaster that should not be registered as a listener.
+     * @param executor           executor used to write the chunks to the registered chunked outputs, {@code null} to write
+     *                           them sequentially by the broadcasting thread.
+     * @param maxPendingChunks   maximal number of chunks pending for a single chunked output before
+     *                           the {@code slowConsumerPolicy} is applied, not bounded if not positive.
+     * @param slowConsumerPolicy policy applied to the chunked outputs that have {@code maxPendingChunks} chunks pending.
+     * @see #Broadcaster(Class)
+     * @since 2.46
+     */
+    protected Broadcaster(final Class<? extends Broadcaster> subclass,
+                          final Executor executor,
+                          final int maxPendingChunks,
+                          final SlowConsumerPolicy slowConsumerPolicy) {
+        this.executor = executor;
+        this.maxPendingChunks = slowConsumerPolicy == SlowConsumerPolicy.BUFFER ? 0 : maxPendingChunks;
+        this.slowConsumerPolicy = slowConsumerPolicy;
         if (subclass != getClass()) {
             listeners.add(this);
         }
@@ -73,6 +209,9 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @return {@code true} if the instance was successfully registered, {@code false} otherwise.
      */
     public <OUT extends ChunkedOutput<T>> boolean add(final OUT chunkedOutput) {
+        if (executor != null) {
+            deliveries.putIfAbsent(chunkedOutput, new Delivery(chunkedOutput));
+        }
         return chunkedOutputs.offer(chunkedOutput);
     }
 
@@ -85,6 +224,10 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @return {@code true} if the instance was unregistered, {@code false} otherwise.
      */
     public <OUT extends ChunkedOutput<T>> boolean remove(final OUT chunkedOutput) {
+        final Delivery delivery = deliveries.remove(chunkedOutput);
+        if (delivery != null) {
+            delivery.discard();
+        }
         return chunkedOutputs.remove(chunkedOutput);
     }
 
@@ -124,18 +267,31 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @param chunk chunk to be sent.
      */
     public void broadcast(final T chunk) {
+        broadcastCount.increment();
+        if (executor != null) {
+            forEachDelivery(delivery -> delivery.offer(chunk));
+            return;
+        }
         forEachOutput(new Task<ChunkedOutput<T>>() {
             @Override
             public void run(final ChunkedOutput<T> cr) throws IOException {
                 cr.write(chunk);
+                deliveredCount.increment();
             }
         });
     }
 
     /**
      * Close all registered {@link ChunkedOutput} instances.
+     * <p>
+     * In the parallel broadcasting mode, the chunked outputs are closed once the chunks pending for them are written.
+     * </p>
      */
     public void closeAll() {
+        if (executor != null) {
+            forEachDelivery(Delivery::close);
+            return;
+        }
         forEachOutput(new Task<ChunkedOutput<T>>() {
             @Override
             public void run(final ChunkedOutput<T> cr) throws IOException {
@@ -144,6 +300,16 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
         });
     }
 
+    /**
+     * Get the broadcasting statistics of this broadcaster.
+     *
+     * @return broadcasting statistics.
+     * @since 2.46
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -189,6 +355,26 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
         }
     }
 
+    private void forEachDelivery(final Consumer<Delivery> action) {
+        for (Iterator<ChunkedOutput<T>> iterator = chunkedOutputs.iterator(); iterator.hasNext(); ) {
+            final ChunkedOutput<T> chunkedOutput = iterator.next();
+            if (chunkedOutput.isClosed()) {
+                iterator.remove();
+                final Delivery delivery = deliveries.remove(chunkedOutput);
+                if (delivery != null) {
+                    // notify just once even if the closed output is found by several broadcasting threads
+                    delivery.discard();
+                    fireOnClose(chunkedOutput);
+                }
+                continue;
+            }
+            final Delivery delivery = deliveries.get(chunkedOutput);
+            if (delivery != null) {
+                action.accept(delivery);
+            }
+        }
+    }
+
     private void forEachListener(final Task<BroadcasterListener<T>> t) {
         for (BroadcasterListener<T> listener : listeners) {
             try {
@@ -210,6 +396,171 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
         });
     }
 
+    /**
+     * Chunks pending for a single chunked output in the parallel broadcasting mode.
+     * <p>
+     * At most one executor task writes the chunks to the chunked output at a time, so that the chunks are written
+     * in the order in which they were broadcast.
+     * </p>
+     */
+    private final class Delivery implements Runnable {
+
+        private final Object closeMarker = new Object();
+
+        private final ChunkedOutput<T> chunkedOutput;
+        private final Queue<Object> chunks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean closing = new AtomicBoolean();
+        private volatile boolean closeMarkerQueued;
+
+        private Delivery(final ChunkedOutput<T> chunkedOutput) {
+            this.chunkedOutput = chunkedOutput;
+        }
+
+        private void offer(final T chunk) {
+            if (closing.get()) {
+                return;
+            }
+            if (maxPendingChunks > 0 && pending.get() >= maxPendingChunks) {
+                if (slowConsumerPolicy == SlowConsumerPolicy.DISCONNECT) {
+                    disconnect();
+                } else {
+                    droppedCount.increment();
+                }
+                return;
+            }
+            pendingCount.increment();
+            enqueue(chunk);
+        }
+
+        private void close() {
+            if (closing.compareAndSet(false, true)) {
+                closeMarkerQueued = true;
+                enqueue(closeMarker);
+            }
+        }
+
+        /**
+         * Drop the pending chunks and close the chunked output right away, without waiting for the stalled consumer
+         * to take the chunks queued before the close.
+         */
+        private void disconnect() {
+            if (!closing.compareAndSet(false, true)) {
+                return;
+            }
+            disconnectedCount.increment();
+            discard();
+            try {
+                chunkedOutput.close();
+            } catch (final Exception e) {
+                fireOnException(chunkedOutput, e);
+            }
+            if (deliveries.remove(chunkedOutput, this)) {
+                // the closed output itself gets removed from the registered outputs by the next iteration
+                fireOnClose(chunkedOutput);
+            }
+        }
+
+        private void discard() {
+            closing.set(true);
+            Object chunk;
+            while ((chunk = chunks.poll()) != null) {
+                if (chunk != closeMarker) {
+                    pendingCount.decrement();
+                }
+            }
+        }
+
+        private void enqueue(final Object chunk) {
+            chunks.offer(chunk);
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (final RejectedExecutionException e) {
+                    // executor is shut down or saturated, write in the broadcasting thread
+                    run();
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            do {
+                final Object chunk = chunks.poll();
+                if (chunk == null) {
+                    // discarded
+                    continue;
+                }
+                try {
+                    if (chunk == closeMarker) {
+                        closeMarkerQueued = false;
+                        chunkedOutput.close();
+                        if (deliveries.remove(chunkedOutput, this)) {
+                            // the closed output itself gets removed from the registered outputs by the next iteration
+                            fireOnClose(chunkedOutput);
+                        }
+                    } else {
+                        pendingCount.decrement();
+                        if (!chunkedOutput.isClosed()) {
+                            chunkedOutput.write((T) chunk);
+                            deliveredCount.increment();
+                        }
+                    }
+                } catch (final Exception e) {
+                    fireOnException(chunkedOutput, e);
+                }
+            } while (pending.decrementAndGet() > 0);
+        }
+
+        /**
+         * Get the number of chunks queued for the chunked output, not counting the close marker.
+         */
+        private int lag() {
+            return Math.max(0, pending.get() - (closeMarkerQueued ? 1 : 0));
+        }
+    }
+
+    /**
+     * Live view of the broadcasting statistics.
+     */
+    private final class BroadcasterStatistics implements Statistics {
+
+        @Override
+        public long getBroadcastCount() {
+            return broadcastCount.sum();
+        }
+
+        @Override
+        public long getDeliveredCount() {
+            return deliveredCount.sum();
+        }
+
+        @Override
+        public long getDroppedCount() {
+            return droppedCount.sum();
+        }
+
+        @Override
+        public long getDisconnectedCount() {
+            return disconnectedCount.sum();
+        }
+
+        @Override
+        public long getPendingCount() {
+            return pendingCount.sum();
+        }
+
+        @Override
+        public long getMaxLag() {
+            long max = 0;
+            for (final Delivery delivery : deliveries.values()) {
+                max = Math.max(max, delivery.lag());
+            }
+            return max;
+        }
+    }
+
     private void fireOnClose(final ChunkedOutput<T> chunkedOutput) {
         forEachListener(new Task<BroadcasterListener<T>>() {
             @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,14 +17,18 @@
 package org.glassfish.jersey.server;
 
 import java.io.Closeable;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.util.Collections;
-import java.util.concurrent.BlockingDeque;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Provider;
@@ -40,6 +44,15 @@ import org.glassfish.jersey.server.internal.process.MappableException;
 /**
  * Used for sending messages in "typed" chunks. Useful for long running processes,
  * which needs to produce partial responses.
+ * <p>
+ * By default, every chunk is flushed to the client as soon as it is written. A {@code ChunkedOutput} created by a
+ * {@link #builder() builder} with a {@link Builder#flushBatchSize(int) flush batch size} greater than one coalesces
+ * chunks that are already pending in the queue: they are written one after another and the underlying entity stream
+ * is flushed only once per batch. A batch ends when the queue is drained, when the batch size is reached or when
+ * the {@link Builder#flushLatency(long, TimeUnit) flush latency} elapses, whichever comes first. Chunks are never
+ * held back waiting for more chunks to arrive, only the chunks already pending when a batch is written are coalesced.
+ * Unbounded chunked outputs use a lock-free queue between the producers and the flushing thread.
+ * </p>
  *
  * @param <T> chunk type.
  * @author Pavel Bucek
@@ -50,8 +63,10 @@ import org.glassfish.jersey.server.internal.process.MappableException;
 public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     private static final byte[] ZERO_LENGTH_DELIMITER = new byte[0];
 
-    private final BlockingDeque<T> queue;
+    private final Queue<T> queue;
     private final byte[] chunkDelimiter;
+    private final int flushBatchSize;
+    private final long flushLatencyNanos;
     private final AtomicBoolean resumed = new AtomicBoolean(false);
     private final Object lock = new Object();
 
@@ -74,7 +89,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      */
     protected ChunkedOutput() {
         this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
+        flushBatchSize = 1;
+        flushLatencyNanos = 0;
     }
 
     /**
@@ -87,8 +104,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         if (builder.queueCapacity > 0) {
             queue = new LinkedBlockingDeque<>(builder.queueCapacity);
         } else {
-            queue = new LinkedBlockingDeque<>();
+            queue = new ConcurrentLinkedQueue<>();
         }
+        flushBatchSize = Math.max(1, builder.flushBatchSize);
+        flushLatencyNanos = builder.flushLatencyNanos;
         if (builder.chunkDelimiter != null) {
             this.chunkDelimiter = new byte[builder.chunkDelimiter.length];
             System.arraycopy(builder.chunkDelimiter, 0, this.chunkDelimiter, 0, builder.chunkDelimiter.length);
@@ -111,8 +130,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         if (builder.queueCapacity > 0) {
             queue = new LinkedBlockingDeque<>(builder.queueCapacity);
         } else {
-            queue = new LinkedBlockingDeque<>();
+            queue = new ConcurrentLinkedQueue<>();
         }
+        flushBatchSize = Math.max(1, builder.flushBatchSize);
+        flushLatencyNanos = builder.flushLatencyNanos;
         if (builder.chunkDelimiter != null) {
             this.chunkDelimiter = new byte[builder.chunkDelimiter.length];
             System.arraycopy(builder.chunkDelimiter, 0, this.chunkDelimiter, 0, builder.chunkDelimiter.length);
@@ -132,7 +153,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     public ChunkedOutput(final Type chunkType) {
         super(chunkType);
         this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
+        flushBatchSize = 1;
+        flushLatencyNanos = 0;
     }
 
     /**
@@ -148,7 +171,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         } else {
             this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
         }
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
+        flushBatchSize = 1;
+        flushLatencyNanos = 0;
     }
 
     /**
@@ -166,7 +191,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
 
         this.asyncContext = asyncContextProvider == null ? null : asyncContextProvider.get();
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
+        flushBatchSize = 1;
+        flushLatencyNanos = 0;
     }
 
     /**
@@ -184,7 +211,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         } else {
             this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
         }
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
+        flushBatchSize = 1;
+        flushLatencyNanos = 0;
     }
 
     /**
@@ -199,7 +228,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         } else {
             this.chunkDelimiter = chunkDelimiter.getBytes();
         }
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
+        flushBatchSize = 1;
+        flushLatencyNanos = 0;
     }
 
     /**
@@ -216,7 +247,9 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         } else {
             this.chunkDelimiter = chunkDelimiter.getBytes();
         }
-        queue = new LinkedBlockingDeque<>();
+        queue = new ConcurrentLinkedQueue<>();
+        flushBatchSize = 1;
+        flushLatencyNanos = 0;
     }
 
     /**
@@ -250,11 +283,15 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
 
         if (chunk != null) {
-            try {
-                queue.put(chunk);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new IOException(e);
+            if (queue instanceof BlockingQueue) {
+                try {
+                    ((BlockingQueue<T>) queue).put(chunk);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            } else {
+                queue.offer(chunk);
             }
         }
 
@@ -305,32 +342,22 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                             }
 
                             final OutputStream origStream = responseContext.getEntityStream();
-                            final OutputStream writtenStream = requestContext.getWorkers().writeTo(
-                                    t,
-                                    t.getClass(),
-                                    getType(),
-                                    responseContext.getEntityAnnotations(),
-                                    responseContext.getMediaType(),
-                                    responseContext.getHeaders(),
-                                    requestContext.getPropertiesDelegate(),
-                                    origStream,
-                                    // The output stream stored in the response context for this chunked output
-                                    // is already intercepted as a whole (if there are any interceptors);
-                                    // no need to intercept the individual chunks.
-                                    Collections.<WriterInterceptor>emptyList());
-
-                            //noinspection ArrayEquality
-                            if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
-                                // if the chunked output is configured with a custom delimiter, use it
-                                writtenStream.write(chunkDelimiter);
-                            }
-
-                            // flush the chunk (some writers do it, but some don't)
-                            writtenStream.flush();
-
-                            if (origStream != writtenStream) {
-                                // if MBW replaced the stream, let's make sure to set it in the response context.
-                                responseContext.setEntityStream(writtenStream);
+                            if (flushBatchSize == 1) {
+                                writeChunk(t, origStream);
+                            } else {
+                                // write all the chunks pending in the queue (up to the batch limits) and flush them at once
+                                final BatchingOutputStream batchStream = new BatchingOutputStream(origStream);
+                                final long batchStart = flushLatencyNanos > 0 ? System.nanoTime() : 0;
+                                int batched = 0;
+                                while (t != null) {
+                                    writeChunk(t, batchStream);
+                                    if (++batched >= flushBatchSize
+                                            || flushLatencyNanos > 0 && System.nanoTime() - batchStart >= flushLatencyNanos) {
+                                        break;
+                                    }
+                                    t = queue.poll();
+                                }
+                                batchStream.flushBatch();
                             }
                         } catch (final IOException | UncheckedIOException ioe) {
                             connectionCallback.onDisconnect(asyncContext);
@@ -405,6 +432,37 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
     }
 
+    private void writeChunk(final T chunk, final OutputStream entityStream) throws IOException {
+        final OutputStream writtenStream = requestContext.getWorkers().writeTo(
+                chunk,
+                chunk.getClass(),
+                getType(),
+                responseContext.getEntityAnnotations(),
+                responseContext.getMediaType(),
+                responseContext.getHeaders(),
+                requestContext.getPropertiesDelegate(),
+                entityStream,
+                // The output stream stored in the response context for this chunked output
+                // is already intercepted as a whole (if there are any interceptors);
+                // no need to intercept the individual chunks.
+                Collections.<WriterInterceptor>emptyList());
+
+        //noinspection ArrayEquality
+        if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
+            // if the chunked output is configured with a custom delimiter, use it
+            writtenStream.write(chunkDelimiter);
+        }
+
+        // flush the chunk (some writers do it, but some don't)
+        // in the batching mode the flush is deferred until the whole batch is written
+        writtenStream.flush();
+
+        if (entityStream != writtenStream) {
+            // if MBW replaced the stream, let's make sure to set it in the response context.
+            responseContext.setEntityStream(writtenStream);
+        }
+    }
+
     /**
      * Close this response - it will be finalized and underlying connections will be closed
      * or made available for another response.
@@ -477,6 +535,35 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         flushQueue();
     }
 
+    /**
+     * Output stream that defers flushing until the whole batch of chunks is written.
+     */
+    private static final class BatchingOutputStream extends FilterOutputStream {
+
+        private boolean batching = true;
+
+        private BatchingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!batching) {
+                out.flush();
+            }
+        }
+
+        private void flushBatch() throws IOException {
+            batching = false;
+            out.flush();
+        }
+    }
+
     /**
      * Builder that allows to create a new ChunkedOutput based on the given configuration options.
      *
@@ -485,6 +572,8 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     public static class Builder<Y> {
         byte[] chunkDelimiter;
         int queueCapacity = -1;
+        int flushBatchSize = 1;
+        long flushLatencyNanos = 0;
         Provider<AsyncContext> asyncContextProvider;
 
         private Builder() {
@@ -511,6 +600,33 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
             return this;
         }
 
+        /**
+         * Set the maximal number of queued chunks that are written before the entity stream is flushed. If greater
+         * than 1, chunks pending in the queue are coalesced and flushed at once, otherwise (default) every chunk is
+         * flushed as soon as it is written.
+         * @param flushBatchSize the maximal number of chunks flushed at once
+         * @return builder
+         */
+        public Builder<Y> flushBatchSize(int flushBatchSize) {
+            this.flushBatchSize = flushBatchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximal time spent writing the pending chunks of a single batch before the entity stream is flushed.
+         * Only used when the {@link #flushBatchSize(int) flush batch size} is greater than 1. The latency only caps the
+         * write loop, so that a long backlog of pending chunks is flushed in parts; the flushing thread never waits for
+         * new chunks to fill a batch. When not set, a batch is limited by the batch size and the number of pending
+         * chunks only.
+         * @param flushLatency the maximal flush latency
+         * @param unit the time unit of the {@code flushLatency} argument
+         * @return builder
+         */
+        public Builder<Y> flushLatency(long flushLatency, TimeUnit unit) {
+            this.flushLatencyNanos = unit.toNanos(flushLatency);
+            return this;
+        }
+
         /**
          * Set the async context provider.
          * @param asyncContextProvider the async context provider
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -575,6 +575,8 @@ public final class ServerProperties {
      *     <li>{@code OFF} - tracing support is disabled.</li>
      *     <li>{@code ON_DEMAND} - tracing support is in 'stand by' mode, it is enabled on demand by existence of request HTTP header</li>
      *     <li>{@code ALL} - tracing support is enabled for every request.</li>
+     *     <li>{@code SAMPLED} - summary timings of sampled and slow requests are recorded in memory,
+     *     see {@link #TRACING_SAMPLING_RATE}. Tracing of a single request may still be requested by the request header.</li>
      * </ul>
      * Type of the property value is {@code String}. The default value is {@code "OFF"}.
      * </p>
@@ -610,6 +612,75 @@ public final class ServerProperties {
      */
     public static final String TRACING_THRESHOLD = "jersey.config.server.tracing.threshold";
 
+    /**
+     * Record the timings of every N-th request when {@link #TRACING} is set to {@code SAMPLED}.
+     * <p>
+     * Sampled requests record the duration of the summary tracing events (routing, filters, entity reading, resource
+     * method invocation, entity writing and exception mapping) without producing any tracing headers or log messages.
+     * The recorded traces are kept in a bounded in-memory ring, see {@link #TRACING_SAMPLES_SIZE}, and are exposed by
+     * the {@link org.glassfish.jersey.server.monitoring.SampledTracesMXBean} which can be injected into resources or
+     * is registered as an MBean when {@link #MONITORING_STATISTICS_MBEANS_ENABLED monitoring MBeans} are enabled.
+     * </p>
+     * <p>
+     * A value of {@code 0} or less samples no request based on their count, only the slow requests are recorded, see
+     * {@link #TRACING_SLOW_THRESHOLD}.
+     * </p>
+     * <p>
+     * Type of the property value is {@code Integer}. The default value is {@value #DEFAULT_TRACING_SAMPLING_RATE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #TRACING
+     * @since 2.46
+     */
+    public static final String TRACING_SAMPLING_RATE = "jersey.config.server.tracing.sampling.rate";
+
+    /**
+     * Default value of {@link #TRACING_SAMPLING_RATE}, one in hundred requests is sampled.
+     *
+     * @since 2.46
+     */
+    public static final int DEFAULT_TRACING_SAMPLING_RATE = 100;
+
+    /**
+     * Record the timings of every request that takes at least the given number of milliseconds when
+     * {@link #TRACING} is set to {@code SAMPLED}. When set, the summary timings are collected for every request.
+     * <p>
+     * Type of the property value is {@code Integer}. Negative value disables the recording of slow requests, which is
+     * also the default.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #TRACING_SAMPLING_RATE
+     * @since 2.46
+     */
+    public static final String TRACING_SLOW_THRESHOLD = "jersey.config.server.tracing.sampling.slowThreshold";
+
+    /**
+     * Number of most recent sampled traces kept in memory when {@link #TRACING} is set to {@code SAMPLED}.
+     * <p>
+     * Type of the property value is {@code Integer}. The default value is {@value #DEFAULT_TRACING_SAMPLES_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #TRACING_SAMPLING_RATE
+     * @since 2.46
+     */
+    public static final String TRACING_SAMPLES_SIZE = "jersey.config.server.tracing.sampling.size";
+
+    /**
+     * Default value of {@link #TRACING_SAMPLES_SIZE}.
+     *
+     * @since 2.46
+     */
+    public static final int DEFAULT_TRACING_SAMPLES_SIZE = 256;
+
     /**
      * Whenever response status is {@code 4xx} or {@code 5xx} it is possible to choose between {@code sendError} or
      * {@code setStatus} on container specific {@code Response} implementation. E.g. on servlet container Jersey
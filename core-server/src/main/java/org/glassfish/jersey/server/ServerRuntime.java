@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -76,6 +76,7 @@ import org.glassfish.jersey.process.internal.Stages;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.ServerTraceEvent;
+import org.glassfish.jersey.server.internal.TraceSampler;
 import org.glassfish.jersey.server.internal.monitoring.EmptyRequestEventBuilder;
 import org.glassfish.jersey.server.internal.monitoring.RequestEventBuilder;
 import org.glassfish.jersey.server.internal.monitoring.RequestEventImpl;
@@ -120,6 +121,7 @@ public class ServerRuntime {
 
     private final TracingConfig tracingConfig;
     private final TracingLogger.Level tracingThreshold;
+    private final TraceSampler traceSampler;
 
     private final boolean processResponseErrors;
 
@@ -179,6 +181,7 @@ public class ServerRuntime {
 
         this.tracingConfig = TracingUtils.getTracingConfig(configuration);
         this.tracingThreshold = TracingUtils.getTracingThreshold(configuration);
+        this.traceSampler = tracingConfig == TracingConfig.SAMPLED ? injectionManager.getInstance(TraceSampler.class) : null;
 
         this.processResponseErrors = PropertiesHelper.isProperty(
                 configuration.getProperty(ServerProperties.PROCESSING_RESPONSE_ERRORS_ENABLED));
@@ -198,7 +201,7 @@ public class ServerRuntime {
      * @param request container request to be processed.
      */
     public void process(final ContainerRequest request) {
-        TracingUtils.initTracingSupport(tracingConfig, tracingThreshold, request);
+        TracingUtils.initTracingSupport(tracingConfig, tracingThreshold, traceSampler, request);
         TracingUtils.logStart(request);
 
         final UriRoutingContext routingContext = request.getUriRoutingContext();
@@ -751,6 +754,9 @@ public class ServerRuntime {
                 LOGGER.log(Level.WARNING, LocalizationMessages.RELEASING_REQUEST_PROCESSING_RESOURCES_FAILED(), throwable);
             } finally {
                 runtime.externalRequestScope.close();
+                if (runtime.traceSampler != null) {
+                    runtime.traceSampler.finished(tracingLogger, responseContext);
+                }
                 processingContext.triggerEvent(RequestEvent.Type.FINISHED);
             }
         }
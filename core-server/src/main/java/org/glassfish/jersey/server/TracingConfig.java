@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -35,5 +35,16 @@ public enum TracingConfig {
     /**
      * Tracing support is enabled for every request.
      */
-    ALL
+    ALL,
+    /**
+     * Tracing support records summary timings of a sample of requests and of slow requests into memory
+     * without producing any tracing headers or log messages. Tracing of a particular request can still be requested
+     * by the {@link org.glassfish.jersey.message.internal.TracingLogger#HEADER_ACCEPT} request header as in the
+     * {@link #ON_DEMAND} mode.
+     *
+     * @see org.glassfish.jersey.server.ServerProperties#TRACING_SAMPLING_RATE
+     * @see org.glassfish.jersey.server.ServerProperties#TRACING_SLOW_THRESHOLD
+     * @since 2.46
+     */
+    SAMPLED
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,6 +25,7 @@ import javax.ws.rs.core.HttpHeaders;
 
 import org.glassfish.jersey.message.internal.TracingLogger;
 import org.glassfish.jersey.server.internal.ServerTraceEvent;
+import org.glassfish.jersey.server.internal.TraceSampler;
 
 /**
  * Utilities for tracing support.
@@ -73,6 +74,26 @@ public final class TracingUtils {
         containerRequest.setProperty(TracingLogger.PROPERTY_NAME, tracingLogger);
     }
 
+    /**
+     * Initialize tracing support as {@link #initTracingSupport(TracingConfig, TracingLogger.Level, ContainerRequest)} does
+     * and, if the tracing has not been requested explicitly, let the {@code sampler} decide whether to record the request.
+     *
+     * @param type             application-wide tracing configuration type.
+     * @param appThreshold     application-wide tracing level threshold.
+     * @param sampler          sampler of request traces, may be {@code null}.
+     * @param containerRequest request instance to get runtime properties to store {@link TracingLogger} instance to.
+     */
+    static void initTracingSupport(TracingConfig type,
+                                   TracingLogger.Level appThreshold,
+                                   TraceSampler sampler,
+                                   ContainerRequest containerRequest) {
+        if (sampler != null && !isTracingSupportEnabled(type, containerRequest)) {
+            containerRequest.setProperty(TracingLogger.PROPERTY_NAME, sampler.getTracingLogger(containerRequest));
+        } else {
+            initTracingSupport(type, appThreshold, containerRequest);
+        }
+    }
+
     /**
      * Log tracing messages START events.
      *
@@ -114,7 +135,8 @@ public final class TracingUtils {
      */
     private static boolean isTracingSupportEnabled(TracingConfig type, ContainerRequest containerRequest) {
         return (type == TracingConfig.ALL)
-                || ((type == TracingConfig.ON_DEMAND) && (containerRequest.getHeaderString(TracingLogger.HEADER_ACCEPT) != null));
+                || ((type == TracingConfig.ON_DEMAND || type == TracingConfig.SAMPLED)
+                        && (containerRequest.getHeaderString(TracingLogger.HEADER_ACCEPT) != null));
     }
 
     /**
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.filter;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+import org.glassfish.jersey.server.filter.AccessLogFeature.Format;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+
+/**
+ * Bounded multi-producer/single-consumer ring buffer of access log records.
+ * <p>
+ * The records are pre-allocated and reused, request processing threads only claim a slot, copy the references and
+ * primitives of the record into it and publish it. Formatting and logging is done by a single daemon thread which
+ * drains the buffer in the order the slots were claimed. If the buffer is full, the record is dropped.
+ * <p>
+ * The drain thread is started lazily when the first record is published, so that no thread is left behind by an
+ * application that is never started in a container and never processes a request.
+ */
+final class AccessLogBuffer implements Runnable {
+
+    private static final Logger LOGGER = Logger.getLogger(AccessLogBuffer.class.getName());
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private static final DateTimeFormatter COMMON_DATE = DateTimeFormatter
+            .ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.US)
+            .withZone(ZoneId.systemDefault());
+    private static final DateTimeFormatter JSON_DATE = DateTimeFormatter.ISO_INSTANT;
+
+    private final Format format;
+    private final Logger logger;
+
+    private final Record[] records;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long head;
+    private volatile boolean closed;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Thread drainer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    /**
+     * Create a new buffer. The drain thread is started when the first record is published.
+     *
+     * @param format     format of the log records.
+     * @param loggerName name of the logger the records are written to.
+     * @param capacity   minimum number of records the buffer holds.
+     */
+    AccessLogBuffer(final Format format, final String loggerName, final int capacity) {
+        this.format = format;
+        this.logger = Logger.getLogger(loggerName);
+
+        final int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.records = new Record[size];
+        for (int i = 0; i < size; i++) {
+            records[i] = new Record();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Publish an access log record. The method never blocks, if the buffer is full the record is dropped.
+     *
+     * @param startMillis    request start time in milliseconds since the epoch.
+     * @param durationNanos  request processing duration in nanoseconds.
+     * @param method         request method.
+     * @param uri            request URI.
+     * @param status         response status code.
+     * @param bytes          number of bytes of the response entity or {@code -1} if there is no entity.
+     * @param user           name of the authenticated user or {@code null}.
+     * @param requestEntity  sampled request entity bytes or {@code null}.
+     * @param responseEntity sampled response entity bytes or {@code null}.
+     * @return {@code true} if the record has been published, {@code false} if it has been dropped.
+     */
+    boolean publish(final long startMillis, final long durationNanos, final String method, final URI uri,
+                    final int status, final long bytes, final String user,
+                    final byte[] requestEntity, final byte[] responseEntity) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (closed || sequence - head >= records.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        final Record record = records[(int) (sequence & mask)];
+        record.startMillis = startMillis;
+        record.durationNanos = durationNanos;
+        record.method = method;
+        record.uri = uri;
+        record.status = status;
+        record.bytes = bytes;
+        record.user = user;
+        record.requestEntity = requestEntity;
+        record.responseEntity = responseEntity;
+        // volatile write publishes the record fields to the drain thread
+        record.sequence = sequence;
+
+        if (!started.get() && started.compareAndSet(false, true)) {
+            final Thread thread = new ThreadFactoryBuilder()
+                    .setNameFormat("jersey-access-log-%d")
+                    .setDaemon(true)
+                    .build()
+                    .newThread(this);
+            drainer = thread;
+            thread.start();
+        }
+        return true;
+    }
+
+    /**
+     * Stop accepting new records, drain the already published ones and stop the drain thread, if it has been started.
+     */
+    void close() {
+        closed = true;
+        if (!started.compareAndSet(false, true)) {
+            final Thread thread = drainer;
+            if (thread == null) {
+                // the thread is being started by a concurrent publisher, it terminates by itself once drained
+                return;
+            }
+            LockSupport.unpark(thread);
+            try {
+                thread.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            final long sequence = head;
+            final Record record = records[(int) (sequence & mask)];
+
+            if (record.sequence == sequence) {
+                write(record);
+                record.clear();
+                // volatile write releases the slot to the producers
+                head = sequence + 1;
+                continue;
+            }
+
+            reportDropped();
+            if (closed && tail.get() == sequence) {
+                return;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    private void reportDropped() {
+        if (dropped.get() > 0) {
+            final long count = dropped.getAndSet(0);
+            LOGGER.warning(LocalizationMessages.ACCESS_LOG_RECORDS_DROPPED(count, logger.getName()));
+        }
+    }
+
+    private void write(final Record record) {
+        if (!logger.isLoggable(Level.INFO)) {
+            return;
+        }
+        try {
+            line.setLength(0);
+            if (format == Format.JSON) {
+                formatJson(record, line);
+            } else {
+                formatCommon(record, line);
+            }
+            logger.info(line.toString());
+        } catch (final RuntimeException e) {
+            // never let a malformed record stop the drain thread
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+        }
+    }
+
+    private static void formatCommon(final Record record, final StringBuilder sb) {
+        sb.append("- - ");
+        sb.append(record.user == null ? "-" : record.user);
+        sb.append(" [");
+        COMMON_DATE.formatTo(Instant.ofEpochMilli(record.startMillis), sb);
+        sb.append("] \"").append(record.method).append(' ');
+        appendPathAndQuery(record.uri, sb);
+        sb.append("\" ").append(record.status).append(' ');
+        if (record.bytes < 0) {
+            sb.append('-');
+        } else {
+            sb.append(record.bytes);
+        }
+        sb.append(' ');
+        appendMillis(record.durationNanos, sb);
+
+        if (record.requestEntity != null) {
+            sb.append(" request=\"");
+            appendEscaped(new String(record.requestEntity, StandardCharsets.UTF_8), sb);
+            sb.append('"');
+        }
+        if (record.responseEntity != null) {
+            sb.append(" response=\"");
+            appendEscaped(new String(record.responseEntity, StandardCharsets.UTF_8), sb);
+            sb.append('"');
+        }
+    }
+
+    private static void formatJson(final Record record, final StringBuilder sb) {
+        sb.append("{\"time\":\"");
+        JSON_DATE.formatTo(Instant.ofEpochMilli(record.startMillis), sb);
+        sb.append("\",\"method\":\"");
+        appendEscaped(record.method, sb);
+        sb.append("\",\"uri\":\"");
+        appendEscaped(record.uri.toString(), sb);
+        sb.append("\",\"status\":").append(record.status);
+        sb.append(",\"bytes\":").append(record.bytes);
+        sb.append(",\"duration\":");
+        appendMillis(record.durationNanos, sb);
+
+        if (record.user != null) {
+            sb.append(",\"user\":\"");
+            appendEscaped(record.user, sb);
+            sb.append('"');
+        }
+        if (record.requestEntity != null) {
+            sb.append(",\"request\":\"");
+            appendEscaped(new String(record.requestEntity, StandardCharsets.UTF_8), sb);
+            sb.append('"');
+        }
+        if (record.responseEntity != null) {
+            sb.append(",\"response\":\"");
+            appendEscaped(new String(record.responseEntity, StandardCharsets.UTF_8), sb);
+            sb.append('"');
+        }
+        sb.append('}');
+    }
+
+    private static void appendPathAndQuery(final URI uri, final StringBuilder sb) {
+        final String path = uri.getRawPath();
+        sb.append(path == null || path.isEmpty() ? "/" : path);
+        if (uri.getRawQuery() != null) {
+            sb.append('?').append(uri.getRawQuery());
+        }
+    }
+
+    private static void appendMillis(final long nanos, final StringBuilder sb) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        sb.append(micros / 1000).append('.');
+        final long fraction = micros % 1000;
+        if (fraction < 100) {
+            sb.append('0');
+        }
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+
+    private static void appendEscaped(final String value, final StringBuilder sb) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+    }
+
+    /**
+     * Pre-allocated, reusable access log record.
+     */
+    private static final class Record {
+
+        private volatile long sequence = -1;
+
+        private long startMillis;
+        private long durationNanos;
+        private String method;
+        private URI uri;
+        private int status;
+        private long bytes;
+        private String user;
+        private byte[] requestEntity;
+        private byte[] responseEntity;
+
+        private void clear() {
+            method = null;
+            uri = null;
+            user = null;
+            requestEntity = null;
+            responseEntity = null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.filter;
+
+import java.util.Locale;
+import java.util.Map;
+
+import javax.ws.rs.ConstrainedTo;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+
+/**
+ * Feature enabling an asynchronous, low-overhead access log on the server side.
+ * <p>
+ * Unlike {@link org.glassfish.jersey.logging.LoggingFeature}, which formats the whole request and response
+ * (including headers and entities) synchronously on the request processing thread, this feature records only
+ * the fields of a single access log line (method, request URI, status, response size, duration and user) into
+ * pre-allocated slots of a bounded ring buffer. The buffer is drained by a single background daemon thread that
+ * formats the records in the configured {@link Format} and writes them to a {@link java.util.logging.Logger}
+ * at {@link java.util.logging.Level#INFO INFO} level. When the buffer is full, records are dropped rather than
+ * blocking the request processing thread and the number of dropped records is reported periodically.
+ * <p>
+ * Entity bodies are not logged by default. Request and response entities of a configurable fraction of requests
+ * may be sampled; only the bytes actually read or written by the application are captured, up to the configured
+ * maximum size.
+ * <p>
+ * The feature is configured by the following properties:
+ * <ul>
+ * <li>{@link #ACCESS_LOG_FORMAT}</li>
+ * <li>{@link #ACCESS_LOG_LOGGER_NAME}</li>
+ * <li>{@link #ACCESS_LOG_BUFFER_SIZE}</li>
+ * <li>{@link #ACCESS_LOG_ENTITY_SAMPLING_RATE}</li>
+ * <li>{@link #ACCESS_LOG_MAX_ENTITY_SIZE}</li>
+ * </ul>
+ * The feature is registered automatically when the {@link #ACCESS_LOG_FORMAT} property is set.
+ *
+ * @since 2.46
+ */
+@ConstrainedTo(RuntimeType.SERVER)
+public class AccessLogFeature implements Feature {
+
+    /**
+     * Format of the access log records.
+     */
+    public enum Format {
+        /**
+         * Common log format, e.g. {@code - - alice [10/Oct/2026:13:55:36 +0200] "GET /app/items?page=2" 200 2326 1.507}.
+         * <p>
+         * As neither the remote host nor the protocol version are available to the JAX-RS request context, the host
+         * is always {@code -} and the request line contains the method and the request path with the query only.
+         * The duration of the request in milliseconds is appended after the response size and sampled entities,
+         * if any, are appended as quoted {@code request=} and {@code response=} fields.
+         */
+        COMMON,
+        /**
+         * JSON lines, one JSON object per request with {@code time}, {@code method}, {@code uri}, {@code status},
+         * {@code bytes}, {@code duration} (in milliseconds) and, if present, {@code user}, {@code request} and
+         * {@code response} members.
+         */
+        JSON
+    }
+
+    /**
+     * Default logger name of the access log.
+     */
+    public static final String DEFAULT_LOGGER_NAME = AccessLogFeature.class.getName();
+    /**
+     * Default format of the access log records.
+     */
+    public static final Format DEFAULT_FORMAT = Format.COMMON;
+    /**
+     * Default number of records the ring buffer can hold.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+    /**
+     * Default maximum number of bytes of a sampled entity to be logged.
+     */
+    public static final int DEFAULT_MAX_ENTITY_SIZE = 1024;
+
+    private static final String ACCESS_LOG_PREFIX = "jersey.config.server.accessLog";
+
+    /**
+     * Format of the access log records, either a {@link Format} instance or its (case insensitive) name.
+     * <p>
+     * The default value is {@link #DEFAULT_FORMAT}. Setting this property registers the feature automatically.
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     */
+    public static final String ACCESS_LOG_FORMAT = ACCESS_LOG_PREFIX + ".format";
+    /**
+     * Name of the {@link java.util.logging.Logger} the access log records are written to.
+     * <p>
+     * The default value is {@link #DEFAULT_LOGGER_NAME}.
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     */
+    public static final String ACCESS_LOG_LOGGER_NAME = ACCESS_LOG_PREFIX + ".logger.name";
+    /**
+     * Number of records the ring buffer can hold before new records are dropped. The value is rounded up to the
+     * nearest power of two.
+     * <p>
+     * The default value is {@value #DEFAULT_BUFFER_SIZE}.
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     */
+    public static final String ACCESS_LOG_BUFFER_SIZE = ACCESS_LOG_PREFIX + ".bufferSize";
+    /**
+     * Fraction of requests, between {@code 0.0} and {@code 1.0}, whose request and response entities are sampled
+     * into the access log.
+     * <p>
+     * The default value is {@code 0.0}, i.e. no entities are logged.
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     */
+    public static final String ACCESS_LOG_ENTITY_SAMPLING_RATE = ACCESS_LOG_PREFIX + ".entity.samplingRate";
+    /**
+     * Maximum number of bytes of a sampled entity to be logged.
+     * <p>
+     * The default value is {@value #DEFAULT_MAX_ENTITY_SIZE}.
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     */
+    public static final String ACCESS_LOG_MAX_ENTITY_SIZE = ACCESS_LOG_PREFIX + ".entity.maxSize";
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        if (context.getConfiguration().isRegistered(AccessLogFilter.class)) {
+            return false;
+        }
+
+        final Map<String, Object> properties = context.getConfiguration().getProperties();
+
+        final int bufferSize = PropertiesHelper.getValue(properties, ACCESS_LOG_BUFFER_SIZE, DEFAULT_BUFFER_SIZE, null);
+        final int maxEntitySize = PropertiesHelper.getValue(properties, ACCESS_LOG_MAX_ENTITY_SIZE,
+                DEFAULT_MAX_ENTITY_SIZE, null);
+        final Double samplingRate = PropertiesHelper.getValue(properties, ACCESS_LOG_ENTITY_SAMPLING_RATE, Double.class, null);
+        final String loggerName = PropertiesHelper.getValue(properties, ACCESS_LOG_LOGGER_NAME, DEFAULT_LOGGER_NAME, null);
+
+        final AccessLogBuffer buffer = new AccessLogBuffer(format(properties.get(ACCESS_LOG_FORMAT)), loggerName,
+                Math.max(1, bufferSize));
+        context.register(new AccessLogFilter(buffer, samplingRate == null ? 0 : samplingRate, Math.max(0, maxEntitySize)));
+        return true;
+    }
+
+    private static Format format(final Object value) {
+        if (value == null) {
+            return DEFAULT_FORMAT;
+        }
+        if (value instanceof Format) {
+            return (Format) value;
+        }
+        return Format.valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.Principal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Priority;
+import javax.ws.rs.ConstrainedTo;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
+
+/**
+ * Server filter and writer interceptor publishing a record per request to the {@link AccessLogBuffer}.
+ * <p>
+ * The only per-request state kept for requests which are not sampled is the boxed start timestamp stored as a request
+ * property and, for responses with an entity, a counting output stream. The record is published by the response filter
+ * if the response has no entity, otherwise after the entity has been written. Requests which reach neither of them, e.g.
+ * because an exception could not be mapped to a response and has been passed to the container, are published with
+ * the {@code 500} status when the {@link RequestEvent.Type#FINISHED} event is received. The filter is a stateless
+ * {@link RequestEventListener} shared by all requests, so that no listener is allocated per request.
+ */
+@PreMatching
+@Priority(Integer.MIN_VALUE)
+@ConstrainedTo(RuntimeType.SERVER)
+final class AccessLogFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor,
+        ContainerLifecycleListener, ApplicationEventListener, RequestEventListener {
+
+    private static final String START_PROPERTY = AccessLogFilter.class.getName() + ".start";
+    private static final String SAMPLE_PROPERTY = AccessLogFilter.class.getName() + ".sample";
+    private static final String RESPONSE_PROPERTY = AccessLogFilter.class.getName() + ".response";
+
+    private final AccessLogBuffer buffer;
+    private final double samplingRate;
+    private final int maxEntitySize;
+
+    /**
+     * Create a new access log filter.
+     *
+     * @param buffer        buffer the records are published to.
+     * @param samplingRate  fraction of requests whose entities are sampled.
+     * @param maxEntitySize maximum number of bytes of a sampled entity.
+     */
+    AccessLogFilter(final AccessLogBuffer buffer, final double samplingRate, final int maxEntitySize) {
+        this.buffer = buffer;
+        this.samplingRate = samplingRate;
+        this.maxEntitySize = maxEntitySize;
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) throws IOException {
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+
+        if (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate) {
+            final Sample sample = new Sample();
+            if (requestContext.hasEntity()) {
+                sample.request = new CapturingInputStream(requestContext.getEntityStream(), maxEntitySize);
+                requestContext.setEntityStream(sample.request);
+            }
+            requestContext.setProperty(SAMPLE_PROPERTY, sample);
+        }
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext)
+            throws IOException {
+        final Object start = requestContext.getProperty(START_PROPERTY);
+        if (!(start instanceof Long)) {
+            return;
+        }
+        // HEAD responses never reach the writer interceptors
+        if (responseContext.hasEntity() && !HttpMethod.HEAD.equals(requestContext.getMethod())
+                && responseContext instanceof ContainerResponse) {
+            requestContext.setProperty(RESPONSE_PROPERTY, responseContext);
+            return;
+        }
+        requestContext.removeProperty(START_PROPERTY);
+        publish(requestContext, (Long) start, responseContext.getStatus(), -1, null);
+    }
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException, WebApplicationException {
+        final Object start = context.getProperty(START_PROPERTY);
+        final Object response = context.getProperty(RESPONSE_PROPERTY);
+        if (!(start instanceof Long) || !(response instanceof ContainerResponse)) {
+            context.proceed();
+            return;
+        }
+        context.removeProperty(START_PROPERTY);
+        context.removeProperty(RESPONSE_PROPERTY);
+
+        final CountingOutputStream stream = new CountingOutputStream(context.getOutputStream(),
+                context.getProperty(SAMPLE_PROPERTY) instanceof Sample ? maxEntitySize : -1);
+        context.setOutputStream(stream);
+        try {
+            context.proceed();
+        } finally {
+            final ContainerResponse containerResponse = (ContainerResponse) response;
+            publish(containerResponse.getRequestContext(), (Long) start, containerResponse.getStatus(),
+                    stream.count, stream.captured());
+        }
+    }
+
+    @Override
+    public void onEvent(final ApplicationEvent event) {
+    }
+
+    @Override
+    public RequestEventListener onRequest(final RequestEvent requestEvent) {
+        return this;
+    }
+
+    @Override
+    public void onEvent(final RequestEvent event) {
+        if (event.getType() != RequestEvent.Type.FINISHED) {
+            return;
+        }
+        final ContainerRequestContext request = event.getContainerRequest();
+        final Object start = request.getProperty(START_PROPERTY);
+        if (!(start instanceof Long)) {
+            return;
+        }
+        request.removeProperty(START_PROPERTY);
+        request.removeProperty(RESPONSE_PROPERTY);
+
+        final ContainerResponse response = event.getContainerResponse();
+        publish(request, (Long) start,
+                response != null && event.isResponseWritten() ? response.getStatus() : 500, -1, null);
+    }
+
+    private void publish(final ContainerRequestContext request, final long start, final int status, final long bytes,
+                         final byte[] responseEntity) {
+        final long duration = System.nanoTime() - start;
+        final Object sample = request.getProperty(SAMPLE_PROPERTY);
+        final CapturingInputStream requestEntity = sample instanceof Sample ? ((Sample) sample).request : null;
+
+        final SecurityContext securityContext = request.getSecurityContext();
+        final Principal principal = securityContext == null ? null : securityContext.getUserPrincipal();
+
+        buffer.publish(System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(duration), duration,
+                request.getMethod(), request.getUriInfo().getRequestUri(), status, bytes,
+                principal == null ? null : principal.getName(),
+                requestEntity == null ? null : requestEntity.captured(),
+                responseEntity);
+    }
+
+    @Override
+    public void onStartup(final Container container) {
+    }
+
+    @Override
+    public void onReload(final Container container) {
+    }
+
+    @Override
+    public void onShutdown(final Container container) {
+        buffer.close();
+    }
+
+    /**
+     * Per-request state of a request whose entities are sampled.
+     */
+    private static final class Sample {
+
+        private CapturingInputStream request;
+    }
+
+    /**
+     * Input stream capturing up to the given number of bytes read from the underlying stream.
+     */
+    private static final class CapturingInputStream extends FilterInputStream {
+
+        private final ByteArrayOutputStream captured;
+        private final int maxSize;
+
+        private CapturingInputStream(final InputStream in, final int maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+            this.captured = new ByteArrayOutputStream(Math.min(maxSize, 256));
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1 && captured.size() < maxSize) {
+                captured.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0 && captured.size() < maxSize) {
+                captured.write(b, off, Math.min(read, maxSize - captured.size()));
+            }
+            return read;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private byte[] captured() {
+            return captured.toByteArray();
+        }
+    }
+
+    /**
+     * Output stream counting the written bytes and optionally capturing up to the given number of them.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private final ByteArrayOutputStream captured;
+        private final int maxSize;
+        private long count;
+
+        private CountingOutputStream(final OutputStream out, final int maxSize) {
+            super(out);
+            this.maxSize = maxSize;
+            this.captured = maxSize < 0 ? null : new ByteArrayOutputStream(Math.min(maxSize, 256));
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+            if (captured != null && captured.size() < maxSize) {
+                captured.write(b);
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+            if (captured != null && captured.size() < maxSize) {
+                captured.write(b, off, Math.min(len, maxSize - captured.size()));
+            }
+        }
+
+        private byte[] captured() {
+            return captured == null ? null : captured.toByteArray();
+        }
+    }
+}
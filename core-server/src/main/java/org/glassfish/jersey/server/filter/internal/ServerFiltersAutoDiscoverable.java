@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,6 +24,7 @@ import javax.ws.rs.core.FeatureContext;
 
 import org.glassfish.jersey.internal.spi.AutoDiscoverable;
 import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.filter.AccessLogFeature;
 import org.glassfish.jersey.server.filter.UriConnegFilter;
 
 /**
@@ -47,5 +48,11 @@ public final class ServerFiltersAutoDiscoverable implements AutoDiscoverable {
                 && (languageMappings != null || mediaTypesMappings != null)) {
             context.register(UriConnegFilter.class);
         }
+
+        // AccessLogFeature.
+        if (!config.isRegistered(AccessLogFeature.class)
+                && config.getProperty(AccessLogFeature.ACCESS_LOG_FORMAT) != null) {
+            context.register(AccessLogFeature.class);
+        }
     }
 }
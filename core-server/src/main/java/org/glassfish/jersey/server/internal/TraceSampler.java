@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.inject.Inject;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.message.internal.MsgTraceEvent;
+import org.glassfish.jersey.message.internal.TracingLogger;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.TracingConfig;
+import org.glassfish.jersey.server.monitoring.SampledTracesMXBean;
+
+/**
+ * Records the summary timings of sampled and slow requests into a bounded lock-free ring.
+ * <p>
+ * The sampler creates a light-weight {@link TracingLogger} for each request that is either sampled (one in
+ * {@link ServerProperties#TRACING_SAMPLING_RATE} requests) or may turn out to be slow (when
+ * {@link ServerProperties#TRACING_SLOW_THRESHOLD} is set). The logger only accumulates the durations of the summary
+ * {@link ServerTraceEvent server} and {@link MsgTraceEvent message} events per processing {@link Stage stage}; it does not
+ * format any message nor produce any response header. When the response is written, or when the request processing
+ * is finished without a written response (e.g. because of an unmapped exception), the trace is stored into the ring
+ * if the request was sampled or slow, overwriting the oldest trace.
+ *
+ * @since 2.46
+ */
+public final class TraceSampler implements SampledTracesMXBean {
+
+    /**
+     * Request processing stages the durations are recorded for.
+     */
+    enum Stage {
+        PRE_MATCH_FILTERS("pre-match-filters"),
+        ROUTING("routing"),
+        REQUEST_FILTERS("request-filters"),
+        READER("reader"),
+        METHOD("method"),
+        RESPONSE_FILTERS("response-filters"),
+        WRITER("writer"),
+        EXCEPTION_MAPPING("exception-mapping");
+
+        private static final Stage[] STAGES = values();
+
+        private final String label;
+
+        Stage(final String label) {
+            this.label = label;
+        }
+
+        private static Stage of(final TracingLogger.Event event) {
+            if (event == ServerTraceEvent.PRE_MATCH_SUMMARY) {
+                return PRE_MATCH_FILTERS;
+            } else if (event == ServerTraceEvent.MATCH_SUMMARY) {
+                return ROUTING;
+            } else if (event == ServerTraceEvent.REQUEST_FILTER_SUMMARY) {
+                return REQUEST_FILTERS;
+            } else if (event == MsgTraceEvent.RI_SUMMARY) {
+                return READER;
+            } else if (event == ServerTraceEvent.METHOD_INVOKE) {
+                return METHOD;
+            } else if (event == ServerTraceEvent.RESPONSE_FILTER_SUMMARY) {
+                return RESPONSE_FILTERS;
+            } else if (event == MsgTraceEvent.WI_SUMMARY) {
+                return WRITER;
+            } else if (event == ServerTraceEvent.EXCEPTION_MAPPING) {
+                return EXCEPTION_MAPPING;
+            }
+            return null;
+        }
+    }
+
+    private final boolean enabled;
+    private final int samplingRate;
+    private final long slowThresholdNanos;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicReferenceArray<Trace> traces;
+    private final int mask;
+
+    /**
+     * Create new sampler configured by the application configuration.
+     *
+     * @param configuration application configuration.
+     */
+    @Inject
+    public TraceSampler(final Configuration configuration) {
+        this.enabled = TracingConfig.SAMPLED.name().equals(String.valueOf(configuration.getProperty(ServerProperties.TRACING)));
+
+        this.samplingRate = ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.TRACING_SAMPLING_RATE, ServerProperties.DEFAULT_TRACING_SAMPLING_RATE, Integer.class);
+        final int slowThreshold = ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.TRACING_SLOW_THRESHOLD, -1, Integer.class);
+        this.slowThresholdNanos = slowThreshold < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(slowThreshold);
+
+        final int size = Math.max(1, ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.TRACING_SAMPLES_SIZE, ServerProperties.DEFAULT_TRACING_SAMPLES_SIZE, Integer.class));
+        final int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.traces = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Check whether the sampling is enabled for the application.
+     *
+     * @return {@code true} if the {@link ServerProperties#TRACING tracing} is set to {@code SAMPLED}.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get a tracing logger for the request.
+     *
+     * @param request request to be traced.
+     * @return recording tracing logger if the request is sampled or if slow requests are recorded, otherwise an
+     * {@link TracingLogger#empty() empty} tracing logger.
+     */
+    public TracingLogger getTracingLogger(final ContainerRequest request) {
+        final boolean sampled = samplingRate > 0 && requestCount.incrementAndGet() % samplingRate == 0;
+        if (!sampled && slowThresholdNanos < 0) {
+            return TracingLogger.empty();
+        }
+        return new Recorder(request.getMethod(), request.getRequestUri(), sampled);
+    }
+
+    /**
+     * Record the trace of a finished request unless it has already been recorded when the response was written.
+     *
+     * @param tracingLogger tracing logger of the request.
+     * @param response      response of the request, may be {@code null} if no response has been produced.
+     */
+    public void finished(final TracingLogger tracingLogger, final ContainerResponse response) {
+        if (tracingLogger instanceof Recorder) {
+            final Recorder recorder = (Recorder) tracingLogger;
+            if (recorder.status == 0) {
+                // the exception has been passed to the container
+                recorder.status = response != null ? response.getStatus() : Response.Status.INTERNAL_SERVER_ERROR.getStatusCode();
+            }
+            recorder.flush(null);
+        }
+    }
+
+    @Override
+    public long getRecordedCount() {
+        return recordedCount.get();
+    }
+
+    @Override
+    public String[] getRecentTraces() {
+        final List<Trace> recent = snapshot(false);
+        recent.sort(Comparator.comparingLong((Trace trace) -> trace.sequence).reversed());
+        return format(recent);
+    }
+
+    @Override
+    public String[] getSlowTraces() {
+        final List<Trace> slow = snapshot(true);
+        slow.sort(Comparator.comparingLong((Trace trace) -> trace.duration).reversed());
+        return format(slow);
+    }
+
+    private List<Trace> snapshot(final boolean slowOnly) {
+        final List<Trace> result = new ArrayList<>(traces.length());
+        for (int i = 0; i < traces.length(); i++) {
+            final Trace trace = traces.get(i);
+            if (trace != null && (!slowOnly || trace.slow)) {
+                result.add(trace);
+            }
+        }
+        return result;
+    }
+
+    private static String[] format(final List<Trace> traces) {
+        final String[] result = new String[traces.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = traces.get(i).toString();
+        }
+        return result;
+    }
+
+    private void record(final Recorder recorder, final long duration) {
+        final boolean slow = slowThresholdNanos >= 0 && duration >= slowThresholdNanos;
+        if (!recorder.sampled && !slow) {
+            return;
+        }
+        final long sequence = recordedCount.getAndIncrement();
+        traces.set((int) (sequence & mask), new Trace(sequence, recorder, duration, slow));
+    }
+
+    private static String formatMillis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1000000.0);
+    }
+
+    /**
+     * Immutable recorded trace.
+     */
+    private static final class Trace {
+
+        private final long sequence;
+        private final long time;
+        private final String method;
+        private final URI uri;
+        private final int status;
+        private final long duration;
+        private final boolean slow;
+        private final long[] stages;
+
+        private Trace(final long sequence, final Recorder recorder, final long duration, final boolean slow) {
+            this.sequence = sequence;
+            this.time = recorder.time;
+            this.method = recorder.method;
+            this.uri = recorder.uri;
+            this.status = recorder.status;
+            this.duration = duration;
+            this.slow = slow;
+            this.stages = recorder.stages.clone();
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder(256);
+            sb.append(Instant.ofEpochMilli(time)).append(' ').append(method).append(' ').append(uri).append(' ')
+                    .append(status).append(" total=").append(formatMillis(duration)).append(" ms");
+            if (slow) {
+                sb.append(" slow");
+            }
+            for (final Stage stage : Stage.STAGES) {
+                sb.append(' ').append(stage.label).append('=').append(formatMillis(stages[stage.ordinal()]));
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Tracing logger accumulating the durations of the summary events per processing stage.
+     */
+    private final class Recorder extends TracingLogger {
+
+        private final long start = System.nanoTime();
+        private final long time = System.currentTimeMillis();
+        private final long[] stages = new long[Stage.STAGES.length];
+        private final String method;
+        private final URI uri;
+        private final boolean sampled;
+        private int status;
+        private boolean recorded;
+
+        private Recorder(final String method, final URI uri, final boolean sampled) {
+            this.method = method;
+            this.uri = uri;
+            this.sampled = sampled;
+        }
+
+        @Override
+        public boolean isLogEnabled(final Event event) {
+            return event == ServerTraceEvent.FINISHED || Stage.of(event) != null;
+        }
+
+        @Override
+        public void log(final Event event, final Object... args) {
+            if (event == ServerTraceEvent.FINISHED && args.length > 0 && args[0] instanceof Response.StatusType) {
+                status = ((Response.StatusType) args[0]).getStatusCode();
+            }
+        }
+
+        @Override
+        public void logDuration(final Event event, final long fromTimestamp, final Object... args) {
+            if (fromTimestamp == -1) {
+                log(event, args);
+                return;
+            }
+            final Stage stage = Stage.of(event);
+            if (stage != null) {
+                stages[stage.ordinal()] += System.nanoTime() - fromTimestamp;
+            }
+        }
+
+        @Override
+        public long timestamp(final Event event) {
+            return Stage.of(event) != null ? System.nanoTime() : -1;
+        }
+
+        @Override
+        public void flush(final MultivaluedMap<String, Object> headers) {
+            if (!recorded) {
+                recorded = true;
+                record(this, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,9 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -37,6 +40,10 @@ import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 
 /**
  * Abstract base class for resolving JAX-RS {@code &#64;XxxParam} injection.
+ * <p>
+ * The parameter value provider of an injection point is created once and reused for all subsequent
+ * injections into the same injection point, e.g. into the fields of per-request resource instances.
+ * </p>
  *
  * @param <A> supported parameter injection annotation.
  * @author Marek Potociar
@@ -46,6 +53,8 @@ public class ParamInjectionResolver<A extends Annotation> implements InjectionRe
     private final ValueParamProvider valueParamProvider;
     private final Class<A> annotation;
     private final Provider<ContainerRequest> request;
+    private final ConcurrentHashMap<InjectionPoint, Optional<Function<ContainerRequest, ?>>> valueProviders =
+            new ConcurrentHashMap<>();
 
     /**
      * Initialize the base parameter injection resolver.
@@ -62,6 +71,21 @@ public class ParamInjectionResolver<A extends Annotation> implements InjectionRe
     @Override
     @SuppressWarnings("unchecked")
     public Object resolve(Injectee injectee) {
+        final Function<ContainerRequest, ?> valueProvider = valueProviders
+                .computeIfAbsent(new InjectionPoint(injectee), point -> Optional.ofNullable(createValueProvider(injectee)))
+                .orElse(null);
+        if (valueProvider != null) {
+            if (injectee.isFactory()) {
+                return (Supplier<Object>) () -> valueProvider.apply(request.get());
+            } else {
+                return valueProvider.apply(request.get());
+            }
+        }
+
+        return null;
+    }
+
+    private Function<ContainerRequest, ?> createValueProvider(Injectee injectee) {
         AnnotatedElement annotated = injectee.getParent();
         Annotation[] annotations;
         if (annotated.getClass().equals(Constructor.class)) {
@@ -89,16 +113,7 @@ public class ParamInjectionResolver<A extends Annotation> implements InjectionRe
                 targetGenericType,
                 annotations);
 
-        final Function<ContainerRequest, ?> valueProvider = valueParamProvider.getValueProvider(parameter);
-        if (valueProvider != null) {
-            if (injectee.isFactory()) {
-                return (Supplier<Object>) () -> valueProvider.apply(request.get());
-            } else {
-                return valueProvider.apply(request.get());
-            }
-        }
-
-        return null;
+        return valueParamProvider.getValueProvider(parameter);
     }
 
     private boolean hasEncodedAnnotation(Injectee injectee) {
@@ -148,4 +163,47 @@ public class ParamInjectionResolver<A extends Annotation> implements InjectionRe
     public Class<A> getAnnotation() {
         return annotation;
     }
+
+    /**
+     * Identity of an injection point the value provider is created for.
+     */
+    private static final class InjectionPoint {
+
+        private final AnnotatedElement parent;
+        private final int position;
+        private final Class<?> injecteeClass;
+        private final Type requiredType;
+        private final boolean factory;
+        private final int hash;
+
+        private InjectionPoint(Injectee injectee) {
+            this.parent = injectee.getParent();
+            this.position = injectee.getPosition();
+            this.injecteeClass = injectee.getInjecteeClass();
+            this.requiredType = injectee.getRequiredType();
+            this.factory = injectee.isFactory();
+            this.hash = Objects.hash(parent, position, injecteeClass, requiredType, factory);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InjectionPoint)) {
+                return false;
+            }
+            final InjectionPoint that = (InjectionPoint) o;
+            return position == that.position
+                    && factory == that.factory
+                    && Objects.equals(parent, that.parent)
+                    && injecteeClass == that.injecteeClass
+                    && Objects.equals(requiredType, that.requiredType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
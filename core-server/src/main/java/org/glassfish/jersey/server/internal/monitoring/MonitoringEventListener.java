@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,8 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
@@ -27,7 +29,11 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
+import javax.ws.rs.ConstrainedTo;
 import javax.ws.rs.ProcessingException;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
 
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
@@ -35,6 +41,7 @@ import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.monitoring.DestroyListener;
+import org.glassfish.jersey.server.monitoring.ProcessingStage;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
 import org.glassfish.jersey.uri.UriTemplate;
@@ -60,6 +67,7 @@ public final class MonitoringEventListener implements ApplicationEventListener {
 
     private static final Logger LOGGER = Logger.getLogger(MonitoringEventListener.class.getName());
     private static final int EVENT_QUEUE_SIZE = 500_000;
+    private static final String REQUEST_LISTENER_PROPERTY = MonitoringEventListener.class.getName() + ".requestListener";
 
     @Inject
     private InjectionManager injectionManager;
@@ -133,11 +141,14 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         private final TimeStats requestStats;
         private final MethodStats methodStats; // might be null if a method was not executed during a request
         private final String requestUri;
+        private final long[] stageDurations;
 
-        private RequestStats(final TimeStats requestStats, final MethodStats methodStats, final String requestUri) {
+        private RequestStats(final TimeStats requestStats, final MethodStats methodStats, final String requestUri,
+                             final long[] stageDurations) {
             this.requestStats = requestStats;
             this.methodStats = methodStats;
             this.requestUri = requestUri;
+            this.stageDurations = stageDurations;
         }
 
         /**
@@ -166,13 +177,49 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         String getRequestUri() {
             return requestUri;
         }
+
+        /**
+         * Get durations of the processing stages.
+         *
+         * @return Durations in nanoseconds indexed by {@link ProcessingStage#ordinal() stage ordinal}. Negative
+         *         duration means the stage was not executed.
+         */
+        long[] getStageDurations() {
+            return stageDurations;
+        }
+    }
+
+    /**
+     * Outermost {@link ReaderInterceptor reader interceptor} measuring the duration of the
+     * {@link ProcessingStage#ENTITY_READING entity reading} stage.
+     */
+    @Priority(Integer.MIN_VALUE)
+    @ConstrainedTo(RuntimeType.SERVER)
+    static final class EntityReadingInterceptor implements ReaderInterceptor {
+
+        @Override
+        public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+            final Object listener = context.getProperty(REQUEST_LISTENER_PROPERTY);
+            if (!(listener instanceof ReqEventListener)) {
+                return context.proceed();
+            }
+
+            final long start = System.nanoTime();
+            try {
+                return context.proceed();
+            } finally {
+                ((ReqEventListener) listener).entityRead(System.nanoTime() - start);
+            }
+        }
     }
 
     @Override
     public ReqEventListener onRequest(final RequestEvent requestEvent) {
         switch (requestEvent.getType()) {
             case START:
-                return new ReqEventListener();
+                final ReqEventListener listener = new ReqEventListener();
+                requestEvent.getContainerRequest().setProperty(REQUEST_LISTENER_PROPERTY, listener);
+                return listener;
 
         }
         return null;
@@ -224,28 +271,105 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         private volatile long methodTimeStart;
         private volatile MethodStats methodStats;
 
+        // processing stage durations, all the nano times are taken from System.nanoTime()
+        private final long[] stageDurations = new long[ProcessingStage.values().length];
+        private volatile long stageNanoStart;
+        private volatile long exceptionNanoStart;
+        private volatile long entityReadingNanos = -1;
+        private volatile boolean inRouting;
+        private volatile boolean inResourceMethod;
+
         public ReqEventListener() {
             this.requestTimeStart = System.currentTimeMillis();
+            this.stageNanoStart = System.nanoTime();
+            Arrays.fill(stageDurations, -1);
+        }
+
+        private void addStageDuration(final ProcessingStage stage, final long nanos) {
+            final int index = stage.ordinal();
+            stageDurations[index] = Math.max(stageDurations[index], 0) + Math.max(nanos, 0);
+        }
+
+        /**
+         * Record reading of the request entity. Only the entity read by the resource method (i.e. while
+         * injecting its parameters) is accounted to the {@link ProcessingStage#ENTITY_READING entity reading}
+         * stage, the entity read by a request filter is a part of the request filter stage.
+         *
+         * @param nanos Duration of the entity reading.
+         */
+        void entityRead(final long nanos) {
+            if (inResourceMethod) {
+                entityReadingNanos = Math.max(entityReadingNanos, 0) + nanos;
+            }
         }
 
         @Override
         public void onEvent(final RequestEvent event) {
             final long now = System.currentTimeMillis();
+            final long nanoNow = System.nanoTime();
 
             switch (event.getType()) {
+                case MATCHING_START:
+                    // time elapsed since the request start is spent by the pre-matching filters
+                    addStageDuration(ProcessingStage.REQUEST_FILTERS, nanoNow - stageNanoStart);
+                    stageNanoStart = nanoNow;
+                    inRouting = true;
+                    break;
+                case REQUEST_MATCHED:
+                    addStageDuration(ProcessingStage.ROUTING, nanoNow - stageNanoStart);
+                    stageNanoStart = nanoNow;
+                    inRouting = false;
+                    break;
+                case REQUEST_FILTERED:
+                    addStageDuration(ProcessingStage.REQUEST_FILTERS, nanoNow - stageNanoStart);
+                    break;
                 case RESOURCE_METHOD_START:
                     this.methodTimeStart = now;
+                    this.stageNanoStart = nanoNow;
+                    this.inResourceMethod = true;
                     break;
                 case RESOURCE_METHOD_FINISHED:
                     final ResourceMethod method = event.getUriInfo().getMatchedResourceMethod();
                     methodStats = new MethodStats(method, methodTimeStart, now - methodTimeStart);
+
+                    inResourceMethod = false;
+                    final long readingNanos = entityReadingNanos;
+                    if (readingNanos >= 0) {
+                        addStageDuration(ProcessingStage.ENTITY_READING, readingNanos);
+                    }
+                    addStageDuration(ProcessingStage.RESOURCE_METHOD, nanoNow - stageNanoStart - Math.max(readingNanos, 0));
+                    break;
+                case RESP_FILTERS_START:
+                    stageNanoStart = nanoNow;
+                    break;
+                case RESP_FILTERS_FINISHED:
+                    addStageDuration(ProcessingStage.RESPONSE_FILTERS, nanoNow - stageNanoStart);
+                    stageNanoStart = nanoNow;
+                    break;
+                case ON_EXCEPTION:
+                    if (inRouting) {
+                        // the request has not been matched (e.g. 404)
+                        addStageDuration(ProcessingStage.ROUTING, nanoNow - stageNanoStart);
+                        inRouting = false;
+                    }
+                    if (exceptionNanoStart == 0) {
+                        exceptionNanoStart = nanoNow;
+                    }
                     break;
                 case EXCEPTION_MAPPING_FINISHED:
+                    addStageDuration(ProcessingStage.EXCEPTION_MAPPING, nanoNow - exceptionNanoStart);
+                    exceptionNanoStart = 0;
+
                     if (!offer(exceptionMapperEvents, event)) {
                         LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_MAPPER());
                     }
                     break;
                 case FINISHED:
+                    if (event.isResponseWritten()
+                            && stageDurations[ProcessingStage.RESPONSE_FILTERS.ordinal()] >= 0) {
+                        // time elapsed since the response filters finished is spent by writing the response
+                        addStageDuration(ProcessingStage.ENTITY_WRITING, nanoNow - stageNanoStart);
+                    }
                     if (event.isResponseWritten()) {
                         if (!offer(responseStatuses, event.getContainerResponse().getStatus())) {
                             LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_RESPONSE());
@@ -268,7 +392,7 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                         sb.setLength(sb.length() - 1);
                     }
                     if (!offer(requestQueuedItems, new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
-                            methodStats, sb.toString()))) {
+                            methodStats, sb.toString(), stageDurations))) {
                         LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_REQUEST());
                     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -119,6 +119,7 @@ public final class MonitoringFeature implements Feature {
 
         if (statisticsEnabled) {
             context.register(MonitoringEventListener.class);
+            context.register(new MonitoringEventListener.EntityReadingInterceptor());
             context.register(new AbstractBinder() {
                 @Override
                 protected void configure() {
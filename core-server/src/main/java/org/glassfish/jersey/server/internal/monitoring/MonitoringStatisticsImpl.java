@@ -29,8 +29,10 @@ import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.monitoring.ExceptionMapperStatistics;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
 import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
+import org.glassfish.jersey.server.monitoring.ProcessingStage;
 import org.glassfish.jersey.server.monitoring.ResourceStatistics;
 import org.glassfish.jersey.server.monitoring.ResponseStatistics;
+import org.glassfish.jersey.server.monitoring.StageStatistics;
 
 /**
  * Monitoring statistics implementation.
@@ -55,6 +57,7 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
      *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResourceStatisticsImpl.Builder}</li>
      *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResourceMethodStatisticsImpl.Builder}</li>
      *     <li>{@link org.glassfish.jersey.server.internal.monitoring.TimeWindowStatisticsImpl.Builder}</li>
+     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.StageStatisticsImpl.Builder}</li>
      * </ul>
      * The rest does not need to be thread-safe
      * <ul>
@@ -75,6 +78,8 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         private final SortedMap<Class<?>, ResourceStatisticsImpl.Builder> resourceClassStatistics
                 = new TreeMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
 
+        private final StageStatisticsImpl.Builder stageStatisticsBuilder = new StageStatisticsImpl.Builder();
+
         private ExecutionStatisticsImpl.Builder executionStatisticsBuilder;
 
         /**
@@ -180,6 +185,22 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
                          .addResourceMethodExecution(methodTime, methodDuration, requestTime, requestDuration);
         }
 
+        /**
+         * Add durations of processing stages of one request.
+         *
+         * @param resourceMethod Resource method the request was matched to or {@code null} if the request has not been
+         *                       matched to any resource method.
+         * @param stageDurations Durations in nanoseconds indexed by {@link ProcessingStage#ordinal() stage ordinal}.
+         *                       Negative duration means the stage was not executed.
+         */
+        void addStageDurations(final ResourceMethod resourceMethod, final long[] stageDurations) {
+            stageStatisticsBuilder.addStageDurations(stageDurations);
+
+            if (resourceMethod != null) {
+                methodFactory.getOrCreate(resourceMethod).addStageDurations(stageDurations);
+            }
+        }
+
         /**
          * Add a response status code produces by Jersey.
          *
@@ -206,7 +227,8 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             return new MonitoringStatisticsImpl(
                     uriStats, classStats, requestStats,
                     responseStatisticsBuilder.build(),
-                    exceptionMapperStatisticsBuilder.build());
+                    exceptionMapperStatisticsBuilder.build(),
+                    stageStatisticsBuilder.build());
         }
     }
 
@@ -215,17 +237,20 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
     private final ExceptionMapperStatistics exceptionMapperStatistics;
     private final Map<String, ResourceStatistics> uriStatistics;
     private final Map<Class<?>, ResourceStatistics> resourceClassStatistics;
+    private final Map<ProcessingStage, StageStatistics> stageStatistics;
 
     private MonitoringStatisticsImpl(final Map<String, ResourceStatistics> uriStatistics,
                                      final Map<Class<?>, ResourceStatistics> resourceClassStatistics,
                                      final ExecutionStatistics requestStatistics,
                                      final ResponseStatistics responseStatistics,
-                                     final ExceptionMapperStatistics exceptionMapperStatistics) {
+                                     final ExceptionMapperStatistics exceptionMapperStatistics,
+                                     final Map<ProcessingStage, StageStatistics> stageStatistics) {
         this.uriStatistics = uriStatistics;
         this.resourceClassStatistics = resourceClassStatistics;
         this.requestStatistics = requestStatistics;
         this.responseStatistics = responseStatistics;
         this.exceptionMapperStatistics = exceptionMapperStatistics;
+        this.stageStatistics = stageStatistics;
     }
 
     @Override
@@ -263,6 +288,11 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         return exceptionMapperStatistics;
     }
 
+    @Override
+    public Map<ProcessingStage, StageStatistics> getStageStatistics() {
+        return stageStatistics;
+    }
+
     @Override
     public MonitoringStatistics snapshot() {
         // snapshot is not needed, this object is loosely immutable (see javadoc of Maps getters)
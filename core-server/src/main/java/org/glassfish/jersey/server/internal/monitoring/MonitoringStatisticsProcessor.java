@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -151,6 +151,7 @@ final class MonitoringStatisticsProcessor {
                         methodStat.getStartTime(), methodStat.getDuration(),
                         requestStats.getStartTime(), requestStats.getDuration());
             }
+            statisticsBuilder.addStageDurations(methodStat == null ? null : methodStat.getMethod(), event.getStageDurations());
         }
     }
 
@@ -16,13 +16,17 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
+import org.glassfish.jersey.server.monitoring.ProcessingStage;
 import org.glassfish.jersey.server.monitoring.ResourceMethodStatistics;
+import org.glassfish.jersey.server.monitoring.StageStatistics;
 
 /**
  * Immutable resource method statistics.
@@ -64,6 +68,7 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
                 AtomicReference<>();
         private final AtomicReference<ExecutionStatisticsImpl.Builder> requestExecutionStatisticsBuilder = new
                 AtomicReference<>();
+        private final AtomicReference<StageStatisticsImpl.Builder> stageStatisticsBuilder = new AtomicReference<>();
 
         private volatile ResourceMethodStatisticsImpl cached;
 
@@ -92,8 +97,11 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
             final ExecutionStatistics requestStats = requestExecutionStatisticsBuilder.get() == null
                     ? ExecutionStatisticsImpl.EMPTY : requestExecutionStatisticsBuilder.get().build();
 
+            final Map<ProcessingStage, StageStatistics> stageStats = stageStatisticsBuilder.get() == null
+                    ? Collections.emptyMap() : stageStatisticsBuilder.get().build();
+
             final ResourceMethodStatisticsImpl stats = new ResourceMethodStatisticsImpl(resourceMethod, methodStats,
-                    requestStats);
+                    requestStats, stageStats);
 
             if (MonitoringUtils.isCacheable(methodStats)) {
                 // overwrite the cache regardless of whether it's null or not
@@ -126,19 +134,37 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
             }
             requestExecutionStatisticsBuilder.get().addExecution(requestStartTime, requestDuration);
         }
+
+        /**
+         * Add durations of processing stages of one request matched to the resource method to the statistics.
+         *
+         * @param stageDurations Durations in nanoseconds indexed by {@link ProcessingStage#ordinal() stage ordinal}.
+         *                       Negative duration means the stage was not executed.
+         */
+        void addStageDurations(final long[] stageDurations) {
+            cached = null;
+
+            if (stageStatisticsBuilder.get() == null) {
+                stageStatisticsBuilder.compareAndSet(null, new StageStatisticsImpl.Builder());
+            }
+            stageStatisticsBuilder.get().addStageDurations(stageDurations);
+        }
     }
 
     private final ExecutionStatistics resourceMethodExecutionStatistics;
     private final ExecutionStatistics requestExecutionStatistics;
+    private final Map<ProcessingStage, StageStatistics> stageStatistics;
     private final ResourceMethod resourceMethod;
 
     private ResourceMethodStatisticsImpl(final ResourceMethod resourceMethod,
                                          final ExecutionStatistics resourceMethodExecutionStatistics,
-                                         final ExecutionStatistics requestExecutionStatistics) {
+                                         final ExecutionStatistics requestExecutionStatistics,
+                                         final Map<ProcessingStage, StageStatistics> stageStatistics) {
         this.resourceMethod = resourceMethod;
 
         this.resourceMethodExecutionStatistics = resourceMethodExecutionStatistics;
         this.requestExecutionStatistics = requestExecutionStatistics;
+        this.stageStatistics = stageStatistics;
     }
 
     @Override
@@ -155,6 +181,11 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
         return resourceMethod;
     }
 
+    @Override
+    public Map<ProcessingStage, StageStatistics> getStageStatistics() {
+        return stageStatistics;
+    }
+
     @Override
     public ResourceMethodStatistics snapshot() {
         // this object is immutable (not considering ResourceMethod which is not a monitoring object)
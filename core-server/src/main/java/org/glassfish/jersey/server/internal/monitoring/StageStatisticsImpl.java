@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.glassfish.jersey.server.monitoring.ProcessingStage;
+import org.glassfish.jersey.server.monitoring.StageStatistics;
+
+/**
+ * Immutable statistics of durations of one {@link ProcessingStage processing stage}.
+ * <p/>
+ * Durations are kept in a histogram of {@value #BUCKETS} buckets where the bucket {@code i > 0} contains durations in
+ * the range of {@code [2^(i-1), 2^i - 1]} microseconds and the bucket {@code 0} contains durations shorter than one
+ * microsecond. The last bucket contains all durations longer than {@code 2^(BUCKETS-2)} microseconds.
+ */
+final class StageStatisticsImpl implements StageStatistics {
+
+    /**
+     * Number of histogram buckets.
+     */
+    static final int BUCKETS = 40;
+
+    private static final ProcessingStage[] STAGES = ProcessingStage.values();
+
+    /**
+     * Builder of statistics of all {@link ProcessingStage processing stages} of one monitored target (an application or
+     * a resource method). The memory consumed by the builder is constant and does not depend on the number of
+     * recorded requests.
+     * <p/>
+     * Must be thread-safe.
+     */
+    static class Builder {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(STAGES.length * BUCKETS);
+        private final AtomicLongArray counts = new AtomicLongArray(STAGES.length);
+        private final AtomicLongArray totals = new AtomicLongArray(STAGES.length);
+        private final AtomicLongArray maxima = new AtomicLongArray(STAGES.length);
+
+        /**
+         * Add durations of processing stages of one request.
+         *
+         * @param stageDurations Durations in nanoseconds indexed by {@link ProcessingStage#ordinal() stage ordinal}.
+         *                       Negative duration means the stage was not executed.
+         */
+        void addStageDurations(final long[] stageDurations) {
+            for (int stage = 0; stage < STAGES.length; stage++) {
+                final long nanos = stageDurations[stage];
+                if (nanos < 0) {
+                    continue;
+                }
+                final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+
+                buckets.incrementAndGet(stage * BUCKETS + bucketIndex(micros));
+                counts.incrementAndGet(stage);
+                totals.addAndGet(stage, micros);
+
+                long max;
+                while (micros > (max = maxima.get(stage)) && !maxima.compareAndSet(stage, max, micros)) {
+                    // retry
+                }
+            }
+        }
+
+        /**
+         * Build the statistics of processing stages.
+         *
+         * @return Unmodifiable map of statistics of stages which have been executed at least once.
+         */
+        Map<ProcessingStage, StageStatistics> build() {
+            final Map<ProcessingStage, StageStatistics> stats = new EnumMap<>(ProcessingStage.class);
+            for (int stage = 0; stage < STAGES.length; stage++) {
+                final long count = counts.get(stage);
+                if (count == 0) {
+                    continue;
+                }
+                final long[] histogram = new long[BUCKETS];
+                for (int i = 0; i < BUCKETS; i++) {
+                    histogram[i] = buckets.get(stage * BUCKETS + i);
+                }
+                stats.put(STAGES[stage], new StageStatisticsImpl(histogram, count, totals.get(stage), maxima.get(stage)));
+            }
+            return Collections.unmodifiableMap(stats);
+        }
+    }
+
+    private final long[] histogram;
+    private final long count;
+    private final long totalTime;
+    private final long maxTime;
+
+    private StageStatisticsImpl(final long[] histogram, final long count, final long totalTime, final long maxTime) {
+        this.histogram = histogram;
+        this.count = count;
+        this.totalTime = totalTime;
+        this.maxTime = maxTime;
+    }
+
+    /**
+     * Get index of the histogram bucket for the given duration.
+     *
+     * @param micros Duration in microseconds.
+     * @return Bucket index.
+     */
+    static int bucketIndex(final long micros) {
+        return micros <= 0 ? 0 : Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros));
+    }
+
+    @Override
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public long getTotalTimeMicros() {
+        return totalTime;
+    }
+
+    @Override
+    public double getAverageTimeMicros() {
+        return count == 0 ? 0 : (double) totalTime / count;
+    }
+
+    @Override
+    public long getMaxTimeMicros() {
+        return maxTime;
+    }
+
+    @Override
+    public long getPercentileMicros(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException(String.valueOf(percentile));
+        }
+        // the histogram may contain a few more (concurrently added) executions than the count
+        final long rank = (long) Math.ceil(percentile / 100 * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= rank && seen > 0) {
+                return i == 0 ? 0 : Math.min((1L << i) - 1, maxTime);
+            }
+        }
+        return maxTime;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -33,6 +33,7 @@ import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
 import org.glassfish.jersey.server.internal.LocalizationMessages;
+import org.glassfish.jersey.server.internal.TraceSampler;
 import org.glassfish.jersey.server.monitoring.ApplicationInfo;
 import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
 import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
@@ -59,6 +60,7 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
     private volatile ResourcesMBeanGroup uriStatsGroup;
     private volatile ResourcesMBeanGroup resourceClassStatsGroup;
     private volatile ExceptionMapperMXBeanImpl exceptionMapperMXBean;
+    private volatile ProcessingStagesMXBeanImpl processingStagesMXBean;
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
     private final Object LOCK = new Object();
 
@@ -72,6 +74,9 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
     @Inject
     private Provider<ApplicationInfo> applicationInfoProvider;
 
+    @Inject
+    private Provider<TraceSampler> traceSamplerProvider;
+
 
     private Map<String, ResourceStatistics> transformToStringKeys(Map<Class<?>, ResourceStatistics> stats) {
         Map<String, ResourceStatistics> newMap = new HashMap<>();
@@ -179,13 +184,21 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
             exceptionMapperMXBean = new ExceptionMapperMXBeanImpl(statistics.getExceptionMapperStatistics(), this,
                     globalSubType);
 
+            processingStagesMXBean = new ProcessingStagesMXBeanImpl(statistics.getStageStatistics(), this, globalSubType);
+
             new ApplicationMXBeanImpl(appStats, this, globalSubType);
+
+            final TraceSampler traceSampler = traceSamplerProvider.get();
+            if (traceSampler.isEnabled()) {
+                registerMBean(traceSampler, globalSubType + ",global=SampledTraces");
+            }
         }
 
         requestMBean.updateExecutionStatistics(statistics.getRequestStatistics());
         uriStatsGroup.updateResourcesStatistics(statistics.getUriStatistics());
         responseMXBean.updateResponseStatistics(statistics.getResponseStatistics());
         exceptionMapperMXBean.updateExceptionMapperStatistics(statistics.getExceptionMapperStatistics());
+        processingStagesMXBean.updateStageStatistics(statistics.getStageStatistics());
         this.resourceClassStatsGroup.updateResourcesStatistics(transformToStringKeys(statistics.getResourceClassStatistics()));
     }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.jmx;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.glassfish.jersey.server.monitoring.ProcessingStage;
+import org.glassfish.jersey.server.monitoring.ProcessingStagesMXBean;
+import org.glassfish.jersey.server.monitoring.StageStatistics;
+
+/**
+ * MXBean implementing the {@link org.glassfish.jersey.server.monitoring.ProcessingStagesMXBean} MXBean interface.
+ */
+public class ProcessingStagesMXBeanImpl implements ProcessingStagesMXBean {
+
+    private volatile Map<ProcessingStage, StageStatistics> stageStatistics;
+
+    /**
+     * Create a new MXBean and register it into mbean server using {@code mBeanExposer}.
+     *
+     * @param stageStatistics Statistics of processing stages to be exposed.
+     * @param mBeanExposer Mbean exposer.
+     * @param parentName Object name prefix of the parent mbeans.
+     */
+    public ProcessingStagesMXBeanImpl(Map<ProcessingStage, StageStatistics> stageStatistics,
+                                      MBeanExposer mBeanExposer, String parentName) {
+        this.stageStatistics = stageStatistics;
+        mBeanExposer.registerMBean(this, parentName + ",stages=ProcessingStages");
+    }
+
+    /**
+     * Update the MXBean with new statistics.
+     *
+     * @param stageStatistics New statistics of processing stages.
+     */
+    public void updateStageStatistics(Map<ProcessingStage, StageStatistics> stageStatistics) {
+        this.stageStatistics = stageStatistics;
+    }
+
+    private <T> Map<String, T> transform(Function<StageStatistics, T> function) {
+        final Map<String, T> result = new LinkedHashMap<>();
+        for (Map.Entry<ProcessingStage, StageStatistics> entry : stageStatistics.entrySet()) {
+            result.put(entry.getKey().name(), function.apply(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return transform(StageStatistics::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getAverageTimesMicros() {
+        return transform(StageStatistics::getAverageTimeMicros);
+    }
+
+    @Override
+    public Map<String, Long> getMedianTimesMicros() {
+        return transform(stats -> stats.getPercentileMicros(50));
+    }
+
+    @Override
+    public Map<String, Long> getP99TimesMicros() {
+        return transform(stats -> stats.getPercentileMicros(99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxTimesMicros() {
+        return transform(StageStatistics::getMaxTimeMicros);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,7 @@ import org.glassfish.jersey.server.monitoring.ResourceMethodStatistics;
 public class ResourceMethodMXBeanImpl implements ResourceMethodMXBean {
     private volatile ExecutionStatisticsDynamicBean methodExecutionStatisticsMxBean;
     private volatile ExecutionStatisticsDynamicBean requestExecutionStatisticsMxBean;
+    private volatile ProcessingStagesMXBeanImpl processingStagesMxBean;
     private final String path;
     private final String name;
     private final ResourceMethod resourceMethod;
@@ -84,6 +85,8 @@ public class ResourceMethodMXBeanImpl implements ResourceMethodMXBean {
                 mBeanExposer, methodBeanName, MBeanExposer.PROPERTY_EXECUTION_TIMES_METHODS);
         requestExecutionStatisticsMxBean = new ExecutionStatisticsDynamicBean(methodStatistics.getRequestStatistics(),
                 mBeanExposer, methodBeanName, MBeanExposer.PROPERTY_EXECUTION_TIMES_REQUESTS);
+        processingStagesMxBean = new ProcessingStagesMXBeanImpl(methodStatistics.getStageStatistics(),
+                mBeanExposer, methodBeanName);
     }
 
     /**
@@ -93,6 +96,7 @@ public class ResourceMethodMXBeanImpl implements ResourceMethodMXBean {
     public void updateResourceMethodStatistics(ResourceMethodStatistics resourceMethodStatisticsImpl) {
         this.methodExecutionStatisticsMxBean.updateExecutionStatistics(resourceMethodStatisticsImpl.getMethodStatistics());
         this.requestExecutionStatisticsMxBean.updateExecutionStatistics(resourceMethodStatisticsImpl.getRequestStatistics());
+        this.processingStagesMxBean.updateStageStatistics(resourceMethodStatisticsImpl.getStageStatistics());
     }
 
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.server.monitoring;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -113,6 +114,19 @@ public interface MonitoringStatistics {
      */
     public ExceptionMapperStatistics getExceptionMapperStatistics();
 
+    /**
+     * Get the global application statistics of durations of individual {@link ProcessingStage request processing stages}.
+     * The statistics are not bound to any specific resource method and contain information about all requests that
+     * application handles, including requests which have not been matched to any resource method.
+     *
+     * @return Map with processing stage keys and stage statistics values. The map contains only stages that have
+     *         been executed at least once.
+     * @since 2.46
+     */
+    public default Map<ProcessingStage, StageStatistics> getStageStatistics() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Get the immutable consistent snapshot of the monitoring statistics. Working with snapshots might
      * have negative performance impact as snapshot must be created but ensures consistency of data over time.
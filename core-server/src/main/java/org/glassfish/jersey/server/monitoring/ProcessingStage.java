@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * Stage of the server-side request processing for which the duration is measured by the monitoring
+ * and exposed as {@link StageStatistics stage statistics}.
+ * <p>
+ * Stage durations are derived from the {@link RequestEvent.Type request event} transitions, therefore a stage
+ * that was not executed during a request (e.g. exception mapping of a successful request) is not counted
+ * in the statistics of the stage.
+ *
+ * @see MonitoringStatistics#getStageStatistics()
+ * @see ResourceMethodStatistics#getStageStatistics()
+ * @since 2.46
+ */
+public enum ProcessingStage {
+
+    /**
+     * Matching of the request to a resource method, from {@link RequestEvent.Type#MATCHING_START} until
+     * {@link RequestEvent.Type#REQUEST_MATCHED}. Includes the execution of sub-resource locators.
+     */
+    ROUTING,
+    /**
+     * Execution of the pre-matching and post-matching {@link javax.ws.rs.container.ContainerRequestFilter request filters}.
+     */
+    REQUEST_FILTERS,
+    /**
+     * Reading of the request entity, including the {@link javax.ws.rs.ext.ReaderInterceptor reader interceptors}
+     * and {@link javax.ws.rs.ext.MessageBodyReader message body reader}. The entity is read as part of the resource
+     * method invocation, its duration is however not counted in the {@link #RESOURCE_METHOD} stage.
+     */
+    ENTITY_READING,
+    /**
+     * Invocation of the resource method, from {@link RequestEvent.Type#RESOURCE_METHOD_START} until
+     * {@link RequestEvent.Type#RESOURCE_METHOD_FINISHED}, without the {@link #ENTITY_READING entity reading}.
+     */
+    RESOURCE_METHOD,
+    /**
+     * Execution of the {@link javax.ws.rs.container.ContainerResponseFilter response filters}.
+     */
+    RESPONSE_FILTERS,
+    /**
+     * Writing of the response, including the {@link javax.ws.rs.ext.WriterInterceptor writer interceptors} and
+     * {@link javax.ws.rs.ext.MessageBodyWriter message body writer}, from {@link RequestEvent.Type#RESP_FILTERS_FINISHED}
+     * until {@link RequestEvent.Type#FINISHED}.
+     */
+    ENTITY_WRITING,
+    /**
+     * Mapping of an exception to a response, from {@link RequestEvent.Type#ON_EXCEPTION} until
+     * {@link RequestEvent.Type#EXCEPTION_MAPPING_FINISHED}.
+     */
+    EXCEPTION_MAPPING
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+import java.util.Map;
+
+/**
+ * MXBean interface of the {@link StageStatistics statistics of request processing stages}. Keys of all the returned
+ * maps are {@link ProcessingStage processing stage} names and the maps contain only stages that have been executed
+ * at least once. All durations are in microseconds.
+ *
+ * @since 2.46
+ */
+public interface ProcessingStagesMXBean {
+
+    /**
+     * Get the number of requests in which the stages were executed.
+     *
+     * @return Map where keys are processing stage names and values are counts of the stage executions.
+     */
+    public Map<String, Long> getCounts();
+
+    /**
+     * Get the average durations of the stages.
+     *
+     * @return Map where keys are processing stage names and values are average durations in microseconds.
+     */
+    public Map<String, Double> getAverageTimesMicros();
+
+    /**
+     * Get the approximate median durations of the stages.
+     *
+     * @return Map where keys are processing stage names and values are median durations in microseconds.
+     */
+    public Map<String, Long> getMedianTimesMicros();
+
+    /**
+     * Get the approximate 99th percentile of durations of the stages.
+     *
+     * @return Map where keys are processing stage names and values are 99th percentiles of durations in microseconds.
+     */
+    public Map<String, Long> getP99TimesMicros();
+
+    /**
+     * Get the maximum durations of the stages.
+     *
+     * @return Map where keys are processing stage names and values are maximum durations in microseconds.
+     */
+    public Map<String, Long> getMaxTimesMicros();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,9 @@
 
 package org.glassfish.jersey.server.monitoring;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.glassfish.jersey.server.model.ResourceMethod;
 
 /**
@@ -66,6 +69,20 @@ public interface ResourceMethodStatistics {
      */
     public ResourceMethod getResourceMethod();
 
+    /**
+     * Get statistics of durations of individual {@link ProcessingStage request processing stages} of requests
+     * that were matched to resource method defined by {@link #getResourceMethod()}. Unlike
+     * {@link #getMethodStatistics()}, the {@link ProcessingStage#RESOURCE_METHOD resource method stage} does not contain
+     * the time spent reading the request entity.
+     *
+     * @return Map with processing stage keys and stage statistics values. The map contains only stages that have
+     *         been executed at least once.
+     * @since 2.46
+     */
+    public default Map<ProcessingStage, StageStatistics> getStageStatistics() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Get the immutable and consistent snapshot of the monitoring statistics. Working with snapshots might
      * have negative performance impact as snapshot must be created but ensures consistency of data over time.
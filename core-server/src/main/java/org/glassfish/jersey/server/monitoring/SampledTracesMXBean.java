@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * MXBean interface of the in-memory sampled request traces recorded when the
+ * {@link org.glassfish.jersey.server.ServerProperties#TRACING tracing} is set to
+ * {@link org.glassfish.jersey.server.TracingConfig#SAMPLED}.
+ * <p>
+ * Each trace is formatted as a single line with the request method, request URI, response status, total duration and
+ * the duration of individual processing stages, e.g.
+ * {@code 2026-05-09T12:55:33.512Z GET http://localhost:8080/items 200 total=12.451 ms slow
+ * pre-match-filters=0.012 routing=0.087 request-filters=0.021 reader=0.000 method=11.904 response-filters=0.015
+ * writer=0.263 exception-mapping=0.000}.
+ * <p>
+ * The instance is injectable so the traces may also be exposed by a resource of the application:
+ * <pre>
+ * &#64;Inject
+ * SampledTracesMXBean sampledTraces;
+ * </pre>
+ *
+ * @since 2.46
+ */
+public interface SampledTracesMXBean {
+
+    /**
+     * Get the number of traces recorded since the start of the application.
+     *
+     * @return number of recorded traces.
+     */
+    public long getRecordedCount();
+
+    /**
+     * Get the most recent recorded traces, the newest first.
+     *
+     * @return recent traces.
+     */
+    public String[] getRecentTraces();
+
+    /**
+     * Get the most recent traces of requests that were slower than the
+     * {@link org.glassfish.jersey.server.ServerProperties#TRACING_SLOW_THRESHOLD slow threshold}, the slowest first.
+     *
+     * @return recent slow traces.
+     */
+    public String[] getSlowTraces();
+}
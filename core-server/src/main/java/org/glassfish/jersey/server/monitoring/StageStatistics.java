@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * Statistics of durations of one {@link ProcessingStage processing stage}. The durations are aggregated
+ * into a histogram of a constant size with exponentially growing buckets, therefore the
+ * {@link #getPercentileMicros(double) percentiles} are approximations with a relative error of at most 100%
+ * (upper bound of the bucket the percentile falls into).
+ * <p/>
+ * The statistics are immutable. All durations are measured in microseconds.
+ *
+ * @see MonitoringStatistics See monitoring statistics for general details about statistics.
+ * @since 2.46
+ */
+public interface StageStatistics {
+
+    /**
+     * Get the number of requests in which the stage was executed.
+     *
+     * @return Count of stage executions.
+     */
+    public long getCount();
+
+    /**
+     * Get the total time spent in the stage by all the requests.
+     *
+     * @return Total duration in microseconds.
+     */
+    public long getTotalTimeMicros();
+
+    /**
+     * Get the average duration of the stage.
+     *
+     * @return Average duration in microseconds or {@code 0} if the stage has not been executed yet.
+     */
+    public double getAverageTimeMicros();
+
+    /**
+     * Get the maximum duration of the stage.
+     *
+     * @return Maximum duration in microseconds.
+     */
+    public long getMaxTimeMicros();
+
+    /**
+     * Get the approximate duration under which the given percentage of stage executions finished.
+     *
+     * @param percentile Percentile in the range of {@code 0} to {@code 100}, e.g. {@code 99.9}.
+     * @return Approximate percentile of stage durations in microseconds, never greater than {@link #getMaxTimeMicros()}.
+     */
+    public long getPercentileMicros(double percentile);
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests coalescing of the flushes of {@link ChunkedOutput} chunks pending in the queue.
+ */
+public class ChunkedOutputTest {
+
+    private static final int CHUNKS = 10;
+
+    @Path("/chunks")
+    public static class Resource {
+
+        @GET
+        public ChunkedOutput<String> get(@QueryParam("batch") final int batch) throws IOException {
+            final ChunkedOutput<String> output = ChunkedOutput.<String>builder(String.class)
+                    .flushBatchSize(batch)
+                    .build();
+            // the chunks stay pending in the queue until the output is attached to the response
+            for (int i = 0; i < CHUNKS; i++) {
+                output.write(Integer.toString(i));
+            }
+            output.close();
+            return output;
+        }
+    }
+
+    private static final class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+
+    private static FlushCountingOutputStream request(final int batch) throws Exception {
+        final ApplicationHandler application = new ApplicationHandler(new ResourceConfig(Resource.class));
+        final FlushCountingOutputStream stream = new FlushCountingOutputStream();
+        final ContainerResponse response = application.apply(
+                RequestContextBuilder.from("/chunks?batch=" + batch, "GET").build(), stream).get();
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+        return stream;
+    }
+
+    @Test
+    public void testPendingChunksFlushedOnce() throws Exception {
+        final int unbatched = request(1).flushes;
+        final int batched = request(CHUNKS).flushes;
+
+        // without batching every chunk is flushed at least once, with batching all of them are flushed at once
+        assertTrue(unbatched - batched >= CHUNKS - 1, unbatched + " vs. " + batched);
+    }
+
+    @Test
+    public void testBatchSizeLimitsCoalescedChunks() throws Exception {
+        final int singleBatch = request(CHUNKS).flushes;
+        final int twoBatches = request(CHUNKS / 2).flushes;
+
+        assertEquals(singleBatch + 1, twoBatches);
+    }
+}
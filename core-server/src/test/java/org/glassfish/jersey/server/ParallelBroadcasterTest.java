@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the parallel broadcasting mode of {@link Broadcaster}.
+ */
+public class ParallelBroadcasterTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testChunksDeliveredInOrder() throws Exception {
+        final Broadcaster<String> broadcaster = new Broadcaster<>(executor, 0, Broadcaster.SlowConsumerPolicy.BUFFER);
+        final RecordingOutput first = new RecordingOutput(100);
+        final RecordingOutput second = new RecordingOutput(100);
+        broadcaster.add(first);
+        broadcaster.add(second);
+
+        for (int i = 0; i < 100; i++) {
+            broadcaster.broadcast(Integer.toString(i));
+        }
+
+        assertTrue(first.written.await(5, TimeUnit.SECONDS));
+        assertTrue(second.written.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.toString(i), first.chunks.get(i));
+            assertEquals(Integer.toString(i), second.chunks.get(i));
+        }
+        assertEquals(100, broadcaster.getStatistics().getBroadcastCount());
+        // the chunk is counted as delivered after the write returns
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (broadcaster.getStatistics().getDeliveredCount() < 200 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(200, broadcaster.getStatistics().getDeliveredCount());
+        assertEquals(0, broadcaster.getStatistics().getPendingCount());
+    }
+
+    @Test
+    public void testSlowConsumerDropped() throws Exception {
+        final Broadcaster<String> broadcaster = new Broadcaster<>(executor, 2, Broadcaster.SlowConsumerPolicy.DROP);
+        final BlockedOutput slow = new BlockedOutput();
+        final RecordingOutput fast = new RecordingOutput(10);
+        broadcaster.add(slow);
+        broadcaster.add(fast);
+
+        for (int i = 0; i < 10; i++) {
+            broadcaster.broadcast(Integer.toString(i));
+            // let the fast output keep up
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (fast.chunks.size() <= i && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+
+        assertTrue(fast.written.await(5, TimeUnit.SECONDS));
+        assertEquals(8, broadcaster.getStatistics().getDroppedCount());
+        assertEquals(2, broadcaster.getStatistics().getMaxLag());
+
+        slow.release.countDown();
+        broadcaster.closeAll();
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, slow.chunks.size());
+    }
+
+    @Test
+    public void testSlowConsumerDisconnected() throws Exception {
+        final CountDownLatch onClose = new CountDownLatch(1);
+        final Broadcaster<String> broadcaster = new Broadcaster<String>(
+                Broadcaster.class, executor, 2, Broadcaster.SlowConsumerPolicy.DISCONNECT) {
+            @Override
+            public void onClose(final ChunkedOutput<String> chunkedOutput) {
+                onClose.countDown();
+            }
+        };
+        final BlockedOutput slow = new BlockedOutput();
+        broadcaster.add(slow);
+
+        for (int i = 0; i < 3; i++) {
+            broadcaster.broadcast(Integer.toString(i));
+        }
+        slow.release.countDown();
+
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        assertTrue(onClose.await(5, TimeUnit.SECONDS));
+        assertEquals(1, broadcaster.getStatistics().getDisconnectedCount());
+    }
+
+    @Test
+    public void testBlockedConsumerDisconnected() throws Exception {
+        final CountDownLatch onClose = new CountDownLatch(1);
+        final Broadcaster<String> broadcaster = new Broadcaster<String>(
+                Broadcaster.class, executor, 2, Broadcaster.SlowConsumerPolicy.DISCONNECT) {
+            @Override
+            public void onClose(final ChunkedOutput<String> chunkedOutput) {
+                onClose.countDown();
+            }
+        };
+        final BlockedOutput slow = new BlockedOutput();
+        broadcaster.add(slow);
+        try {
+            for (int i = 0; i < 3; i++) {
+                broadcaster.broadcast(Integer.toString(i));
+            }
+
+            // the consumer is still blocked writing the first chunk
+            assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+            assertTrue(onClose.await(5, TimeUnit.SECONDS));
+            assertEquals(1, broadcaster.getStatistics().getDisconnectedCount());
+            assertEquals(0, broadcaster.getStatistics().getPendingCount());
+            assertEquals(0, broadcaster.getStatistics().getMaxLag());
+        } finally {
+            slow.release.countDown();
+        }
+    }
+
+    private static class RecordingOutput extends ChunkedOutput<String> {
+
+        final List<String> chunks = new CopyOnWriteArrayList<>();
+        final CountDownLatch written;
+
+        RecordingOutput(final int expected) {
+            super(String.class);
+            written = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void write(final String chunk) throws IOException {
+            chunks.add(chunk);
+            written.countDown();
+        }
+    }
+
+    private static class BlockedOutput extends RecordingOutput {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        BlockedOutput() {
+            super(0);
+        }
+
+        @Override
+        public void write(final String chunk) throws IOException {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new IOException(e);
+            }
+            super.write(chunk);
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            closed.countDown();
+        }
+    }
+}
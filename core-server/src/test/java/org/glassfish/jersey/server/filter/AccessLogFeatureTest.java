@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.filter;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link AccessLogFeature}.
+ */
+public class AccessLogFeatureTest {
+
+    private static final String LOGGER_NAME = AccessLogFeatureTest.class.getName();
+
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(final LogRecord record) {
+            lines.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+    private final Logger logger = Logger.getLogger(LOGGER_NAME);
+
+    @Path("/resource")
+    public static class Resource {
+
+        @GET
+        public String get() {
+            return "hello";
+        }
+
+        @POST
+        public String post(final String entity) {
+            return entity.toUpperCase();
+        }
+
+        @DELETE
+        public void delete() {
+        }
+
+        @GET
+        @Path("fail")
+        public String fail() {
+            throw new IllegalStateException("unmapped");
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        logger.setLevel(Level.INFO);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.removeHandler(handler);
+    }
+
+    private ApplicationHandler createHandler(final String format, final double samplingRate) {
+        return new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(AccessLogFeature.ACCESS_LOG_FORMAT, format)
+                .property(AccessLogFeature.ACCESS_LOG_LOGGER_NAME, LOGGER_NAME)
+                .property(AccessLogFeature.ACCESS_LOG_ENTITY_SAMPLING_RATE, samplingRate)
+                .property(AccessLogFeature.ACCESS_LOG_MAX_ENTITY_SIZE, 4));
+    }
+
+    @Test
+    public void testCommonFormat() throws Exception {
+        final ApplicationHandler application = createHandler("common", 0);
+
+        ContainerResponse response = application.apply(
+                RequestContextBuilder.from("", "/resource?q=1", "GET").build()).get();
+        assertEquals(200, response.getStatus());
+        response = application.apply(RequestContextBuilder.from("", "/resource", "DELETE").build()).get();
+        assertEquals(204, response.getStatus());
+        application.onShutdown(null);
+
+        assertEquals(2, lines.size(), lines.toString());
+        assertTrue(lines.get(0).matches("- - - \\[.+] \"GET /resource\\?q=1\" 200 5 \\d+\\.\\d{3}"), lines.get(0));
+        assertTrue(lines.get(1).matches("- - - \\[.+] \"DELETE /resource\" 204 - \\d+\\.\\d{3}"), lines.get(1));
+    }
+
+    @Test
+    public void testJsonFormatWithSampledEntities() throws Exception {
+        final ApplicationHandler application = createHandler("JSON", 1);
+
+        final ContainerResponse response = application.apply(
+                RequestContextBuilder.from("", "/resource", "POST").entity("quote\"d").build()).get();
+        assertEquals(200, response.getStatus());
+        application.onShutdown(null);
+
+        assertEquals(1, lines.size(), lines.toString());
+        final String line = lines.get(0);
+        assertTrue(line.startsWith("{\"time\":\""), line);
+        assertTrue(line.contains("\"method\":\"POST\",\"uri\":\"/resource\",\"status\":200,\"bytes\":7,\"duration\":"), line);
+        assertTrue(line.endsWith(",\"request\":\"quot\",\"response\":\"QUOT\"}"), line);
+    }
+
+    @Test
+    public void testUnmappedExceptionLogged() throws Exception {
+        final ApplicationHandler application = createHandler("common", 0);
+
+        assertThrows(ExecutionException.class,
+                () -> application.apply(RequestContextBuilder.from("", "/resource/fail", "GET").build()).get());
+        application.onShutdown(null);
+
+        assertEquals(1, lines.size(), lines.toString());
+        assertTrue(lines.get(0).matches("- - - \\[.+] \"GET /resource/fail\" 500 - \\d+\\.\\d{3}"), lines.get(0));
+    }
+
+    @Test
+    public void testFullBufferDropsRecords() throws Exception {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Logger blockedLogger = Logger.getLogger(LOGGER_NAME + ".blocked");
+        final Handler blockingHandler = new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                lines.add(record.getMessage());
+                writing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final List<String> warnings = new CopyOnWriteArrayList<>();
+        final Handler warningHandler = new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                warnings.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final Logger bufferLogger = Logger.getLogger(AccessLogBuffer.class.getName());
+        blockedLogger.setLevel(Level.INFO);
+        blockedLogger.setUseParentHandlers(false);
+        blockedLogger.addHandler(blockingHandler);
+        bufferLogger.addHandler(warningHandler);
+        try {
+            final AccessLogBuffer buffer = new AccessLogBuffer(AccessLogFeature.Format.COMMON, blockedLogger.getName(), 2);
+            final URI uri = URI.create("/");
+
+            // the drain thread takes the first record and blocks in the logger while the record still holds its slot
+            assertTrue(buffer.publish(0, 0, "GET", uri, 200, -1, null, null, null));
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+            assertTrue(buffer.publish(0, 0, "GET", uri, 201, -1, null, null, null));
+            assertFalse(buffer.publish(0, 0, "GET", uri, 202, -1, null, null, null));
+            assertFalse(buffer.publish(0, 0, "GET", uri, 203, -1, null, null, null));
+
+            release.countDown();
+            buffer.close();
+            assertFalse(buffer.publish(0, 0, "GET", uri, 204, -1, null, null, null));
+
+            assertEquals(2, lines.size(), lines.toString());
+            assertTrue(lines.get(0).contains("\" 200 "), lines.get(0));
+            assertTrue(lines.get(1).contains("\" 201 "), lines.get(1));
+            assertEquals(1, warnings.size(), warnings.toString());
+            assertTrue(warnings.get(0).startsWith("2 "), warnings.get(0));
+        } finally {
+            release.countDown();
+            blockedLogger.removeHandler(blockingHandler);
+            bufferLogger.removeHandler(warningHandler);
+        }
+    }
+}
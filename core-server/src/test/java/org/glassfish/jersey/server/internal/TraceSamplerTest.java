@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import org.glassfish.jersey.message.internal.TracingLogger;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.TracingConfig;
+import org.glassfish.jersey.server.monitoring.SampledTracesMXBean;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link TraceSampler}.
+ */
+public class TraceSamplerTest {
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("fast")
+        public String fast() {
+            return "fast";
+        }
+
+        @POST
+        @Path("slow")
+        public String slow(final String entity) throws InterruptedException {
+            TimeUnit.MILLISECONDS.sleep(500);
+            return entity;
+        }
+
+        @GET
+        @Path("failing")
+        public String failing() {
+            throw new IllegalStateException("failing");
+        }
+    }
+
+    private static ApplicationHandler createHandler(final int samplingRate, final int slowThreshold) {
+        return new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.TRACING, TracingConfig.SAMPLED.name())
+                .property(ServerProperties.TRACING_SAMPLING_RATE, samplingRate)
+                .property(ServerProperties.TRACING_SLOW_THRESHOLD, slowThreshold)
+                .property(ServerProperties.TRACING_SAMPLES_SIZE, 4));
+    }
+
+    private static SampledTracesMXBean traces(final ApplicationHandler handler) {
+        return handler.getInjectionManager().getInstance(SampledTracesMXBean.class);
+    }
+
+    @Test
+    public void testSamplingRate() throws Exception {
+        final ApplicationHandler handler = createHandler(2, -1);
+        for (int i = 0; i < 10; i++) {
+            final ContainerResponse response = handler.apply(RequestContextBuilder.from("/fast", "GET").build()).get();
+            assertEquals(200, response.getStatus());
+            assertFalse(response.getHeaders().keySet().stream().anyMatch(name -> name.startsWith("X-Jersey-Tracing-")));
+        }
+
+        final SampledTracesMXBean traces = traces(handler);
+        assertEquals(5, traces.getRecordedCount());
+        // the ring holds the most recent traces only
+        assertEquals(4, traces.getRecentTraces().length);
+        assertEquals(0, traces.getSlowTraces().length);
+
+        final String trace = traces.getRecentTraces()[0];
+        assertTrue(trace.contains(" GET /fast 200 total="), trace);
+        assertTrue(trace.contains(" routing="), trace);
+        assertTrue(trace.contains(" method="), trace);
+        assertTrue(trace.contains(" writer="), trace);
+    }
+
+    @Test
+    public void testSlowThreshold() throws Exception {
+        final ApplicationHandler handler = createHandler(0, 400);
+        handler.apply(RequestContextBuilder.from("/fast", "GET").build()).get();
+        handler.apply(RequestContextBuilder.from("/slow", "POST").entity("entity").build()).get();
+        handler.apply(RequestContextBuilder.from("/fast", "GET").build()).get();
+
+        // the very first (cold) request might be slow as well
+        final SampledTracesMXBean traces = traces(handler);
+        final String[] slow = traces.getSlowTraces();
+        assertTrue(slow.length >= 1 && slow.length <= 2);
+        assertTrue(slow.length <= traces.getRecordedCount());
+        assertTrue(slow[0].contains(" POST /slow 200 total="), slow[0]);
+        assertTrue(slow[0].contains(" slow "), slow[0]);
+    }
+
+    @Test
+    public void testExplicitTracingRequest() throws Exception {
+        final ApplicationHandler handler = createHandler(1, -1);
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/fast", "GET")
+                .header(TracingLogger.HEADER_ACCEPT, "true").build()).get();
+
+        assertTrue(response.getHeaders().keySet().stream().anyMatch(name -> name.startsWith("X-Jersey-Tracing-")));
+        assertEquals(0, traces(handler).getRecordedCount());
+    }
+
+    @Test
+    public void testUnmappedException() throws Exception {
+        final ApplicationHandler handler = createHandler(1, -1);
+        assertThrows(ExecutionException.class,
+                () -> handler.apply(RequestContextBuilder.from("/failing", "GET").build()).get());
+        handler.apply(RequestContextBuilder.from("/fast", "GET").build()).get();
+
+        final SampledTracesMXBean traces = traces(handler);
+        assertEquals(2, traces.getRecordedCount());
+        final String[] recent = traces.getRecentTraces();
+        assertTrue(recent[0].contains(" GET /fast 200 total="), recent[0]);
+        assertTrue(recent[1].contains(" GET /failing 500 total="), recent[1]);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.ext.ParamConverter;
+import javax.ws.rs.ext.ParamConverterProvider;
+
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that parameter value providers of injected fields and constructor parameters of per-request
+ * resources are created once per injection point.
+ */
+public class ParamInjectionResolverTest extends AbstractTest {
+
+    private static final AtomicInteger CONVERTER_LOOKUPS = new AtomicInteger();
+
+    public static class Value {
+
+        private final String value;
+
+        private Value(final String value) {
+            this.value = value;
+        }
+    }
+
+    public static class ValueConverterProvider implements ParamConverterProvider {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType,
+                                                  final Annotation[] annotations) {
+            if (rawType != Value.class) {
+                return null;
+            }
+            CONVERTER_LOOKUPS.incrementAndGet();
+            return (ParamConverter<T>) new ParamConverter<Value>() {
+                @Override
+                public Value fromString(final String value) {
+                    return new Value(value);
+                }
+
+                @Override
+                public String toString(final Value value) {
+                    return value.value;
+                }
+            };
+        }
+    }
+
+    @Path("/")
+    public static class PerRequestResource {
+
+        @QueryParam("q")
+        private Value query;
+
+        private final Value header;
+
+        public PerRequestResource(@HeaderParam("h") final Value header) {
+            this.header = header;
+        }
+
+        @GET
+        public String get() {
+            return query.value + header.value;
+        }
+    }
+
+    @Test
+    public void testValueProvidersCreatedOnce() throws Exception {
+        initiateWebApplication(new ResourceConfig(PerRequestResource.class, ValueConverterProvider.class));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("q" + i + "h" + i, apply(RequestContextBuilder.from("/?q=q" + i, "GET")
+                    .header("h", "h" + i)
+                    .build()).getEntity());
+        }
+        assertEquals(2, CONVERTER_LOOKUPS.get());
+    }
+}
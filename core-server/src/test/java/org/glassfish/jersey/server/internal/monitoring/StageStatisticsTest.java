@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
+import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
+import org.glassfish.jersey.server.monitoring.ProcessingStage;
+import org.glassfish.jersey.server.monitoring.ResourceMethodStatistics;
+import org.glassfish.jersey.server.monitoring.StageStatistics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link StageStatistics processing stage statistics}.
+ */
+public class StageStatisticsTest {
+
+    @Path("stages")
+    public static class StagesResource {
+
+        @POST
+        public String post(final String entity) {
+            return entity;
+        }
+
+        @GET
+        @Path("fail")
+        public String fail() {
+            throw new IllegalStateException("fail");
+        }
+    }
+
+    public static class IllegalStateMapper implements ExceptionMapper<IllegalStateException> {
+
+        @Override
+        public Response toResponse(final IllegalStateException exception) {
+            return Response.status(409).entity("mapped").build();
+        }
+    }
+
+    public static class LatestStatisticsListener implements MonitoringStatisticsListener {
+
+        private final AtomicReference<MonitoringStatistics> latest = new AtomicReference<>();
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        public void onStatistics(final MonitoringStatistics statistics) {
+            latest.set(statistics);
+            if (statistics.getRequestStatistics().getTimeWindowStatistics().get(0L).getRequestCount() >= 3) {
+                latch.countDown();
+            }
+        }
+    }
+
+    @Test
+    public void testHistogram() {
+        final StageStatisticsImpl.Builder builder = new StageStatisticsImpl.Builder();
+        final long[] durations = new long[ProcessingStage.values().length];
+        for (int i = 1; i <= 100; i++) {
+            Arrays.fill(durations, -1);
+            durations[ProcessingStage.ROUTING.ordinal()] = TimeUnit.MICROSECONDS.toNanos(i);
+            builder.addStageDurations(durations);
+        }
+
+        final Map<ProcessingStage, StageStatistics> stats = builder.build();
+        assertEquals(1, stats.size());
+
+        final StageStatistics routing = stats.get(ProcessingStage.ROUTING);
+        assertEquals(100, routing.getCount());
+        assertEquals(5050, routing.getTotalTimeMicros());
+        assertEquals(50.5, routing.getAverageTimeMicros(), 0.001);
+        assertEquals(100, routing.getMaxTimeMicros());
+        // 50 falls into the bucket of [32, 63] microseconds
+        assertEquals(63, routing.getPercentileMicros(50));
+        // the upper bound of the last bucket [64, 127] is capped by the maximum
+        assertEquals(100, routing.getPercentileMicros(99));
+        assertEquals(1, routing.getPercentileMicros(0));
+    }
+
+    @Test
+    public void testBucketIndex() {
+        assertEquals(0, StageStatisticsImpl.bucketIndex(0));
+        assertEquals(1, StageStatisticsImpl.bucketIndex(1));
+        assertEquals(2, StageStatisticsImpl.bucketIndex(3));
+        assertEquals(3, StageStatisticsImpl.bucketIndex(4));
+        assertEquals(StageStatisticsImpl.BUCKETS - 1, StageStatisticsImpl.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testStagesOfRequests() throws Exception {
+        final LatestStatisticsListener listener = new LatestStatisticsListener();
+        final ResourceConfig resourceConfig = new ResourceConfig(StagesResource.class, IllegalStateMapper.class)
+                .register(listener)
+                .register((ContainerRequestFilter) requestContext -> { })
+                .property(ServerProperties.MONITORING_STATISTICS_ENABLED, true);
+        final ApplicationHandler handler = new ApplicationHandler(resourceConfig);
+        // starts the monitoring statistics processor
+        handler.onStartup(null);
+
+        ContainerResponse response = handler.apply(RequestContextBuilder.from("/stages", "POST")
+                .entity("hello").type("text/plain").build()).get();
+        assertEquals(200, response.getStatus());
+        response = handler.apply(RequestContextBuilder.from("/stages/fail", "GET").build()).get();
+        assertEquals(409, response.getStatus());
+        response = handler.apply(RequestContextBuilder.from("/stages/unknown", "GET").build()).get();
+        assertEquals(404, response.getStatus());
+
+        assertTrue(listener.latch.await(10, TimeUnit.SECONDS));
+        final MonitoringStatistics statistics = listener.latest.get();
+
+        final Map<ProcessingStage, StageStatistics> global = statistics.getStageStatistics();
+        assertEquals(3, global.get(ProcessingStage.ROUTING).getCount());
+        assertEquals(3, global.get(ProcessingStage.REQUEST_FILTERS).getCount());
+        assertEquals(2, global.get(ProcessingStage.RESOURCE_METHOD).getCount());
+        assertEquals(1, global.get(ProcessingStage.ENTITY_READING).getCount());
+        assertEquals(2, global.get(ProcessingStage.EXCEPTION_MAPPING).getCount());
+
+        final ResourceMethodStatistics post = statistics.getResourceClassStatistics().get(StagesResource.class)
+                .getResourceMethodStatistics().entrySet().stream()
+                .filter(entry -> "POST".equals(entry.getKey().getHttpMethod()))
+                .map(Map.Entry::getValue)
+                .findFirst().orElse(null);
+        assertNotNull(post);
+
+        final Map<ProcessingStage, StageStatistics> postStages = post.getStageStatistics();
+        for (final ProcessingStage stage : ProcessingStage.values()) {
+            if (stage == ProcessingStage.EXCEPTION_MAPPING) {
+                assertFalse(postStages.containsKey(stage));
+            } else {
+                assertEquals(1, postStages.get(stage).getCount(), stage.name());
+            }
+        }
+    }
+}
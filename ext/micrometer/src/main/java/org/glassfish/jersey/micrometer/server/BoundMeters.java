@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.micrometer.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+
+/**
+ * Meters of one {@code method} and {@code uri} tag pair bound per response status class. A meter is registered the
+ * first time a response of its status class is recorded. There must be only one instance per tag pair, otherwise the
+ * function timers of the histogram-free mode would not be backed by the recorded values.
+ *
+ * @since 2.46
+ */
+final class BoundMeters {
+
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final MeterRegistry registry;
+
+    private final String metricName;
+
+    private final Tags tags;
+
+    private final boolean histogramFree;
+
+    private final AtomicReferenceArray<LongConsumer> recorders = new AtomicReferenceArray<>(STATUS_CLASSES.length);
+
+    BoundMeters(MeterRegistry registry, String metricName, Tags tags, boolean histogramFree) {
+        this.registry = registry;
+        this.metricName = metricName;
+        this.tags = tags;
+        this.histogramFree = histogramFree;
+    }
+
+    /**
+     * Record a request duration.
+     * @param status the response status
+     * @param nanos the request duration in nanoseconds
+     */
+    void record(int status, long nanos) {
+        final int statusClass = Math.min(Math.max(status / 100, 1), STATUS_CLASSES.length) - 1;
+        LongConsumer recorder = recorders.get(statusClass);
+        if (recorder == null) {
+            synchronized (this) {
+                recorder = recorders.get(statusClass);
+                if (recorder == null) {
+                    recorder = bind(statusClass);
+                    recorders.set(statusClass, recorder);
+                }
+            }
+        }
+        recorder.accept(nanos);
+    }
+
+    private LongConsumer bind(int statusClass) {
+        final Tags statusTags = tags.and("status", STATUS_CLASSES[statusClass])
+            .and(Outcome.forStatus((statusClass + 1) * 100).asTag());
+
+        if (histogramFree) {
+            final TimeAdder adder = new TimeAdder();
+            FunctionTimer.builder(metricName, adder, TimeAdder::count, TimeAdder::totalTime, TimeUnit.NANOSECONDS)
+                .tags(statusTags)
+                .register(registry);
+            return adder;
+        }
+
+        final Timer timer = Timer.builder(metricName).tags(statusTags).register(registry);
+        return nanos -> timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Count and total time of requests backing a {@link FunctionTimer}.
+     */
+    private static final class TimeAdder implements LongConsumer {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalTime = new LongAdder();
+
+        @Override
+        public void accept(long nanos) {
+            count.increment();
+            totalTime.add(nanos);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        double totalTime() {
+            return totalTime.sum();
+        }
+
+    }
+
+}
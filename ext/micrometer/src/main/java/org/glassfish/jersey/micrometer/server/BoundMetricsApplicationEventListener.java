@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.micrometer.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The Micrometer {@link ApplicationEventListener} recording timings of Jersey server requests into low-cardinality
+ * meters bound once per (resource method, response status class) pair.
+ * <p>
+ * Unlike {@link MetricsApplicationEventListener}, tags are not computed for every request. The meters of a resource
+ * method, including its {@code uri} tag, are resolved the first time the method is matched and reused for all the
+ * following requests, so recording a request costs a map lookup and a timer update. The meters are tagged with
+ * {@code method}, {@code uri}, {@code status} (the status class, e.g. {@code 2xx}) and {@code outcome}. The
+ * {@link io.micrometer.core.annotation.Timed @Timed} annotations are not taken into account.
+ * <p>
+ * In the histogram-free mode, the requests are recorded by {@link io.micrometer.core.instrument.FunctionTimer
+ * function timers} backed by two {@link java.util.concurrent.atomic.LongAdder adders} (count and total time), so no
+ * distribution statistics or histograms configured by the registry are maintained on the request path.
+ *
+ * @since 2.46
+ */
+public class BoundMetricsApplicationEventListener implements ApplicationEventListener {
+
+    private final MeterRegistry registry;
+
+    private final String metricName;
+
+    private final boolean histogramFree;
+
+    private final Map<ResourceMethod, BoundMeters> methodMeters = new ConcurrentHashMap<>();
+
+    private final Map<Tags, BoundMeters> tagMeters = new ConcurrentHashMap<>();
+
+    public BoundMetricsApplicationEventListener(MeterRegistry registry, String metricName) {
+        this(registry, metricName, false);
+    }
+
+    public BoundMetricsApplicationEventListener(MeterRegistry registry, String metricName, boolean histogramFree) {
+        this.registry = requireNonNull(registry);
+        this.metricName = requireNonNull(metricName);
+        this.histogramFree = histogramFree;
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        if (event.getType() == ApplicationEvent.Type.RELOAD_FINISHED) {
+            // resource methods of the previous resource model are not going to be matched any more
+            methodMeters.clear();
+        }
+    }
+
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return new BoundMetricsRequestEventListener(this, registry.config().clock().monotonicTime());
+    }
+
+    /**
+     * Record a finished request.
+     * @param event the {@link RequestEvent.Type#FINISHED} request event
+     * @param start the monotonic time the request processing started at
+     */
+    void record(RequestEvent event, long start) {
+        final long duration = registry.config().clock().monotonicTime() - start;
+        final int status = event.getContainerResponse() != null ? event.getContainerResponse().getStatus() : 500;
+        meters(event).record(status, duration);
+    }
+
+    private BoundMeters meters(RequestEvent event) {
+        final ExtendedUriInfo uriInfo = event.getUriInfo();
+        final ResourceMethod resourceMethod = uriInfo.getMatchedResourceMethod();
+        final String httpMethod = event.getContainerRequest().getMethod();
+
+        // the uri of a method matched through sub-resource locators depends on the locators, the method of an implicit
+        // HEAD or OPTIONS request differs from the resource method one
+        if (resourceMethod != null && uriInfo.getMatchedResourceLocators().isEmpty()
+                && httpMethod.equals(resourceMethod.getHttpMethod())) {
+            final BoundMeters meters = methodMeters.get(resourceMethod);
+            if (meters != null) {
+                return meters;
+            }
+            return methodMeters.computeIfAbsent(resourceMethod,
+                method -> bind(httpMethod, JerseyTags.uri(event).getValue()));
+        }
+
+        return bind(httpMethod, JerseyTags.uri(event).getValue());
+    }
+
+    private BoundMeters bind(String httpMethod, String uri) {
+        return tagMeters.computeIfAbsent(Tags.of("method", httpMethod, "uri", uri),
+            tags -> new BoundMeters(registry, metricName, tags, histogramFree));
+    }
+
+}
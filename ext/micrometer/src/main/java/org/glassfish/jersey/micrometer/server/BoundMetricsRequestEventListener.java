@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.micrometer.server;
+
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+/**
+ * {@link RequestEventListener} of {@link BoundMetricsApplicationEventListener} recording the request into the meters
+ * bound to the matched resource method when the request is finished.
+ *
+ * @since 2.46
+ */
+final class BoundMetricsRequestEventListener implements RequestEventListener {
+
+    private final BoundMetricsApplicationEventListener applicationListener;
+
+    private final long start;
+
+    BoundMetricsRequestEventListener(BoundMetricsApplicationEventListener applicationListener, long start) {
+        this.applicationListener = applicationListener;
+        this.start = start;
+    }
+
+    @Override
+    public void onEvent(RequestEvent event) {
+        if (event.getType() == RequestEvent.Type.FINISHED) {
+            applicationListener.record(event, start);
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package org.glassfish.jersey.micrometer.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.Application;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.glassfish.jersey.micrometer.server.mapper.ResourceGoneExceptionMapper;
+import org.glassfish.jersey.micrometer.server.resources.TestResource;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundMetricsApplicationEventListener}.
+ */
+class BoundMetricsApplicationEventListenerTest extends JerseyTest {
+
+    static {
+        Logger.getLogger("org.glassfish.jersey").setLevel(Level.OFF);
+    }
+
+    private static final String METRIC_NAME = "http.server.requests";
+
+    private MeterRegistry registry;
+
+    @Override
+    protected Application configure() {
+        registry = new SimpleMeterRegistry();
+
+        final ResourceConfig config = new ResourceConfig();
+        config.register(new BoundMetricsApplicationEventListener(registry, METRIC_NAME));
+        config.register(TestResource.class);
+        config.register(ResourceGoneExceptionMapper.class);
+
+        return config;
+    }
+
+    @Test
+    void resourcesAreTimedPerStatusClass() {
+        target("hello").request().get();
+        target("hello/").request().get();
+        target("hello/peter").request().get();
+        target("redirect/302").request().get();
+        target("redirect/307").request().get();
+        target("sub-resource/sub-hello/peter").request().get();
+        target("throws-mappable-exception").request().get();
+
+        // the client follows both redirects to /hello
+        assertThat(registry.get(METRIC_NAME).tags(tagsFrom("/hello", "2xx", "SUCCESS")).timer().count())
+            .isEqualTo(4);
+        assertThat(registry.get(METRIC_NAME).tags(tagsFrom("/hello/{name}", "2xx", "SUCCESS")).timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get(METRIC_NAME).tags(tagsFrom("/redirect/{status}", "3xx", "REDIRECTION")).timer().count())
+            .isEqualTo(2);
+        assertThat(registry.get(METRIC_NAME)
+            .tags(tagsFrom("/sub-resource/sub-hello/{name}", "2xx", "SUCCESS"))
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(registry.get(METRIC_NAME)
+            .tags(tagsFrom("/throws-mappable-exception", "4xx", "CLIENT_ERROR"))
+            .timer()
+            .count()).isEqualTo(1);
+
+        assertThat(registry.getMeters()).hasSize(5);
+    }
+
+    @Test
+    void notFoundIsAccumulatedUnderSameUri() {
+        try {
+            target("not-found").request().get();
+            target("not-found-either").request().get();
+        }
+        catch (NotFoundException ignored) {
+        }
+
+        assertThat(registry.get(METRIC_NAME).tags(tagsFrom("NOT_FOUND", "4xx", "CLIENT_ERROR")).timer().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void histogramFreeMetersAreFunctionTimers() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final BoundMeters meters = new BoundMeters(registry, METRIC_NAME, Tags.of("method", "GET", "uri", "/hello"), true);
+
+        meters.record(200, TimeUnit.MILLISECONDS.toNanos(10));
+        meters.record(204, TimeUnit.MILLISECONDS.toNanos(20));
+        meters.record(500, TimeUnit.MILLISECONDS.toNanos(30));
+
+        final FunctionTimer success = registry.get(METRIC_NAME).tags(tagsFrom("/hello", "2xx", "SUCCESS")).functionTimer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+
+        final FunctionTimer error = registry.get(METRIC_NAME).tags(tagsFrom("/hello", "5xx", "SERVER_ERROR")).functionTimer();
+        assertThat(error.count()).isEqualTo(1);
+    }
+
+    private static Iterable<Tag> tagsFrom(String uri, String status, String outcome) {
+        return Tags.of("method", "GET", "uri", uri, "status", status, "outcome", outcome);
+    }
+
+}
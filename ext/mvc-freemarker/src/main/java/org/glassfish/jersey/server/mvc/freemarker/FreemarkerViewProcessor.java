@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,7 +18,6 @@ package org.glassfish.jersey.server.mvc.freemarker;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.util.HashMap;
@@ -91,7 +90,7 @@ final class FreemarkerViewProcessor extends AbstractTemplateProcessor<Template>
             }
             Charset encoding = setContentType(mediaType, httpHeaders);
 
-            template.process(model, new OutputStreamWriter(out, encoding));
+            template.process(model, createOutputWriter(out, encoding));
         } catch (TemplateException te) {
             throw new ContainerException(te);
         }
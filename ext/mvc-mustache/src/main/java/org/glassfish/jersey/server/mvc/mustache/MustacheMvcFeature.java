@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -66,6 +66,48 @@ public class MustacheMvcFeature implements Feature {
      */
     public static final String CACHE_TEMPLATES = MvcFeature.CACHE_TEMPLATES + SUFFIX;
 
+    /**
+     * Maximum number of Mustache templates kept in the cache when {@link #CACHE_TEMPLATES caching} is enabled.
+     * <p/>
+     * The default value is {@value org.glassfish.jersey.server.mvc.MvcFeature#DEFAULT_CACHE_TEMPLATES_SIZE}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 2.46
+     */
+    public static final String CACHE_TEMPLATES_SIZE = MvcFeature.CACHE_TEMPLATES_SIZE + SUFFIX;
+
+    /**
+     * If {@code true} then cached Mustache templates are compiled again once their template file is modified.
+     * <p/>
+     * The default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 2.46
+     */
+    public static final String CACHE_TEMPLATES_RELOAD = MvcFeature.CACHE_TEMPLATES_RELOAD + SUFFIX;
+
+    /**
+     * Number of characters after which the rendered output of Mustache templates is flushed to the client.
+     * <p/>
+     * There is no default value.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @see org.glassfish.jersey.server.mvc.MvcFeature#FLUSH_THRESHOLD
+     * @since 2.46
+     */
+    public static final String FLUSH_THRESHOLD = MvcFeature.FLUSH_THRESHOLD + SUFFIX;
+
+    /**
+     * Name of the section ({@code {{#flush}}{{/flush}}}) that flushes the output rendered so far to the client when used
+     * in a Mustache template, unless the model provides a property of the same name.
+     *
+     * @since 2.46
+     */
+    public static final String FLUSH_SECTION = "flush";
+
     /**
      * Property used to pass user-configured {@link com.github.mustachejava.MustacheFactory factory} able to create
      * {@link com.github.mustachejava.Mustache Mustache templates}.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,9 +18,13 @@ package org.glassfish.jersey.server.mvc.mustache;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
 
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.MediaType;
@@ -75,6 +79,25 @@ final class MustacheTemplateProcessor extends AbstractTemplateProcessor<Mustache
     public void writeTo(final Mustache mustache, final Viewable viewable, final MediaType mediaType,
                         final MultivaluedMap<String, Object> httpHeaders, final OutputStream out) throws IOException {
         Charset encoding = setContentType(mediaType, httpHeaders);
-        mustache.execute(new OutputStreamWriter(out, encoding), viewable.getModel()).flush();
+        final Writer writer = createOutputWriter(out, encoding);
+        mustache.execute(writer, new Object[] {flushScope(writer), viewable.getModel()}).flush();
+    }
+
+    /**
+     * Create a scope providing the {@value MustacheMvcFeature#FLUSH_SECTION} section that flushes the rendered output.
+     * The scope has a lower priority than the model, i.e. a model property of the same name takes precedence.
+     *
+     * @param writer writer to be flushed.
+     * @return flush scope.
+     */
+    private static Map<String, Function<String, String>> flushScope(final Writer writer) {
+        return Collections.singletonMap(MustacheMvcFeature.FLUSH_SECTION, body -> {
+            try {
+                writer.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return "";
+        });
     }
 }
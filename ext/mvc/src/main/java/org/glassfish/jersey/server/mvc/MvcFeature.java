@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -66,6 +66,53 @@ public final class MvcFeature implements Feature {
      */
     public static final String CACHE_TEMPLATES = "jersey.config.server.mvc.caching";
 
+    /**
+     * An integer value that defines the maximum number of template objects kept in the cache when
+     * {@link #CACHE_TEMPLATES template caching} is enabled. Least recently used templates are evicted from the cache
+     * once the limit is reached.
+     * <p/>
+     * The default value is {@value #DEFAULT_CACHE_TEMPLATES_SIZE}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * <p/>
+     * Note: This property is used as common prefix for specific
+     * {@link org.glassfish.jersey.server.mvc.spi.TemplateProcessor template processors} properties and might not be supported by
+     * all template processors.
+     *
+     * @see #CACHE_TEMPLATES
+     * @since 2.46
+     */
+    public static final String CACHE_TEMPLATES_SIZE = "jersey.config.server.mvc.caching.size";
+
+    /**
+     * The default maximum number of cached template objects ({@value}).
+     *
+     * @see #CACHE_TEMPLATES_SIZE
+     * @since 2.46
+     */
+    public static final int DEFAULT_CACHE_TEMPLATES_SIZE = 512;
+
+    /**
+     * If {@code true} then cached template objects loaded from a file are compiled again once the last modification time
+     * of the file changes. Templates that cannot be mapped to a file (e.g. packaged in a jar) are never reloaded.
+     * The value of the property is ignored unless {@link #CACHE_TEMPLATES template caching} is enabled.
+     * <p/>
+     * Checking the modification time costs a file system access per template lookup, so the property is meant mostly for
+     * development.
+     * <p/>
+     * The default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * <p/>
+     * Note: This property is used as common prefix for specific
+     * {@link org.glassfish.jersey.server.mvc.spi.TemplateProcessor template processors} properties and might not be supported by
+     * all template processors.
+     *
+     * @see #CACHE_TEMPLATES
+     * @since 2.46
+     */
+    public static final String CACHE_TEMPLATES_RELOAD = "jersey.config.server.mvc.caching.reload";
+
     /**
      * Property used to pass user-configured factory able to create template objects. Value of the property is supposed to be an
      * instance of "templating engine"-specific factory, a class of the factory or class-name of the factory.
@@ -98,6 +145,31 @@ public final class MvcFeature implements Feature {
      */
     public static final String ENCODING = "jersey.config.server.mvc.encoding";
 
+    /**
+     * An integer value that defines the number of characters after which the output of a
+     * {@link org.glassfish.jersey.server.mvc.spi.TemplateProcessor template processor} is flushed to the client while the
+     * template is being rendered. If set, the response is committed and streamed to the client as the template renders
+     * instead of being sent once the whole rendered page is available, which shortens the time to first byte of large pages
+     * and avoids buffering the rendered page. Note that once the response is committed, an error that occurs later during
+     * rendering can no longer change the response status.
+     * <p/>
+     * Templates may also flush the rendered output explicitly at chosen template sections, independently of this property
+     * (e.g. using {@code <#flush>} directive in FreeMarker templates or {@code {{#flush}}{{/flush}}} section in Mustache
+     * templates).
+     * <p/>
+     * There is no default value, i.e. the output is flushed only once the template is rendered or when the template asks
+     * for it.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * <p/>
+     * Note: This property is used as common prefix for specific
+     * {@link org.glassfish.jersey.server.mvc.spi.TemplateProcessor template processors} properties and might not be supported by
+     * all template processors.
+     *
+     * @since 2.46
+     */
+    public static final String FLUSH_THRESHOLD = "jersey.config.server.mvc.flushThreshold";
+
     @Override
     public boolean configure(final FeatureContext context) {
         final Configuration config = context.getConfiguration();
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.mvc.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * {@link Writer} that flushes the underlying writer (and thereby the entity stream) each time at least the configured
+ * number of characters has been written since the last flush. Flushing the entity stream commits the response, so the
+ * rendered template starts reaching the client before the whole template is rendered and the response does not need to
+ * be buffered.
+ *
+ * @see org.glassfish.jersey.server.mvc.MvcFeature#FLUSH_THRESHOLD
+ */
+public final class FlushingWriter extends Writer {
+
+    private final Writer writer;
+    private final int threshold;
+
+    private int unflushed;
+
+    /**
+     * Create a new flushing writer.
+     *
+     * @param writer    writer to write and flush the characters to.
+     * @param threshold number of characters written after which the writer is flushed.
+     */
+    public FlushingWriter(final Writer writer, final int threshold) {
+        this.writer = writer;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        writer.write(c);
+        written(1);
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        writer.write(cbuf, off, len);
+        written(len);
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        writer.write(str, off, len);
+        written(len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        unflushed = 0;
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void written(final int len) throws IOException {
+        unflushed += len;
+        if (unflushed >= threshold) {
+            flush();
+        }
+    }
+}
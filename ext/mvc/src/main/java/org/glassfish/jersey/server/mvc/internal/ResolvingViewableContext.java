@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,10 @@
 
 package org.glassfish.jersey.server.mvc.internal;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import javax.ws.rs.core.MediaType;
 
 import org.glassfish.jersey.server.mvc.Viewable;
@@ -39,11 +43,24 @@ import org.glassfish.jersey.server.mvc.spi.ViewableContextException;
  * class is utilized, and is set as the resolving class. Traversal up the inheritance hierarchy proceeds until an absolute
  * template name can be resolved into a template reference, or the Object class is reached,
  * which means the absolute template name could not be resolved and an error will result.
+ * <br/>
+ * The absolute template name a relative template name has been resolved to is remembered for the resolving class, media type
+ * and template processor, so that the inheritance hierarchy is not traversed again for subsequent requests as long as the
+ * template can still be resolved.
  *
  * @author Michal Gajdos
  */
 class ResolvingViewableContext implements ViewableContext {
 
+    private static final int RESOLVED_TEMPLATES_CACHE_SIZE = 1024;
+
+    /**
+     * Absolute template names (and the classes they were resolved for) by template processor, resolving class, relative
+     * template name and media type.
+     */
+    private final Map<List<Object>, ResolvedTemplate> resolvedTemplates =
+            TemplateHelper.lruMap(RESOLVED_TEMPLATES_CACHE_SIZE);
+
     /**
      * Resolve given {@link Viewable viewable} using {@link MediaType media type}, {@code resolving class} and
      * {@link TemplateProcessor template processor}.
@@ -104,6 +121,18 @@ class ResolvingViewableContext implements ViewableContext {
     private ResolvedViewable resolveRelativeViewable(final Viewable viewable, final Class<?> resolvingClass,
                                                      final MediaType mediaType, final TemplateProcessor templateProcessor) {
         final String path = TemplateHelper.getTemplateName(viewable);
+        final List<Object> key = Arrays.asList(templateProcessor, resolvingClass, path, mediaType);
+
+        // Try the previously resolved template first.
+        final ResolvedTemplate resolvedTemplate = resolvedTemplates.get(key);
+        if (resolvedTemplate != null) {
+            final Object resolvedTemplateObject = templateProcessor.resolve(resolvedTemplate.absolutePath, mediaType);
+
+            if (resolvedTemplateObject != null) {
+                return new ResolvedViewable(templateProcessor, resolvedTemplateObject, viewable,
+                        resolvedTemplate.resolvingClass, mediaType);
+            }
+        }
 
         // Find in directories.
         for (Class c = resolvingClass; c != Object.class; c = c.getSuperclass()) {
@@ -111,6 +140,7 @@ class ResolvingViewableContext implements ViewableContext {
             final Object resolvedTemplateObject = templateProcessor.resolve(absolutePath, mediaType);
 
             if (resolvedTemplateObject != null) {
+                resolvedTemplates.put(key, new ResolvedTemplate(absolutePath, c));
                 return new ResolvedViewable(templateProcessor, resolvedTemplateObject, viewable, c, mediaType);
             }
         }
@@ -121,6 +151,7 @@ class ResolvingViewableContext implements ViewableContext {
             final Object resolvedTemplateObject = templateProcessor.resolve(absolutePath, mediaType);
 
             if (resolvedTemplateObject != null) {
+                resolvedTemplates.put(key, new ResolvedTemplate(absolutePath, c));
                 return new ResolvedViewable(templateProcessor, resolvedTemplateObject, viewable, c, mediaType);
             }
         }
@@ -128,4 +159,18 @@ class ResolvingViewableContext implements ViewableContext {
         return null;
     }
 
+    /**
+     * Absolute template name a relative template name has been resolved to.
+     */
+    private static final class ResolvedTemplate {
+
+        private final String absolutePath;
+        private final Class<?> resolvingClass;
+
+        private ResolvedTemplate(final String absolutePath, final Class<?> resolvingClass) {
+            this.absolutePath = absolutePath;
+            this.resolvingClass = resolvingClass;
+        }
+    }
+
 }
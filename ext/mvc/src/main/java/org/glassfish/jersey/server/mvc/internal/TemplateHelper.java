@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,7 +19,10 @@ package org.glassfish.jersey.server.mvc.internal;
 import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Configuration;
@@ -144,6 +147,21 @@ public final class TemplateHelper {
         }
     }
 
+    /**
+     * Create a thread-safe map that evicts the least recently used entry once it holds more than given number of entries.
+     *
+     * @param maxSize maximum number of entries.
+     * @return bounded map.
+     */
+    public static <K, V> Map<K, V> lruMap(final int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
     /**
      * Prevents instantiation.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,20 +19,26 @@ package org.glassfish.jersey.server.mvc.spi;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -49,6 +55,7 @@ import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.server.mvc.MvcFeature;
+import org.glassfish.jersey.server.mvc.internal.FlushingWriter;
 import org.glassfish.jersey.server.mvc.internal.LocalizationMessages;
 import org.glassfish.jersey.server.mvc.internal.TemplateHelper;
 
@@ -58,7 +65,10 @@ import org.glassfish.jersey.server.mvc.internal.TemplateHelper;
  * <ul>
  * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#TEMPLATE_BASE_PATH}</li>
  * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#CACHE_TEMPLATES}</li>
+ * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#CACHE_TEMPLATES_SIZE}</li>
+ * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#CACHE_TEMPLATES_RELOAD}</li>
  * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#TEMPLATE_OBJECT_FACTORY}</li>
+ * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#FLUSH_THRESHOLD}</li>
  * </ul>
  * If any of the properties are not supported by particular template processor then this fact should be mentioned in documentation
  * of the template processor.
@@ -69,7 +79,18 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
 
     private static final Logger LOGGER = Logger.getLogger(AbstractTemplateProcessor.class.getName());
 
-    private final ConcurrentMap<String, T> cache;
+    /**
+     * Compiled templates by template name, {@code null} if template caching is disabled. Template names that cannot be
+     * resolved are not cached so that templates added later are still found.
+     */
+    private final Map<String, CachedTemplate<T>> cache;
+    private final boolean reload;
+
+    /**
+     * Template paths the template names were last successfully resolved to, used to avoid probing all the possible
+     * template paths and locations again when the template is needed next time.
+     */
+    private final Map<String, String> templatePaths;
 
     private final String suffix;
     private final Configuration config;
@@ -78,6 +99,7 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
     private final String basePath;
     private final Set<String> supportedExtensions;
     private final Charset encoding;
+    private final int flushThreshold;
 
     /**
      * Create an instance of the processor with injected {@link javax.ws.rs.core.Configuration config} and
@@ -117,8 +139,31 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
         if (cacheEnabled == null) {
             cacheEnabled = PropertiesHelper.getValue(properties, MvcFeature.CACHE_TEMPLATES, false, null);
         }
-        this.cache = cacheEnabled ? new ConcurrentHashMap<>() : null;
+        Integer cacheSize = PropertiesHelper.getValue(properties, MvcFeature.CACHE_TEMPLATES_SIZE + suffix, Integer.class, null);
+        if (cacheSize == null) {
+            cacheSize = PropertiesHelper.getValue(properties, MvcFeature.CACHE_TEMPLATES_SIZE,
+                    MvcFeature.DEFAULT_CACHE_TEMPLATES_SIZE, null);
+        }
+        if (cacheSize <= 0) {
+            LOGGER.log(Level.CONFIG, LocalizationMessages.TEMPLATE_CACHE_INVALID_SIZE(cacheSize,
+                    MvcFeature.DEFAULT_CACHE_TEMPLATES_SIZE));
+            cacheSize = MvcFeature.DEFAULT_CACHE_TEMPLATES_SIZE;
+        }
+        Boolean reload = PropertiesHelper.getValue(properties, MvcFeature.CACHE_TEMPLATES_RELOAD + suffix, Boolean.class, null);
+        if (reload == null) {
+            reload = PropertiesHelper.getValue(properties, MvcFeature.CACHE_TEMPLATES_RELOAD, false, null);
+        }
+        this.cache = cacheEnabled ? TemplateHelper.lruMap(cacheSize) : null;
+        this.reload = cacheEnabled && reload;
+        this.templatePaths = TemplateHelper.lruMap(cacheSize);
         this.encoding = TemplateHelper.getTemplateOutputEncoding(config, suffix);
+
+        // Flush threshold.
+        Integer flushThreshold = PropertiesHelper.getValue(properties, MvcFeature.FLUSH_THRESHOLD + suffix, Integer.class, null);
+        if (flushThreshold == null) {
+            flushThreshold = PropertiesHelper.getValue(properties, MvcFeature.FLUSH_THRESHOLD, 0, null);
+        }
+        this.flushThreshold = flushThreshold;
     }
 
     /**
@@ -143,24 +188,31 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
     public T resolve(final String name, final MediaType mediaType) {
         // Look into the cache if enabled.
         if (cache != null) {
-            if (!cache.containsKey(name)) {
-                cache.putIfAbsent(name, resolve(name));
+            CachedTemplate<T> cached = cache.get(name);
+            if (cached == null || (reload && cached.isStale())) {
+                cached = resolve(name);
+                if (cached.template != null) {
+                    cache.put(name, cached);
+                } else {
+                    cache.remove(name);
+                }
             }
-            return cache.get(name);
+            return cached.template;
         }
 
-        return resolve(name);
+        return resolve(name).template;
     }
 
     /**
      * Resolve a template name to a template reference.
      *
      * @param name the template name.
-     * @return the template reference, otherwise {@code null} if the template name cannot be resolved.
+     * @return the template reference holder with {@code null} template if the template name cannot be resolved.
      */
-    private T resolve(final String name) {
+    private CachedTemplate<T> resolve(final String name) {
         for (final String template : getTemplatePaths(name)) {
             Reader reader = null;
+            Path source = null;
 
             // ServletContext.
             if (servletContext != null) {
@@ -168,29 +220,41 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
                 final String path = template.startsWith("/") ? template : "/" + template;
                 final InputStream stream = servletContext.getResourceAsStream(path);
                 reader = stream != null ? new InputStreamReader(stream) : null;
+                if (reader != null && reload) {
+                    source = toPath(servletContext.getRealPath(path));
+                }
             }
 
             // Classloader.
             if (reader == null) {
+                ClassLoader classLoader = null;
                 InputStream stream = getClass().getResourceAsStream(template);
                 if (stream == null) {
-                    stream = getClass().getClassLoader().getResourceAsStream(template);
+                    classLoader = getClass().getClassLoader();
+                    stream = classLoader.getResourceAsStream(template);
                 }
                 reader = stream != null ? new InputStreamReader(stream) : null;
+                if (reader != null && reload) {
+                    source = toPath(classLoader == null ? getClass().getResource(template) : classLoader.getResource(template));
+                }
             }
 
             // File-system path.
             if (reader == null) {
                 try {
                     reader = new InputStreamReader(Files.newInputStream(Paths.get(template)), encoding);
-                } catch (final IOException ioe) {
+                    source = reload ? Paths.get(template) : null;
+                } catch (final IOException | InvalidPathException e) {
                     // NOOP.
                 }
             }
 
             if (reader != null) {
                 try {
-                    return resolve(template, reader);
+                    final FileTime lastModified = lastModified(source);
+                    final T resolved = resolve(template, reader);
+                    templatePaths.put(name, template);
+                    return new CachedTemplate<>(resolved, source, lastModified);
                 } catch (final Exception e) {
                     LOGGER.log(Level.WARNING, LocalizationMessages.TEMPLATE_RESOLVE_ERROR(template), e);
                 } finally {
@@ -202,7 +266,7 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
                 }
             }
         }
-        return null;
+        return new CachedTemplate<>(null, null, null);
     }
 
     /**
@@ -216,23 +280,58 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
     protected abstract T resolve(final String templatePath, final Reader reader) throws Exception;
 
     /**
-     * Return collection of possible template paths (included basePath and suffix).
+     * Return collection of possible template paths (included basePath and suffix). The path the template name has been
+     * resolved to last time, if any, is returned first.
      *
      * @param name the template name.
      * @return collection of possible template paths.
      */
     private Collection<String> getTemplatePaths(final String name) {
+        final Set<String> paths = new LinkedHashSet<>();
+        final String resolvedPath = templatePaths.get(name);
+        if (resolvedPath != null) {
+            paths.add(resolvedPath);
+        }
+
         final String lowerName = name.toLowerCase(Locale.ROOT);
         final String templatePath = basePath.endsWith("/") ? basePath + name.substring(1) : basePath + name;
 
         // Check whether the given name ends with supported suffix.
         for (final String extension : supportedExtensions) {
             if (lowerName.endsWith(extension)) {
-                return Collections.singleton(templatePath);
+                paths.add(templatePath);
+                return paths;
             }
         }
 
-        return supportedExtensions.stream().map(input -> templatePath + input).collect(Collectors.toSet());
+        for (final String extension : supportedExtensions) {
+            paths.add(templatePath + extension);
+        }
+        return paths;
+    }
+
+    private static Path toPath(final String realPath) {
+        try {
+            return realPath != null ? Paths.get(realPath) : null;
+        } catch (final InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static Path toPath(final URL url) {
+        try {
+            return url != null && "file".equals(url.getProtocol()) ? Paths.get(url.toURI()) : null;
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static FileTime lastModified(final Path source) {
+        try {
+            return source != null ? Files.getLastModifiedTime(source) : null;
+        } catch (final IOException e) {
+            return null;
+        }
     }
 
     /**
@@ -303,6 +402,21 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
         return encoding;
     }
 
+    /**
+     * Create a writer the template processor should render the template to. If
+     * {@link org.glassfish.jersey.server.mvc.MvcFeature#FLUSH_THRESHOLD flush threshold} is configured, the returned writer
+     * flushes the rendered output to the entity stream each time the threshold is reached.
+     *
+     * @param out      entity stream.
+     * @param encoding encoding of the rendered output.
+     * @return writer writing to the entity stream.
+     * @since 2.46
+     */
+    protected Writer createOutputWriter(final OutputStream out, final Charset encoding) {
+        final Writer writer = new OutputStreamWriter(out, encoding);
+        return flushThreshold > 0 ? new FlushingWriter(writer, flushThreshold) : writer;
+    }
+
     /**
      * Get the output encoding.
      *
@@ -311,4 +425,33 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
     protected Charset getEncoding() {
         return encoding;
     }
+
+    /**
+     * Resolved template together with the file it has been loaded from, if known.
+     */
+    private static final class CachedTemplate<T> {
+
+        private final T template;
+        private final Path source;
+        private final FileTime lastModified;
+
+        private CachedTemplate(final T template, final Path source, final FileTime lastModified) {
+            this.template = template;
+            this.source = source;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Check whether the template should be resolved again, i.e. its file has changed.
+         *
+         * @return {@code true} if the template should be resolved again.
+         */
+        private boolean isStale() {
+            if (source == null) {
+                return false;
+            }
+            final FileTime current = lastModified(source);
+            return current == null || !current.equals(lastModified);
+        }
+    }
 }
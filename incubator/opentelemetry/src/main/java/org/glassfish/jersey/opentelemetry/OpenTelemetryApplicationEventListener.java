@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.opentelemetry;
+
+import java.net.URI;
+import java.util.List;
+
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.glassfish.jersey.uri.UriTemplate;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+
+/**
+ * Application event listener that starts a {@code SERVER} span for every request.
+ * <p>
+ * The span is started as soon as the request processing starts, before any attribute besides the HTTP method is
+ * computed, so that the sampler of the tracer provider decides early. Requests which are not sampled are only
+ * given a listener that makes their context current for the resource method and the response filters, so that the
+ * sampling decision is propagated to downstream calls; no attributes are computed and no span events are handled.
+ *
+ * @since 2.46
+ */
+final class OpenTelemetryApplicationEventListener implements ApplicationEventListener {
+
+    private static final TextMapGetter<ContainerRequest> GETTER = new TextMapGetter<ContainerRequest>() {
+        @Override
+        public Iterable<String> keys(final ContainerRequest carrier) {
+            return carrier.getHeaders().keySet();
+        }
+
+        @Override
+        public String get(final ContainerRequest carrier, final String key) {
+            return carrier == null ? null : carrier.getHeaderString(key);
+        }
+    };
+
+    private final Tracer tracer;
+    private final TextMapPropagator propagator;
+
+    /**
+     * Create a new listener.
+     *
+     * @param tracer     tracer used to start the server spans.
+     * @param propagator propagator used to extract the parent context from the request headers.
+     */
+    OpenTelemetryApplicationEventListener(final Tracer tracer, final TextMapPropagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    @Override
+    public void onEvent(final ApplicationEvent event) {
+        // no-op
+    }
+
+    @Override
+    public RequestEventListener onRequest(final RequestEvent requestEvent) {
+        final ContainerRequest request = requestEvent.getContainerRequest();
+        final String method = request.getMethod();
+
+        final Context parent = propagator.extract(Context.root(), request, GETTER);
+        final Span span = tracer.spanBuilder(OpenTelemetryUtils.spanName(method))
+                .setParent(parent)
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute(OpenTelemetryUtils.HTTP_METHOD, method)
+                .startSpan();
+        final Context context = parent.with(span);
+        request.setProperty(OpenTelemetryFeature.CONTEXT_PROPERTY, context);
+
+        if (!span.isRecording()) {
+            // Not sampled - nothing to record, the context only carries the sampling decision downstream.
+            return new ContextScopeListener(context);
+        }
+
+        final URI requestUri = request.getRequestUri();
+        span.setAttribute(OpenTelemetryUtils.HTTP_SCHEME, requestUri.getScheme());
+        span.setAttribute(OpenTelemetryUtils.HTTP_TARGET, requestUri.getRawQuery() == null
+                ? requestUri.getRawPath()
+                : requestUri.getRawPath() + '?' + requestUri.getRawQuery());
+
+        return new SpanListener(span, context, method);
+    }
+
+    /**
+     * Get the route (the application path followed by the matched templates) of the request.
+     *
+     * @param uriInfo URI info of a matched request.
+     * @return route of the request or {@code null} if no template has been matched.
+     */
+    static String route(final ExtendedUriInfo uriInfo) {
+        final List<UriTemplate> templates = uriInfo.getMatchedTemplates();
+        if (templates.isEmpty()) {
+            return null;
+        }
+
+        final StringBuilder route = new StringBuilder();
+        appendPath(route, uriInfo.getBaseUri().getRawPath());
+        for (int i = templates.size() - 1; i >= 0; i--) {
+            appendPath(route, templates.get(i).getTemplate());
+        }
+        if (route.length() > 1 && route.charAt(route.length() - 1) == '/') {
+            route.setLength(route.length() - 1);
+        }
+        return route.toString();
+    }
+
+    private static void appendPath(final StringBuilder route, final String path) {
+        if (path == null) {
+            return;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            // collapse the slashes of adjacent path segments
+            if (c != '/' || route.length() == 0 || route.charAt(route.length() - 1) != '/') {
+                route.append(c);
+            }
+        }
+    }
+
+    /**
+     * Listener that makes the request context current while the resource method and the response filters run.
+     * <p>
+     * The context is made current on the thread that invokes the resource method and, separately, on the thread
+     * that runs the response filters. The events of both pairs are always fired on the same thread, so the scopes are
+     * always closed on the thread they have been opened on.
+     */
+    private static class ContextScopeListener implements RequestEventListener {
+
+        private final Context context;
+
+        private Scope resourceMethodScope;
+        private Scope responseFiltersScope;
+
+        private ContextScopeListener(final Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public void onEvent(final RequestEvent event) {
+            switch (event.getType()) {
+                case RESOURCE_METHOD_START:
+                    resourceMethodScope = context.makeCurrent();
+                    break;
+                case RESOURCE_METHOD_FINISHED:
+                    resourceMethodScope = close(resourceMethodScope);
+                    break;
+                case RESP_FILTERS_START:
+                    responseFiltersScope = context.makeCurrent();
+                    break;
+                case RESP_FILTERS_FINISHED:
+                    responseFiltersScope = close(responseFiltersScope);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private static Scope close(final Scope scope) {
+            if (scope != null) {
+                scope.close();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Listener of a sampled request, records the request processing into the server span.
+     */
+    private static final class SpanListener extends ContextScopeListener {
+
+        private final Span span;
+        private final String method;
+        private Throwable exception;
+
+        private SpanListener(final Span span, final Context context, final String method) {
+            super(context);
+            this.span = span;
+            this.method = method;
+        }
+
+        @Override
+        public void onEvent(final RequestEvent event) {
+            super.onEvent(event);
+
+            switch (event.getType()) {
+                case REQUEST_MATCHED:
+                    final String route = route(event.getUriInfo());
+                    if (route != null) {
+                        span.updateName(method + " " + route);
+                        span.setAttribute(OpenTelemetryUtils.HTTP_ROUTE, route);
+                    }
+                    break;
+                case ON_EXCEPTION:
+                    // recorded once it is known the exception has not been mapped to a client error response
+                    exception = event.getException();
+                    break;
+                case FINISHED:
+                    final ContainerResponse response = event.getContainerResponse();
+                    final int status = response != null ? response.getStatus() : 500;
+                    if (response != null) {
+                        span.setAttribute(OpenTelemetryUtils.HTTP_STATUS_CODE, status);
+                    }
+                    if (status >= 500) {
+                        if (exception != null) {
+                            span.recordException(exception);
+                        }
+                        span.setStatus(StatusCode.ERROR);
+                    }
+                    span.end();
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.opentelemetry;
+
+import java.io.IOException;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.client.spi.PostInvocationInterceptor;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/**
+ * Client-side filter that starts a {@code CLIENT} span when a request is sent, injects its context into the request
+ * headers and ends the span when the response is received. If no response is received, e.g. because the connector
+ * failed to send the request, the span is ended with the {@link StatusCode#ERROR ERROR} status by the
+ * {@link PostInvocationInterceptor}.
+ * <p>
+ * Spans of requests which are not sampled are not populated with any attributes, the request headers are still
+ * injected to propagate the sampling decision.
+ *
+ * @since 2.46
+ */
+final class OpenTelemetryClientFilter implements ClientRequestFilter, ClientResponseFilter, PostInvocationInterceptor {
+
+    private static final String SPAN_PROPERTY = OpenTelemetryClientFilter.class.getName() + ".span";
+
+    private static final TextMapSetter<MultivaluedMap<String, Object>> SETTER = (carrier, key, value) -> {
+        if (carrier != null) {
+            carrier.putSingle(key, value);
+        }
+    };
+
+    private final Tracer tracer;
+    private final TextMapPropagator propagator;
+
+    /**
+     * Create a new filter.
+     *
+     * @param tracer     tracer used to start the client spans.
+     * @param propagator propagator used to inject the span context into the request headers.
+     */
+    OpenTelemetryClientFilter(final Tracer tracer, final TextMapPropagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    @Override
+    public void filter(final ClientRequestContext requestContext) throws IOException {
+        final Object property = requestContext.getProperty(OpenTelemetryFeature.CONTEXT_PROPERTY);
+        final Context parent = property instanceof Context ? (Context) property : Context.current();
+        final String method = requestContext.getMethod();
+
+        final Span span = tracer.spanBuilder(OpenTelemetryUtils.spanName(method))
+                .setParent(parent)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(OpenTelemetryUtils.HTTP_METHOD, method)
+                .startSpan();
+        propagator.inject(parent.with(span), requestContext.getHeaders(), SETTER);
+
+        if (span.isRecording()) {
+            span.setAttribute(OpenTelemetryUtils.HTTP_URL, requestContext.getUri().toASCIIString());
+            requestContext.setProperty(SPAN_PROPERTY, span);
+        } else {
+            // only the propagated context is needed
+            span.end();
+        }
+    }
+
+    @Override
+    public void filter(final ClientRequestContext requestContext, final ClientResponseContext responseContext)
+            throws IOException {
+        final Object property = requestContext.getProperty(SPAN_PROPERTY);
+        if (property instanceof Span) {
+            final Span span = (Span) property;
+            final int status = responseContext.getStatus();
+            span.setAttribute(OpenTelemetryUtils.HTTP_STATUS_CODE, status);
+            if (status >= 400) {
+                span.setStatus(StatusCode.ERROR);
+            }
+            span.end();
+            requestContext.removeProperty(SPAN_PROPERTY);
+        }
+    }
+
+    @Override
+    public void afterRequest(final ClientRequestContext requestContext, final ClientResponseContext responseContext) {
+        // the span has already been ended by the response filter
+    }
+
+    @Override
+    public void onException(final ClientRequestContext requestContext, final ExceptionContext exceptionContext) {
+        final Object property = requestContext.getProperty(SPAN_PROPERTY);
+        if (property instanceof Span) {
+            final Span span = (Span) property;
+            final Throwable throwable = exceptionContext.getThrowables().peekFirst();
+            if (throwable != null) {
+                span.recordException(throwable);
+            }
+            span.setStatus(StatusCode.ERROR);
+            span.end();
+            requestContext.removeProperty(SPAN_PROPERTY);
+        }
+    }
+}
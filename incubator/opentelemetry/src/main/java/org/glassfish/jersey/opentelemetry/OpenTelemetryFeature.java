@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.opentelemetry;
+
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+import org.glassfish.jersey.Beta;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+
+/**
+ * A feature that enables OpenTelemetry tracing on server and client.
+ * <p>
+ * On the server a {@code SERVER} span is started for every request, continuing the trace propagated in the request
+ * headers, and ended once the response has been written. The span is the {@link io.opentelemetry.context.Context#current()
+ * current} context while the resource method runs (including {@link org.glassfish.jersey.server.ManagedAsync managed async}
+ * methods, which run on the managed async executor) and while the response filters run, i.e. also on the thread that
+ * resumed an {@link javax.ws.rs.container.AsyncResponse} or completed a returned
+ * {@link java.util.concurrent.CompletionStage}. The request context is also stored in the {@link #CONTEXT_PROPERTY}
+ * request property, so that application code can hand it over to its own threads, e.g. using
+ * {@link io.opentelemetry.context.Context#wrap(Runnable)}.
+ * <p>
+ * On the client a {@code CLIENT} span is started for every request and its context is injected into the request headers.
+ * The parent of the span is the context set in the {@link #CONTEXT_PROPERTY} request property or, if the property is not
+ * set, the {@link io.opentelemetry.context.Context#current() current} context.
+ * <p>
+ * Sampling is left to the {@link io.opentelemetry.api.trace.TracerProvider tracer provider} of the configured
+ * {@link OpenTelemetry} instance. The sampling decision is made when the span is started, before any attribute but the
+ * HTTP method is computed. No further attributes are collected for requests that are not sampled and the span is not
+ * updated during their processing, their context is only made current and propagated so that the sampling decision is
+ * honoured by downstream services.
+ *
+ * @since 2.46
+ */
+@Beta
+public class OpenTelemetryFeature implements Feature {
+
+    /**
+     * Name of the instrumentation scope used to obtain the {@link Tracer}.
+     */
+    public static final String INSTRUMENTATION_NAME = "org.glassfish.jersey.opentelemetry";
+
+    /**
+     * Request property key of the OpenTelemetry {@link io.opentelemetry.context.Context}.
+     * <p>
+     * On the server the property is set to the context of the server request span. On the client the property
+     * can be set to the context the client request span should be a child of.
+     */
+    public static final String CONTEXT_PROPERTY = "org.glassfish.jersey.opentelemetry.context";
+
+    private final OpenTelemetry openTelemetry;
+
+    /**
+     * Creates feature instance using the {@link GlobalOpenTelemetry global} {@link OpenTelemetry} instance.
+     */
+    public OpenTelemetryFeature() {
+        this(GlobalOpenTelemetry.get());
+    }
+
+    /**
+     * Creates feature instance using the given {@link OpenTelemetry} instance.
+     *
+     * @param openTelemetry OpenTelemetry instance providing the tracer and the context propagators.
+     */
+    public OpenTelemetryFeature(final OpenTelemetry openTelemetry) {
+        if (openTelemetry == null) {
+            throw new NullPointerException("OpenTelemetry instance must not be 'null'.");
+        }
+        this.openTelemetry = openTelemetry;
+    }
+
+    @Override
+    public boolean configure(final FeatureContext context) {
+        final Tracer tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        final TextMapPropagator propagator = openTelemetry.getPropagators().getTextMapPropagator();
+
+        switch (context.getConfiguration().getRuntimeType()) {
+            case CLIENT:
+                context.register(new OpenTelemetryClientFilter(tracer, propagator));
+                break;
+            case SERVER:
+                context.register(new OpenTelemetryApplicationEventListener(tracer, propagator));
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
+}
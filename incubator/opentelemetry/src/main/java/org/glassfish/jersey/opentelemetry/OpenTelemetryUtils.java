@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.opentelemetry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.context.Context;
+
+/**
+ * Utility methods for Jersey OpenTelemetry integration.
+ *
+ * @since 2.46
+ */
+public final class OpenTelemetryUtils {
+
+    static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+    static final AttributeKey<String> HTTP_URL = AttributeKey.stringKey("http.url");
+    static final AttributeKey<String> HTTP_SCHEME = AttributeKey.stringKey("http.scheme");
+    static final AttributeKey<String> HTTP_TARGET = AttributeKey.stringKey("http.target");
+    static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+    static final AttributeKey<Long> HTTP_STATUS_CODE = AttributeKey.longKey("http.status_code");
+
+    private static final Map<String, String> SPAN_NAMES = new HashMap<>();
+
+    static {
+        for (final String method : new String[] {HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE,
+                HttpMethod.HEAD, HttpMethod.OPTIONS, "PATCH"}) {
+            SPAN_NAMES.put(method, "HTTP " + method);
+        }
+    }
+
+    private OpenTelemetryUtils() {
+    }
+
+    /**
+     * Resolve the OpenTelemetry {@link Context} of the server request span.
+     * <p>
+     * If the {@link OpenTelemetryFeature} is enabled, the context is stored in the
+     * {@link OpenTelemetryFeature#CONTEXT_PROPERTY} request property. The context can be handed over to application
+     * threads processing the request asynchronously, e.g. using {@link Context#wrap(Runnable)}.
+     *
+     * @param context {@link ContainerRequestContext} instance, can be obtained via {@code @Context} injection.
+     * @return {@link Optional} of the resolved context, if found; empty optional if not.
+     */
+    public static Optional<Context> getRequestContext(final ContainerRequestContext context) {
+        if (context != null) {
+            final Object property = context.getProperty(OpenTelemetryFeature.CONTEXT_PROPERTY);
+            if (property instanceof Context) {
+                return Optional.of((Context) property);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get the name of a span of an HTTP request for which no route is known.
+     *
+     * @param method HTTP method of the request.
+     * @return span name.
+     */
+    static String spanName(final String method) {
+        final String name = SPAN_NAMES.get(method);
+        return name != null ? name : "HTTP " + method;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.opentelemetry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Span exporter that keeps the exported spans in memory.
+ */
+class InMemorySpanExporter implements SpanExporter {
+
+    private final List<SpanData> spans = new ArrayList<>();
+
+    @Override
+    public synchronized CompletableResultCode export(final Collection<SpanData> spans) {
+        this.spans.addAll(spans);
+        notifyAll();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Wait until at least the given number of spans of the given trace has been exported.
+     * <p>
+     * Server spans are ended after the response has been written, i.e. possibly after the client has already received it.
+     *
+     * @param traceId id of the trace.
+     * @param count   expected number of spans.
+     * @return exported spans of the trace.
+     */
+    synchronized List<SpanData> awaitTrace(final String traceId, final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        List<SpanData> trace = getTrace(traceId);
+        while (trace.size() < count) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            trace = getTrace(traceId);
+        }
+        return trace;
+    }
+
+    private List<SpanData> getTrace(final String traceId) {
+        return spans.stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .collect(Collectors.toList());
+    }
+
+    synchronized List<SpanData> getSpans() {
+        return new ArrayList<>(spans);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.opentelemetry;
+
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.server.ManagedAsync;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OpenTelemetryFeature}.
+ */
+public class OpenTelemetryFeatureTest extends JerseyTest {
+
+    private static final InMemorySpanExporter EXPORTER = new InMemorySpanExporter();
+
+    private static final OpenTelemetry OPEN_TELEMETRY = OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(EXPORTER)).build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+
+    private static final Client CLIENT = ClientBuilder.newClient().register(new OpenTelemetryFeature(OPEN_TELEMETRY));
+
+    @Path("tracing")
+    public static class TracingResource {
+
+        @GET
+        @Path("hello/{name}")
+        public String hello(@PathParam("name") final String name) {
+            return "Hello " + name;
+        }
+
+        @GET
+        @Path("error")
+        public String error() {
+            throw new IllegalStateException("error");
+        }
+
+        @GET
+        @Path("missing")
+        public String missing() {
+            throw new NotFoundException();
+        }
+
+        @GET
+        @Path("managed")
+        @ManagedAsync
+        public String managed() {
+            return child();
+        }
+
+        @GET
+        @Path("async")
+        public void async(@Suspended final AsyncResponse asyncResponse) {
+            EXECUTOR.execute(io.opentelemetry.context.Context.current().wrap(() -> {
+                asyncResponse.resume(child());
+            }));
+        }
+
+        @GET
+        @Path("stage")
+        public CompletionStage<String> stage() {
+            return CompletableFuture.supplyAsync(TracingResource::child,
+                    io.opentelemetry.context.Context.current().wrap(EXECUTOR));
+        }
+
+        @GET
+        @Path("client")
+        public String client(@Context final UriInfo uriInfo) {
+            return CLIENT.target(uriInfo.getBaseUri()).path("tracing/hello/nested").request().get(String.class);
+        }
+
+        private static String child() {
+            OPEN_TELEMETRY.getTracer("test").spanBuilder("child").startSpan().end();
+            return "child";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(TracingResource.class).register(new OpenTelemetryFeature(OPEN_TELEMETRY));
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.register(new OpenTelemetryFeature(OPEN_TELEMETRY));
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        CLIENT.close();
+        EXECUTOR.shutdown();
+    }
+
+    @Test
+    public void testServerSpanContinuesClientTrace() throws Exception {
+        final List<SpanData> trace = trace("tracing/hello/jersey", 200, 3);
+
+        final SpanData client = span(trace, SpanKind.CLIENT, "HTTP GET");
+        final SpanData server = span(trace, SpanKind.SERVER, "GET /tracing/hello/{name}");
+        assertEquals(client.getSpanId(), server.getParentSpanId());
+        assertEquals("/tracing/hello/{name}", server.getAttributes().get(OpenTelemetryUtils.HTTP_ROUTE));
+        assertEquals("/tracing/hello/jersey", server.getAttributes().get(OpenTelemetryUtils.HTTP_TARGET));
+        assertEquals(200L, server.getAttributes().get(OpenTelemetryUtils.HTTP_STATUS_CODE));
+        assertEquals(200L, client.getAttributes().get(OpenTelemetryUtils.HTTP_STATUS_CODE));
+        assertEquals(StatusCode.UNSET, server.getStatus().getStatusCode());
+    }
+
+    @Test
+    public void testServerError() throws Exception {
+        final List<SpanData> trace = trace("tracing/error", 500, 3);
+
+        final SpanData server = span(trace, SpanKind.SERVER, "GET /tracing/error");
+        // the exception is not mapped, the response is written by the container
+        assertEquals(StatusCode.ERROR, server.getStatus().getStatusCode());
+        assertFalse(server.getEvents().isEmpty());
+        assertEquals(StatusCode.ERROR, span(trace, SpanKind.CLIENT, "HTTP GET").getStatus().getStatusCode());
+    }
+
+    @Test
+    public void testMappedClientError() throws Exception {
+        final List<SpanData> trace = trace("tracing/missing", 404, 3);
+
+        final SpanData server = span(trace, SpanKind.SERVER, "GET /tracing/missing");
+        assertEquals(404L, server.getAttributes().get(OpenTelemetryUtils.HTTP_STATUS_CODE));
+        assertEquals(StatusCode.UNSET, server.getStatus().getStatusCode());
+        assertTrue(server.getEvents().isEmpty(), server.getEvents().toString());
+    }
+
+    @Test
+    public void testConnectionFailure() throws Exception {
+        final int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        final Span root = OPEN_TELEMETRY.getTracer("test").spanBuilder("root").startSpan();
+        assertThrows(ProcessingException.class, () -> client().target("http://localhost:" + port).request()
+                .property(OpenTelemetryFeature.CONTEXT_PROPERTY, io.opentelemetry.context.Context.root().with(root))
+                .get());
+        root.end();
+
+        final List<SpanData> trace = EXPORTER.awaitTrace(root.getSpanContext().getTraceId(), 2);
+        assertEquals(2, trace.size(), trace.toString());
+        final SpanData client = span(trace, SpanKind.CLIENT, "HTTP GET");
+        assertEquals(StatusCode.ERROR, client.getStatus().getStatusCode());
+        assertFalse(client.getEvents().isEmpty());
+    }
+
+    @Test
+    public void testManagedAsyncContext() throws Exception {
+        assertChildOfServerSpan("tracing/managed");
+    }
+
+    @Test
+    public void testAsyncResponseContext() throws Exception {
+        assertChildOfServerSpan("tracing/async");
+    }
+
+    @Test
+    public void testCompletionStageContext() throws Exception {
+        assertChildOfServerSpan("tracing/stage");
+    }
+
+    @Test
+    public void testNestedClientCall() throws Exception {
+        final List<SpanData> trace = trace("tracing/client", 200, 5);
+
+        final SpanData outer = span(trace, SpanKind.SERVER, "GET /tracing/client");
+        final SpanData inner = span(trace, SpanKind.SERVER, "GET /tracing/hello/{name}");
+        final SpanData nestedClient = trace.stream()
+                .filter(span -> span.getKind() == SpanKind.CLIENT && outer.getSpanId().equals(span.getParentSpanId()))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertEquals(nestedClient.getSpanId(), inner.getParentSpanId());
+    }
+
+    private void assertChildOfServerSpan(final String path) throws Exception {
+        final List<SpanData> trace = trace(path, 200, 4);
+
+        final SpanData server = span(trace, SpanKind.SERVER, "GET /" + path);
+        assertEquals(server.getSpanId(), span(trace, SpanKind.INTERNAL, "child").getParentSpanId());
+    }
+
+    /**
+     * Send a GET request within a new root span and wait for the spans of the trace (including the root span).
+     */
+    private List<SpanData> trace(final String path, final int status, final int count) throws Exception {
+        final Span root = OPEN_TELEMETRY.getTracer("test").spanBuilder("root").startSpan();
+        final Response response = target(path).request()
+                .property(OpenTelemetryFeature.CONTEXT_PROPERTY, io.opentelemetry.context.Context.root().with(root))
+                .get();
+        assertEquals(status, response.getStatus());
+        response.close();
+        root.end();
+
+        final List<SpanData> trace = EXPORTER.awaitTrace(root.getSpanContext().getTraceId(), count);
+        assertEquals(count, trace.size(), trace.toString());
+        return trace;
+    }
+
+    private static SpanData span(final List<SpanData> trace, final SpanKind kind, final String name) {
+        return trace.stream()
+                .filter(span -> span.getKind() == kind && span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + kind + " span " + name + " in " + trace));
+    }
+}
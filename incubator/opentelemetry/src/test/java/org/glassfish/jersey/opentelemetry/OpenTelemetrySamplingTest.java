@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.opentelemetry;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link OpenTelemetryFeature} with requests which are not sampled.
+ */
+public class OpenTelemetrySamplingTest extends JerseyTest {
+
+    private static final InMemorySpanExporter EXPORTER = new InMemorySpanExporter();
+
+    private static final OpenTelemetry OPEN_TELEMETRY = OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder()
+                    .setSampler(Sampler.alwaysOff())
+                    .addSpanProcessor(SimpleSpanProcessor.create(EXPORTER))
+                    .build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+
+    private static final Client CLIENT = ClientBuilder.newClient().register(new OpenTelemetryFeature(OPEN_TELEMETRY));
+
+    @Path("sampling")
+    public static class SamplingResource {
+
+        @GET
+        @Path("trace")
+        public String trace(@Context final ContainerRequestContext requestContext) {
+            final SpanContext spanContext = Span.current().getSpanContext();
+            final SpanContext propertyContext = OpenTelemetryUtils.getRequestContext(requestContext)
+                    .map(context -> Span.fromContext(context).getSpanContext())
+                    .orElseThrow(IllegalStateException::new);
+            if (!spanContext.equals(propertyContext)) {
+                throw new IllegalStateException("Request context is not current.");
+            }
+            return spanContext.getTraceId() + ":" + spanContext.isSampled();
+        }
+
+        @GET
+        @Path("client")
+        public String client(@Context final UriInfo uriInfo) {
+            return Span.current().getSpanContext().getTraceId()
+                    + "|" + CLIENT.target(uriInfo.getBaseUri()).path("sampling/trace").request().get(String.class);
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(SamplingResource.class).register(new OpenTelemetryFeature(OPEN_TELEMETRY));
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.register(new OpenTelemetryFeature(OPEN_TELEMETRY));
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        CLIENT.close();
+    }
+
+    @Test
+    public void testSamplingDecisionIsPropagated() {
+        final String[] traceIds = target("sampling/client").request().get(String.class).split("\\|");
+
+        assertTrue(TraceId.isValid(traceIds[0]));
+        assertEquals(traceIds[0] + ":false", traceIds[1]);
+        assertTrue(EXPORTER.getSpans().isEmpty());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,9 +16,8 @@
 
 package org.glassfish.jersey.inject.hk2;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -32,9 +31,27 @@ import static org.glassfish.jersey.internal.guava.Preconditions.checkState;
 
 public class Hk2RequestScope extends RequestScope {
 
+    /**
+     * Fixed slots of request-scoped descriptors, shared by all the scope instances.
+     */
+    private final ConcurrentHashMap<Object, Integer> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger slotCount = new AtomicInteger();
+
     @Override
     public org.glassfish.jersey.process.internal.RequestContext createContext() {
-        return new Instance();
+        return new Instance(this);
+    }
+
+    /**
+     * Get the slot of the given descriptor in the scope instances. A new slot is assigned to a descriptor
+     * the first time it is seen and is retained for the whole life of the request scope.
+     *
+     * @param descriptor DI provider's descriptor.
+     * @return slot index.
+     */
+    int slot(final Object descriptor) {
+        final Integer slot = slots.get(descriptor);
+        return slot != null ? slot : slots.computeIfAbsent(descriptor, d -> slotCount.getAndIncrement());
     }
 
     /**
@@ -52,18 +69,30 @@ public class Hk2RequestScope extends RequestScope {
          */
         private final LazyUid id = new LazyUid();
 
+        private static final Object[] EMPTY = new Object[0];
+        private static final ForeignDescriptor[] NO_DESCRIPTORS = new ForeignDescriptor[0];
+
+        private final Hk2RequestScope scope;
+
         /**
-         * A map of injectable instances in this scope.
+         * Injectable instances in this scope indexed by the {@link Hk2RequestScope#slot(Object) descriptor slots}.
          */
-        private final Map<ForeignDescriptor, Object> store;
+        private Object[] values;
+        /**
+         * Descriptors of the stored instances, a {@code null} descriptor marks an empty slot.
+         */
+        private ForeignDescriptor[] descriptors;
+        private int size;
 
         /**
          * Holds the number of snapshots of this scope.
          */
         private final AtomicInteger referenceCounter;
 
-        private Instance() {
-            this.store = new HashMap<>();
+        private Instance(final Hk2RequestScope scope) {
+            this.scope = scope;
+            this.values = EMPTY;
+            this.descriptors = NO_DESCRIPTORS;
             this.referenceCounter = new AtomicInteger(1);
         }
 
@@ -89,9 +118,31 @@ public class Hk2RequestScope extends RequestScope {
          * @param descriptor inhabitant descriptor.
          * @return matched inhabitant stored in the scope instance or {@code null} if not matched.
          */
-        @SuppressWarnings("unchecked")
         public <T> T get(ForeignDescriptor descriptor) {
-            return (T) store.get(descriptor);
+            return get(scope.slot(descriptor.get()));
+        }
+
+        /**
+         * Get the slot of the given descriptor.
+         *
+         * @param descriptor DI provider's descriptor.
+         * @return slot index.
+         * @see Hk2RequestScope#slot(Object)
+         */
+        int slot(Object descriptor) {
+            return scope.slot(descriptor);
+        }
+
+        /**
+         * Get an inhabitant stored in the given slot.
+         *
+         * @param <T>  inhabitant type.
+         * @param slot descriptor slot.
+         * @return inhabitant stored in the slot or {@code null} if the slot is empty.
+         */
+        @SuppressWarnings("unchecked")
+        <T> T get(int slot) {
+            return slot < values.length ? (T) values[slot] : null;
         }
 
         /**
@@ -103,15 +154,35 @@ public class Hk2RequestScope extends RequestScope {
          * @return old inhabitant previously stored for the given descriptor or
          * {@code null} if none stored.
          */
-        @SuppressWarnings("unchecked")
         public <T> T put(ForeignDescriptor descriptor, T value) {
-            checkState(!store.containsKey(descriptor),
+            return put(scope.slot(descriptor.get()), descriptor, value);
+        }
+
+        /**
+         * Store a new inhabitant in the given slot.
+         *
+         * @param <T>        inhabitant type.
+         * @param slot       descriptor slot.
+         * @param descriptor inhabitant descriptor.
+         * @param value      inhabitant value.
+         * @return always {@code null}, an inhabitant cannot be replaced.
+         */
+        <T> T put(int slot, ForeignDescriptor descriptor, T value) {
+            checkState(!contains(slot),
                     "An instance for the descriptor %s was already seeded in this scope. Old instance: %s New instance: %s",
                     descriptor,
-                    store.get(descriptor),
+                    get(slot),
                     value);
 
-            return (T) store.put(descriptor, value);
+            if (slot >= values.length) {
+                final int length = Math.max(slot + 1, scope.slotCount.get());
+                values = Arrays.copyOf(values, length);
+                descriptors = Arrays.copyOf(descriptors, length);
+            }
+            values[slot] = value;
+            descriptors[slot] = descriptor;
+            size++;
+            return null;
         }
 
         /**
@@ -119,16 +190,40 @@ public class Hk2RequestScope extends RequestScope {
          *
          * @param descriptor key for the value to be removed.
          */
-        @SuppressWarnings("unchecked")
         public <T> void remove(ForeignDescriptor descriptor) {
-            final T removed = (T) store.remove(descriptor);
-            if (removed != null) {
-                descriptor.dispose(removed);
+            remove(scope.slot(descriptor.get()));
+        }
+
+        /**
+         * Remove a value stored in the given slot and dispose it.
+         *
+         * @param slot descriptor slot.
+         */
+        void remove(int slot) {
+            if (contains(slot)) {
+                final ForeignDescriptor descriptor = descriptors[slot];
+                final Object removed = values[slot];
+                values[slot] = null;
+                descriptors[slot] = null;
+                size--;
+                if (removed != null) {
+                    descriptor.dispose(removed);
+                }
             }
         }
 
         public boolean contains(ForeignDescriptor provider) {
-            return store.containsKey(provider);
+            return contains(scope.slot(provider.get()));
+        }
+
+        /**
+         * Check whether an inhabitant is stored in the given slot.
+         *
+         * @param slot descriptor slot.
+         * @return {@code true} if the slot contains an inhabitant.
+         */
+        boolean contains(int slot) {
+            return slot < descriptors.length && descriptors[slot] != null;
         }
 
         /**
@@ -140,7 +235,9 @@ public class Hk2RequestScope extends RequestScope {
         public void release() {
             if (referenceCounter.decrementAndGet() < 1) {
                 try {
-                    new HashSet<>(store.keySet()).forEach(this::remove);
+                    for (int slot = 0; slot < descriptors.length; slot++) {
+                        remove(slot);
+                    }
                 } finally {
                     logger.debugLog("Released scope instance {0}", this);
                 }
@@ -152,7 +249,7 @@ public class Hk2RequestScope extends RequestScope {
             return "Instance{"
                     + "id=" + id
                     + ", referenceCounter=" + referenceCounter
-                    + ", store size=" + store.size()
+                    + ", store size=" + size
                     + '}';
         }
     }
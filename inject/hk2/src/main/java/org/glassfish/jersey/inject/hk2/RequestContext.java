@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,11 +53,12 @@ public class RequestContext implements Context<RequestScoped> {
     @Override
     public <U> U findOrCreate(ActiveDescriptor<U> activeDescriptor, ServiceHandle<?> root) {
         Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.current();
+        int slot = instance.slot(activeDescriptor);
 
-        U retVal = instance.get(ForeignDescriptor.wrap(activeDescriptor));
+        U retVal = instance.get(slot);
         if (retVal == null) {
             retVal = activeDescriptor.create(root);
-            instance.put(ForeignDescriptor.wrap(activeDescriptor, obj -> activeDescriptor.dispose((U) obj)), retVal);
+            instance.put(slot, ForeignDescriptor.wrap(activeDescriptor, obj -> activeDescriptor.dispose((U) obj)), retVal);
         }
         return retVal;
     }
@@ -65,7 +66,7 @@ public class RequestContext implements Context<RequestScoped> {
     @Override
     public boolean containsKey(ActiveDescriptor<?> descriptor) {
         Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.current();
-        return instance.contains(ForeignDescriptor.wrap(descriptor));
+        return instance.contains(instance.slot(descriptor));
     }
 
     @Override
@@ -81,7 +82,7 @@ public class RequestContext implements Context<RequestScoped> {
     @Override
     public void destroyOne(ActiveDescriptor<?> descriptor) {
         Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.current();
-        instance.remove(ForeignDescriptor.wrap(descriptor));
+        instance.remove(instance.slot(descriptor));
     }
 
     @Override
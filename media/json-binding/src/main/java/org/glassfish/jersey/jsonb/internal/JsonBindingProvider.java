@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,11 +16,17 @@
 
 package org.glassfish.jersey.jsonb.internal;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.security.AccessController;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -35,17 +41,30 @@ import javax.ws.rs.ext.ContextResolver;
 import javax.ws.rs.ext.Provider;
 import javax.ws.rs.ext.Providers;
 
+import javax.json.Json;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
 
+import org.glassfish.jersey.internal.util.ReflectionHelper;
 import org.glassfish.jersey.jsonb.LocalizationMessages;
 import org.glassfish.jersey.message.internal.AbstractMessageReaderWriterProvider;
 import org.glassfish.jersey.message.internal.EntityInputStream;
 import org.glassfish.jersey.message.internal.ReaderWriter;
 
+import org.eclipse.yasson.YassonJsonb;
+
 /**
  * Entity provider (reader and writer) for JSONB.
+ * <p>
+ * {@link Stream Stream&lt;T&gt;} and {@link Iterator Iterator&lt;T&gt;} entities are read from a top-level JSON array
+ * incrementally, each array element is bound to {@code T} once it is pulled from the returned stream or iterator.
+ * Any other top-level JSON value is read as a single element.
+ * </p>
  *
  * @author Adam Lindenthal
  */
@@ -57,6 +76,12 @@ public class JsonBindingProvider extends AbstractMessageReaderWriterProvider<Obj
     private static final String JSON = "json";
     private static final String PLUS_JSON = "+json";
 
+    /**
+     * Yasson extension of {@link Jsonb} able to bind already parsed JSON values, {@code null} if Yasson is not available.
+     */
+    private static final Class<?> YASSON_JSONB = AccessController.doPrivileged(
+            ReflectionHelper.classForNamePA("org.eclipse.yasson.YassonJsonb", JsonBindingProvider.class.getClassLoader()));
+
     private final Providers providers;
 
     @Inject
@@ -75,6 +100,11 @@ public class JsonBindingProvider extends AbstractMessageReaderWriterProvider<Obj
                            MediaType mediaType,
                            MultivaluedMap<String, String> httpHeaders,
                            InputStream entityStream) throws IOException, WebApplicationException {
+        final Class<?> rawType = type;
+        if (rawType == Stream.class || rawType == Iterator.class) {
+            return readElements(type, genericType, mediaType, entityStream);
+        }
+
         final EntityInputStream entityInputStream =  new EntityInputStream(entityStream);
         entityStream = entityInputStream;
         if (entityInputStream.isEmpty()) {
@@ -90,6 +120,51 @@ public class JsonBindingProvider extends AbstractMessageReaderWriterProvider<Obj
         }
     }
 
+    private Object readElements(Class<Object> type, Type genericType, MediaType mediaType, InputStream entityStream) {
+        final Type elementType = genericType instanceof ParameterizedType
+                ? ((ParameterizedType) genericType).getActualTypeArguments()[0] : Object.class;
+        final Jsonb jsonb = getJsonb(elementType instanceof Class ? (Class<?>) elementType : type);
+
+        final EntityInputStream entityInputStream = new EntityInputStream(entityStream);
+        if (entityInputStream.isEmpty()) {
+            return Iterator.class.equals(type) ? Collections.emptyIterator() : Stream.empty();
+        }
+
+        final JsonParser parser = Json.createParserFactory(null)
+                .createParser(entityInputStream, ReaderWriter.getCharset(mediaType));
+        final Stream<JsonValue> values;
+        try {
+            if (parser.next() == JsonParser.Event.START_ARRAY) {
+                values = parser.getArrayStream();
+            } else {
+                // a single top-level value is a stream of one element
+                values = Stream.of(parser.getValue());
+            }
+        } catch (JsonParsingException e) {
+            throw new ProcessingException(LocalizationMessages.ERROR_JSONB_DESERIALIZATION(), e);
+        }
+
+        final Stream<Object> elements = values
+                .map(value -> {
+                    try {
+                        return fromJson(jsonb, value, elementType);
+                    } catch (JsonbException e) {
+                        throw new ProcessingException(LocalizationMessages.ERROR_JSONB_DESERIALIZATION(), e);
+                    }
+                })
+                .onClose(parser::close);
+
+        return Iterator.class.equals(type) ? new ClosingIterator(elements) : elements;
+    }
+
+    private static Object fromJson(final Jsonb jsonb, final JsonValue value, final Type type) {
+        if (value instanceof JsonStructure && YASSON_JSONB != null && YASSON_JSONB.isInstance(jsonb)) {
+            return YassonBinder.fromJsonStructure(jsonb, (JsonStructure) value, type);
+        }
+        // other implementations can only bind JSON text
+        return jsonb.fromJson(value.toString(), type);
+    }
+
     @Override
     public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         return supportsMediaType(mediaType);
@@ -127,6 +202,46 @@ public class JsonBindingProvider extends AbstractMessageReaderWriterProvider<Obj
         return mediaType.getSubtype().equals(JSON) || mediaType.getSubtype().endsWith(PLUS_JSON);
     }
 
+    /**
+     * Iterator over elements of a lazily read stream that closes the stream (and the underlying parser) when closed.
+     */
+    /**
+     * Binds parsed JSON values without serializing them to JSON text again. Kept in a separate class so that Yasson
+     * classes are not loaded unless Yasson is the JSON-B implementation in use.
+     */
+    private static final class YassonBinder {
+
+        private static Object fromJsonStructure(final Jsonb jsonb, final JsonStructure value, final Type type) {
+            return ((YassonJsonb) jsonb).fromJsonStructure(value, type);
+        }
+    }
+
+    private static final class ClosingIterator implements Iterator<Object>, Closeable {
+
+        private final Stream<Object> elements;
+        private final Iterator<Object> iterator;
+
+        private ClosingIterator(Stream<Object> elements) {
+            this.elements = elements;
+            this.iterator = elements.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+            elements.close();
+        }
+    }
+
     private enum JsonbSingleton {
         INSTANCE;
 
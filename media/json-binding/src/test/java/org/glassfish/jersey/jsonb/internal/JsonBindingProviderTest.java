@@ -22,12 +22,17 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
@@ -39,6 +44,8 @@ import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Providers;
 
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -64,10 +71,48 @@ public final class JsonBindingProviderTest {
         });
     }
 
+    @Test
+    public final void shouldReadStreamOfArrayElements() throws IOException {
+        final MessageBodyReader<Object> mbr = (MessageBodyReader) new JsonBindingProvider(new EmptyProviders());
+
+        final Stream<Bar> bars = (Stream<Bar>) mbr.readFrom((Class) Stream.class, new GenericType<Stream<Bar>>() { }.getType(),
+                new Annotation[0], APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(),
+                new ByteArrayInputStream("[{\"name\":\"a\"},{\"name\":\"b\"}]".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("ab", bars.map(bar -> bar.name).collect(Collectors.joining()));
+    }
+
+    @Test
+    public final void shouldReadStreamOfScalarElements() throws IOException {
+        final MessageBodyReader<Object> mbr = (MessageBodyReader) new JsonBindingProvider(new EmptyProviders());
+
+        final Stream<Integer> numbers = (Stream<Integer>) mbr.readFrom((Class) Stream.class,
+                new GenericType<Stream<Integer>>() { }.getType(), new Annotation[0], APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), new ByteArrayInputStream("[1,2,3]".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(6, numbers.mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public final void shouldReadIteratorOfSingleValue() throws IOException {
+        final MessageBodyReader<Object> mbr = (MessageBodyReader) new JsonBindingProvider(new EmptyProviders());
+
+        final Iterator<Bar> bars = (Iterator<Bar>) mbr.readFrom((Class) Iterator.class,
+                new GenericType<Iterator<Bar>>() { }.getType(), new Annotation[0], APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), new ByteArrayInputStream("{\"name\":\"a\"}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("a", bars.next().name);
+        assertFalse(bars.hasNext());
+    }
+
     private static final class Foo {
         // no members
     }
 
+    public static final class Bar {
+        public String name;
+    }
+
     private static final class EmptyProviders implements Providers {
 
         @Override
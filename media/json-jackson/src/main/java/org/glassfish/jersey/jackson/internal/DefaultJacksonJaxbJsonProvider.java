@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,12 +17,17 @@
 package org.glassfish.jersey.jackson.internal;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.json.PackageVersion;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.jackson.LocalizationMessages;
@@ -31,20 +36,37 @@ import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJaxbJsonP
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JsonEndpointConfig;
 import org.glassfish.jersey.message.MessageProperties;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.Providers;
 
 /**
  * Entity Data provider based on Jackson JSON provider.
+ * <p>
+ * Besides regular data binding, the provider reads {@link Stream Stream&lt;T&gt;} and {@link Iterator Iterator&lt;T&gt;}
+ * entities incrementally. The entity is expected to be either a top-level JSON array or a sequence of whitespace
+ * (e.g. new-line) separated JSON values; elements are bound one by one as the returned stream or iterator is consumed,
+ * so the whole entity is never held in memory. The returned stream or iterator should be closed once it is no longer
+ * needed.
+ * </p>
  */
 @Singleton
 public class DefaultJacksonJaxbJsonProvider extends JacksonJaxbJsonProvider {
@@ -78,6 +100,44 @@ public class DefaultJacksonJaxbJsonProvider extends JacksonJaxbJsonProvider {
         return super._configForReading(reader, annotations);
     }
 
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        final Class<?> rawType = type;
+        if (rawType == Stream.class || rawType == Iterator.class) {
+            return readElements(type, genericType, annotations, mediaType, httpHeaders, entityStream);
+        }
+        return super.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream);
+    }
+
+    private Object readElements(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                                MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        final ObjectReader reader = _endpointForReading(type, genericType, annotations, mediaType, httpHeaders).getReader();
+        final TypeFactory typeFactory = reader.getTypeFactory();
+        final JavaType[] typeParameters = typeFactory.findTypeParameters(typeFactory.constructType(genericType), type);
+        final JavaType elementType = typeParameters == null || typeParameters.length == 0
+                ? typeFactory.constructType(Object.class) : typeParameters[0];
+
+        final JsonParser parser = _createParser(reader, entityStream);
+        if (parser.nextToken() == JsonToken.START_ARRAY) {
+            // unwrap the top-level array, MappingIterator then stops at the matching END_ARRAY
+            parser.clearCurrentToken();
+        }
+        final MappingIterator<Object> iterator = reader.forType(elementType).readValues(parser);
+
+        if (Iterator.class.equals(type)) {
+            return iterator;
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        LOGGER.fine(e.getMessage());
+                    }
+                });
+    }
+
     @PostConstruct
     private void findAndRegisterModules() {
 
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jackson.internal;
+
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.jackson.JacksonFeature;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests incremental reading of {@code Stream<T>} and {@code Iterator<T>} entities.
+ */
+public class StreamingElementsReaderTest extends JerseyTest {
+
+    public static class Item {
+        public String name;
+    }
+
+    @Path("items")
+    public static class ItemsResource {
+
+        @POST
+        @Path("stream")
+        @Consumes(MediaType.APPLICATION_JSON)
+        public String stream(Stream<Item> items) {
+            try (Stream<Item> closed = items) {
+                return closed.map(item -> item.name).collect(Collectors.joining(","));
+            }
+        }
+
+        @POST
+        @Path("iterator")
+        @Consumes(MediaType.APPLICATION_JSON)
+        public String iterator(Iterator<Item> items) {
+            final StringBuilder sb = new StringBuilder();
+            while (items.hasNext()) {
+                sb.append(items.next().name).append(';');
+            }
+            return sb.toString();
+        }
+
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public String get() {
+            return "[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(ItemsResource.class).register(JacksonFeature.class);
+    }
+
+    @Test
+    public void testServerStreamFromArray() {
+        final String result = target("items/stream").request()
+                .post(Entity.json("[{\"name\":\"a\"},{\"name\":\"b\"}]"), String.class);
+        assertEquals("a,b", result);
+    }
+
+    @Test
+    public void testServerStreamFromSequence() {
+        final String result = target("items/stream").request()
+                .post(Entity.json("{\"name\":\"a\"}\n{\"name\":\"b\"}\n{\"name\":\"c\"}\n"), String.class);
+        assertEquals("a,b,c", result);
+    }
+
+    @Test
+    public void testServerIterator() {
+        final String result = target("items/iterator").request()
+                .post(Entity.json("[{\"name\":\"a\"},{\"name\":\"b\"}]"), String.class);
+        assertEquals("a;b;", result);
+    }
+
+    @Test
+    public void testServerEmptyArray() {
+        assertEquals("", target("items/stream").request().post(Entity.json("[]"), String.class));
+    }
+
+    @Test
+    public void testClientStream() {
+        try (Response response = target("items").request().get();
+             Stream<Item> items = response.readEntity(new GenericType<Stream<Item>>() { })) {
+            assertEquals("abc", items.map(item -> item.name).collect(Collectors.joining()));
+        }
+    }
+}
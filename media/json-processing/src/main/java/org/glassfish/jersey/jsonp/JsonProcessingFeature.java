@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,7 @@ import javax.ws.rs.core.Feature;
 import javax.ws.rs.core.FeatureContext;
 
 import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.jsonp.internal.JsonValueStreamBodyReader;
 
 import org.glassfish.json.jaxrs.JsonValueBodyReader;
 import org.glassfish.json.jaxrs.JsonValueBodyWriter;
@@ -43,6 +44,7 @@ public class JsonProcessingFeature implements Feature {
         // other provider in an application).
         context.register(JsonValueBodyReader.class, Priorities.USER + 1000);
         context.register(JsonValueBodyWriter.class, Priorities.USER + 1000);
+        context.register(JsonValueStreamBodyReader.class, Priorities.USER + 1000);
 
         return true;
     }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jsonp.internal;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+
+import org.glassfish.jersey.message.internal.EntityInputStream;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
+/**
+ * Entity reader of {@link Stream Stream&lt;JsonValue&gt;} and {@link Iterator Iterator&lt;JsonValue&gt;} (or of any
+ * {@link JsonValue} subtype).
+ * <p>
+ * Elements of a top-level JSON array are parsed one by one as they are pulled from the returned stream or iterator, so
+ * arbitrarily large arrays are processed in bounded memory. Any other top-level JSON value is read as a single element.
+ * The returned stream or iterator should be closed once it is no longer needed.
+ * </p>
+ */
+@Consumes({"application/json", "text/json", "*/*"})
+public class JsonValueStreamBodyReader implements MessageBodyReader<Object> {
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        if (type != Stream.class && type != Iterator.class || !(genericType instanceof ParameterizedType)) {
+            return false;
+        }
+        final Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        return elementType instanceof Class && JsonValue.class.isAssignableFrom((Class<?>) elementType);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+        final EntityInputStream entityInputStream = new EntityInputStream(entityStream);
+        if (entityInputStream.isEmpty()) {
+            return Iterator.class.equals(type) ? Collections.emptyIterator() : Stream.empty();
+        }
+
+        final JsonParser parser = Json.createParserFactory(null)
+                .createParser(entityInputStream, ReaderWriter.getCharset(mediaType));
+        final Stream<JsonValue> values;
+        if (parser.next() == JsonParser.Event.START_ARRAY) {
+            values = parser.getArrayStream();
+        } else {
+            values = Stream.of(parser.getValue());
+        }
+
+        final Stream<JsonValue> elements = values.onClose(parser::close);
+        return Iterator.class.equals(type) ? new ClosingIterator(elements) : elements;
+    }
+
+    /**
+     * Iterator over elements of a lazily read stream that closes the stream (and the underlying parser) when closed.
+     */
+    private static final class ClosingIterator implements Iterator<JsonValue>, Closeable {
+
+        private final Stream<JsonValue> elements;
+        private final Iterator<JsonValue> iterator;
+
+        private ClosingIterator(Stream<JsonValue> elements) {
+            this.elements = elements;
+            this.iterator = elements.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public JsonValue next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+            elements.close();
+        }
+    }
+}
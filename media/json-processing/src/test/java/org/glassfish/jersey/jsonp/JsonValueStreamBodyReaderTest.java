@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jsonp;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+
+import org.glassfish.jersey.jsonp.internal.JsonValueStreamBodyReader;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for {@link JsonValueStreamBodyReader}.
+ */
+public class JsonValueStreamBodyReaderTest {
+
+    private static final Type STREAM = new GenericType<Stream<JsonObject>>() { }.getType();
+    private static final Type ITERATOR = new GenericType<Iterator<JsonValue>>() { }.getType();
+    private static final Type STRINGS = new GenericType<Stream<String>>() { }.getType();
+
+    private final JsonValueStreamBodyReader reader = new JsonValueStreamBodyReader();
+
+    @Test
+    public void testReadable() {
+        assertTrue(reader.isReadable(Stream.class, STREAM, new Annotation[0], MediaType.APPLICATION_JSON_TYPE));
+        assertTrue(reader.isReadable(Iterator.class, ITERATOR, new Annotation[0], MediaType.APPLICATION_JSON_TYPE));
+        assertFalse(reader.isReadable(Stream.class, STRINGS, new Annotation[0], MediaType.APPLICATION_JSON_TYPE));
+        assertFalse(reader.isReadable(Stream.class, Stream.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStreamOfArrayElements() {
+        final Stream<JsonObject> stream = (Stream<JsonObject>) read(Stream.class, STREAM, "[{\"a\":1},{\"a\":2},{\"a\":3}]");
+        final List<Integer> values = stream.map(o -> o.getInt("a")).collect(Collectors.toList());
+        stream.close();
+        assertEquals(3, values.size());
+        assertEquals(6, values.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIteratorOfSingleValue() throws Exception {
+        final Iterator<JsonValue> iterator = (Iterator<JsonValue>) read(Iterator.class, ITERATOR, "{\"a\":1}");
+        assertTrue(iterator.hasNext());
+        assertEquals(1, iterator.next().asJsonObject().getInt("a"));
+        assertFalse(iterator.hasNext());
+        ((Closeable) iterator).close();
+    }
+
+    @Test
+    public void testEmptyEntity() {
+        assertEquals(0, ((Stream<?>) read(Stream.class, STREAM, "")).count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object read(Class<?> type, Type genericType, String entity) {
+        return reader.readFrom((Class<Object>) type, genericType, new Annotation[0], MediaType.APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), new ByteArrayInputStream(entity.getBytes(StandardCharsets.UTF_8)));
+    }
+}
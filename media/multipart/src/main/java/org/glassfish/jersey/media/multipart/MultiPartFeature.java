@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,6 +24,7 @@ import org.glassfish.jersey.media.multipart.internal.FormDataParamInjectionFeatu
 import org.glassfish.jersey.media.multipart.internal.MultiPartReaderClientSide;
 import org.glassfish.jersey.media.multipart.internal.MultiPartReaderServerSide;
 import org.glassfish.jersey.media.multipart.internal.MultiPartWriter;
+import org.glassfish.jersey.media.multipart.internal.StreamingMultiPartReader;
 
 /**
  * Feature used to register Multipart providers.
@@ -44,6 +45,7 @@ public class MultiPartFeature implements Feature {
         }
 
         context.register(MultiPartWriter.class);
+        context.register(StreamingMultiPartReader.class);
 
         return true;
     }
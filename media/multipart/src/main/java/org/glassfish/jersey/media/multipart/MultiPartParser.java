@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.multipart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.media.multipart.internal.LocalizationMessages;
+import org.glassfish.jersey.message.internal.HeaderUtils;
+
+/**
+ * Incremental MIME multipart parser. Reads the body parts of a multipart message one after another directly from
+ * the underlying stream using a fixed size buffer, nothing is stored in memory or spooled to temporary files.
+ */
+final class MultiPartParser {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_HEADERS_SIZE = 16 * 1024;
+
+    private final InputStream stream;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    private boolean eof;
+    private boolean atDelimiter;
+    private boolean finished;
+
+    /**
+     * Create new parser.
+     *
+     * @param stream   multipart entity stream.
+     * @param boundary multipart boundary.
+     */
+    MultiPartParser(final InputStream stream, final String boundary) {
+        this.stream = stream;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(BUFFER_SIZE, 2 * delimiter.length)];
+
+        // The first delimiter does not have to be preceded by a line break, pretend there was one.
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        limit = 2;
+    }
+
+    /**
+     * Skip the rest of the current body part (or the preamble) and read headers of the next body part.
+     *
+     * @return headers of the next body part or {@code null} if the closing delimiter has been reached.
+     * @throws IOException in case of an I/O error.
+     */
+    MultivaluedMap<String, String> nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+
+        while (read(null, 0, BUFFER_SIZE) != -1) {
+            // skip
+        }
+
+        if (!fill(2)) {
+            throw malformed();
+        }
+        if (buffer[position] == '-' && buffer[position + 1] == '-') {
+            finished = true;
+            return null;
+        }
+
+        // Transport padding after the delimiter.
+        readLine(MAX_HEADERS_SIZE);
+        atDelimiter = false;
+
+        return readHeaders();
+    }
+
+    /**
+     * Read body part data. Returns {@code -1} once the delimiter closing the current body part is reached.
+     *
+     * @param b   buffer the data is copied to, {@code null} to skip the data.
+     * @param off offset in the buffer.
+     * @param len maximum number of bytes to read.
+     * @return number of bytes read or {@code -1}.
+     * @throws IOException in case of an I/O error.
+     */
+    int read(final byte[] b, final int off, final int len) throws IOException {
+        if (atDelimiter || finished) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        fill(delimiter.length);
+
+        final int match = indexOfDelimiter();
+        final int available;
+        if (match >= 0) {
+            available = match - position;
+        } else if (eof) {
+            throw malformed();
+        } else {
+            // The tail of the buffer might be the beginning of a delimiter.
+            available = limit - position - delimiter.length + 1;
+        }
+
+        if (available == 0) {
+            position += delimiter.length;
+            atDelimiter = true;
+            return -1;
+        }
+
+        final int count = Math.min(len, available);
+        if (b != null) {
+            System.arraycopy(buffer, position, b, off, count);
+        }
+        position += count;
+        return count;
+    }
+
+    /**
+     * Close the underlying stream.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    void close() throws IOException {
+        finished = true;
+        stream.close();
+    }
+
+    private MultivaluedMap<String, String> readHeaders() throws IOException {
+        final MultivaluedMap<String, String> headers = HeaderUtils.createInbound();
+
+        int remaining = MAX_HEADERS_SIZE;
+        String name = null;
+        StringBuilder value = null;
+        String line;
+        while (!(line = readLine(remaining)).isEmpty()) {
+            remaining -= line.length();
+
+            if (line.charAt(0) == ' ' || line.charAt(0) == '\t') {
+                // Folded header value.
+                if (value == null) {
+                    throw malformed();
+                }
+                value.append(' ').append(line.trim());
+                continue;
+            }
+
+            if (name != null) {
+                headers.add(name, value.toString());
+            }
+
+            final int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw malformed();
+            }
+            name = line.substring(0, colon).trim();
+            value = new StringBuilder(line.substring(colon + 1).trim());
+        }
+        if (name != null) {
+            headers.add(name, value.toString());
+        }
+
+        return headers;
+    }
+
+    private String readLine(final int maxLength) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        while (true) {
+            if (!fill(1)) {
+                throw malformed();
+            }
+
+            final byte c = buffer[position++];
+            if (c == '\n') {
+                break;
+            }
+            if (c == '\r') {
+                // the line terminator does not count toward the limit
+                if (!fill(1)) {
+                    throw malformed();
+                }
+                if (buffer[position] == '\n') {
+                    position++;
+                    break;
+                }
+            }
+            if (line.size() >= maxLength) {
+                throw malformed();
+            }
+            line.write(c);
+        }
+
+        return new String(line.toByteArray(), StandardCharsets.ISO_8859_1);
+    }
+
+    private int indexOfDelimiter() {
+        final int last = limit - delimiter.length;
+        outer:
+        for (int i = position; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Make sure at least {@code required} bytes are buffered.
+     *
+     * @return {@code false} if the end of stream has been reached before {@code required} bytes could be buffered.
+     */
+    private boolean fill(final int required) throws IOException {
+        if (limit - position >= required) {
+            return true;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        while (limit < required) {
+            final int read = eof ? -1 : stream.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            limit += read;
+        }
+        return true;
+    }
+
+    private static BadRequestException malformed() {
+        return new BadRequestException(LocalizationMessages.MULTIPART_MALFORMED());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.text.ParseException;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+
+import org.glassfish.jersey.media.multipart.internal.LocalizationMessages;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+
+/**
+ * A body part of a {@link StreamingMultiPart} entity. The content of the body part is read directly from the entity
+ * stream and is available only until the next body part is requested from the {@code StreamingMultiPart}.
+ *
+ * @since 2.46
+ */
+public final class StreamingBodyPart {
+
+    private final StreamingMultiPart parent;
+    private final MultivaluedMap<String, String> headers;
+    private final MediaType mediaType;
+    private final ContentDisposition contentDisposition;
+    private final InputStream entityStream;
+
+    StreamingBodyPart(final StreamingMultiPart parent, final MultivaluedMap<String, String> headers, final boolean formData) {
+        this.parent = parent;
+        this.headers = headers;
+
+        try {
+            final String contentType = headers.getFirst("Content-Type");
+            this.mediaType = contentType == null ? MediaType.TEXT_PLAIN_TYPE : MediaType.valueOf(contentType);
+
+            final String disposition = headers.getFirst("Content-Disposition");
+            if (disposition == null) {
+                this.contentDisposition = null;
+            } else {
+                this.contentDisposition = formData
+                        ? new FormDataContentDisposition(disposition)
+                        : new ContentDisposition(disposition);
+            }
+        } catch (final ParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException(LocalizationMessages.ERROR_PARSING_CONTENT_DISPOSITION(
+                    headers.getFirst("Content-Disposition")), ex);
+        }
+
+        this.entityStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                final byte[] b = new byte[1];
+                return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                return parent.read(StreamingBodyPart.this, b, off, len);
+            }
+        };
+    }
+
+    /**
+     * Get immutable map of headers of this body part.
+     *
+     * @return body part headers.
+     */
+    public MultivaluedMap<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get media type of this body part, {@code text/plain} if the body part does not declare its content type.
+     *
+     * @return body part media type.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Get content disposition of this body part. For {@code multipart/form-data} messages the returned value is
+     * a {@link FormDataContentDisposition}.
+     *
+     * @return content disposition or {@code null} if the body part does not declare it.
+     */
+    public ContentDisposition getContentDisposition() {
+        return contentDisposition;
+    }
+
+    /**
+     * Get control name of a {@code multipart/form-data} body part.
+     *
+     * @return control name or {@code null} if this is not a form-data body part.
+     */
+    public String getName() {
+        return contentDisposition instanceof FormDataContentDisposition
+                ? ((FormDataContentDisposition) contentDisposition).getName()
+                : null;
+    }
+
+    /**
+     * Get the stream of the body part content. The stream reads directly from the multipart entity stream and
+     * ends once the body part content has been read or once the next body part has been requested.
+     *
+     * @return body part content stream.
+     */
+    public InputStream getInputStream() {
+        return entityStream;
+    }
+
+    /**
+     * Read the body part content as the given type using an appropriate {@link MessageBodyReader}.
+     *
+     * @param clazz desired class into which the content should be converted.
+     * @param <T>   type of the entity.
+     * @return converted body part content.
+     * @throws ProcessingException      if an IO error arises during reading the content.
+     * @throws IllegalArgumentException if no {@link MessageBodyReader} can be found to perform the requested conversion.
+     * @throws IllegalStateException    if message body workers have not been set on the parent {@link StreamingMultiPart}.
+     */
+    public <T> T getEntityAs(final Class<T> clazz) {
+        final MessageBodyWorkers workers = parent.getMessageBodyWorkers();
+        if (workers == null) {
+            throw new IllegalStateException(LocalizationMessages.NO_AVAILABLE_MBR(clazz, mediaType));
+        }
+
+        final Annotation[] annotations = new Annotation[0];
+        final MessageBodyReader<T> reader = workers.getMessageBodyReader(clazz, clazz, annotations, mediaType);
+        if (reader == null) {
+            throw new IllegalArgumentException(LocalizationMessages.NO_AVAILABLE_MBR(clazz, mediaType));
+        }
+
+        try {
+            return reader.readFrom(clazz, clazz, annotations, mediaType, headers, entityStream);
+        } catch (final IOException ioe) {
+            throw new ProcessingException(LocalizationMessages.ERROR_READING_ENTITY(clazz), ioe);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.multipart;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.media.multipart.internal.LocalizationMessages;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.MediaTypes;
+
+/**
+ * A multipart entity read incrementally, one {@link StreamingBodyPart body part} at a time, straight from the entity
+ * stream. Unlike {@link MultiPart}, body parts are neither buffered in memory nor spooled to temporary files, so
+ * arbitrarily large messages can be consumed in constant memory.
+ * <p>
+ * Body parts have to be consumed in the order they appear in the message. Requesting the next body part skips any
+ * unread content of the current one, after which the content of the previous body part is no longer available.
+ * </p>
+ * <pre>
+ * &#64;POST
+ * &#64;Consumes(MediaType.MULTIPART_FORM_DATA)
+ * public void upload(StreamingMultiPart parts) {
+ *     while (parts.hasNext()) {
+ *         StreamingBodyPart part = parts.next();
+ *         store(part.getName(), part.getInputStream());
+ *     }
+ * }
+ * </pre>
+ * The entity is read by a reader registered by {@link MultiPartFeature}.
+ *
+ * @since 2.46
+ */
+public final class StreamingMultiPart implements Iterator<StreamingBodyPart>, Closeable {
+
+    private final MediaType mediaType;
+    private final MultiPartParser parser;
+    private final boolean formData;
+    private final int maxParts;
+
+    private MessageBodyWorkers messageBodyWorkers;
+    private StreamingBodyPart current;
+    private StreamingBodyPart next;
+    private int parts;
+
+    /**
+     * Create a new streaming multipart reading from the given entity stream.
+     *
+     * @param stream    multipart entity stream.
+     * @param mediaType multipart media type including the {@code boundary} parameter.
+     * @throws BadRequestException if the media type does not define a boundary.
+     */
+    public StreamingMultiPart(final InputStream stream, final MediaType mediaType) {
+        this(stream, mediaType, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a new streaming multipart reading from the given entity stream.
+     *
+     * @param stream    multipart entity stream.
+     * @param mediaType multipart media type including the {@code boundary} parameter.
+     * @param maxParts  maximum number of body parts accepted, see {@link MultiPartProperties#getMaxParts()}.
+     * @throws BadRequestException if the media type does not define a boundary.
+     */
+    public StreamingMultiPart(final InputStream stream, final MediaType mediaType, final int maxParts) {
+        String boundary = mediaType.getParameters().get(Boundary.BOUNDARY_PARAMETER);
+        if (boundary == null || boundary.isEmpty()) {
+            throw new BadRequestException(LocalizationMessages.MULTIPART_MALFORMED());
+        }
+        if (boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+
+        this.mediaType = mediaType;
+        this.parser = new MultiPartParser(stream, boundary);
+        this.formData = MediaTypes.typeEqual(mediaType, MediaType.MULTIPART_FORM_DATA_TYPE);
+        this.maxParts = maxParts;
+    }
+
+    /**
+     * Get the media type of this multipart entity.
+     *
+     * @return multipart media type.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Set message body workers used by {@link StreamingBodyPart#getEntityAs(Class)}.
+     *
+     * @param messageBodyWorkers message body workers.
+     */
+    public void setMessageBodyWorkers(final MessageBodyWorkers messageBodyWorkers) {
+        this.messageBodyWorkers = messageBodyWorkers;
+    }
+
+    MessageBodyWorkers getMessageBodyWorkers() {
+        return messageBodyWorkers;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Skips the unread content of the current body part.
+     * </p>
+     *
+     * @throws ProcessingException in case of an I/O error.
+     * @throws BadRequestException if the multipart message is malformed.
+     * @throws ClientErrorException with {@code 413} status if the message contains more than the maximum number of parts.
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                final MultivaluedMap<String, String> headers = parser.nextPart();
+                current = null;
+                if (headers == null) {
+                    return false;
+                }
+                if (++parts > maxParts) {
+                    throw new ClientErrorException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
+                }
+                next = new StreamingBodyPart(this, headers, formData);
+            } catch (final IllegalArgumentException ex) {
+                throw new BadRequestException(ex);
+            } catch (final IOException ioe) {
+                throw new ProcessingException(ioe);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public StreamingBodyPart next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        current = next;
+        next = null;
+        return current;
+    }
+
+    int read(final StreamingBodyPart part, final byte[] b, final int off, final int len) throws IOException {
+        if (part != current) {
+            return -1;
+        }
+        return parser.read(b, off, len);
+    }
+
+    /**
+     * Close the underlying entity stream.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    @Override
+    public void close() throws IOException {
+        current = null;
+        next = null;
+        parser.close();
+    }
+}
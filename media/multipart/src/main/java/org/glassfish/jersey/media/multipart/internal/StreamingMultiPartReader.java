@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Providers;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.media.multipart.StreamingMultiPart;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+
+/**
+ * {@link MessageBodyReader} implementation for {@link StreamingMultiPart} entities. The entity stream is handed over
+ * to the returned {@code StreamingMultiPart} and parsed as the body parts are consumed.
+ */
+@Consumes("multipart/*")
+@Singleton
+public class StreamingMultiPartReader implements MessageBodyReader<StreamingMultiPart> {
+
+    private final Provider<MessageBodyWorkers> messageBodyWorkers;
+    private final int maxParts;
+
+    @Inject
+    public StreamingMultiPartReader(@Context final Providers providers,
+                                    @Context final Provider<MessageBodyWorkers> messageBodyWorkers) {
+        final ContextResolver<MultiPartProperties> contextResolver =
+                providers.getContextResolver(MultiPartProperties.class, MediaType.WILDCARD_TYPE);
+
+        MultiPartProperties properties = null;
+        if (contextResolver != null) {
+            properties = contextResolver.getContext(this.getClass());
+        }
+        if (properties == null) {
+            properties = new MultiPartProperties();
+        }
+
+        this.maxParts = properties.getMaxParts();
+        this.messageBodyWorkers = messageBodyWorkers;
+    }
+
+    @Override
+    public boolean isReadable(final Class<?> type,
+                              final Type genericType,
+                              final Annotation[] annotations,
+                              final MediaType mediaType) {
+        return StreamingMultiPart.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public StreamingMultiPart readFrom(final Class<StreamingMultiPart> type,
+                                       final Type genericType,
+                                       final Annotation[] annotations,
+                                       final MediaType mediaType,
+                                       final MultivaluedMap<String, String> httpHeaders,
+                                       final InputStream entityStream) throws IOException, WebApplicationException {
+        final StreamingMultiPart multiPart = new StreamingMultiPart(entityStream, mediaType, maxParts);
+        multiPart.setMessageBodyWorkers(messageBodyWorkers.get());
+        return multiPart;
+    }
+}
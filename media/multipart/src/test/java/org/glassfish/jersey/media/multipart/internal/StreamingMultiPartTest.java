@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.media.multipart.StreamingBodyPart;
+import org.glassfish.jersey.media.multipart.StreamingMultiPart;
+import org.glassfish.jersey.media.multipart.file.StreamDataBodyPart;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link StreamingMultiPart} entities.
+ */
+public class StreamingMultiPartTest extends JerseyTest {
+
+    private static final long LARGE_PART_SIZE = 4L * 1024 * 1024;
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(StreamingResource.class)
+                .register(MultiPartFeature.class)
+                .register(new MultiPartProperties().maxParts(3).resolver());
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.register(MultiPartFeature.class);
+    }
+
+    @Path("streaming")
+    public static class StreamingResource {
+
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String upload(final StreamingMultiPart parts) throws IOException {
+            final StringBuilder result = new StringBuilder();
+            while (parts.hasNext()) {
+                final StreamingBodyPart part = parts.next();
+                if ("text".equals(part.getName())) {
+                    result.append(part.getName()).append('=').append(part.getEntityAs(String.class)).append(';');
+                } else {
+                    result.append(part.getName()).append('=').append(count(part.getInputStream())).append(';');
+                }
+            }
+            return result.toString();
+        }
+    }
+
+    @Test
+    public void testStreamingUpload() {
+        final FormDataMultiPart multiPart = new FormDataMultiPart();
+        multiPart.field("text", "hello");
+        multiPart.bodyPart(new StreamDataBodyPart("file", new PatternInputStream(LARGE_PART_SIZE)));
+
+        final String result = target("streaming").request()
+                .post(Entity.entity(multiPart, multiPart.getMediaType()), String.class);
+
+        assertEquals("text=hello;file=" + LARGE_PART_SIZE + ";", result);
+    }
+
+    @Test
+    public void testTooManyParts() {
+        final FormDataMultiPart multiPart = new FormDataMultiPart();
+        for (int i = 0; i < 4; i++) {
+            multiPart.field("text", "value" + i);
+        }
+
+        final Response response = target("streaming").request()
+                .post(Entity.entity(multiPart, multiPart.getMediaType()));
+
+        assertEquals(413, response.getStatus());
+    }
+
+    @Test
+    public void testParsing() throws IOException {
+        final String message = "preamble\r\n"
+                + "--b\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "X-Folded: first\r\n"
+                + " second\r\n"
+                + "\r\n"
+                + "one\r\n-b\r\n"
+                + "--b  \r\n"
+                + "\r\n"
+                + "\r\n"
+                + "--b\r\n"
+                + "Content-Disposition: attachment; filename=\"f.txt\"\r\n"
+                + "\r\n"
+                + "skipped\r\n"
+                + "--b\r\n"
+                + "\r\n"
+                + "three\r\n"
+                + "--b--\r\n"
+                + "epilogue";
+
+        final StreamingMultiPart parts = new StreamingMultiPart(stream(message), MediaType.valueOf("multipart/mixed;boundary=b"));
+
+        StreamingBodyPart part = parts.next();
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, part.getMediaType());
+        assertEquals("first second", part.getHeaders().getFirst("x-folded"));
+        assertEquals("one\r\n-b", read(part));
+
+        part = parts.next();
+        assertNull(part.getContentDisposition());
+        assertEquals("", read(part));
+
+        part = parts.next();
+        assertEquals("f.txt", part.getContentDisposition().getFileName());
+        final InputStream skipped = part.getInputStream();
+
+        part = parts.next();
+        assertEquals(-1, skipped.read());
+        assertEquals("three", read(part));
+
+        assertFalse(parts.hasNext());
+    }
+
+    @Test
+    public void testBoundarySpanningBuffer() throws IOException {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            content.append((char) ('a' + i % 26));
+        }
+        final String message = "--quoted\r\n\r\n" + content + "\r\n--quoted--";
+
+        final StreamingMultiPart parts = new StreamingMultiPart(
+                new ByteArrayInputStream(message.getBytes(StandardCharsets.ISO_8859_1)) {
+                    @Override
+                    public synchronized int read(final byte[] b, final int off, final int len) {
+                        // deliver the entity in odd sized chunks
+                        return super.read(b, off, Math.min(len, 7));
+                    }
+                },
+                MediaType.valueOf("multipart/mixed;boundary=\"quoted\""));
+
+        assertTrue(parts.hasNext());
+        assertEquals(content.toString(), read(parts.next()));
+        assertFalse(parts.hasNext());
+    }
+
+    @Test
+    public void testMalformed() {
+        final StreamingMultiPart parts = new StreamingMultiPart(stream("--b\r\n\r\nno closing delimiter"),
+                MediaType.valueOf("multipart/mixed;boundary=b"));
+
+        final StreamingBodyPart part = parts.next();
+        assertThrows(BadRequestException.class, () -> read(part));
+        assertThrows(BadRequestException.class,
+                () -> new StreamingMultiPart(stream(""), MediaType.valueOf("multipart/mixed")));
+    }
+
+    @Test
+    public void testHeadersSizeLimit() throws IOException {
+        // the header line alone uses up the whole limit of 16 KiB, line terminators do not count
+        final StringBuilder header = new StringBuilder("X-Pad: ");
+        while (header.length() < 16 * 1024) {
+            header.append('x');
+        }
+
+        final StreamingMultiPart parts = new StreamingMultiPart(stream("--b\r\n" + header + "\r\n\r\nbody\r\n--b--"),
+                MediaType.valueOf("multipart/mixed;boundary=b"));
+        final StreamingBodyPart part = parts.next();
+        assertEquals(header.substring("X-Pad: ".length()), part.getHeaders().getFirst("X-Pad"));
+        assertEquals("body", read(part));
+
+        assertThrows(BadRequestException.class, () -> new StreamingMultiPart(
+                stream("--b\r\n" + header + "x\r\n\r\nbody\r\n--b--"), MediaType.valueOf("multipart/mixed;boundary=b"))
+                .next());
+    }
+
+    private static InputStream stream(final String message) {
+        return new ByteArrayInputStream(message.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static String read(final StreamingBodyPart part) throws IOException {
+        final StringBuilder result = new StringBuilder();
+        final byte[] buffer = new byte[1000];
+        int read;
+        while ((read = part.getInputStream().read(buffer)) != -1) {
+            result.append(new String(buffer, 0, read, StandardCharsets.ISO_8859_1));
+        }
+        return result.toString();
+    }
+
+    private static long count(final InputStream stream) throws IOException {
+        final byte[] buffer = new byte[8192];
+        long count = 0;
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            count += read;
+        }
+        return count;
+    }
+
+    /**
+     * Stream of given length that does not need to be held in memory.
+     */
+    private static class PatternInputStream extends InputStream {
+
+        private long remaining;
+
+        private PatternInputStream(final long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            return remaining-- > 0 ? (int) (remaining % 251) : -1;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,10 @@
 
 package org.glassfish.jersey.media.sse;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 
 import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.GenericType;
@@ -27,6 +30,11 @@ import org.glassfish.jersey.internal.util.ReflectionHelper;
 
 /**
  * Representation of a single outbound SSE event.
+ * <p>
+ * The event is serialized into its SSE wire format when it is written for the first time. The serialized form is kept
+ * with the event and reused whenever the same event instance is written again, e.g. when broadcast to many clients.
+ * Hence the {@link #getData() event data} must not be modified once the event has been sent.
+ * </p>
  *
  * @author Pavel Bucek
  * @author Marek Potociar
@@ -41,6 +49,9 @@ public final class OutboundEvent implements OutboundSseEvent {
     private final Object data;
     private final long reconnectDelay;
 
+    // SSE wire format of the event, lazily computed by OutboundEventWriter
+    private volatile EncodedEvent encoded;
+
     /**
      * Used for creating {@link OutboundEvent} instances.
      */
@@ -392,4 +403,41 @@ public final class OutboundEvent implements OutboundSseEvent {
     public Object getData() {
         return data;
     }
+
+    /**
+     * Get the SSE wire format of this event serialized using the given charset and annotations.
+     *
+     * @param charset     charset used for serialization.
+     * @param annotations annotations the data message body writer has been selected and invoked with.
+     * @return serialized event or {@code null} if the event has not been serialized using the charset and annotations yet.
+     */
+    byte[] getEncoded(final Charset charset, final Annotation[] annotations) {
+        final EncodedEvent encoded = this.encoded;
+        return encoded != null && encoded.charset.equals(charset) && Arrays.equals(encoded.annotations, annotations)
+                ? encoded.bytes : null;
+    }
+
+    /**
+     * Remember the SSE wire format of this event for subsequent writes of the event.
+     *
+     * @param charset     charset used for serialization.
+     * @param annotations annotations the data message body writer has been selected and invoked with.
+     * @param bytes       serialized event.
+     */
+    void setEncoded(final Charset charset, final Annotation[] annotations, final byte[] bytes) {
+        this.encoded = new EncodedEvent(charset, annotations, bytes);
+    }
+
+    private static final class EncodedEvent {
+
+        private final Charset charset;
+        private final Annotation[] annotations;
+        private final byte[] bytes;
+
+        private EncodedEvent(final Charset charset, final Annotation[] annotations, final byte[] bytes) {
+            this.charset = charset;
+            this.annotations = annotations;
+            this.bytes = bytes;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,11 +16,15 @@
 
 package org.glassfish.jersey.media.sse;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
@@ -37,6 +41,12 @@ import org.glassfish.jersey.message.MessageUtils;
 
 /**
  * Writer for {@link OutboundSseEvent}.
+ * <p>
+ * Each event is serialized into a buffer and written to the entity stream in a single call. The serialized form
+ * of an {@link OutboundEvent} is kept with the event, so that an event sent to many connections is serialized just once.
+ * The message body writers of the event data are looked up once per data type, media type and annotations, up to
+ * a bounded number of combinations.
+ * </p>
  *
  * @author Pavel Bucek
  * @author Marek Potociar
@@ -53,7 +63,10 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
     private static final byte[] DATA_LEAD = "data: ".getBytes(UTF8);
     private static final byte[] EOL = {'\n'};
 
+    private static final int MAX_CACHED_DATA_WRITERS = 64;
+
     private final Provider<MessageBodyWorkers> workersProvider;
+    private final ConcurrentHashMap<WriterKey, MessageBodyWriter> dataWriters = new ConcurrentHashMap<>();
 
     @Inject
     public OutboundEventWriter(@Context Provider<MessageBodyWorkers> workersProvider) {
@@ -76,7 +89,6 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void writeTo(final OutboundSseEvent outboundEvent,
                         final Class<?> type,
                         final Type genericType,
@@ -86,6 +98,27 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
                         final OutputStream entityStream) throws IOException, WebApplicationException {
 
         final Charset charset = MessageUtils.getCharset(mediaType);
+        if (outboundEvent instanceof OutboundEvent) {
+            final OutboundEvent event = (OutboundEvent) outboundEvent;
+            // the annotations take part in selecting and invoking the data writer
+            byte[] encoded = event.getEncoded(charset, annotations);
+            if (encoded == null) {
+                encoded = encode(outboundEvent, charset, annotations, httpHeaders);
+                event.setEncoded(charset, annotations, encoded);
+            }
+            entityStream.write(encoded);
+        } else {
+            entityStream.write(encode(outboundEvent, charset, annotations, httpHeaders));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] encode(final OutboundSseEvent outboundEvent,
+                          final Charset charset,
+                          final Annotation[] annotations,
+                          final MultivaluedMap<String, Object> httpHeaders) throws IOException {
+
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
         if (outboundEvent.getComment() != null) {
             for (final String comment : outboundEvent.getComment().split("\n")) {
                 entityStream.write(COMMENT_LEAD);
@@ -113,7 +146,7 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
 
             final MediaType eventMediaType =
                     outboundEvent.getMediaType() == null ? MediaType.TEXT_PLAIN_TYPE : outboundEvent.getMediaType();
-            final MessageBodyWriter messageBodyWriter = workersProvider.get().getMessageBodyWriter(outboundEvent.getType(),
+            final MessageBodyWriter messageBodyWriter = getDataWriter(outboundEvent.getType(),
                     outboundEvent.getGenericType(), annotations, eventMediaType);
             messageBodyWriter.writeTo(
                     outboundEvent.getData(),
@@ -137,8 +170,88 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
                                 entityStream.write(DATA_LEAD);
                             }
                         }
+
+                        @Override
+                        public void write(final byte[] b, final int off, final int len) throws IOException {
+                            // copy the runs between line breaks at once
+                            int from = off;
+                            for (int i = off; i < off + len; i++) {
+                                if (b[i] == '\n') {
+                                    writeRun(b, from, i + 1 - from);
+                                    entityStream.write(DATA_LEAD);
+                                    from = i + 1;
+                                }
+                            }
+                            writeRun(b, from, off + len - from);
+                        }
+
+                        private void writeRun(final byte[] b, final int off, final int len) {
+                            if (len > 0) {
+                                if (start) {
+                                    entityStream.write(DATA_LEAD, 0, DATA_LEAD.length);
+                                    start = false;
+                                }
+                                entityStream.write(b, off, len);
+                            }
+                        }
                     });
             entityStream.write(EOL);
         }
+        return entityStream.toByteArray();
+    }
+
+    private MessageBodyWriter getDataWriter(final Class<?> type,
+                                            final Type genericType,
+                                            final Annotation[] annotations,
+                                            final MediaType mediaType) {
+        final WriterKey key = new WriterKey(type, genericType, annotations, mediaType);
+        final MessageBodyWriter cached = dataWriters.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final MessageBodyWriter writer = workersProvider.get().getMessageBodyWriter(type, genericType, annotations, mediaType);
+        // resource methods produce a limited set of annotation arrays, stop caching if they do not
+        if (writer != null && dataWriters.size() < MAX_CACHED_DATA_WRITERS) {
+            dataWriters.putIfAbsent(key, writer);
+        }
+        return writer;
+    }
+
+    private static final class WriterKey {
+
+        private final Class<?> type;
+        private final Type genericType;
+        private final Annotation[] annotations;
+        private final MediaType mediaType;
+        private final int hash;
+
+        private WriterKey(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                          final MediaType mediaType) {
+            this.type = type;
+            this.genericType = genericType;
+            this.annotations = annotations;
+            this.mediaType = mediaType;
+            this.hash = Objects.hash(type, genericType, Arrays.hashCode(annotations), mediaType);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof WriterKey)) {
+                return false;
+            }
+            final WriterKey other = (WriterKey) o;
+            return type == other.type
+                    && Objects.equals(genericType, other.genericType)
+                    && Arrays.equals(annotations, other.annotations)
+                    && mediaType.equals(other.mediaType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 }
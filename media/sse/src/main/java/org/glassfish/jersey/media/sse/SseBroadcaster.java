@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,8 @@
 
 package org.glassfish.jersey.media.sse;
 
+import java.util.concurrent.Executor;
+
 import org.glassfish.jersey.server.Broadcaster;
 
 /**
@@ -50,4 +52,36 @@ public class SseBroadcaster extends Broadcaster<OutboundEvent> {
     protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass) {
         super(subclass);
     }
+
+    /**
+     * Creates a new instance writing the broadcast events to the registered {@link EventOutput event outputs} in parallel.
+     *
+     * @param executor           executor used to write the events to the registered event outputs.
+     * @param maxPendingEvents   maximal number of events pending for a single event output before
+     *                           the {@code slowConsumerPolicy} is applied, not bounded if not positive.
+     * @param slowConsumerPolicy policy applied to the event outputs that have {@code maxPendingEvents} events pending.
+     * @since 2.46
+     */
+    public SseBroadcaster(final Executor executor, final int maxPendingEvents, final SlowConsumerPolicy slowConsumerPolicy) {
+        this(SseBroadcaster.class, executor, maxPendingEvents, slowConsumerPolicy);
+    }
+
+    /**
+     * Can be used by subclasses to create a broadcaster writing the broadcast events to the registered
+     * {@link EventOutput event outputs} in parallel.
+     *
+     * @param subclass           subclass of SseBroadcaster that should not be registered as a listener.
+     * @param executor           executor used to write the events to the registered event outputs.
+     * @param maxPendingEvents   maximal number of events pending for a single event output before
+     *                           the {@code slowConsumerPolicy} is applied, not bounded if not positive.
+     * @param slowConsumerPolicy policy applied to the event outputs that have {@code maxPendingEvents} events pending.
+     * @see #SseBroadcaster(Class)
+     * @since 2.46
+     */
+    protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass,
+                             final Executor executor,
+                             final int maxPendingEvents,
+                             final SlowConsumerPolicy slowConsumerPolicy) {
+        super(subclass, executor, maxPendingEvents, slowConsumerPolicy);
+    }
 }
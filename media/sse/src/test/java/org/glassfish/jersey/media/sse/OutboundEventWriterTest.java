@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests of {@link OutboundEventWriter} serialization.
+ */
+public class OutboundEventWriterTest {
+
+    private static final AtomicInteger DATA_WRITES = new AtomicInteger();
+
+    private MessageBodyWriter<OutboundEvent> writer;
+
+    @BeforeEach
+    public void setUp() {
+        DATA_WRITES.set(0);
+        final ApplicationHandler handler = new ApplicationHandler(
+                new ResourceConfig().register(SseFeature.class).register(CountingWriter.class));
+        writer = handler.getInjectionManager().getInstance(MessageBodyWorkers.class).getMessageBodyWriter(
+                OutboundEvent.class, OutboundEvent.class, new Annotation[0], SseFeature.SERVER_SENT_EVENTS_TYPE);
+    }
+
+    @Test
+    public void testMultiLineData() throws IOException {
+        final OutboundEvent event = new OutboundEvent.Builder()
+                .comment("c")
+                .name("n")
+                .id("1")
+                .data("first\nsecond\n\nlast")
+                .build();
+
+        assertEquals(": c\nevent: n\nid: 1\ndata: first\ndata: second\ndata: \ndata: last\n", write(event));
+    }
+
+    @Test
+    public void testSharedEventSerializedOnce() throws IOException {
+        final OutboundEvent event = new OutboundEvent.Builder().data(Counted.class, new Counted()).build();
+
+        final String first = write(event);
+        final String second = write(event);
+
+        assertEquals("data: counted\n", first);
+        assertEquals(first, second);
+        assertEquals(1, DATA_WRITES.get());
+
+        write(new OutboundEvent.Builder().data(Counted.class, new Counted()).build());
+        assertEquals(2, DATA_WRITES.get());
+    }
+
+    @Test
+    public void testSharedEventSerializedPerAnnotations() throws IOException {
+        final OutboundEvent event = new OutboundEvent.Builder().data(Counted.class, new Counted()).build();
+        final Annotation[] upperCase = Annotated.class.getAnnotations();
+
+        assertEquals("data: counted\n", write(event));
+        assertEquals("data: COUNTED\n", write(event, upperCase));
+        assertEquals("data: COUNTED\n", write(event, upperCase));
+        assertEquals(2, DATA_WRITES.get());
+    }
+
+    private String write(final OutboundEvent event) throws IOException {
+        return write(event, new Annotation[0]);
+    }
+
+    private String write(final OutboundEvent event, final Annotation[] annotations) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        writer.writeTo(event, OutboundEvent.class, OutboundEvent.class, annotations,
+                SseFeature.SERVER_SENT_EVENTS_TYPE, headers, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    public static class Counted {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface UpperCase {
+    }
+
+    @UpperCase
+    private static class Annotated {
+    }
+
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class CountingWriter implements MessageBodyWriter<Counted> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            return type == Counted.class;
+        }
+
+        @Override
+        public void writeTo(final Counted counted, final Class<?> type, final Type genericType,
+                            final Annotation[] annotations, final MediaType mediaType,
+                            final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
+            DATA_WRITES.incrementAndGet();
+            final boolean upperCase = Arrays.stream(annotations).anyMatch(annotation -> annotation instanceof UpperCase);
+            entityStream.write((upperCase ? "COUNTED" : "counted").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -80,6 +80,11 @@ import org.junit.jupiter.api.TestInstance;
  * received from the Web application under test.
  * </p>
  * <p>
+ * When {@link TestProperties#CONTAINER_SHARED} is enabled, the test container is not stopped after each test. Instead,
+ * a single running test container is reused by all tests (and test classes) that deploy the same application using
+ * the same test container factory, and it is stopped when the JVM exits.
+ * </p>
+ * <p>
  * If a test container factory is not explicitly declared using the appropriate constructor
  * (see {@link #JerseyTest(TestContainerFactory)}) or by overriding the {@link #getTestContainerFactory()} method,
  * then a default test container factory will be obtained as follows:
@@ -607,7 +612,9 @@ public abstract class JerseyTest {
     /**
      * Set up the test by creating a test container instance, {@link TestContainer#start() starting} it and by creating a new
      * {@link #configureClient(org.glassfish.jersey.client.ClientConfig) pre-configured} test client.
-     * The test container is obtained from the {@link #getTestContainerFactory() test container factory}.
+     * The test container is obtained from the {@link #getTestContainerFactory() test container factory}, unless
+     * {@link TestProperties#CONTAINER_SHARED shared test containers} are enabled and a matching test container
+     * is already running.
      *
      * @throws TestContainerException if the default test container factory cannot be obtained,
      *                                or the test application deployment context is not supported
@@ -620,12 +627,30 @@ public abstract class JerseyTest {
         synchronized (this) {
             if (!isConcurrent() || activeThreadCount.getAndIncrement() == 0) {
                 registerLogHandlerIfEnabled();
-                final TestContainer testContainer = createTestContainer(context);
-                testContainer.configureContainer();
-
-                // Set current instance of test container and start it.
-                setTestContainer(testContainer);
-                testContainer.start();
+                final List<Object> sharedKey = isEnabled(TestProperties.CONTAINER_SHARED)
+                        ? SharedTestContainers.key(getTestContainerFactory(), context)
+                        : null;
+                final TestContainer testContainer;
+                if (sharedKey != null) {
+                    testContainer = SharedTestContainers.get(sharedKey, () -> {
+                        final TestContainer container = createTestContainer(context);
+                        container.configureContainer();
+                        container.start();
+                        return container;
+                    });
+                    setTestContainer(testContainer);
+                } else {
+                    testContainer = createTestContainer(context);
+                    testContainer.configureContainer();
+
+                    // Set current instance of test container and start it.
+                    setTestContainer(testContainer);
+                    final long start = System.nanoTime();
+                    testContainer.start();
+                    LOGGER.log(Level.FINE, "Test container {0} started at {1} in {2} ms.", new Object[] {
+                            testContainer.getClass().getName(), testContainer.getBaseUri(),
+                            SharedTestContainers.millisSince(start)});
+                }
 
                 // Create an set new client.
                 setClient(getClient(testContainer.getClientConfig()));
@@ -655,7 +680,8 @@ public abstract class JerseyTest {
      * Tear down the test by {@link TestContainer#stop() stopping} the test container obtained from the
      * {@link #getTestContainerFactory() test container factory} and by {@link javax.ws.rs.client.Client#close() closing}
      * and discarding the {@link #configureClient(org.glassfish.jersey.client.ClientConfig) pre-configured} test client
-     * that was {@link #setUp() set up} for the test.
+     * that was {@link #setUp() set up} for the test. A {@link TestProperties#CONTAINER_SHARED shared} test container is
+     * left running for other tests.
      *
      * @throws Exception if an exception is thrown during tearing down the test environment.
      */
@@ -670,8 +696,12 @@ public abstract class JerseyTest {
 
                 try {
                     TestContainer oldContainer = setTestContainer(null);
-                    if (oldContainer != null) {
+                    if (oldContainer != null && !SharedTestContainers.isShared(oldContainer)) {
+                        final long start = System.nanoTime();
                         oldContainer.stop();
+                        LOGGER.log(Level.FINE, "Test container {0} at {1} stopped in {2} ms.", new Object[] {
+                                oldContainer.getClass().getName(), oldContainer.getBaseUri(),
+                                SharedTestContainers.millisSince(start)});
                     }
                 } finally {
                     closeIfNotNull(setClient(null));
@@ -794,6 +824,11 @@ public abstract class JerseyTest {
             return container.getBaseUri().getPort();
         }
 
+        if (isEnabled(TestProperties.CONTAINER_SHARED)) {
+            // several shared test containers may be running at the same time
+            return 0;
+        }
+
         // called from within JerseyTest constructor
         final String value = getProperty(TestProperties.CONTAINER_PORT);
         if (value != null) {
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.core.Application;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.spi.TestContainer;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+
+/**
+ * Registry of the test containers shared by {@link JerseyTest} instances that enable
+ * {@link TestProperties#CONTAINER_SHARED}.
+ * <p>
+ * A shared container is started by the first test that asks for it and stays running until the JVM exits.
+ * Containers are keyed by the tested application (its class, registered component classes, instances and properties),
+ * by the test container factory class and by the deployment context settings, so two tests only share
+ * a container when they would otherwise deploy an identical application into it. Registered instances and property
+ * values are compared using {@code equals}, which for most objects means that such deployments are not shared at all.
+ * </p>
+ */
+final class SharedTestContainers {
+
+    private static final Logger LOGGER = Logger.getLogger(SharedTestContainers.class.getName());
+
+    private static final Map<List<Object>, TestContainer> CONTAINERS = new ConcurrentHashMap<>();
+    private static final Set<TestContainer> SHARED = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SharedTestContainers::stopAll, "jersey-test-shared-containers"));
+    }
+
+    private SharedTestContainers() {
+        // prevents instantiation
+    }
+
+    /**
+     * Compute the key identifying a shared test container for the given deployment.
+     *
+     * @param factory test container factory used to create the container.
+     * @param context deployment context of the tested application.
+     * @return shared container key or {@code null} if the deployment cannot be safely shared.
+     */
+    static List<Object> key(final TestContainerFactory factory, final DeploymentContext context) {
+        if (context.getSslContext().isPresent() || context.getSslParameters().isPresent()) {
+            return null;
+        }
+
+        final List<Object> key = new ArrayList<>(Arrays.asList(
+                factory.getClass(),
+                context.getClass(),
+                context.getContextPath()));
+
+        final ResourceConfig resourceConfig = context.getResourceConfig();
+        if (resourceConfig != null) {
+            final Application application = resourceConfig.getApplication();
+            if (application == null) {
+                // application class not instantiated yet, there is no way to tell two such deployments apart
+                return null;
+            }
+            key.addAll(Arrays.asList(
+                    application.getClass(),
+                    new HashSet<>(resourceConfig.getClasses()),
+                    new HashSet<>(resourceConfig.getInstances()),
+                    new HashMap<>(resourceConfig.getProperties())));
+        } else if (!(context instanceof ServletDeploymentContext)) {
+            return null;
+        }
+
+        if (context instanceof ServletDeploymentContext) {
+            final ServletDeploymentContext servletContext = (ServletDeploymentContext) context;
+            if (servletContext.getServletInstance() != null) {
+                return null;
+            }
+            final List<Object> filters = new ArrayList<>();
+            if (servletContext.getFilters() != null) {
+                for (final ServletDeploymentContext.FilterDescriptor filter : servletContext.getFilters()) {
+                    filters.add(Arrays.asList(filter.getFilterClass(), filter.getFilterName(),
+                            filter.getInitParams(), filter.getDispatcherTypes()));
+                }
+            }
+            key.addAll(Arrays.asList(
+                    servletContext.getServletClass(),
+                    servletContext.getServletPath(),
+                    servletContext.getInitParams(),
+                    servletContext.getContextParams(),
+                    servletContext.getListeners(),
+                    filters));
+        }
+        return key;
+    }
+
+    /**
+     * Get the running shared test container for the given key, starting a new one if there is none yet.
+     *
+     * @param key     shared container key as returned from {@link #key(TestContainerFactory, DeploymentContext)}.
+     * @param starter creates, configures and starts a new test container.
+     * @return running shared test container.
+     */
+    static TestContainer get(final List<Object> key, final Supplier<TestContainer> starter) {
+        return CONTAINERS.computeIfAbsent(key, k -> {
+            final long start = System.nanoTime();
+            final TestContainer container = starter.get();
+            SHARED.add(container);
+            LOGGER.log(Level.INFO, "Shared test container {0} started at {1} in {2} ms.",
+                    new Object[] {container.getClass().getName(), container.getBaseUri(), millisSince(start)});
+            return container;
+        });
+    }
+
+    /**
+     * Check whether the test container is a shared one and must not be stopped by a single test.
+     *
+     * @param container test container.
+     * @return {@code true} if the container is shared.
+     */
+    static boolean isShared(final TestContainer container) {
+        return SHARED.contains(container);
+    }
+
+    /**
+     * Stop all running shared test containers.
+     */
+    static void stopAll() {
+        final long start = System.nanoTime();
+        int stopped = 0;
+        for (final List<Object> key : new ArrayList<>(CONTAINERS.keySet())) {
+            final TestContainer container = CONTAINERS.remove(key);
+            if (container == null) {
+                continue;
+            }
+            SHARED.remove(container);
+            final long containerStart = System.nanoTime();
+            try {
+                container.stop();
+                stopped++;
+                LOGGER.log(Level.FINE, "Shared test container {0} at {1} stopped in {2} ms.",
+                        new Object[] {container.getClass().getName(), container.getBaseUri(), millisSince(containerStart)});
+            } catch (final RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Error stopping a shared test container.", e);
+            }
+        }
+        if (stopped > 0) {
+            LOGGER.log(Level.INFO, "{0} shared test container(s) stopped in {1} ms.",
+                    new Object[] {stopped, millisSince(start)});
+        }
+    }
+
+    static long millisSince(final long nanoStart) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoStart);
+    }
+}
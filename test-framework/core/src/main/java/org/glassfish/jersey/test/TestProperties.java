@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -82,8 +82,11 @@ public final class TestProperties {
      * positive integer, otherwise it will be ignored.
      * <p/>
      * If the value of the property is {@code 0} then first available port is used.
+     * Using {@code 0} is recommended when tests run in parallel (e.g. in several Surefire forks), since each test container
+     * is then bound to an ephemeral port assigned by the operating system instead of competing for the same fixed port.
      * <p/>
-     * The default value is <tt>{@value #DEFAULT_CONTAINER_PORT}</tt>.
+     * The default value is <tt>{@value #DEFAULT_CONTAINER_PORT}</tt>. The property is ignored if {@link #CONTAINER_SHARED
+     * shared test containers} are enabled.
      * <p/>
      * The name of the configuration property is <tt>{@value}</tt>.
      *
@@ -99,6 +102,29 @@ public final class TestProperties {
      */
     public static final int DEFAULT_CONTAINER_PORT = 9998;
 
+    /**
+     * If set to {@code true} the test container is shared by all tests that deploy the same application into the same kind
+     * of test container, instead of being started before and stopped after each test.
+     * <p/>
+     * A shared test container is started by the first test that needs it and stopped when the JVM exits, so its startup
+     * and shutdown cost is paid once per test JVM rather than once per test (or per test class when using
+     * {@link org.glassfish.jersey.test.JerseyTestNg.ContainerPerClassTest}). Tests share a container only when their
+     * application class, registered components, properties, context path and test container factory class match;
+     * deployments with SSL configured or with registered component instances or property values that are not equal
+     * are never shared. Since the application is deployed only once, tests sharing a container must not depend on
+     * application state left by another test nor on {@link #RECORD_LOG_LEVEL recording} the application startup logs.
+     * <p/>
+     * As several shared test containers may be running at the same time, they are always bound to an ephemeral port
+     * and {@link #CONTAINER_PORT} is ignored. The time spent starting and stopping the shared test containers is logged.
+     * <p/>
+     * The default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 2.46
+     */
+    public static final String CONTAINER_SHARED = "jersey.config.test.container.shared";
+
     /**
      * If set to a numeric value then this property enables to store log records at {@link java.util.logging.Level log level}
      * value (or higher) defined by the value of this property.
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.test;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.spi.TestContainer;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link TestProperties#CONTAINER_SHARED Shared test container} unit tests.
+ */
+public class SharedTestContainersTest {
+
+    private static final AtomicInteger STARTED = new AtomicInteger();
+    private static final AtomicInteger STOPPED = new AtomicInteger();
+
+    @Path("/")
+    public static class MyResource {
+
+        @GET
+        public String get() {
+            return "xxx";
+        }
+    }
+
+    @Path("/other")
+    public static class OtherResource {
+
+        @GET
+        public String get() {
+            return "yyy";
+        }
+    }
+
+    public static class CountingTestContainerFactory implements TestContainerFactory {
+
+        @Override
+        public TestContainer create(final URI baseUri, final DeploymentContext context) throws IllegalArgumentException {
+            return new TestContainer() {
+
+                @Override
+                public ClientConfig getClientConfig() {
+                    return null;
+                }
+
+                @Override
+                public URI getBaseUri() {
+                    return baseUri;
+                }
+
+                @Override
+                public void start() {
+                    STARTED.incrementAndGet();
+                }
+
+                @Override
+                public void stop() {
+                    STOPPED.incrementAndGet();
+                }
+            };
+        }
+    }
+
+    private static class MySharedTest extends JerseyTest {
+
+        MySharedTest() {
+            super(new CountingTestContainerFactory());
+        }
+
+        @Override
+        protected Application configure() {
+            forceEnable(TestProperties.CONTAINER_SHARED);
+            return new ResourceConfig(MyResource.class);
+        }
+    }
+
+    private static class AnotherSharedTest extends MySharedTest {
+    }
+
+    private static class OtherSharedTest extends MySharedTest {
+
+        @Override
+        protected Application configure() {
+            forceEnable(TestProperties.CONTAINER_SHARED);
+            return new ResourceConfig(OtherResource.class);
+        }
+    }
+
+    private static class NotSharedTest extends JerseyTest {
+
+        NotSharedTest() {
+            super(new CountingTestContainerFactory());
+        }
+
+        @Override
+        protected Application configure() {
+            forceSet(TestProperties.CONTAINER_PORT, "0");
+            return new ResourceConfig(MyResource.class);
+        }
+    }
+
+    @AfterEach
+    public void stopSharedContainers() {
+        SharedTestContainers.stopAll();
+        STARTED.set(0);
+        STOPPED.set(0);
+    }
+
+    @Test
+    public void testContainerSharedAcrossTestClasses() throws Exception {
+        final JerseyTest first = new MySharedTest();
+        first.setUp();
+        final TestContainer container = first.getTestContainer();
+        first.tearDown();
+
+        final JerseyTest second = new AnotherSharedTest();
+        second.setUp();
+        assertSame(container, second.getTestContainer());
+        second.tearDown();
+
+        assertEquals(1, STARTED.get());
+        assertEquals(0, STOPPED.get());
+
+        SharedTestContainers.stopAll();
+        assertEquals(1, STOPPED.get());
+    }
+
+    @Test
+    public void testDifferentApplicationsNotShared() throws Exception {
+        final JerseyTest first = new MySharedTest();
+        first.setUp();
+        final JerseyTest other = new OtherSharedTest();
+        other.setUp();
+
+        assertNotSame(first.getTestContainer(), other.getTestContainer());
+        assertEquals(2, STARTED.get());
+
+        first.tearDown();
+        other.tearDown();
+        assertEquals(0, STOPPED.get());
+    }
+
+    @Test
+    public void testNotSharedContainerStopped() throws Exception {
+        final JerseyTest test = new NotSharedTest();
+        test.setUp();
+        test.tearDown();
+
+        assertEquals(1, STARTED.get());
+        assertEquals(1, STOPPED.get());
+    }
+
+    @Test
+    public void testSharedContainerUsesEphemeralPort() {
+        assertEquals(0, new MySharedTest().getPort());
+        assertEquals(0, new NotSharedTest().getPort());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,16 +16,15 @@
 
 package org.glassfish.jersey.test.inmemory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.security.Principal;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,7 +34,6 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedMap;
-import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 
 import org.glassfish.jersey.client.ClientProperties;
@@ -44,16 +42,24 @@ import org.glassfish.jersey.client.ClientResponse;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
 import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.innate.VirtualThreadUtil;
 import org.glassfish.jersey.internal.MapPropertiesDelegate;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
 import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.BackgroundSchedulerLiteral;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.internal.JerseyRequestTimeoutHandler;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
 
 /**
  * In-memory client connector.
+ * <p>
+ * Request and response entities are streamed between the client and the application through bounded in-memory pipes,
+ * the application handles each request on a connector thread. Large, chunked and asynchronous responses are therefore
+ * supported and the client gets the response as soon as the application writes the response headers.
+ * </p>
  *
  * @author Pavel Bucek
  * @author Marek Potociar
@@ -62,8 +68,37 @@ class InMemoryConnector implements Connector {
 
     private static final Logger LOGGER = Logger.getLogger(InMemoryConnector.class.getName());
 
+    /**
+     * Maximum number of entity bytes written but not read yet by the other side.
+     */
+    private static final int PIPE_CAPACITY = 64 * 1024;
+
+    private static final SecurityContext SECURITY_CONTEXT = new SecurityContext() {
+        @Override
+        public Principal getUserPrincipal() {
+            return null;
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return false;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return null;
+        }
+    };
+
     private final URI baseUri;
     private final ApplicationHandler appHandler;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
 
     /**
      * In-memory client connector provider.
@@ -86,7 +121,7 @@ class InMemoryConnector implements Connector {
 
         @Override
         public Connector getConnector(Client client, Configuration config) {
-            return new InMemoryConnector(baseUri, appHandler);
+            return new InMemoryConnector(baseUri, appHandler, config);
         }
     }
 
@@ -95,52 +130,90 @@ class InMemoryConnector implements Connector {
      *
      * @param baseUri    application base URI.
      * @param appHandler RequestInvoker instance which represents application.
+     * @param config     client configuration.
      */
-    private InMemoryConnector(final URI baseUri, final ApplicationHandler appHandler) {
+    private InMemoryConnector(final URI baseUri, final ApplicationHandler appHandler, final Configuration config) {
         this.baseUri = baseUri;
         this.appHandler = appHandler;
+        this.executor = VirtualThreadUtil.withConfig(config).newCachedThreadPool();
+        this.scheduler = appHandler.getInjectionManager()
+                .getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
     }
 
     /**
-     * In memory container response writer.
+     * In memory container response writer. The response entity is streamed to the client through a pipe.
+     * <p>
+     * Same as with the original buffering implementation, the client gets the response once the application has
+     * returned from handling the request, so that the whole server side processing of a synchronous resource method
+     * has finished. Responses written asynchronously, or larger than the pipe capacity, are delivered as soon as
+     * the response status and headers are written.
+     * </p>
      */
     public static class InMemoryResponseWriter implements ContainerResponseWriter {
 
-        private MultivaluedMap<String, String> headers;
-        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        private boolean committed;
-        private Response.StatusType statusInfo;
+        private final ClientRequest clientRequest;
+        private final InMemoryPipe entityPipe = new InMemoryPipe(PIPE_CAPACITY, this::deliver);
+        private final CompletableFuture<ClientResponse> response = new CompletableFuture<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final JerseyRequestTimeoutHandler requestTimeoutHandler;
+
+        private ClientResponse clientResponse;
+        private boolean handled;
+
+        private InMemoryResponseWriter(final ClientRequest clientRequest, final ScheduledExecutorService scheduler) {
+            this.clientRequest = clientRequest;
+            this.requestTimeoutHandler = new JerseyRequestTimeoutHandler(this, scheduler);
+        }
 
         @Override
         public OutputStream writeResponseStatusAndHeaders(long contentLength, ContainerResponse responseContext) {
-            List<Object> length = new ArrayList<>();
-            length.add(String.valueOf(contentLength));
+            if (contentLength >= 0) {
+                responseContext.getHeaders().putSingle(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+            }
 
-            responseContext.getHeaders().put(HttpHeaders.CONTENT_LENGTH, length);
-            headers = responseContext.getStringHeaders();
-            statusInfo = responseContext.getStatusInfo();
-            return baos;
+            final ClientResponse clientResponse = new ClientResponse(responseContext.getStatusInfo(), clientRequest);
+            clientResponse.getHeaders().putAll(responseContext.getStringHeaders());
+            clientResponse.setEntityStream(entityPipe.getInputStream());
+
+            synchronized (this) {
+                this.clientResponse = clientResponse;
+                if (handled) {
+                    deliver();
+                }
+            }
+
+            return entityPipe.getOutputStream();
         }
 
         @Override
         public boolean suspend(long timeOut, TimeUnit timeUnit, TimeoutHandler timeoutHandler) {
-            LOGGER.warning("Asynchronous server side invocations are not supported by InMemoryContainer.");
-            return false;
+            return requestTimeoutHandler.suspend(timeOut, timeUnit, timeoutHandler);
         }
 
         @Override
         public void setSuspendTimeout(long timeOut, TimeUnit timeUnit) {
-            throw new UnsupportedOperationException("Async server side invocations are not supported by InMemoryContainer.");
+            requestTimeoutHandler.setSuspendTimeout(timeOut, timeUnit);
         }
 
         @Override
         public void commit() {
-            committed = true;
+            entityPipe.complete();
+            synchronized (this) {
+                if (clientResponse == null) {
+                    response.completeExceptionally(new ProcessingException("Response has been committed without headers."));
+                } else if (handled) {
+                    deliver();
+                }
+            }
+            complete();
         }
 
         @Override
         public void failure(Throwable error) {
-            throw new ProcessingException("Server-side request processing failed with an error.", error);
+            entityPipe.fail(error);
+            response.completeExceptionally(
+                    new ProcessingException("Server-side request processing failed with an error.", error));
+            complete();
         }
 
         @Override
@@ -149,33 +222,40 @@ class InMemoryConnector implements Connector {
         }
 
         /**
-         * Get the written entity.
-         *
-         * @return Byte array which contains the entity written by the server.
+         * Invoked once the application returns from handling the request.
          */
-        public byte[] getEntity() {
-            if (!committed) {
-                throw new IllegalStateException("Response is not committed yet.");
+        private synchronized void handled() {
+            handled = true;
+            if (clientResponse != null) {
+                deliver();
             }
-            return baos.toByteArray();
+        }
+
+        private synchronized void deliver() {
+            response.complete(clientResponse);
+        }
+
+        private void complete() {
+            requestTimeoutHandler.close();
+            completion.complete(null);
         }
 
         /**
-         * Return response headers.
+         * Get the response received by the client.
          *
-         * @return headers.
+         * @return future completed with the response.
          */
-        public MultivaluedMap<String, String> getHeaders() {
-            return headers;
+        CompletableFuture<ClientResponse> getResponse() {
+            return response;
         }
 
         /**
-         * Returns response status info.
+         * Get the completion of the response.
          *
-         * @return status info.
+         * @return future completed once the response has been committed or has failed.
          */
-        public Response.StatusType getStatusInfo() {
-            return statusInfo;
+        CompletableFuture<Void> getCompletion() {
+            return completion;
         }
     }
 
@@ -189,6 +269,42 @@ class InMemoryConnector implements Connector {
      */
     @Override
     public ClientResponse apply(final ClientRequest clientRequest) {
+        boolean followRedirects = ClientProperties.getValue(clientRequest.getConfiguration().getProperties(),
+                ClientProperties.FOLLOW_REDIRECTS, true);
+
+        return tryFollowRedirects(followRedirects, await(send(clientRequest)), new ClientRequest(clientRequest));
+    }
+
+    @Override
+    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        final CompletableFuture<ClientResponse> future;
+        try {
+            future = send(request);
+        } catch (Throwable t) {
+            callback.failure(t);
+            final CompletableFuture<ClientResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            return failed;
+        }
+
+        // The response is completed on the application thread which still has to write the entity.
+        return future.whenCompleteAsync((response, failure) -> {
+            if (failure == null) {
+                callback.response(response);
+            } else {
+                callback.failure(failure);
+            }
+        }, executor);
+    }
+
+    /**
+     * Send the request to the application. The request entity is written by the calling thread while the application
+     * handles the request on a connector thread.
+     *
+     * @param clientRequest client side request to be invoked.
+     * @return future completed with the response once the response headers are written by the application.
+     */
+    private CompletableFuture<ClientResponse> send(final ClientRequest clientRequest) {
         PropertiesDelegate propertiesDelegate = new MapPropertiesDelegate();
 
         final ContainerRequest containerRequest = new ContainerRequest(baseUri,
@@ -197,94 +313,75 @@ class InMemoryConnector implements Connector {
 
         containerRequest.getHeaders().putAll(clientRequest.getStringHeaders());
 
-        final ByteArrayOutputStream clientOutput = new ByteArrayOutputStream();
-        if (clientRequest.getEntity() != null) {
-            clientRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
-                @Override
-                public OutputStream getOutputStream(int contentLength) throws IOException {
-                    final MultivaluedMap<String, Object> clientHeaders = clientRequest.getHeaders();
-                    if (contentLength != -1 && !clientHeaders.containsKey(HttpHeaders.CONTENT_LENGTH)) {
-                        containerRequest.getHeaders().putSingle(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
-                    }
-                    return clientOutput;
-                }
-            });
-            clientRequest.enableBuffering();
+        final InMemoryResponseWriter inMemoryResponseWriter = new InMemoryResponseWriter(clientRequest, scheduler);
+        containerRequest.setWriter(inMemoryResponseWriter);
+        containerRequest.setSecurityContext(SECURITY_CONTEXT);
 
-            try {
-                clientRequest.writeEntity();
-            } catch (IOException e) {
-                final String msg = "Error while writing entity to the output stream.";
-                LOGGER.log(Level.SEVERE, msg, e);
-                throw new ProcessingException(msg, e);
-            }
+        if (clientRequest.getEntity() == null) {
+            handle(containerRequest, inMemoryResponseWriter);
+            return inMemoryResponseWriter.getResponse();
         }
 
-        containerRequest.setEntityStream(new ByteArrayInputStream(clientOutput.toByteArray()));
-
-        boolean followRedirects = ClientProperties.getValue(clientRequest.getConfiguration().getProperties(),
-                ClientProperties.FOLLOW_REDIRECTS, true);
+        final InMemoryPipe entityPipe = new InMemoryPipe(PIPE_CAPACITY);
+        containerRequest.setEntityStream(entityPipe.getInputStream());
+        // Whatever the application has not read of the request entity once the response is complete is dropped.
+        inMemoryResponseWriter.getCompletion().thenRun(entityPipe::discard);
 
-        final InMemoryResponseWriter inMemoryResponseWriter = new InMemoryResponseWriter();
-        containerRequest.setWriter(inMemoryResponseWriter);
-        containerRequest.setSecurityContext(new SecurityContext() {
+        clientRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
             @Override
-            public Principal getUserPrincipal() {
-                return null;
+            public OutputStream getOutputStream(int contentLength) throws IOException {
+                final MultivaluedMap<String, Object> clientHeaders = clientRequest.getHeaders();
+                if (contentLength != -1 && !clientHeaders.containsKey(HttpHeaders.CONTENT_LENGTH)) {
+                    containerRequest.getHeaders().putSingle(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+                }
+                // The request headers are complete now, let the application handle the request.
+                handle(containerRequest, inMemoryResponseWriter);
+                return entityPipe.getOutputStream();
             }
+        });
+        clientRequest.enableBuffering();
 
-            @Override
-            public boolean isUserInRole(String role) {
-                return false;
-            }
+        try {
+            clientRequest.writeEntity();
+            entityPipe.complete();
+        } catch (IOException e) {
+            final String msg = "Error while writing entity to the output stream.";
+            LOGGER.log(Level.SEVERE, msg, e);
+            entityPipe.fail(e);
+            throw new ProcessingException(msg, e);
+        }
 
-            @Override
-            public boolean isSecure() {
-                return false;
-            }
+        return inMemoryResponseWriter.getResponse();
+    }
 
-            @Override
-            public String getAuthenticationScheme() {
-                return null;
+    private void handle(final ContainerRequest containerRequest, final InMemoryResponseWriter responseWriter) {
+        executor.execute(() -> {
+            try {
+                appHandler.handle(containerRequest);
+            } catch (Throwable t) {
+                responseWriter.failure(t);
+            } finally {
+                responseWriter.handled();
             }
         });
-        appHandler.handle(containerRequest);
-
-        return tryFollowRedirects(followRedirects,
-                createClientResponse(
-                        clientRequest,
-                        inMemoryResponseWriter),
-                new ClientRequest(clientRequest));
-
     }
 
-    @Override
-    public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
-        CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+    private static ClientResponse await(final Future<ClientResponse> response) {
         try {
-            ClientResponse response = apply(request);
-            callback.response(response);
-            future.complete(response);
-        } catch (ProcessingException ex) {
-            future.completeExceptionally(ex);
-        } catch (Throwable t) {
-            callback.failure(t);
-            future.completeExceptionally(t);
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof ProcessingException ? (ProcessingException) cause : new ProcessingException(cause);
         }
-        return future;
     }
 
     @Override
     public void close() {
-        // do nothing
-    }
-
-    private ClientResponse createClientResponse(final ClientRequest clientRequest,
-                                                final InMemoryResponseWriter responseWriter) {
-        final ClientResponse clientResponse = new ClientResponse(responseWriter.getStatusInfo(), clientRequest);
-        clientResponse.getHeaders().putAll(responseWriter.getHeaders());
-        clientResponse.setEntityStream(new ByteArrayInputStream(responseWriter.getEntity()));
-        return clientResponse;
+        // interrupt applications blocked on writing entities that nobody is going to read
+        executor.shutdownNow();
     }
 
     @SuppressWarnings("MagicNumber")
@@ -303,7 +400,8 @@ class InMemoryConnector implements Connector {
                     if (response.getStatus() == 303) {
                         request.setMethod("GET");
                     }
-                    response = apply(request);
+                    response.close();
+                    response = await(send(request));
                     break;
                 default:
                     return response;
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.test.inmemory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory pipe transferring a message entity from the thread writing it to the thread reading it.
+ * <p>
+ * Unlike {@link java.io.PipedInputStream}, the pipe does not rely on the writing thread being alive, can be failed
+ * by the writer so that the reader gets an {@link IOException}, and can be switched into a mode that silently
+ * discards whatever the reader is no longer interested in.
+ * </p>
+ */
+final class InMemoryPipe {
+
+    private static final String PIPE_CLOSED = "In-memory pipe closed.";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final byte[] buffer;
+    private final Runnable onFull;
+
+    private int head;
+    private int count;
+    private boolean writerClosed;
+    private boolean readerClosed;
+    private boolean discarding;
+    private Throwable failure;
+
+    private final InputStream inputStream = new InputStream() {
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            lock.lock();
+            try {
+                while (count == 0 && !writerClosed && !readerClosed) {
+                    await();
+                }
+                if (readerClosed) {
+                    throw new IOException(PIPE_CLOSED);
+                }
+                if (count == 0) {
+                    if (failure != null) {
+                        throw new IOException(failure);
+                    }
+                    return -1;
+                }
+
+                final int read = Math.min(len, count);
+                final int first = Math.min(read, buffer.length - head);
+                System.arraycopy(buffer, head, b, off, first);
+                System.arraycopy(buffer, 0, b, off + first, read - first);
+                head = (head + read) % buffer.length;
+                count -= read;
+                changed.signalAll();
+                return read;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int available() {
+            lock.lock();
+            try {
+                return count;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                readerClosed = true;
+                count = 0;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    };
+
+    private final OutputStream outputStream = new OutputStream() {
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            lock.lock();
+            try {
+                while (len > 0) {
+                    if (count == buffer.length) {
+                        onFull.run();
+                    }
+                    while (count == buffer.length && !readerClosed && !discarding && !writerClosed) {
+                        await();
+                    }
+                    if (writerClosed) {
+                        throw new IOException(PIPE_CLOSED);
+                    }
+                    if (discarding) {
+                        return;
+                    }
+                    if (readerClosed) {
+                        throw new IOException(PIPE_CLOSED);
+                    }
+
+                    final int tail = (head + count) % buffer.length;
+                    final int written = Math.min(len, Math.min(buffer.length - count, buffer.length - tail));
+                    System.arraycopy(b, off, buffer, tail, written);
+                    count += written;
+                    off += written;
+                    len -= written;
+                    changed.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            complete();
+        }
+    };
+
+    /**
+     * Create new pipe.
+     *
+     * @param capacity maximum number of bytes written but not read yet.
+     */
+    InMemoryPipe(final int capacity) {
+        this(capacity, () -> { });
+    }
+
+    /**
+     * Create new pipe.
+     *
+     * @param capacity maximum number of bytes written but not read yet.
+     * @param onFull   callback invoked by the writing thread before it waits for the reader to make room in the pipe.
+     */
+    InMemoryPipe(final int capacity, final Runnable onFull) {
+        this.buffer = new byte[capacity];
+        this.onFull = onFull;
+    }
+
+    /**
+     * Get the reading end of the pipe.
+     *
+     * @return stream returning bytes in the order they have been written. Closing the stream makes subsequent writes fail.
+     */
+    InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * Get the writing end of the pipe. Closing the stream signals the end of the data to the reader.
+     *
+     * @return stream writing to the pipe, blocks as long as the pipe is full.
+     */
+    OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * Signal the end of the data to the reader, same as closing the {@link #getOutputStream() writing end}.
+     */
+    void complete() {
+        lock.lock();
+        try {
+            writerClosed = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Terminate the data abnormally. The reader gets an {@link IOException} caused by the given failure once
+     * the data written so far has been read.
+     *
+     * @param failure failure terminating the data.
+     */
+    void fail(final Throwable failure) {
+        lock.lock();
+        try {
+            if (!writerClosed) {
+                this.failure = failure;
+                writerClosed = true;
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop transferring the data, any data not read yet as well as all data written from now on is dropped.
+     */
+    void discard() {
+        lock.lock();
+        try {
+            discarding = true;
+            count = 0;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void await() throws InterruptedIOException {
+        try {
+            changed.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,7 +19,6 @@ package org.glassfish.jersey.test.inmemory;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
-import javax.ws.rs.ProcessingException;
 import javax.ws.rs.Produces;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.container.AsyncResponse;
@@ -37,7 +36,6 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.junit.jupiter.api.Assertions.fail;
 
 /**
  * Test class for {@link InMemoryConnector}.
@@ -187,13 +185,7 @@ public class InMemoryContainerTest extends JerseyTest {
      * Reproducer for JERSEY-2030.
      */
     @Test
-    public void testAsyncMethodsNotSupported() {
-        try {
-            target("2030").request(MediaType.TEXT_PLAIN).get();
-            fail("ProcessingException expected.");
-        } catch (ProcessingException ex) {
-            assertThat(ex.getStackTrace()[0].getClassName(),
-                    equalTo(InMemoryConnector.InMemoryResponseWriter.class.getName()));
-        }
+    public void testAsyncMethods() {
+        assertEquals("resumed", target("2030").request(MediaType.TEXT_PLAIN).get(String.class));
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.test.inmemory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.glassfish.jersey.client.ChunkedInput;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of entities streamed through {@link InMemoryConnector}.
+ */
+public class InMemoryStreamingTest extends JerseyTest {
+
+    private static final long LARGE_ENTITY_SIZE = 16L * 1024 * 1024;
+
+    private static final CountDownLatch FIRST_CHUNK_RECEIVED = new CountDownLatch(1);
+
+    public InMemoryStreamingTest() {
+        super(new InMemoryTestContainerFactory());
+    }
+
+    @Override
+    protected ResourceConfig configure() {
+        return new ResourceConfig(StreamingResource.class);
+    }
+
+    @Path("streaming")
+    public static class StreamingResource {
+
+        @POST
+        public String count(final InputStream entity) throws IOException {
+            return String.valueOf(InMemoryStreamingTest.count(entity));
+        }
+
+        @POST
+        @Path("ignore")
+        public String ignore() {
+            return "ignored";
+        }
+
+        @GET
+        public StreamingOutput download(@QueryParam("size") final long size) {
+            return output -> write(output, size);
+        }
+
+        @GET
+        @Path("chunked")
+        public ChunkedOutput<String> chunked() {
+            final ChunkedOutput<String> output = new ChunkedOutput<>(String.class, "\r\n");
+            new Thread(() -> {
+                try {
+                    output.write("first");
+                    // the second chunk is only written once the client has received the first one
+                    assertTrue(FIRST_CHUNK_RECEIVED.await(10, TimeUnit.SECONDS));
+                    output.write("second");
+                    output.close();
+                } catch (IOException | InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+            return output;
+        }
+
+        @GET
+        @Path("async")
+        public void async(@Suspended final AsyncResponse asyncResponse, @QueryParam("id") final String id) {
+            new Thread(() -> asyncResponse.resume("resumed-" + id)).start();
+        }
+
+        @GET
+        @Path("timeout")
+        public void timeout(@Suspended final AsyncResponse asyncResponse) {
+            asyncResponse.setTimeout(100, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    public void testLargeRequestEntity() {
+        final StreamingOutput entity = output -> write(output, LARGE_ENTITY_SIZE);
+        assertEquals(String.valueOf(LARGE_ENTITY_SIZE), target("streaming").request()
+                .post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM_TYPE), String.class));
+    }
+
+    @Test
+    public void testUnreadRequestEntity() {
+        final StreamingOutput entity = output -> write(output, LARGE_ENTITY_SIZE);
+        assertEquals("ignored", target("streaming/ignore").request()
+                .post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM_TYPE), String.class));
+    }
+
+    @Test
+    public void testLargeResponseEntity() throws IOException {
+        try (InputStream entity = target("streaming").queryParam("size", LARGE_ENTITY_SIZE).request().get(InputStream.class)) {
+            assertEquals(LARGE_ENTITY_SIZE, count(entity));
+        }
+
+        // closing a partially read entity does not block the application
+        final InputStream entity = target("streaming").queryParam("size", LARGE_ENTITY_SIZE).request().get(InputStream.class);
+        assertEquals(1024, entity.read(new byte[1024]));
+        entity.close();
+    }
+
+    @Test
+    public void testChunkedResponse() {
+        final ChunkedInput<String> chunks = target("streaming/chunked").request().get()
+                .readEntity(new GenericType<ChunkedInput<String>>() { });
+
+        assertEquals("first", chunks.read());
+        FIRST_CHUNK_RECEIVED.countDown();
+        assertEquals("second", chunks.read());
+        assertNull(chunks.read());
+    }
+
+    @Test
+    public void testAsyncResponses() throws Exception {
+        final List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            responses.add(target("streaming/async").queryParam("id", i).request().async().get(String.class));
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals("resumed-" + i, responses.get(i).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testSuspendTimeout() {
+        assertEquals(Response.Status.SERVICE_UNAVAILABLE.getStatusCode(),
+                target("streaming/timeout").request().get().getStatus());
+    }
+
+    private static void write(final OutputStream output, final long size) throws IOException {
+        final byte[] chunk = new byte[8192];
+        for (long i = 0; i < size / chunk.length; i++) {
+            output.write(chunk);
+        }
+    }
+
+    private static long count(final InputStream stream) throws IOException {
+        final byte[] buffer = new byte[8192];
+        long count = 0;
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            count += read;
+        }
+        return count;
+    }
+}
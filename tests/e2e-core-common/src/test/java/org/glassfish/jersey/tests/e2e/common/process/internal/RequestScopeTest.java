@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,9 @@
 package org.glassfish.jersey.tests.e2e.common.process.internal;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.glassfish.jersey.inject.hk2.Hk2RequestScope;
 import org.glassfish.jersey.internal.inject.ForeignDescriptor;
@@ -27,6 +30,7 @@ import org.glassfish.hk2.utilities.AbstractActiveDescriptor;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -140,6 +144,40 @@ public class RequestScopeTest {
         assertNull(instance.get(inhab));
     }
 
+    @Test
+    public void testInstancesShareDescriptorSlots() {
+        final RequestScope requestScope = new Hk2RequestScope();
+        final List<Object> disposed = new ArrayList<>();
+        final ForeignDescriptor first = ForeignDescriptor.wrap(new Object(), disposed::add);
+        final ForeignDescriptor second = ForeignDescriptor.wrap(new Object(), disposed::add);
+
+        final Hk2RequestScope.Instance one = (Hk2RequestScope.Instance) requestScope.createContext();
+        one.put(first, "1");
+
+        final Hk2RequestScope.Instance two = (Hk2RequestScope.Instance) requestScope.createContext();
+        two.put(second, "2");
+        two.put(first, "3");
+
+        // slot assigned after the first instance has been created
+        assertFalse(one.contains(second));
+        assertNull(one.get(second));
+        one.put(second, null);
+        assertTrue(one.contains(second));
+
+        assertEquals("1", one.get(first));
+        assertEquals("3", two.get(first));
+        assertEquals("2", two.get(second));
+
+        two.remove(second);
+        assertFalse(two.contains(second));
+        assertEquals(Arrays.asList("2"), disposed);
+
+        two.release();
+        one.release();
+        assertEquals(Arrays.asList("2", "3", "1"), disposed);
+        assertFalse(one.contains(first));
+    }
+
     /**
      * Test request scope inhabitant.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -72,6 +73,18 @@ public class ChunkedInputOutputTest extends JerseyTest {
                              .chunkDelimiter("\r\n".getBytes()).build());
         }
 
+        /**
+         * Get chunk stream with pending chunks flushed in batches.
+         *
+         * @return chunk stream.
+         */
+        @GET
+        @Path("/testWithBatching")
+        public ChunkedOutput<String> getWithBatching() {
+            return getOutput(ChunkedOutput.<String>builder(String.class).flushBatchSize(2)
+                             .flushLatency(100, TimeUnit.MILLISECONDS).chunkDelimiter("\r\n".getBytes()).build());
+        }
+
         /**
          * Get chunk stream.
          *
@@ -215,6 +228,41 @@ public class ChunkedInputOutputTest extends JerseyTest {
                 "Unexpected value of chunked response unmarshalled as a single string.");
     }
 
+    /**
+     * Test retrieving chunked response stream as a single response string, when chunks are flushed in batches.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testChunkedOutputToSingleStringWithBatching() throws Exception {
+        final String response = target().path("test/testWithBatching").request().get(String.class);
+
+        assertEquals("test\r\ntest\r\ntest\r\n", response,
+                "Unexpected value of chunked response unmarshalled as a single string.");
+    }
+
+    /**
+     * Test retrieving chunked response stream sequentially as individual chunks using chunked input, when chunks are
+     * flushed in batches.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testBatchedChunkedOutputToChunkInput() throws Exception {
+        final ChunkedInput<String> input = target().path("test/testWithBatching").request()
+                .get(new GenericType<ChunkedInput<String>>() {
+                });
+
+        int counter = 0;
+        String chunk;
+        while ((chunk = input.read()) != null) {
+            assertEquals("test", chunk, "Unexpected value of chunk " + counter);
+            counter++;
+        }
+
+        assertEquals(3, counter, "Unexpected numbed of received chunks.");
+    }
+
     /**
      * Test retrieving chunked response stream sequentially as individual chunks using chunked input.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -34,6 +34,7 @@ import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectInstance;
 import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
 
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.ServerProperties;
@@ -223,6 +224,24 @@ public class MBeansTest extends JerseyTest {
         checkResourceMBean("/resource/test4/{test: [a,b]:r}");
     }
 
+    @Test
+    public void testProcessingStages() throws Exception {
+        assertEquals(200, target().path("resource").request().get().getStatus());
+        final Response response = target().path("resource/exception").request().get();
+        assertEquals(200, response.getStatus());
+        assertEquals("mapped", response.readEntity(String.class));
+
+        // wait until statistics are propagated to mxbeans
+        Thread.sleep(1500);
+
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(
+                "org.glassfish.jersey:type=myApplication,subType=Global,stages=ProcessingStages");
+        final TabularData counts = (TabularData) mBeanServer.getAttribute(name, "Counts");
+        assertNotNull(counts.get(new Object[] {"RESOURCE_METHOD"}));
+        assertNotNull(counts.get(new Object[] {"EXCEPTION_MAPPING"}));
+    }
+
     private void checkResourceMBean(String name) throws MalformedObjectNameException {
         final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
         final ObjectName objectName = new ObjectName(
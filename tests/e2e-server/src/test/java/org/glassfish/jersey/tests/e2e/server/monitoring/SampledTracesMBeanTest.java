@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.e2e.server.monitoring;
+
+import java.lang.management.ManagementFactory;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link org.glassfish.jersey.server.monitoring.SampledTracesMXBean} exposed with the other monitoring MBeans
+ * when the {@code SAMPLED} tracing is enabled.
+ */
+public class SampledTracesMBeanTest extends JerseyTest {
+
+    @Override
+    protected Application configure() {
+        final ResourceConfig resourceConfig = new ResourceConfig(TestResource.class);
+        resourceConfig.setApplicationName("sampledTracesApplication");
+        resourceConfig.property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, true);
+        resourceConfig.property(ServerProperties.TRACING, "SAMPLED");
+        resourceConfig.property(ServerProperties.TRACING_SAMPLING_RATE, 1);
+        return resourceConfig;
+    }
+
+    @Path("resource")
+    public static class TestResource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+    }
+
+    @Test
+    public void testSampledTraces() throws Exception {
+        assertEquals(200, target().path("resource").request().get().getStatus());
+        assertEquals(200, target().path("resource").request().get().getStatus());
+
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name =
+                new ObjectName("org.glassfish.jersey:type=sampledTracesApplication,subType=Global,global=SampledTraces");
+        assertTrue((Long) mBeanServer.getAttribute(name, "RecordedCount") > 0);
+        assertTrue(((String[]) mBeanServer.getAttribute(name, "RecentTraces")).length > 0);
+    }
+}
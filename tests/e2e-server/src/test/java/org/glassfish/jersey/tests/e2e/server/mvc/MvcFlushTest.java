@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.e2e.server.mvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.mvc.Viewable;
+import org.glassfish.jersey.server.mvc.freemarker.FreemarkerMvcFeature;
+import org.glassfish.jersey.server.mvc.mustache.MustacheMvcFeature;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests flushing of the rendered template output.
+ */
+public class MvcFlushTest extends JerseyTest {
+
+    private static final String PATH = "/org/glassfish/jersey/tests/e2e/server/mvc/MvcFlushTest/";
+
+    /**
+     * Output flushed to the entity stream, one element per (non-empty) flush.
+     */
+    private static final Queue<String> FLUSHED = new ConcurrentLinkedQueue<>();
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("mustache")
+        public Viewable mustache() {
+            return new Viewable(PATH + "sections.mustache");
+        }
+
+        @GET
+        @Path("freemarker")
+        public Viewable freemarker() {
+            return new Viewable(PATH + "sections.ftl");
+        }
+
+        @GET
+        @Path("threshold")
+        public Viewable threshold() {
+            return new Viewable(PATH + "items.mustache",
+                    Collections.singletonMap("items", Arrays.asList("0123456789", "abcdefghij", "klmnopqrst")));
+        }
+    }
+
+    public static class FlushRecordingInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(final WriterInterceptorContext context) throws IOException, WebApplicationException {
+            context.setOutputStream(new FilterOutputStream(context.getOutputStream()) {
+
+                private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+                @Override
+                public void write(final int b) throws IOException {
+                    pending.write(b);
+                    out.write(b);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    if (pending.size() > 0) {
+                        FLUSHED.add(new String(pending.toByteArray(), StandardCharsets.UTF_8));
+                        pending.reset();
+                    }
+                    out.flush();
+                }
+            });
+            context.proceed();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(Resource.class)
+                .register(MustacheMvcFeature.class)
+                .register(FreemarkerMvcFeature.class)
+                .register(FlushRecordingInterceptor.class)
+                .property(MustacheMvcFeature.FLUSH_THRESHOLD, 10);
+    }
+
+    @BeforeEach
+    public void clear() {
+        FLUSHED.clear();
+    }
+
+    @Test
+    public void testMustacheFlushSections() {
+        assertEquals("abc", target("mustache").request().get(String.class));
+        assertEquals(Arrays.asList("a", "b", "c"), flushed());
+    }
+
+    @Test
+    public void testFreemarkerFlushDirective() {
+        assertEquals("abc", target("freemarker").request().get(String.class));
+        assertEquals(Arrays.asList("a", "b", "c"), flushed());
+    }
+
+    @Test
+    public void testFlushThreshold() {
+        assertEquals("0123456789abcdefghijklmnopqrst", target("threshold").request().get(String.class));
+        assertEquals(Arrays.asList("0123456789", "abcdefghij", "klmnopqrst"), flushed());
+    }
+
+    private static List<String> flushed() {
+        return new ArrayList<>(FLUSHED);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,11 +22,16 @@ import static org.hamcrest.Matchers.is;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 
 import javax.inject.Inject;
 import javax.servlet.ServletContext;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
@@ -60,7 +65,10 @@ import org.junit.platform.suite.api.Suite;
         AbstractTemplateProcessorTest.CachePositiveTest.class,
         AbstractTemplateProcessorTest.CachePositiveStringTest.class,
         AbstractTemplateProcessorTest.CacheNegativeTest.class,
-        AbstractTemplateProcessorTest.CacheInvalidTest.class
+        AbstractTemplateProcessorTest.CacheInvalidTest.class,
+        AbstractTemplateProcessorTest.CacheSizeTest.class,
+        AbstractTemplateProcessorTest.CacheReloadTest.class,
+        AbstractTemplateProcessorTest.CacheMissTest.class
 })
 public class AbstractTemplateProcessorTest {
 
@@ -74,6 +82,19 @@ public class AbstractTemplateProcessorTest {
         }
     }
 
+    @Path("templates")
+    public static class TemplatesResource {
+
+        private static final String PATH =
+                "/org/glassfish/jersey/tests/e2e/server/mvc/spi/AbstractTemplateProcessorTest/Resource/";
+
+        @GET
+        @Path("{name}")
+        public Viewable get(@PathParam("name") final String name) {
+            return new Viewable(PATH + name);
+        }
+    }
+
     public static class TestFactory {
 
         private final String value;
@@ -252,4 +273,81 @@ public class AbstractTemplateProcessorTest {
             super("invalid");
         }
     }
+
+    public static class CacheSizeTest extends JerseyTest {
+
+        public CacheSizeTest() throws TestContainerException {
+            super(new ResourceConfig(TemplatesResource.class)
+                    .register(MvcFeature.class)
+                    .register(CacheTemplateProcessor.class)
+                    .property(MvcFeature.CACHE_TEMPLATES + ".factory", true)
+                    .property(MvcFeature.CACHE_TEMPLATES_SIZE + ".factory", 1));
+        }
+
+        @Test
+        public void testCacheSize() throws Exception {
+            assertThat(target("templates/index").request().get(String.class), is("0"));
+            assertThat(target("templates/index").request().get(String.class), is("0"));
+            assertThat(target("templates/other").request().get(String.class), is("1"));
+            assertThat(target("templates/third").request().get(String.class), is("2"));
+
+            // index template has been evicted from the cache.
+            assertThat(target("templates/index").request().get(String.class), is("3"));
+        }
+    }
+
+    public static class CacheReloadTest extends JerseyTest {
+
+        public CacheReloadTest() throws TestContainerException {
+            super(new ResourceConfig(TemplatesResource.class)
+                    .register(MvcFeature.class)
+                    .register(CacheTemplateProcessor.class)
+                    .property(MvcFeature.CACHE_TEMPLATES + ".factory", true)
+                    .property(MvcFeature.CACHE_TEMPLATES_RELOAD, true));
+        }
+
+        @Test
+        public void testCacheReload() throws Exception {
+            assertThat(target("templates/other").request().get(String.class), is("0"));
+            assertThat(target("templates/other").request().get(String.class), is("0"));
+
+            final java.nio.file.Path template = templateFile();
+            final FileTime lastModified = Files.getLastModifiedTime(template);
+            Files.setLastModifiedTime(template, FileTime.fromMillis(lastModified.toMillis() + 10000));
+
+            assertThat(target("templates/other").request().get(String.class), is("1"));
+            assertThat(target("templates/other").request().get(String.class), is("1"));
+        }
+
+        private static java.nio.file.Path templateFile() throws URISyntaxException {
+            return Paths.get(AbstractTemplateProcessorTest.class.getResource(TemplatesResource.PATH + "other.fct").toURI());
+        }
+    }
+
+    public static class CacheMissTest extends JerseyTest {
+
+        public CacheMissTest() throws TestContainerException {
+            super(new ResourceConfig(TemplatesResource.class)
+                    .register(MvcFeature.class)
+                    .register(CacheTemplateProcessor.class)
+                    .property(MvcFeature.CACHE_TEMPLATES + ".factory", true));
+        }
+
+        @Test
+        public void testTemplateAddedLater() throws Exception {
+            final java.nio.file.Path template = Paths.get(AbstractTemplateProcessorTest.class
+                    .getResource(TemplatesResource.PATH + "other.fct").toURI()).resolveSibling("later.fct");
+            Files.deleteIfExists(template);
+
+            assertThat(target("templates/later").request().get().getStatus(), is(404));
+
+            Files.createFile(template);
+            try {
+                assertThat(target("templates/later").request().get(String.class), is("0"));
+                assertThat(target("templates/later").request().get(String.class), is("0"));
+            } finally {
+                Files.deleteIfExists(template);
+            }
+        }
+    }
 }
@@ -0,0 +1 @@
+a<#flush>b<#flush>c
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,7 +25,9 @@ import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.core.Response;
 
+import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.test.util.client.LoopBackConnectorProvider;
+import org.glassfish.jersey.uri.JerseyQueryParamStyle;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -77,6 +79,26 @@ public class ClientBenchmark {
         return client.target("foo").request().post(Entity.text("bar"));
     }
 
+    @Benchmark
+    public Response getDerivedTarget() throws Exception {
+        return client.target("foo").property(ClientProperties.IGNORE_EXCEPTION_RESPONSE, true).request().get();
+    }
+
+    @Benchmark
+    public Response getDerivedTargetQueryParamStyle() throws Exception {
+        return client.target("foo").property(ClientProperties.QUERY_PARAM_STYLE, JerseyQueryParamStyle.COMMA_SEPARATED)
+                .request().get();
+    }
+
+    /**
+     * Baseline of the derived target benchmarks, the connector properties such as read timeout may be consumed when
+     * the connector is created and a new client runtime is therefore bootstrapped.
+     */
+    @Benchmark
+    public Response getBootstrappedTargetTimeout() throws Exception {
+        return client.target("foo").property(ClientProperties.READ_TIMEOUT, 1000).request().get();
+    }
+
     @Benchmark
      public Response asyncBlock() throws Exception {
         return client.target("foo").request().async().get().get();
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.opentelemetry.OpenTelemetryFeature;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+import org.glassfish.jersey.tests.performance.benchmark.server.LocatorApplication;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per-request overhead of {@link OpenTelemetryFeature} tracing in {@link ApplicationHandler}.
+ * <p>
+ * Compares requests processed without tracing, with tracing of requests that are not sampled and with tracing of
+ * sampled requests. Sampled spans are recorded but not exported, so that only the instrumentation cost is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OpenTelemetryBenchmark {
+
+    @Param(value = {"disabled", "unsampled", "sampled"})
+    private String tracing;
+
+    private volatile ApplicationHandler handler;
+    private volatile SdkTracerProvider tracerProvider;
+
+    @Setup
+    public void start() throws Exception {
+        final ResourceConfig config = new LocatorApplication();
+
+        if (!"disabled".equals(tracing)) {
+            tracerProvider = SdkTracerProvider.builder()
+                    .setSampler("sampled".equals(tracing) ? Sampler.alwaysOn() : Sampler.alwaysOff())
+                    .build();
+            config.register(new OpenTelemetryFeature(OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build()));
+        }
+
+        handler = new ApplicationHandler(config);
+    }
+
+    @TearDown
+    public void shutdown() {
+        if (tracerProvider != null) {
+            tracerProvider.close();
+        }
+    }
+
+    @Benchmark
+    public Future<ContainerResponse> measure() throws Exception {
+        // request properties are mutable, build a new request for every invocation
+        return handler.apply(ContainerRequestBuilder.from("resource", "GET", handler.getConfiguration()).build());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(OpenTelemetryBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
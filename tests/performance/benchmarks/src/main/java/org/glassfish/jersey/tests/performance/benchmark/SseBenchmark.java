@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * SSE broadcast serialization benchmark. Writes a single event to a number of subscriber streams, either re-using
+ * the same {@link OutboundEvent} instance for all the subscribers (as a broadcaster does) or building a fresh
+ * event for each of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 16, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SseBenchmark {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+    private static final String DATA = "{\"id\":42,\"name\":\"jersey\",\"description\":\"server-sent event payload\"}";
+
+    @Param(value = {"1", "100", "1000"})
+    private int subscribers;
+
+    @Param(value = {"true", "false"})
+    private boolean shared;
+
+    private volatile MessageBodyWriter<OutboundEvent> writer;
+    private volatile ByteArrayOutputStream[] streams;
+
+    @Setup
+    public void start() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(SseFeature.class));
+        writer = handler.getInjectionManager().getInstance(MessageBodyWorkers.class).getMessageBodyWriter(
+                OutboundEvent.class, OutboundEvent.class, NO_ANNOTATIONS, SseFeature.SERVER_SENT_EVENTS_TYPE);
+
+        streams = new ByteArrayOutputStream[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            streams[i] = new ByteArrayOutputStream(256);
+        }
+    }
+
+    @Benchmark
+    public int broadcast() throws Exception {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        OutboundEvent event = shared ? newEvent() : null;
+        int written = 0;
+        for (final ByteArrayOutputStream stream : streams) {
+            if (!shared) {
+                event = newEvent();
+            }
+            stream.reset();
+            writer.writeTo(event, OutboundEvent.class, OutboundEvent.class, NO_ANNOTATIONS,
+                    SseFeature.SERVER_SENT_EVENTS_TYPE, headers, stream);
+            written += stream.size();
+        }
+        return written;
+    }
+
+    private static OutboundEvent newEvent() {
+        return new OutboundEvent.Builder()
+                .name("update")
+                .id("42")
+                .mediaType(MediaType.TEXT_PLAIN_TYPE)
+                .data(String.class, DATA)
+                .build();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(SseBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}